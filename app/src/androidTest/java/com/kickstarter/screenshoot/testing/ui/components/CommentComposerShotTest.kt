@@ -34,7 +34,7 @@ class CommentComposerShotTest : ScreenshotTest {
                 )
                 .findViewById(R.id.comment_composer_view)
 
-        commentComposerView.setAvatarUrl(null) // -> internal network call to picasso we need to wrap Picasso into our own client to be able to mock on testing.
+        commentComposerView.setAvatarUrl(null) // -> internal network call to the image loader we need to wrap Glide into our own client to be able to mock on testing.
         commentComposerView.setActionButtonTitle("Post")
     }
 
@@ -18,6 +18,8 @@ import com.kickstarter.services.ApiClient;
 import com.kickstarter.services.ApiClientType;
 import com.kickstarter.services.ApiService;
 import com.kickstarter.services.ApolloClientType;
+import com.kickstarter.services.CoalescingApiClient;
+import com.kickstarter.services.CoalescingApolloClient;
 import com.kickstarter.services.KSApolloClient;
 
 import javax.inject.Singleton;
@@ -57,13 +59,13 @@ public final class InternalApplicationModule {
   @Singleton
   @NonNull
   static ApolloClientType provideApolloClientType(final @NonNull ApolloClient apolloClient) {
-    return Secrets.IS_OSS ? new MockApolloClient() : new KSApolloClient(apolloClient);
+    return Secrets.IS_OSS ? new MockApolloClient() : new CoalescingApolloClient(new KSApolloClient(apolloClient));
   }
 
   @Provides
   @Singleton
   @NonNull
   static ApiClientType provideApiClientType(final @NonNull ApiService apiService, final @NonNull Gson gson) {
-    return Secrets.IS_OSS ? new MockApiClient() : new ApiClient(apiService, gson);
+    return Secrets.IS_OSS ? new MockApiClient() : new CoalescingApiClient(new ApiClient(apiService, gson));
   }
 }
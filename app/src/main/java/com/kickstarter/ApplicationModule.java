@@ -10,6 +10,10 @@ import android.content.res.AssetManager;
 import android.content.res.Resources;
 
 import com.apollographql.apollo.ApolloClient;
+import com.apollographql.apollo.cache.normalized.NormalizedCacheFactory;
+import com.apollographql.apollo.cache.normalized.lru.EvictionPolicy;
+import com.apollographql.apollo.cache.normalized.lru.LruNormalizedCacheFactory;
+import com.apollographql.apollo.cache.normalized.sql.SqlNormalizedCacheFactory;
 import com.google.firebase.crashlytics.FirebaseCrashlytics;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
@@ -17,11 +21,11 @@ import com.google.gson.GsonBuilder;
 import com.kickstarter.libs.ApiEndpoint;
 import com.kickstarter.libs.Build;
 import com.kickstarter.libs.BuildCheck;
+import com.kickstarter.libs.Config;
 import com.kickstarter.libs.CurrentConfig;
 import com.kickstarter.libs.CurrentConfigType;
 import com.kickstarter.libs.CurrentUser;
 import com.kickstarter.libs.CurrentUserType;
-import com.kickstarter.libs.DateTimeTypeConverter;
 import com.kickstarter.libs.DeviceRegistrar;
 import com.kickstarter.libs.DeviceRegistrarType;
 import com.kickstarter.libs.Environment;
@@ -37,15 +41,25 @@ import com.kickstarter.libs.OptimizelyExperimentsClient;
 import com.kickstarter.libs.PushNotifications;
 import com.kickstarter.libs.SegmentTrackingClient;
 import com.kickstarter.libs.TrackingClientType;
+import com.kickstarter.libs.VideoPlayerPool;
+import com.kickstarter.libs.analytics.AnalyticsEventQueue;
+import com.kickstarter.libs.analytics.AnalyticsPipeline;
 import com.kickstarter.libs.braze.BrazeClient;
 import com.kickstarter.libs.braze.RemotePushClientType;
+import com.kickstarter.libs.gson.ApiTypeAdapterFactory;
+import com.kickstarter.libs.gson.DateTimeTypeAdapter;
 import com.kickstarter.libs.graphql.DateAdapter;
 import com.kickstarter.libs.graphql.DateTimeAdapter;
 import com.kickstarter.libs.graphql.Iso8601DateTimeAdapter;
 import com.kickstarter.libs.graphql.EmailAdapter;
+import com.kickstarter.libs.graphql.RelayIdCacheKeyResolver;
+import com.kickstarter.libs.htmlparser.StoryParser;
+import com.kickstarter.libs.loadmore.PaginationSnapshotStore;
+import com.kickstarter.libs.loadmore.PaginationSnapshotStoreType;
 import com.kickstarter.libs.models.OptimizelyEnvironment;
 import com.kickstarter.libs.perimeterx.PerimeterXClient;
 import com.kickstarter.libs.perimeterx.PerimeterXClientType;
+import com.kickstarter.libs.preferences.BinaryValueStore;
 import com.kickstarter.libs.preferences.BooleanDataStore;
 import com.kickstarter.libs.preferences.BooleanDataStoreType;
 import com.kickstarter.libs.preferences.BooleanPreference;
@@ -58,6 +72,7 @@ import com.kickstarter.libs.qualifiers.AccessTokenPreference;
 import com.kickstarter.libs.qualifiers.ActivitySamplePreference;
 import com.kickstarter.libs.qualifiers.ApiRetrofit;
 import com.kickstarter.libs.qualifiers.AppRatingPreference;
+import com.kickstarter.libs.qualifiers.BaseOkHttpClient;
 import com.kickstarter.libs.qualifiers.ApplicationContext;
 import com.kickstarter.libs.qualifiers.ConfigPreference;
 import com.kickstarter.libs.qualifiers.FirstSessionPreference;
@@ -67,7 +82,10 @@ import com.kickstarter.libs.qualifiers.UserPreference;
 import com.kickstarter.libs.qualifiers.WebEndpoint;
 import com.kickstarter.libs.qualifiers.WebRetrofit;
 import com.kickstarter.libs.utils.PlayServicesCapability;
+import com.kickstarter.libs.utils.RefTagCookieStore;
 import com.kickstarter.libs.utils.Secrets;
+import com.kickstarter.libs.utils.WebUtils;
+import com.kickstarter.models.User;
 import com.kickstarter.services.ApiClientType;
 import com.kickstarter.services.ApiService;
 import com.kickstarter.services.ApolloClientType;
@@ -76,6 +94,7 @@ import com.kickstarter.services.WebClient;
 import com.kickstarter.services.WebClientType;
 import com.kickstarter.services.WebService;
 import com.kickstarter.services.interceptors.ApiRequestInterceptor;
+import com.kickstarter.services.interceptors.AuthHeaderProvider;
 import com.kickstarter.services.interceptors.GraphQLInterceptor;
 import com.kickstarter.services.interceptors.KSRequestInterceptor;
 import com.kickstarter.services.interceptors.WebRequestInterceptor;
@@ -86,6 +105,7 @@ import com.stripe.android.Stripe;
 
 import org.joda.time.DateTime;
 
+import java.io.File;
 import java.net.CookieManager;
 import java.util.Arrays;
 import java.util.List;
@@ -98,7 +118,10 @@ import androidx.annotation.NonNull;
 import androidx.preference.PreferenceManager;
 import dagger.Module;
 import dagger.Provides;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
 import okhttp3.CookieJar;
+import okhttp3.Dispatcher;
 import okhttp3.JavaNetCookieJar;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
@@ -106,12 +129,25 @@ import retrofit2.Retrofit;
 import retrofit2.adapter.rxjava.RxJavaCallAdapterFactory;
 import retrofit2.converter.gson.GsonConverterFactory;
 import rx.Scheduler;
+import rx.android.schedulers.AndroidSchedulers;
 import rx.schedulers.Schedulers;
 import timber.log.Timber;
 import type.CustomType;
 
 @Module
 public class ApplicationModule {
+  private static final long APOLLO_MEMORY_CACHE_SIZE_BYTES = 5 * 1024 * 1024;
+  private static final String ANALYTICS_EVENTS_FILE = "analytics_events";
+  private static final String APOLLO_DISK_CACHE_NAME = "apollo_normalized_cache.db";
+  private static final String CURRENT_CONFIG_FILE = "current_config";
+  private static final String CURRENT_USER_FILE = "current_user";
+  private static final String HTTP_CACHE_DIRECTORY = "http_cache";
+  private static final long HTTP_CACHE_SIZE_BYTES = 20 * 1024 * 1024;
+  private static final int HTTP_MAX_IDLE_CONNECTIONS = 8;
+  private static final int HTTP_MAX_REQUESTS = 64;
+  private static final int HTTP_MAX_REQUESTS_PER_HOST = 10;
+  private static final String PAGINATION_SNAPSHOTS_DIRECTORY = "pagination_snapshots";
+
   private final Application application;
 
   public ApplicationModule(final @NonNull Application application) {
@@ -128,9 +164,9 @@ public class ApplicationModule {
     final @NonNull CookieManager cookieManager,
     final @NonNull CurrentConfigType currentConfig,
     final @NonNull CurrentUserType currentUser,
-    final @NonNull @FirstSessionPreference BooleanPreferenceType firstSessionPreference,
+    final @NonNull @FirstSessionPreference BooleanDataStoreType firstSessionPreference,
     final @NonNull Gson gson,
-    final @NonNull @AppRatingPreference BooleanPreferenceType hasSeenAppRatingPreference,
+    final @NonNull @AppRatingPreference BooleanDataStoreType hasSeenAppRatingPreference,
     final @NonNull @GamesNewsletterPreference BooleanPreferenceType hasSeenGamesNewsletterPreference,
     final @NonNull InternalToolsType internalToolsType,
     final @NonNull KSCurrency ksCurrency,
@@ -138,10 +174,13 @@ public class ApplicationModule {
     final @NonNull AnalyticEvents analytics,
     final @NonNull Logout logout,
     final @NonNull ExperimentsClientType optimizely,
+    final @NonNull PaginationSnapshotStoreType paginationSnapshotStore,
     final @NonNull PlayServicesCapability playServicesCapability,
     final @NonNull Scheduler scheduler,
     final @NonNull SharedPreferences sharedPreferences,
+    final @NonNull StoryParser storyParser,
     final @NonNull Stripe stripe,
+    final @NonNull VideoPlayerPool videoPlayerPool,
     final @NonNull WebClientType webClient,
     final @NonNull @WebEndpoint String webEndpoint) {
 
@@ -164,10 +203,13 @@ public class ApplicationModule {
       .analytics(analytics)
       .logout(logout)
       .optimizely(optimizely)
+      .paginationSnapshotStore(paginationSnapshotStore)
       .playServicesCapability(playServicesCapability)
       .scheduler(scheduler)
       .sharedPreferences(sharedPreferences)
+      .storyParser(storyParser)
       .stripe(stripe)
+      .videoPlayerPool(videoPlayerPool)
       .webClient(webClient)
       .webEndpoint(webEndpoint)
       .build();
@@ -183,10 +225,12 @@ public class ApplicationModule {
   @Provides
   @Singleton
   @NonNull
-  static ApolloClient provideApolloClient(final @NonNull Build build, final @NonNull HttpLoggingInterceptor httpLoggingInterceptor,
-    final @NonNull GraphQLInterceptor graphQLInterceptor, @NonNull @WebEndpoint final String webEndpoint, final @NonNull KSRequestInterceptor ksRequestInterceptor) {
+  static ApolloClient provideApolloClient(final @ApplicationContext @NonNull Context context, final @NonNull Build build,
+    final @BaseOkHttpClient @NonNull OkHttpClient baseOkHttpClient, final @NonNull HttpLoggingInterceptor httpLoggingInterceptor,
+    final @NonNull GraphQLInterceptor graphQLInterceptor, @NonNull @WebEndpoint final String webEndpoint,
+    final @NonNull KSRequestInterceptor ksRequestInterceptor) {
 
-    final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+    final OkHttpClient.Builder builder = baseOkHttpClient.newBuilder()
       .addInterceptor(graphQLInterceptor)
       .addInterceptor(ksRequestInterceptor);
 
@@ -197,7 +241,15 @@ public class ApplicationModule {
 
     final OkHttpClient okHttpClient = builder.build();
 
+    // Memory LRU in front of the on-disk store, records are normalized on their relay id.
+    final NormalizedCacheFactory normalizedCacheFactory = new LruNormalizedCacheFactory(
+      EvictionPolicy.builder()
+        .maxSizeBytes(APOLLO_MEMORY_CACHE_SIZE_BYTES)
+        .build()
+    ).chain(new SqlNormalizedCacheFactory(context, APOLLO_DISK_CACHE_NAME));
+
     return ApolloClient.builder()
+      .normalizedCache(normalizedCacheFactory, new RelayIdCacheKeyResolver())
       .addCustomTypeAdapter(CustomType.DATE, new DateAdapter())
       .addCustomTypeAdapter(CustomType.EMAIL, new EmailAdapter())
       .addCustomTypeAdapter(CustomType.ISO8601DATETIME, new Iso8601DateTimeAdapter())
@@ -222,11 +274,12 @@ public class ApplicationModule {
   @Provides
   @Singleton
   @NonNull
-  static OkHttpClient provideOkHttpClient(final @NonNull ApiRequestInterceptor apiRequestInterceptor, final @NonNull CookieJar cookieJar,
+  static OkHttpClient provideOkHttpClient(final @BaseOkHttpClient @NonNull OkHttpClient baseOkHttpClient,
+    final @NonNull ApiRequestInterceptor apiRequestInterceptor, final @NonNull CookieJar cookieJar,
     final @NonNull HttpLoggingInterceptor httpLoggingInterceptor, final @NonNull KSRequestInterceptor ksRequestInterceptor,
     final @NonNull Build build, final @NonNull WebRequestInterceptor webRequestInterceptor) {
 
-    final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    final OkHttpClient.Builder builder = baseOkHttpClient.newBuilder();
 
     // Only log in debug mode to avoid leaking sensitive information.
     if (build.isDebug()) {
@@ -241,6 +294,29 @@ public class ApplicationModule {
       .build();
   }
 
+  /**
+   * Connection pool, dispatcher and HTTP cache shared by the REST, web and GraphQL clients. Each of them derives its own
+   * interceptor chain through {@link OkHttpClient#newBuilder()} so TLS sessions and idle connections to the same host are
+   * reused. The cache honors the server's {@code Cache-Control} headers, e.g. for {@code /v1/categories},
+   * {@code /v1/app/android/config} and {@code /v1/discover}. API responses are keyed on the final url, which carries the
+   * user's {@code oauth_token}.
+   */
+  @Provides
+  @Singleton
+  @BaseOkHttpClient
+  @NonNull
+  static OkHttpClient provideBaseOkHttpClient(final @ApplicationContext @NonNull Context context) {
+    final Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(HTTP_MAX_REQUESTS);
+    dispatcher.setMaxRequestsPerHost(HTTP_MAX_REQUESTS_PER_HOST);
+
+    return new OkHttpClient.Builder()
+      .cache(new Cache(new File(context.getCacheDir(), HTTP_CACHE_DIRECTORY), HTTP_CACHE_SIZE_BYTES))
+      .connectionPool(new ConnectionPool(HTTP_MAX_IDLE_CONNECTIONS, 5, TimeUnit.MINUTES))
+      .dispatcher(dispatcher)
+      .build();
+  }
+
   @Provides
   @Singleton
   @ApiRetrofit
@@ -255,18 +331,25 @@ public class ApplicationModule {
   @Singleton
   @NonNull
   static ApiRequestInterceptor provideApiRequestInterceptor(
-          final @NonNull String clientId, final @NonNull CurrentUserType currentUser,
+          final @NonNull String clientId, final @NonNull AuthHeaderProvider authHeaderProvider,
           final @NonNull ApiEndpoint endpoint, final @NonNull PerimeterXClientType manager,
           final @NonNull Build build) {
-    return new ApiRequestInterceptor(clientId, currentUser, endpoint.url(), manager, build);
+    return new ApiRequestInterceptor(clientId, authHeaderProvider, endpoint.url(), manager, build);
   }
 
   @Provides
   @Singleton
   @NonNull
   static GraphQLInterceptor provideGraphQLInterceptor(final @NonNull String clientId,
-    final @NonNull CurrentUserType currentUser, final @NonNull Build build, final @NonNull PerimeterXClientType manager) {
-    return new GraphQLInterceptor(clientId, currentUser, build, manager);
+    final @NonNull AuthHeaderProvider authHeaderProvider, final @NonNull Build build, final @NonNull PerimeterXClientType manager) {
+    return new GraphQLInterceptor(clientId, authHeaderProvider, build, manager);
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static AuthHeaderProvider provideAuthHeaderProvider(final @NonNull CurrentUserType currentUser) {
+    return new AuthHeaderProvider(currentUser);
   }
 
   @Provides
@@ -320,9 +403,9 @@ public class ApplicationModule {
   @Provides
   @Singleton
   @NonNull
-  static WebRequestInterceptor provideWebRequestInterceptor(final @NonNull CurrentUserType currentUser,
+  static WebRequestInterceptor provideWebRequestInterceptor(final @NonNull AuthHeaderProvider authHeaderProvider,
     @NonNull @WebEndpoint final String endpoint, final @NonNull InternalToolsType internalTools, final @NonNull Build build, final @NonNull PerimeterXClientType manager) {
-    return new WebRequestInterceptor(currentUser, endpoint, internalTools, build, manager);
+    return new WebRequestInterceptor(authHeaderProvider, endpoint, internalTools, build, manager);
   }
 
   @Provides
@@ -383,24 +466,16 @@ public class ApplicationModule {
   @Singleton
   @AppRatingPreference
   @NonNull
-  static BooleanPreferenceType provideAppRatingPreference(final @NonNull SharedPreferences sharedPreferences) {
-    return new BooleanPreference(sharedPreferences, SharedPreferenceKey.HAS_SEEN_APP_RATING);
-  }
-
-  @Provides
-  @Singleton
-  @AppRatingPreference
-  @NonNull
-  static BooleanDataStoreType provideBooleanDataStoreType(final @ApplicationContext @NonNull Context context) {
-    return new BooleanDataStore(context, SharedPreferenceKey.FIRST_SESSION);
+  static BooleanDataStoreType provideAppRatingPreference(final @ApplicationContext @NonNull Context context) {
+    return new BooleanDataStore(context, SharedPreferenceKey.HAS_SEEN_APP_RATING);
   }
 
   @Provides
   @Singleton
   @FirstSessionPreference
   @NonNull
-  static BooleanPreferenceType provideFirstSessionPreference(final @NonNull SharedPreferences sharedPreferences) {
-    return new BooleanPreference(sharedPreferences, SharedPreferenceKey.FIRST_SESSION);
+  static BooleanDataStoreType provideFirstSessionPreference(final @ApplicationContext @NonNull Context context) {
+    return new BooleanDataStore(context, SharedPreferenceKey.FIRST_SESSION);
   }
 
   @Provides
@@ -416,8 +491,17 @@ public class ApplicationModule {
           final @NonNull CurrentUserType currentUser,
           final @NonNull Build build,
           final @NonNull CurrentConfigType currentConfig,
-          final @NonNull ExperimentsClientType experimentsClientType) {
-    return new SegmentTrackingClient(build, context, currentConfig, currentUser,  experimentsClientType, PreferenceManager.getDefaultSharedPreferences(context));
+          final @NonNull ExperimentsClientType experimentsClientType,
+          final @NonNull AnalyticsPipeline analyticsPipeline) {
+    return new SegmentTrackingClient(build, context, currentConfig, currentUser,  experimentsClientType, PreferenceManager.getDefaultSharedPreferences(context), analyticsPipeline);
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static AnalyticsPipeline provideAnalyticsPipeline(final @ApplicationContext @NonNull Context context) {
+    final AnalyticsEventQueue queue = new AnalyticsEventQueue(new File(context.getFilesDir(), ANALYTICS_EVENTS_FILE));
+    return new AnalyticsPipeline(queue, Schedulers.io());
   }
 
   @Provides
@@ -462,9 +546,12 @@ public class ApplicationModule {
   @Provides
   @Singleton
   static CurrentConfigType provideCurrentConfig(final @NonNull AssetManager assetManager,
+                                                final @ApplicationContext @NonNull Context context,
                                                 final @NonNull Gson gson,
                                                 final @ConfigPreference @NonNull StringPreferenceType configPreference) {
-    return new CurrentConfig(assetManager, gson, configPreference);
+    final BinaryValueStore<Config> configStore =
+      new BinaryValueStore<>(new File(context.getFilesDir(), CURRENT_CONFIG_FILE), gson, Config.class, Schedulers.io());
+    return new CurrentConfig(assetManager, gson, configPreference, configStore, AndroidSchedulers.mainThread());
   }
 
   @Provides
@@ -475,16 +562,19 @@ public class ApplicationModule {
 
   @Provides
   @Singleton
-  static CookieManager provideCookieManager() {
-    return new CookieManager();
+  static CookieManager provideCookieManager(final @NonNull SharedPreferences sharedPreferences) {
+    return new CookieManager(new RefTagCookieStore(sharedPreferences, Schedulers.io()), null);
   }
 
   @Provides
   @Singleton
   static CurrentUserType provideCurrentUser(final @AccessTokenPreference @NonNull StringPreferenceType accessTokenPreference,
+    final @ApplicationContext @NonNull Context context,
     final @NonNull DeviceRegistrarType deviceRegistrar, final @NonNull Gson gson,
     final @NonNull @UserPreference StringPreferenceType userPreference) {
-    return new CurrentUser(accessTokenPreference, deviceRegistrar, gson, userPreference);
+    final BinaryValueStore<User> userStore =
+      new BinaryValueStore<>(new File(context.getFilesDir(), CURRENT_USER_FILE), gson, User.class, Schedulers.io());
+    return new CurrentUser(accessTokenPreference, deviceRegistrar, gson, userPreference, userStore, AndroidSchedulers.mainThread());
   }
 
   @Provides
@@ -525,7 +615,8 @@ public class ApplicationModule {
   static Gson provideGson() {
     return new GsonBuilder()
       .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-      .registerTypeAdapter(DateTime.class, new DateTimeTypeConverter())
+      .registerTypeAdapter(DateTime.class, new DateTimeTypeAdapter())
+      .registerTypeAdapterFactory(new ApiTypeAdapterFactory())
       .create();
   }
 
@@ -535,6 +626,20 @@ public class ApplicationModule {
     return new KSCurrency(currentConfig);
   }
 
+  @Provides
+  @Singleton
+  @NonNull
+  static StoryParser provideStoryParser() {
+    return new StoryParser();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static VideoPlayerPool provideVideoPlayerPool(final @ApplicationContext @NonNull Context context, final @NonNull Build build) {
+    return VideoPlayerPool.create(context, WebUtils.INSTANCE.userAgent(build));
+  }
+
   @Provides
   @Singleton
   @NonNull
@@ -550,8 +655,17 @@ public class ApplicationModule {
 
   @Provides
   @Singleton
-  static Logout provideLogout(final @NonNull CookieManager cookieManager, final @NonNull CurrentUserType currentUser) {
-    return new Logout(cookieManager, currentUser);
+  static Logout provideLogout(final @NonNull ApolloClient apolloClient, final @NonNull CookieManager cookieManager,
+    final @NonNull CurrentUserType currentUser, final @NonNull PaginationSnapshotStoreType paginationSnapshotStore) {
+    return new Logout(apolloClient, cookieManager, currentUser, paginationSnapshotStore);
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static PaginationSnapshotStoreType providePaginationSnapshotStore(final @ApplicationContext @NonNull Context context,
+    final @NonNull Gson gson) {
+    return new PaginationSnapshotStore(new File(context.getCacheDir(), PAGINATION_SNAPSHOTS_DIRECTORY), gson, Schedulers.io());
   }
 
   @Provides
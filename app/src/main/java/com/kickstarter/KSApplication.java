@@ -6,6 +6,9 @@ import com.kickstarter.libs.FirebaseHelper;
 import com.kickstarter.libs.PushNotifications;
 import com.kickstarter.libs.SegmentTrackingClient;
 import com.kickstarter.libs.braze.RemotePushClientType;
+import com.kickstarter.libs.preferences.BooleanDataStoreType;
+import com.kickstarter.libs.qualifiers.AppRatingPreference;
+import com.kickstarter.libs.qualifiers.FirstSessionPreference;
 import com.kickstarter.libs.utils.ApplicationLifecycleUtil;
 import com.kickstarter.libs.utils.Secrets;
 
@@ -32,6 +35,9 @@ public class KSApplication extends MultiDexApplication implements IKSApplication
   @Inject protected PushNotifications pushNotifications;
   @Inject protected RemotePushClientType remotePushClientType;
   @Inject protected SegmentTrackingClient segmentTrackingClient;
+  // - Injected so their stored values start loading when the app starts, before a screen asks for them.
+  @Inject @AppRatingPreference protected BooleanDataStoreType hasSeenAppRatingPreference;
+  @Inject @FirstSessionPreference protected BooleanDataStoreType firstSessionPreference;
 
   @Override
   @CallSuper
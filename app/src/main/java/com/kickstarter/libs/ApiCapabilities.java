@@ -9,6 +9,10 @@ public final class ApiCapabilities {
     return android.os.Build.VERSION.SDK_INT >= Build.VERSION_CODES.O;
   }
 
+  public static boolean canGroupNotifications() {
+    return android.os.Build.VERSION.SDK_INT >= Build.VERSION_CODES.N;
+  }
+
   public static boolean needsLegacyHtml() {
     return android.os.Build.VERSION.SDK_INT < Build.VERSION_CODES.N;
   }
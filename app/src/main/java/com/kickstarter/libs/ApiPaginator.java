@@ -2,8 +2,11 @@ package com.kickstarter.libs;
 
 import android.util.Pair;
 
+import com.kickstarter.libs.loadmore.PaginatedList;
+import com.kickstarter.libs.loadmore.PaginationSnapshot;
+import com.kickstarter.libs.loadmore.PaginationSnapshotStoreType;
 import com.kickstarter.libs.rx.transformers.Transformers;
-import com.kickstarter.libs.utils.ListUtils;
+import com.kickstarter.models.Relay;
 import com.kickstarter.services.ApiClientType;
 
 import java.net.MalformedURLException;
@@ -12,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import rx.Observable;
 import rx.functions.Func1;
 import rx.functions.Func2;
@@ -35,9 +39,13 @@ public final class ApiPaginator<Data, Envelope, Params> {
   private final boolean clearWhenStartingOver;
   private final @NonNull Func2<List<Data>, List<Data>, List<Data>> concater;
   private final boolean distinctUntilChanged;
+  private final @Nullable PaginationSnapshotStoreType snapshotStore;
+  private final @Nullable Class<Data> snapshotDataType;
+  private final @Nullable Func1<Params, Observable<String>> snapshotKey;
 
   private final @NonNull PublishSubject<String> _morePath = PublishSubject.create();
   private final @NonNull PublishSubject<Boolean> _isFetching = PublishSubject.create();
+  private @Nullable String morePath;
 
   // Outputs
   public @NonNull Observable<List<Data>> paginatedData() {
@@ -63,7 +71,10 @@ public final class ApiPaginator<Data, Envelope, Params> {
     final @NonNull Func1<List<Data>, List<Data>> pageTransformation,
     final boolean clearWhenStartingOver,
     final @NonNull Func2<List<Data>, List<Data>, List<Data>> concater,
-    final boolean distinctUntilChanged
+    final boolean distinctUntilChanged,
+    final @Nullable PaginationSnapshotStoreType snapshotStore,
+    final @Nullable Class<Data> snapshotDataType,
+    final @Nullable Func1<Params, Observable<String>> snapshotKey
   ) {
     this.nextPage = nextPage;
     this.startOverWith = startOverWith;
@@ -75,6 +86,9 @@ public final class ApiPaginator<Data, Envelope, Params> {
     this.clearWhenStartingOver = clearWhenStartingOver;
     this.concater = concater;
     this.distinctUntilChanged = distinctUntilChanged;
+    this.snapshotStore = snapshotStore;
+    this.snapshotDataType = snapshotDataType;
+    this.snapshotKey = snapshotKey;
 
     this.paginatedData = this.startOverWith.switchMap(this::dataWithPagination);
     this.loadingPage = this.startOverWith.switchMap(__ -> nextPage.scan(1, (accum, ___) -> accum + 1));
@@ -89,8 +103,11 @@ public final class ApiPaginator<Data, Envelope, Params> {
     private Func1<Envelope, String> envelopeToMoreUrl;
     private Func1<List<Data>, List<Data>> pageTransformation;
     private boolean clearWhenStartingOver;
-    private Func2<List<Data>, List<Data>, List<Data>> concater = ListUtils::concat;
+    private Func2<List<Data>, List<Data>, List<Data>> concater = PaginatedList::concat;
     private boolean distinctUntilChanged;
+    private PaginationSnapshotStoreType snapshotStore;
+    private Class<Data> snapshotDataType;
+    private Func1<Params, Observable<String>> snapshotKey;
 
     /**
      * [Required] An observable that emits whenever a new page of data should be loaded.
@@ -158,8 +175,8 @@ public final class ApiPaginator<Data, Envelope, Params> {
     }
 
     /**
-     * [Optional] Determines how two lists are concatenated together while paginating. A regular `ListUtils::concat` is probably
-     * sufficient, but sometimes you may want `ListUtils::concatDistinct`
+     * [Optional] Determines how two lists are concatenated together while paginating. A regular `PaginatedList::concat` is probably
+     * sufficient, but sometimes you may want `PaginatedList::concatDistinct`
      */
     public @NonNull Builder<Data, Envelope, Params> concater(final @NonNull Func2<List<Data>, List<Data>, List<Data>> concater) {
       this.concater = concater;
@@ -174,6 +191,20 @@ public final class ApiPaginator<Data, Envelope, Params> {
       return this;
     }
 
+    /**
+     * [Optional] Saves the loaded data in `snapshotStore` under the first key `snapshotKey` emits for the params. When
+     * the list is loaded again with the same params, the saved data is emitted right away while the first page is
+     * fetched again. The key is an observable so it can wait for e.g. the current user without blocking. Items are
+     * matched by their ids, so `snapshotDataType` must be a {@link Relay}.
+     */
+    public @NonNull Builder<Data, Envelope, Params> snapshots(final @NonNull PaginationSnapshotStoreType snapshotStore,
+      final @NonNull Class<Data> snapshotDataType, final @NonNull Func1<Params, Observable<String>> snapshotKey) {
+      this.snapshotStore = snapshotStore;
+      this.snapshotDataType = snapshotDataType;
+      this.snapshotKey = snapshotKey;
+      return this;
+    }
+
     public @NonNull ApiPaginator<Data, Envelope, Params> build() throws RuntimeException {
       // Early error when required field is not set
       if (this.nextPage == null) {
@@ -191,6 +222,9 @@ public final class ApiPaginator<Data, Envelope, Params> {
       if (this.envelopeToMoreUrl == null) {
         throw new RuntimeException("`envelopeToMoreUrl` is required");
       }
+      if (this.snapshotDataType != null && !Relay.class.isAssignableFrom(this.snapshotDataType)) {
+        throw new RuntimeException("`snapshotDataType` must be a `Relay`");
+      }
 
       // Default params for optional fields
       if (this.startOverWith == null) {
@@ -200,12 +234,12 @@ public final class ApiPaginator<Data, Envelope, Params> {
         this.pageTransformation = x -> x;
       }
       if (this.concater == null) {
-        this.concater = ListUtils::concat;
+        this.concater = PaginatedList::concat;
       }
 
       return new ApiPaginator<>(this.nextPage, this.startOverWith, this.envelopeToListOfData, this.loadWithParams,
         this.loadWithPaginationPath, this.envelopeToMoreUrl, this.pageTransformation, this.clearWhenStartingOver, this.concater,
-        this.distinctUntilChanged);
+        this.distinctUntilChanged, this.snapshotStore, this.snapshotDataType, this.snapshotKey);
     }
   }
 
@@ -217,17 +251,89 @@ public final class ApiPaginator<Data, Envelope, Params> {
    * Returns an observable that emits the accumulated list of paginated data each time a new page is loaded.
    */
   private @NonNull Observable<List<Data>> dataWithPagination(final @NonNull Params firstPageParams) {
-    final Observable<List<Data>> data = paramsAndMoreUrlWithPagination(firstPageParams)
+    if (this.snapshotStore == null || this.snapshotDataType == null || this.snapshotKey == null) {
+      return dataWithPagination(firstPageParams, null, null);
+    }
+
+    final PaginationSnapshotStoreType snapshotStore = this.snapshotStore;
+    final Class<Data> snapshotDataType = this.snapshotDataType;
+    return this.snapshotKey.call(firstPageParams)
+      .take(1)
+      .concatMap(key -> snapshotStore.snapshot(key, snapshotDataType)
+        .defaultIfEmpty(null)
+        .concatMap(snapshot -> dataWithPagination(firstPageParams, key, snapshot)));
+  }
+
+  /**
+   * Returns an observable that emits the accumulated list of paginated data each time a new page is loaded, saving it
+   * under `snapshotKey` when there's one. A `snapshot` is emitted first and kept after the first page if that page
+   * has the same items as when the snapshot was saved.
+   */
+  private @NonNull Observable<List<Data>> dataWithPagination(final @NonNull Params firstPageParams,
+    final @Nullable String snapshotKey, final @Nullable PaginationSnapshot<Data> snapshot) {
+    Observable<List<Data>> data = paramsAndMoreUrlWithPagination(firstPageParams)
       .concatMap(this::fetchData)
       .takeUntil(List::isEmpty);
 
-    final Observable<List<Data>> paginatedData = this.clearWhenStartingOver
+    if (snapshot != null) {
+      data = data.publish(pages -> Observable.merge(
+        pages.take(1).map(firstPage -> revalidate(snapshot, firstPage)),
+        pages.skip(1)
+      ));
+    }
+
+    Observable<List<Data>> paginatedData = this.clearWhenStartingOver && snapshot == null
       ? data.scan(new ArrayList<>(), this.concater)
       : data.scan(this.concater);
 
+    final PaginationSnapshotStoreType snapshotStore = this.snapshotStore;
+    final Class<Data> snapshotDataType = this.snapshotDataType;
+    if (snapshotKey != null && snapshotStore != null && snapshotDataType != null) {
+      paginatedData = paginatedData.doOnNext(loadedData -> {
+        if (!loadedData.isEmpty()) {
+          snapshotStore.save(snapshotKey, new PaginationSnapshot<>(loadedData, this.morePath), snapshotDataType);
+        }
+      });
+    }
+
+    if (snapshot != null) {
+      paginatedData = paginatedData.startWith(snapshot.getData());
+    }
+
     return this.distinctUntilChanged ? paginatedData.distinctUntilChanged() : paginatedData;
   }
 
+  /**
+   * Returns `firstPage` followed by the rest of the snapshot's data when the snapshot starts with the same items,
+   * continuing from the snapshot's more path, or else `firstPage`. Items are matched by id, since e.g. a project's
+   * backers count changes between sessions while its place in the list doesn't.
+   */
+  private @NonNull List<Data> revalidate(final @NonNull PaginationSnapshot<Data> snapshot, final @NonNull List<Data> firstPage) {
+    final List<Data> data = snapshot.getData();
+    if (firstPage.isEmpty() || data.size() < firstPage.size() || !sameIds(data.subList(0, firstPage.size()), firstPage)) {
+      return firstPage;
+    }
+
+    this.morePath = snapshot.getMorePath();
+    if (this.morePath != null) {
+      this._morePath.onNext(this.morePath);
+    }
+
+    // - The fresh items replace the saved ones, the later pages are kept as they were saved.
+    final List<Data> revalidated = new ArrayList<>(firstPage);
+    revalidated.addAll(data.subList(firstPage.size(), data.size()));
+    return revalidated;
+  }
+
+  private static <Data> boolean sameIds(final @NonNull List<Data> xs, final @NonNull List<Data> ys) {
+    for (int i = 0; i < xs.size(); i++) {
+      if (((Relay) xs.get(i)).id() != ((Relay) ys.get(i)).id()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns an observable that emits the params for the next page of data *or* the more URL for the next page.
    */
@@ -255,9 +361,11 @@ public final class ApiPaginator<Data, Envelope, Params> {
   }
 
   private void keepMorePath(final @NonNull Envelope envelope) {
+    this.morePath = null;
     try {
       final URL url = new URL(this.envelopeToMoreUrl.call(envelope));
-      this._morePath.onNext(pathAndQueryFromURL(url));
+      this.morePath = pathAndQueryFromURL(url);
+      this._morePath.onNext(this.morePath);
     } catch (MalformedURLException ignored) {}
   }
 
@@ -3,6 +3,7 @@ package com.kickstarter.libs;
 import android.content.res.AssetManager;
 
 import com.google.gson.Gson;
+import com.kickstarter.libs.preferences.BinaryValueStore;
 import com.kickstarter.libs.preferences.StringPreferenceType;
 import com.kickstarter.libs.rx.transformers.Transformers;
 import com.kickstarter.libs.utils.ObjectUtils;
@@ -12,7 +13,7 @@ import java.io.InputStream;
 
 import androidx.annotation.NonNull;
 import rx.Observable;
-import rx.android.schedulers.AndroidSchedulers;
+import rx.Scheduler;
 import rx.subjects.BehaviorSubject;
 import timber.log.Timber;
 
@@ -20,36 +21,49 @@ public final class CurrentConfig implements CurrentConfigType {
   private final static String ASSET_PATH = "json/server-config.json";
 
   private final BehaviorSubject<Config> config = BehaviorSubject.create();
+  private final BinaryValueStore<Config> configStore;
 
+  /**
+   * The config is read in the background from `configStore`, then from the JSON an older version saved in
+   * `configPreference`, then from the config bundled in the assets, and emitted on `scheduler`.
+   */
   public CurrentConfig(final @NonNull AssetManager assetManager,
     final @NonNull Gson gson,
-    final @NonNull StringPreferenceType configPreference) {
+    final @NonNull StringPreferenceType configPreference,
+    final @NonNull BinaryValueStore<Config> configStore,
+    final @NonNull Scheduler scheduler) {
+    this.configStore = configStore;
 
-    // Loads config from disk
-    final Observable<Config> diskConfig = Observable.just(ASSET_PATH)
-      .map(path -> configJSONString(path, assetManager))
+    // Loads config from string preference, and moves it to the store
+    final Observable<Config> prefConfig = Observable.just(configPreference)
+      .map(StringPreferenceType::get)
+      .filter(ObjectUtils::isNotNull)
       .map(json -> gson.fromJson(json, Config.class))
       .filter(ObjectUtils::isNotNull)
-      .compose(Transformers.neverError())
-      .subscribeOn(AndroidSchedulers.mainThread());
+      .doOnNext(c -> {
+        configStore.save(c);
+        configPreference.delete();
+      })
+      .compose(Transformers.neverError());
 
-    // Loads config from string preference
-    final Observable<Config> prefConfig = Observable.just(configPreference)
-      .map(StringPreferenceType::get)
+    // Loads config from disk
+    final Observable<Config> diskConfig = Observable.just(ASSET_PATH)
+      .map(path -> configJSONString(path, assetManager))
       .map(json -> gson.fromJson(json, Config.class))
       .filter(ObjectUtils::isNotNull)
-      .compose(Transformers.neverError())
-      .subscribeOn(AndroidSchedulers.mainThread());
+      .compose(Transformers.neverError());
 
-    // Seed config observable with what's cached
-    Observable.concat(prefConfig, diskConfig)
+    // Seed config observable with what's cached, unless a fresher config was set while reading it
+    Observable.concat(configStore.value(), prefConfig, diskConfig)
       .take(1)
-      .subscribe(this.config::onNext);
-
-    // Cache any new values to preferences
-    this.config.skip(1)
-      .filter(ObjectUtils::isNotNull)
-      .subscribe(c -> configPreference.set(gson.toJson(c, Config.class)));
+      .observeOn(scheduler)
+      .subscribe(c -> {
+        synchronized (this.config) {
+          if (!this.config.hasValue()) {
+            this.config.onNext(c);
+          }
+        }
+      });
   }
 
   /**
@@ -61,7 +75,10 @@ public final class CurrentConfig implements CurrentConfigType {
   }
 
   public void config(final @NonNull Config config) {
-    this.config.onNext(config);
+    synchronized (this.config) {
+      this.config.onNext(config);
+    }
+    this.configStore.save(config);
   }
 
   /**
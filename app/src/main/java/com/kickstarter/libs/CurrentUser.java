@@ -1,13 +1,17 @@
 package com.kickstarter.libs;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.kickstarter.libs.preferences.BinaryValueStore;
 import com.kickstarter.libs.preferences.StringPreferenceType;
-import com.kickstarter.libs.utils.ObjectUtils;
 import com.kickstarter.models.User;
 
+import java.util.concurrent.CountDownLatch;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import rx.Observable;
+import rx.Scheduler;
 import rx.subjects.BehaviorSubject;
 import timber.log.Timber;
 
@@ -15,28 +19,54 @@ public class CurrentUser extends CurrentUserType {
   private final StringPreferenceType accessTokenPreference;
   private final DeviceRegistrarType deviceRegistrar;
   private final StringPreferenceType userPreference;
+  private final BinaryValueStore<User> userStore;
 
   private final BehaviorSubject<User> user = BehaviorSubject.create();
+  private final CountDownLatch loaded = new CountDownLatch(1);
+
+  // Guarded by `this`.
+  private @Nullable User currentUser;
+  private boolean isUpdated;
+  private boolean isEmitted;
 
+  /**
+   * The saved user is read from `userStore` in the background and emitted on `scheduler`. A user saved as JSON in
+   * `userPreference` by an older version is moved to `userStore`. A user that can't be read is treated as logged out.
+   */
   public CurrentUser(final @NonNull StringPreferenceType accessTokenPreference,
     final @NonNull DeviceRegistrarType deviceRegistrar,
     final @NonNull Gson gson,
-    final @NonNull StringPreferenceType userPreference) {
+    final @NonNull StringPreferenceType userPreference,
+    final @NonNull BinaryValueStore<User> userStore,
+    final @NonNull Scheduler scheduler) {
     this.accessTokenPreference = accessTokenPreference;
     this.deviceRegistrar = deviceRegistrar;
     this.userPreference = userPreference;
-
-    this.user
-      .skip(1)
-      .filter(ObjectUtils::isNotNull)
-      .subscribe(u -> userPreference.set(gson.toJson(u, User.class)));
-
-    this.user.onNext(gson.fromJson(userPreference.get(), User.class));
+    this.userStore = userStore;
+
+    userStore.value()
+      .switchIfEmpty(Observable.fromCallable(() -> preferenceUser(gson)))
+      .defaultIfEmpty(null)
+      .onErrorReturn(e -> {
+        Timber.e(e);
+        return null;
+      })
+      .doOnNext(this::loaded)
+      .observeOn(scheduler)
+      .subscribe(__ -> emitLoaded(), Timber::e);
   }
 
   @Override
   public @Nullable User getUser() {
-    return this.user.getValue();
+    try {
+      this.loaded.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    synchronized (this) {
+      return this.currentUser;
+    }
   }
 
   @Override
@@ -53,7 +83,7 @@ public class CurrentUser extends CurrentUserType {
     Timber.d("Login user %s", newUser.name());
 
     this.accessTokenPreference.set(accessToken);
-    this.user.onNext(newUser);
+    update(newUser);
     this.deviceRegistrar.registerDevice();
   }
 
@@ -63,17 +93,70 @@ public class CurrentUser extends CurrentUserType {
 
     this.userPreference.delete();
     this.accessTokenPreference.delete();
-    this.user.onNext(null);
+    update(null);
     this.deviceRegistrar.unregisterDevice();
   }
 
   @Override
   public void refresh(final @NonNull User freshUser) {
-    this.user.onNext(freshUser);
+    update(freshUser);
   }
 
+  /**
+   * Emits once the saved user has been read, then again each time the user is updated.
+   */
   @Override
   public @NonNull Observable<User> observable() {
     return this.user;
   }
+
+  private synchronized void update(final @Nullable User newUser) {
+    this.currentUser = newUser;
+    this.isUpdated = true;
+    this.isEmitted = true;
+    this.user.onNext(newUser);
+    this.loaded.countDown();
+
+    if (newUser != null) {
+      this.userStore.save(newUser);
+    } else {
+      this.userStore.delete();
+    }
+  }
+
+  /**
+   * Keeps the saved user, unless the user was updated while it was being read.
+   */
+  private synchronized void loaded(final @Nullable User savedUser) {
+    if (!this.isUpdated) {
+      this.currentUser = savedUser;
+    }
+    this.loaded.countDown();
+  }
+
+  private synchronized void emitLoaded() {
+    if (!this.isEmitted) {
+      this.isEmitted = true;
+      this.user.onNext(this.currentUser);
+    }
+  }
+
+  private @Nullable User preferenceUser(final @NonNull Gson gson) {
+    final String json = this.userPreference.get();
+    if (json == null) {
+      return null;
+    }
+
+    User user = null;
+    try {
+      user = gson.fromJson(json, User.class);
+    } catch (final JsonParseException e) {
+      Timber.e(e);
+    }
+    if (user != null) {
+      this.userStore.save(user);
+    }
+    this.userPreference.delete();
+    return user;
+  }
 }
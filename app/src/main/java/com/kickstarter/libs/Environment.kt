@@ -2,6 +2,9 @@ package com.kickstarter.libs
 
 import android.content.SharedPreferences
 import com.google.gson.Gson
+import com.kickstarter.libs.htmlparser.StoryParser
+import com.kickstarter.libs.loadmore.PaginationSnapshotStoreType
+import com.kickstarter.libs.preferences.BooleanDataStoreType
 import com.kickstarter.libs.preferences.BooleanPreferenceType
 import com.kickstarter.libs.preferences.IntPreferenceType
 import com.kickstarter.libs.utils.PlayServicesCapability
@@ -21,9 +24,9 @@ class Environment private constructor(
     private val cookieManager: CookieManager?,
     private val currentConfig: CurrentConfigType?,
     private val currentUser: CurrentUserType?,
-    private val firstSessionPreference: BooleanPreferenceType?,
+    private val firstSessionPreference: BooleanDataStoreType?,
     private val gson: Gson?,
-    private val hasSeenAppRatingPreference: BooleanPreferenceType?,
+    private val hasSeenAppRatingPreference: BooleanDataStoreType?,
     private val hasSeenGamesNewsletterPreference: BooleanPreferenceType?,
     private val internalTools: InternalToolsType?,
     private val ksCurrency: KSCurrency?,
@@ -31,10 +34,13 @@ class Environment private constructor(
     private val analytics: AnalyticEvents?,
     private val logout: Logout?,
     private val optimizely: ExperimentsClientType?,
+    private val paginationSnapshotStore: PaginationSnapshotStoreType?,
     private val playServicesCapability: PlayServicesCapability?,
     private val scheduler: Scheduler?,
     private val sharedPreferences: SharedPreferences?,
+    private val storyParser: StoryParser?,
     private val stripe: Stripe?,
+    private val videoPlayerPool: VideoPlayerPool?,
     private val webClient: WebClientType?,
     private val webEndpoint: String
 ) {
@@ -56,10 +62,13 @@ class Environment private constructor(
     fun analytics() = this.analytics
     fun logout() = this.logout
     fun optimizely() = this.optimizely
+    fun paginationSnapshotStore() = this.paginationSnapshotStore
     fun playServicesCapability() = this.playServicesCapability
     fun scheduler() = this.scheduler
     fun sharedPreferences() = this.sharedPreferences
+    fun storyParser() = this.storyParser
     fun stripe() = this.stripe
+    fun videoPlayerPool() = this.videoPlayerPool
     fun webClient() = this.webClient
     fun webEndpoint() = this.webEndpoint
 
@@ -72,9 +81,9 @@ class Environment private constructor(
         private var cookieManager: CookieManager? = null,
         private var currentConfig: CurrentConfigType? = null,
         private var currentUser: CurrentUserType? = null,
-        private var firstSessionPreference: BooleanPreferenceType? = null,
+        private var firstSessionPreference: BooleanDataStoreType? = null,
         private var gson: Gson? = null,
-        private var hasSeenAppRatingPreference: BooleanPreferenceType? = null,
+        private var hasSeenAppRatingPreference: BooleanDataStoreType? = null,
         private var hasSeenGamesNewsletterPreference: BooleanPreferenceType? = null,
         private var internalTools: InternalToolsType? = null,
         private var ksCurrency: KSCurrency? = null,
@@ -82,10 +91,13 @@ class Environment private constructor(
         private var analytics: AnalyticEvents? = null,
         private var logout: Logout? = null,
         private var optimizely: ExperimentsClientType? = null,
+        private var paginationSnapshotStore: PaginationSnapshotStoreType? = null,
         private var playServicesCapability: PlayServicesCapability? = null,
         private var scheduler: Scheduler? = null,
         private var sharedPreferences: SharedPreferences? = null,
+        private var storyParser: StoryParser? = null,
         private var stripe: Stripe? = null,
+        private var videoPlayerPool: VideoPlayerPool? = null,
         private var webClient: WebClientType? = null,
         private var webEndpoint: String = ""
     ) {
@@ -97,9 +109,9 @@ class Environment private constructor(
         fun cookieManager(cookieManager: CookieManager) = apply { this.cookieManager = cookieManager }
         fun currentConfig(currentConfig: CurrentConfigType) = apply { this.currentConfig = currentConfig }
         fun currentUser(currentUser: CurrentUserType) = apply { this.currentUser = currentUser }
-        fun firstSessionPreference(firstSessionPreference: BooleanPreferenceType) = apply { this.firstSessionPreference = firstSessionPreference }
+        fun firstSessionPreference(firstSessionPreference: BooleanDataStoreType) = apply { this.firstSessionPreference = firstSessionPreference }
         fun gson(gson: Gson) = apply { this.gson = gson }
-        fun hasSeenAppRatingPreference(hasSeenAppRatingPreference: BooleanPreferenceType) = apply { this.hasSeenAppRatingPreference = hasSeenAppRatingPreference }
+        fun hasSeenAppRatingPreference(hasSeenAppRatingPreference: BooleanDataStoreType) = apply { this.hasSeenAppRatingPreference = hasSeenAppRatingPreference }
         fun hasSeenGamesNewsletterPreference(hasSeenGamesNewsletterPreference: BooleanPreferenceType) = apply { this.hasSeenGamesNewsletterPreference = hasSeenGamesNewsletterPreference }
         fun internalTools(internalTools: InternalToolsType) = apply { this.internalTools = internalTools }
         fun ksCurrency(ksCurrency: KSCurrency) = apply { this.ksCurrency = ksCurrency }
@@ -107,10 +119,13 @@ class Environment private constructor(
         fun analytics(analytics: AnalyticEvents) = apply { this.analytics = analytics }
         fun logout(logout: Logout) = apply { this.logout = logout }
         fun optimizely(optimizely: ExperimentsClientType) = apply { this.optimizely = optimizely }
+        fun paginationSnapshotStore(paginationSnapshotStore: PaginationSnapshotStoreType) = apply { this.paginationSnapshotStore = paginationSnapshotStore }
         fun playServicesCapability(playServicesCapability: PlayServicesCapability) = apply { this.playServicesCapability = playServicesCapability }
         fun scheduler(scheduler: Scheduler) = apply { this.scheduler = scheduler }
         fun sharedPreferences(sharedPreferences: SharedPreferences) = apply { this.sharedPreferences = sharedPreferences }
+        fun storyParser(storyParser: StoryParser) = apply { this.storyParser = storyParser }
         fun stripe(stripe: Stripe) = apply { this.stripe = stripe }
+        fun videoPlayerPool(videoPlayerPool: VideoPlayerPool) = apply { this.videoPlayerPool = videoPlayerPool }
         fun webClient(webClient: WebClientType) = apply { this.webClient = webClient }
         fun webEndpoint(webEndpoint: String) = apply { this.webEndpoint = webEndpoint }
 
@@ -133,10 +148,13 @@ class Environment private constructor(
             analytics = analytics,
             logout = logout,
             optimizely = optimizely,
+            paginationSnapshotStore = paginationSnapshotStore,
             playServicesCapability = playServicesCapability,
             scheduler = scheduler,
             sharedPreferences = sharedPreferences,
+            storyParser = storyParser,
             stripe = stripe,
+            videoPlayerPool = videoPlayerPool,
             webClient = webClient,
             webEndpoint = webEndpoint
         )
@@ -161,10 +179,13 @@ class Environment private constructor(
         analytics = analytics,
         logout = logout,
         optimizely = optimizely,
+        paginationSnapshotStore = paginationSnapshotStore,
         playServicesCapability = playServicesCapability,
         scheduler = scheduler,
         sharedPreferences = sharedPreferences,
+        storyParser = storyParser,
         stripe = stripe,
+        videoPlayerPool = videoPlayerPool,
         webClient = webClient,
         webEndpoint = webEndpoint
     )
@@ -6,9 +6,21 @@ import com.kickstarter.libs.utils.NumberUtils
 import com.kickstarter.libs.utils.extensions.trimAllWhitespace
 import com.kickstarter.models.Project
 import java.math.RoundingMode
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicReference
 import kotlin.jvm.JvmOverloads
 
 class KSCurrency(private val currentConfig: CurrentConfigType) {
+    /**
+     * Currency symbols for the latest config, kept by a single subscription so formatting amounts on bind paths
+     * doesn't block on the config observable or recompute the symbol for every amount.
+     */
+    private val configSymbols = AtomicReference<ConfigSymbols?>()
+
+    init {
+        this.currentConfig.observable().subscribe { this.configSymbols.set(ConfigSymbols(it)) }
+    }
+
     /**
      * Returns a currency string appropriate to the user's locale and location relative to a project.
      *
@@ -105,10 +117,11 @@ class KSCurrency(private val currentConfig: CurrentConfigType) {
      * @param excludeCurrencyCode If true, hide the US currency code for US users only.
      */
     fun currencyNeedsCode(country: Country, excludeCurrencyCode: Boolean): Boolean {
+        return currencyNeedsCode(configSymbols().config, country, excludeCurrencyCode)
+    }
+
+    private fun currencyNeedsCode(config: Config, country: Country, excludeCurrencyCode: Boolean): Boolean {
         val countryIsUS = country === Country.US
-        val config = currentConfig.observable()
-            .toBlocking()
-            .first()
         val currencyNeedsCode = config.currencyNeedsCode(country.currencySymbol)
         val userInUS = config.countryCode() == Country.US.countryCode
         return if (userInUS && excludeCurrencyCode && countryIsUS) {
@@ -141,7 +154,14 @@ class KSCurrency(private val currentConfig: CurrentConfigType) {
      * @param excludeCurrencyCode If true, hide the US currency code for US users only.
      */
     fun getCurrencySymbol(country: Country, excludeCurrencyCode: Boolean): String {
-        return if (!currencyNeedsCode(country, excludeCurrencyCode)) {
+        val configSymbols = configSymbols()
+        return configSymbols.symbols.getOrPut(CurrencySymbolKey(country, excludeCurrencyCode)) {
+            currencySymbol(configSymbols.config, country, excludeCurrencyCode)
+        }
+    }
+
+    private fun currencySymbol(config: Config, country: Country, excludeCurrencyCode: Boolean): String {
+        return if (!currencyNeedsCode(config, country, excludeCurrencyCode)) {
             country.currencySymbol
         } else if (country === Country.SG) {
             // Singapore projects get a special currency prefix
@@ -167,4 +187,31 @@ class KSCurrency(private val currentConfig: CurrentConfigType) {
             initialValue.toFloat()
         }
     }
+
+    /**
+     * Returns the symbols for the latest config. Before the first config is loaded, amounts are formatted against an
+     * empty config, which shows the currency code of every country, rather than waiting for the config on the calling
+     * thread. The first config replaces them as soon as it's emitted.
+     */
+    private fun configSymbols(): ConfigSymbols {
+        this.configSymbols.get()?.let { return it }
+
+        // - Only kept if no config was emitted in the meantime.
+        this.configSymbols.compareAndSet(null, ConfigSymbols(NO_CONFIG))
+        return requireNotNull(this.configSymbols.get())
+    }
+
+    /**
+     * Currency symbols by project country, computed against a single config. The user's country is part of the
+     * config, so a new config starts with no symbols.
+     */
+    private class ConfigSymbols(val config: Config) {
+        val symbols = ConcurrentHashMap<CurrencySymbolKey, String>()
+    }
+
+    private data class CurrencySymbolKey(val country: Country, val excludeCurrencyCode: Boolean)
+
+    companion object {
+        private val NO_CONFIG = Config.builder().build()
+    }
 }
@@ -0,0 +1,69 @@
+package com.kickstarter.libs
+
+import android.content.Context
+import com.bumptech.glide.GlideBuilder
+import com.bumptech.glide.annotation.GlideModule
+import com.bumptech.glide.load.DecodeFormat
+import com.bumptech.glide.load.engine.cache.InternalCacheDiskCacheFactory
+import com.bumptech.glide.load.engine.cache.MemorySizeCalculator
+import com.bumptech.glide.load.resource.bitmap.DownsampleStrategy
+import com.bumptech.glide.module.AppGlideModule
+import com.bumptech.glide.request.RequestOptions
+
+/**
+ * Configures the one image loader every screen goes through, so photos, avatars and gifs share a single memory budget
+ * and a single disk cache.
+ *
+ * Images are decoded at the size of the view they're loaded into rather than at their full size, and transformed
+ * images, e.g. circle avatars, are cached as transformed so they aren't transformed again.
+ */
+@GlideModule
+class KSGlideModule : AppGlideModule() {
+
+    override fun applyOptions(context: Context, builder: GlideBuilder) {
+        val memorySizeCalculator = MemorySizeCalculator.Builder(context)
+            .setMemoryCacheScreens(MEMORY_CACHE_SCREENS)
+            .setBitmapPoolScreens(BITMAP_POOL_SCREENS)
+            .setMaxSizeMultiplier(MAX_SIZE_MULTIPLIER)
+            .build()
+
+        builder
+            .setMemorySizeCalculator(memorySizeCalculator)
+            .setDiskCache(InternalCacheDiskCacheFactory(context, DISK_CACHE_DIRECTORY, DISK_CACHE_SIZE_BYTES))
+            .setDefaultRequestOptions(defaultRequestOptions())
+    }
+
+    override fun isManifestParsingEnabled() = false
+
+    companion object {
+        /**
+         * Decoded images kept in memory, in screens worth of pixels.
+         */
+        const val MEMORY_CACHE_SCREENS = 2f
+
+        /**
+         * Bitmaps kept for reuse by decodes and transformations, in screens worth of pixels.
+         */
+        const val BITMAP_POOL_SCREENS = 3f
+
+        /**
+         * The most of the app's memory class the memory cache and the bitmap pool can take together.
+         */
+        const val MAX_SIZE_MULTIPLIER = 0.25f
+
+        const val DISK_CACHE_DIRECTORY = "images"
+        const val DISK_CACHE_SIZE_BYTES = 150L * 1024 * 1024
+
+        val DECODE_FORMAT = DecodeFormat.DEFAULT
+
+        /**
+         * Decodes at the smallest size that still fills the view.
+         */
+        val DOWNSAMPLE_STRATEGY: DownsampleStrategy = DownsampleStrategy.CENTER_OUTSIDE
+
+        @JvmStatic
+        fun defaultRequestOptions(): RequestOptions = RequestOptions()
+            .format(DECODE_FORMAT)
+            .downsample(DOWNSAMPLE_STRATEGY)
+    }
+}
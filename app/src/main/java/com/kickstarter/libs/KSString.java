@@ -2,18 +2,19 @@ package com.kickstarter.libs;
 
 import android.content.res.Resources;
 import android.text.TextUtils;
+import android.util.LruCache;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 public final class KSString {
   private final String packageName;
   private final Resources resources;
+  private final LruCache<String, Template> templates = new LruCache<>(TEMPLATE_CACHE_SIZE);
 
   public KSString(final @NonNull String packageName, final @NonNull Resources resources) {
     this.packageName = packageName;
@@ -24,12 +25,7 @@ public final class KSString {
    * Replace each key found in the string with its corresponding value.
    */
   public @NonNull String format(final @NonNull String string, final @NonNull String key1, final @Nullable String value1) {
-    final Map<String, String> substitutions = new HashMap<String, String>() {
-      {
-        put(key1, value1);
-      }
-    };
-    return replace(string, substitutions);
+    return template(string).fill(new String[] { key1 }, new String[] { value1 });
   }
 
   /**
@@ -38,13 +34,7 @@ public final class KSString {
   public @NonNull String format(final @NonNull String string,
     final @NonNull String key1, final @Nullable String value1,
     final @NonNull String key2, final @Nullable String value2) {
-    final Map<String, String> substitutions = new HashMap<String, String>() {
-      {
-        put(key1, value1);
-        put(key2, value2);
-      }
-    };
-    return replace(string, substitutions);
+    return template(string).fill(new String[] { key1, key2 }, new String[] { value1, value2 });
   }
 
   /**
@@ -54,14 +44,7 @@ public final class KSString {
     final @NonNull String key1, final @Nullable String value1,
     final @NonNull String key2, final @Nullable String value2,
     final @NonNull String key3, final @Nullable String value3) {
-    final Map<String, String> substitutions = new HashMap<String, String>() {
-      {
-        put(key1, value1);
-        put(key2, value2);
-        put(key3, value3);
-      }
-    };
-    return replace(string, substitutions);
+    return template(string).fill(new String[] { key1, key2, key3 }, new String[] { value1, value2, value3 });
   }
 
   /**
@@ -72,15 +55,7 @@ public final class KSString {
     final @NonNull String key2, final @Nullable String value2,
     final @NonNull String key3, final @Nullable String value3,
     final @NonNull String key4, final @Nullable String value4) {
-    final Map<String, String> substitutions = new HashMap<String, String>() {
-      {
-        put(key1, value1);
-        put(key2, value2);
-        put(key3, value3);
-        put(key4, value4);
-      }
-    };
-    return replace(string, substitutions);
+    return template(string).fill(new String[] { key1, key2, key3, key4 }, new String[] { value1, value2, value3, value4 });
   }
 
   /**
@@ -161,36 +136,124 @@ public final class KSString {
   }
 
   /**
-   * For a given string, replaces occurrences of each key with its corresponding value. In the string, keys are wrapped
-   * with `%{}`, e.g. `%{backers_count} backers`. In this instance, the substitutions hash might contain one entry with the key
-   * `backers_count` and value `2`.
+   * Returns the parsed template for a string, parsing it on first use. Strings come from a fixed set of resources, so
+   * the cache stays small and templates on hot bind paths are only parsed once.
+   */
+  private @NonNull Template template(final @NonNull String string) {
+    Template template = this.templates.get(string);
+    if (template == null) {
+      template = Template.parse(string);
+      this.templates.put(string, template);
+    }
+    return template;
+  }
+
+  /**
+   * A string split into literal text and keys. In the string, keys are wrapped with `%{}`, e.g. `%{backers_count} backers`.
+   * In this instance, the substitutions might contain one entry with the key `backers_count` and value `2`.
    */
-  private @NonNull String replace(final @NonNull String string, final @NonNull Map<String, String> substitutions) {
-    final StringBuilder builder = new StringBuilder();
-    for (final String key : substitutions.keySet()) {
-      if (builder.length() > 0) {
-        builder.append("|");
+  @VisibleForTesting
+  static final class Template {
+    private final @NonNull String string;
+    /**
+     * Literal text, or the key when the same index of {@link #isKey} is set.
+     */
+    private final @NonNull String[] segments;
+    private final @NonNull boolean[] isKey;
+
+    private Template(final @NonNull String string, final @NonNull String[] segments, final @NonNull boolean[] isKey) {
+      this.string = string;
+      this.segments = segments;
+      this.isKey = isKey;
+    }
+
+    static @NonNull Template parse(final @NonNull String string) {
+      final List<String> segments = new ArrayList<>();
+      final List<Boolean> isKey = new ArrayList<>();
+
+      int literalStart = 0;
+      int keyStart = string.indexOf(KEY_PREFIX);
+      while (keyStart != -1) {
+        final int keyEnd = wordEnd(string, keyStart + KEY_PREFIX.length());
+        if (keyEnd > keyStart + KEY_PREFIX.length() && keyEnd < string.length() && string.charAt(keyEnd) == KEY_SUFFIX) {
+          if (keyStart > literalStart) {
+            segments.add(string.substring(literalStart, keyStart));
+            isKey.add(false);
+          }
+          segments.add(string.substring(keyStart + KEY_PREFIX.length(), keyEnd));
+          isKey.add(true);
+          literalStart = keyEnd + 1;
+          keyStart = string.indexOf(KEY_PREFIX, literalStart);
+        } else {
+          keyStart = string.indexOf(KEY_PREFIX, keyStart + 1);
+        }
+      }
+      if (literalStart < string.length()) {
+        segments.add(string.substring(literalStart));
+        isKey.add(false);
+      }
+
+      final boolean[] isKeyArray = new boolean[isKey.size()];
+      for (int i = 0; i < isKeyArray.length; i++) {
+        isKeyArray[i] = isKey.get(i);
       }
-      builder
-        .append("(%\\{")
-        .append(key)
-        .append("\\})");
+      return new Template(string, segments.toArray(new String[0]), isKeyArray);
     }
 
-    final Pattern pattern = Pattern.compile(builder.toString());
-    final Matcher matcher = pattern.matcher(string);
-    final StringBuffer buffer = new StringBuffer();
+    /**
+     * Fills in the template in a single pass. Keys that aren't substituted are left as they are, null values are
+     * replaced with an empty string, and when a key is given more than once the last value wins.
+     */
+    @NonNull String fill(final @NonNull String[] keys, final @NonNull String[] values) {
+      if (this.segments.length == 1 && !this.isKey[0]) {
+        return this.string;
+      }
+
+      final StringBuilder builder = new StringBuilder(this.string.length() + 16 * keys.length);
+      for (int i = 0; i < this.segments.length; i++) {
+        final String segment = this.segments[i];
+        if (!this.isKey[i]) {
+          builder.append(segment);
+          continue;
+        }
 
-    while (matcher.find()) {
-      final String key = NON_WORD_REGEXP.matcher(matcher.group()).replaceAll("");
-      final String value = substitutions.get(key);
-      final String replacement = Matcher.quoteReplacement(value != null ? value : "");
-      matcher.appendReplacement(buffer, replacement);
+        final int keyIndex = lastIndexOf(keys, segment);
+        if (keyIndex == -1) {
+          builder.append(KEY_PREFIX).append(segment).append(KEY_SUFFIX);
+        } else if (values[keyIndex] != null) {
+          builder.append(values[keyIndex]);
+        }
+      }
+      return builder.toString();
+    }
+
+    private static int lastIndexOf(final @NonNull String[] keys, final @NonNull String key) {
+      for (int i = keys.length - 1; i >= 0; i--) {
+        if (key.equals(keys[i])) {
+          return i;
+        }
+      }
+      return -1;
     }
-    matcher.appendTail(buffer);
 
-    return buffer.toString();
+    /**
+     * Returns the index of the first character at or after {@code start} that can't be part of a key, keys being made of
+     * ASCII letters, digits and underscores.
+     */
+    private static int wordEnd(final @NonNull String string, final int start) {
+      int i = start;
+      while (i < string.length()) {
+        final char c = string.charAt(i);
+        if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_')) {
+          break;
+        }
+        i++;
+      }
+      return i;
+    }
   }
 
-  private static final Pattern NON_WORD_REGEXP = Pattern.compile("[^\\w]");
+  private static final String KEY_PREFIX = "%{";
+  private static final char KEY_SUFFIX = '}';
+  private static final int TEMPLATE_CACHE_SIZE = 256;
 }
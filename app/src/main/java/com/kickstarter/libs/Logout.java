@@ -1,23 +1,34 @@
 package com.kickstarter.libs;
 
+import com.apollographql.apollo.ApolloClient;
 import com.facebook.login.LoginManager;
+import com.kickstarter.libs.loadmore.PaginationSnapshotStoreType;
 
 import java.net.CookieManager;
 
 import androidx.annotation.NonNull;
 
 public final class Logout {
+  private final ApolloClient apolloClient;
   private final CookieManager cookieManager;
   private final CurrentUserType currentUser;
+  private final PaginationSnapshotStoreType paginationSnapshotStore;
 
-  public Logout(final @NonNull CookieManager cookieManager, final @NonNull CurrentUserType currentUser) {
+  public Logout(final @NonNull ApolloClient apolloClient, final @NonNull CookieManager cookieManager,
+    final @NonNull CurrentUserType currentUser, final @NonNull PaginationSnapshotStoreType paginationSnapshotStore) {
+    this.apolloClient = apolloClient;
     this.cookieManager = cookieManager;
     this.currentUser = currentUser;
+    this.paginationSnapshotStore = paginationSnapshotStore;
   }
 
   public void execute() {
     this.currentUser.logout();
     this.cookieManager.getCookieStore().removeAll();
+    // The normalized cache holds user specific fields (backings, saved state), drop it with the session.
+    this.apolloClient.clearNormalizedCache();
+    // Saved lists (activity, messages) belong to the user too.
+    this.paginationSnapshotStore.clear();
     LoginManager.getInstance().logOut();
   }
 }
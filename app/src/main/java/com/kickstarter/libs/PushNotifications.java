@@ -7,6 +7,7 @@ import android.app.NotificationManager;
 import android.app.PendingIntent;
 import android.content.Context;
 import android.content.Intent;
+import android.content.res.Resources;
 import android.graphics.Bitmap;
 import android.os.Build;
 import android.util.Pair;
@@ -18,6 +19,8 @@ import androidx.core.app.NotificationCompat;
 import androidx.core.app.TaskStackBuilder;
 import androidx.core.content.ContextCompat;
 
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.load.engine.DiskCacheStrategy;
 import com.kickstarter.R;
 import com.kickstarter.libs.qualifiers.ApplicationContext;
 import com.kickstarter.libs.transformations.CircleTransformation;
@@ -38,14 +41,21 @@ import com.kickstarter.ui.activities.MessagesActivity;
 import com.kickstarter.ui.activities.ProjectPageActivity;
 import com.kickstarter.ui.activities.SurveyResponseActivity;
 import com.kickstarter.ui.activities.UpdateActivity;
-import com.squareup.picasso.Picasso;
-import com.squareup.picasso.RequestCreator;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 
+import rx.BackpressureOverflow;
 import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Action0;
 import rx.schedulers.Schedulers;
 import rx.subjects.PublishSubject;
 import rx.subscriptions.CompositeSubscription;
@@ -62,6 +72,10 @@ public final class PushNotifications {
   private static final String CHANNEL_PROJECT_REMINDER = "PROJECT_REMINDER";
   private static final String CHANNEL_PROJECT_UPDATES = "PROJECT_UPDATES";
   private static final String CHANNEL_SURVEY = "SURVEY";
+  private static final String PROJECT_GROUP_PREFIX = "project_";
+  private static final int PROJECT_GROUP_SUMMARY_ID = 0;
+  private static final int MAX_PENDING_NOTIFICATIONS = 100;
+  private static final int NOTIFICATION_THREADS = 4;
   private static final String[] NOTIFICATION_CHANNELS = {CHANNEL_ERRORED_PLEDGES,
     CHANNEL_FOLLOWING,
     CHANNEL_MESSAGES,
@@ -74,95 +88,153 @@ public final class PushNotifications {
   private final ApiClientType client;
   private final ExperimentsClientType experimentsClientType;
 
+  private final Scheduler scheduler;
+
   private final PublishSubject<PushNotificationEnvelope> notifications = PublishSubject.create();
+  private final PublishSubject<PushNotificationEnvelope> displayed = PublishSubject.create();
   private final CompositeSubscription subscriptions = new CompositeSubscription();
 
+  // Signatures of the envelopes being displayed, a copy of one of them is dropped.
+  private final Set<Integer> pendingSignatures = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+  // Fetches in flight by key, guarded by itself. Envelopes for the same thread, update or survey share a fetch.
+  private final Map<String, Observable<?>> fetches = new HashMap<>();
+
   @VisibleForTesting
   public  Intent messageThreadIntent;
 
   public PushNotifications(final @ApplicationContext @NonNull Context context, final @NonNull ApiClientType client, final @NonNull ExperimentsClientType experimentsClientType) {
+    this(context, client, experimentsClientType, Schedulers.from(Executors.newFixedThreadPool(NOTIFICATION_THREADS)));
+  }
+
+  /**
+   * Notifications are fetched and displayed on `scheduler`, at most `NOTIFICATION_THREADS` at a time.
+   */
+  public PushNotifications(final @ApplicationContext @NonNull Context context, final @NonNull ApiClientType client,
+    final @NonNull ExperimentsClientType experimentsClientType, final @NonNull Scheduler scheduler) {
     this.context = context;
     this.client = client;
     this.experimentsClientType = experimentsClientType;
+    this.scheduler = scheduler;
   }
 
   public void initialize() {
     createNotificationChannels();
 
+    // Envelopes wait in a bounded buffer until a worker is free, the oldest ones are dropped past that.
     this.subscriptions.add(
       this.notifications
-        .onBackpressureBuffer()
-        .filter(PushNotificationEnvelope::isErroredPledge)
-        .observeOn(Schedulers.newThread())
-        .subscribe(this::displayNotificationFromErroredPledge)
+        .onBackpressureBuffer(MAX_PENDING_NOTIFICATIONS, () -> Timber.w("Dropped a push notification"),
+          BackpressureOverflow.ON_OVERFLOW_DROP_OLDEST)
+        .filter(this::markPending)
+        .flatMap(envelope -> displayNotifications(envelope)
+            .subscribeOn(this.scheduler)
+            .doOnTerminate(() -> this.pendingSignatures.remove(envelope.signature())),
+          NOTIFICATION_THREADS)
+        .subscribe(this.displayed::onNext, Timber::e)
     );
+  }
 
-    this.subscriptions.add(
-      this.notifications
-        .onBackpressureBuffer()
-        .filter(PushNotificationEnvelope::isFriendFollow)
-        .observeOn(Schedulers.newThread())
-        .subscribe(this::displayNotificationFromFriendFollowActivity)
-    );
+  public void add(final @NonNull PushNotificationEnvelope envelope) {
+    this.notifications.onNext(envelope);
+  }
 
-    this.subscriptions.add(
-      this.notifications
-        .onBackpressureBuffer()
-        .filter(PushNotificationEnvelope::isMessage)
-        .flatMap(this::fetchMessageThreadWithEnvelope)
-        .filter(ObjectUtils::isNotNull)
-        .observeOn(Schedulers.newThread())
-        .subscribe(envelopeAndMessageThread ->
-          this.displayNotificationFromMessageActivity(envelopeAndMessageThread.first, envelopeAndMessageThread.second)
-        )
-    );
+  /**
+   * Emits each envelope once its notifications have been displayed.
+   */
+  @VisibleForTesting
+  public @NonNull Observable<PushNotificationEnvelope> displayed() {
+    return this.displayed;
+  }
 
-    this.subscriptions.add(
-      this.notifications
-        .onBackpressureBuffer()
-        .filter(PushNotificationEnvelope::isProjectActivity)
-        .observeOn(Schedulers.newThread())
-        .subscribe(this::displayNotificationFromProjectActivity)
-    );
+  private boolean markPending(final @NonNull PushNotificationEnvelope envelope) {
+    return this.pendingSignatures.add(envelope.signature());
+  }
 
-    this.subscriptions.add(
-      this.notifications
-        .onBackpressureBuffer()
-        .filter(PushNotificationEnvelope::isProjectReminder)
-        .observeOn(Schedulers.newThread())
-        .subscribe(this::displayNotificationFromProjectReminder)
-    );
+  /**
+   * Displays every kind of notification `envelope` is for, fetching what they need first.
+   */
+  private @NonNull Observable<PushNotificationEnvelope> displayNotifications(final @NonNull PushNotificationEnvelope envelope) {
+    final List<Observable<PushNotificationEnvelope>> displays = new ArrayList<>();
 
-    this.subscriptions.add(
-      this.notifications
-        .onBackpressureBuffer()
-        .filter(PushNotificationEnvelope::isProjectUpdateActivity)
-        .flatMap(this::fetchUpdateWithEnvelope)
-        .filter(ObjectUtils::isNotNull)
-        .observeOn(Schedulers.newThread())
-        .subscribe(envelopeAndUpdate ->
-          this.displayNotificationFromUpdateActivity(envelopeAndUpdate.first, envelopeAndUpdate.second)
-        )
-    );
+    if (envelope.isErroredPledge()) {
+      displays.add(display(envelope, () -> displayNotificationFromErroredPledge(envelope)));
+    }
+    if (envelope.isFriendFollow()) {
+      displays.add(display(envelope, () -> displayNotificationFromFriendFollowActivity(envelope)));
+    }
+    if (envelope.isMessage()) {
+      displays.add(
+        fetchMessageThreadWithEnvelope(envelope)
+          .map(envelopeAndMessageThread -> {
+            this.displayNotificationFromMessageActivity(envelopeAndMessageThread.first, envelopeAndMessageThread.second);
+            return envelope;
+          })
+      );
+    }
+    if (envelope.isProjectActivity()) {
+      displays.add(display(envelope, () -> displayNotificationFromProjectActivity(envelope)));
+    }
+    if (envelope.isProjectReminder()) {
+      displays.add(display(envelope, () -> displayNotificationFromProjectReminder(envelope)));
+    }
+    if (envelope.isProjectUpdateActivity()) {
+      displays.add(
+        fetchUpdateWithEnvelope(envelope)
+          .map(envelopeAndUpdate -> {
+            this.displayNotificationFromUpdateActivity(envelopeAndUpdate.first, envelopeAndUpdate.second);
+            return envelope;
+          })
+      );
+    }
+    if (envelope.isSurvey()) {
+      displays.add(
+        fetchSurveyResponseWithEnvelope(envelope)
+          .map(envelopeAndSurveyResponse -> {
+            this.displayNotificationFromSurveyResponseActivity(
+              envelopeAndSurveyResponse.first,
+              envelopeAndSurveyResponse.second
+            );
+            return envelope;
+          })
+      );
+    }
 
-    this.subscriptions.add(
-      this.notifications
-        .onBackpressureBuffer()
-        .filter(PushNotificationEnvelope::isSurvey)
-        .flatMap(this::fetchSurveyResponseWithEnvelope)
-        .filter(ObjectUtils::isNotNull)
-        .observeOn(Schedulers.newThread())
-        .subscribe(envelopeAndSurveyResponse ->
-          this.displayNotificationFromSurveyResponseActivity(
-            envelopeAndSurveyResponse.first,
-            envelopeAndSurveyResponse.second
-          )
-        )
-    );
+    return Observable.concat(Observable.from(displays))
+      .ignoreElements()
+      .concatWith(Observable.just(envelope))
+      .compose(neverError());
   }
 
-  public void add(final @NonNull PushNotificationEnvelope envelope) {
-    this.notifications.onNext(envelope);
+  private static @NonNull Observable<PushNotificationEnvelope> display(final @NonNull PushNotificationEnvelope envelope,
+    final @NonNull Action0 display) {
+    return Observable.fromCallable(() -> {
+      display.call();
+      return envelope;
+    });
+  }
+
+  /**
+   * Shares `fetch` with the envelopes that need the same `key` while it's in flight.
+   */
+  @SuppressWarnings("unchecked")
+  private @NonNull <T> Observable<T> coalesced(final @NonNull String key, final @NonNull Observable<T> fetch) {
+    synchronized (this.fetches) {
+      final Observable<T> inFlight = (Observable<T>) this.fetches.get(key);
+      if (inFlight != null) {
+        return inFlight;
+      }
+
+      final Observable<T> shared = fetch
+        .doOnTerminate(() -> {
+          synchronized (this.fetches) {
+            this.fetches.remove(key);
+          }
+        })
+        .cache();
+      this.fetches.put(key, shared);
+      return shared;
+    }
   }
 
   private void createNotificationChannels() {
@@ -211,11 +283,10 @@ public final class PushNotifications {
     final Long projectId = erroredPledge.projectId();
     final Intent projectIntent = projectIntent(envelope, ObjectUtils.toString(projectId))
       .putExtra(IntentKey.EXPAND_PLEDGE_SHEET, true);
-    final Notification notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_REMINDER)
-      .setContentIntent(projectContentIntent(envelope, projectIntent))
-      .build();
+    final NotificationCompat.Builder notificationBuilder = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_REMINDER)
+      .setContentIntent(projectContentIntent(envelope, projectIntent));
 
-    notificationManager().notify(envelope.signature(), notification);
+    notifyInProjectGroup(envelope, notificationBuilder, projectId, CHANNEL_PROJECT_REMINDER);
   }
 
   private void displayNotificationFromFriendFollowActivity(final @NonNull PushNotificationEnvelope envelope) {
@@ -242,11 +313,10 @@ public final class PushNotifications {
       return;
     }
 
-    final Notification notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_MESSAGES)
-      .setContentIntent(messageThreadIntent(envelope, messageThread))
-      .build();
+    final NotificationCompat.Builder notificationBuilder = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_MESSAGES)
+      .setContentIntent(messageThreadIntent(envelope, messageThread));
 
-    notificationManager().notify(envelope.signature(), notification);
+    notifyInProjectGroup(envelope, notificationBuilder, message.projectId(), CHANNEL_MESSAGES);
   }
 
   private void displayNotificationFromProjectActivity(final @NonNull PushNotificationEnvelope envelope) {
@@ -267,9 +337,7 @@ public final class PushNotifications {
     if (projectPhoto != null) {
       notificationBuilder = notificationBuilder.setLargeIcon(fetchBitmap(projectPhoto, false));
     }
-    final Notification notification = notificationBuilder.build();
-
-    notificationManager().notify(envelope.signature(), notification);
+    notifyInProjectGroup(envelope, notificationBuilder, projectId, CHANNEL_PROJECT_ACTIVITY);
   }
 
   private void displayNotificationFromProjectReminder(final @NonNull PushNotificationEnvelope envelope) {
@@ -281,12 +349,11 @@ public final class PushNotifications {
     }
 
     final Intent projectIntent = projectIntent(envelope, ObjectUtils.toString(project.id()));
-    final Notification notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_REMINDER)
+    final NotificationCompat.Builder notificationBuilder = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_REMINDER)
       .setContentIntent(projectContentIntent(envelope, projectIntent))
-      .setLargeIcon(fetchBitmap(project.photo(), false))
-      .build();
+      .setLargeIcon(fetchBitmap(project.photo(), false));
 
-    notificationManager().notify(envelope.signature(), notification);
+    notifyInProjectGroup(envelope, notificationBuilder, project.id(), CHANNEL_PROJECT_REMINDER);
   }
 
   private void displayNotificationFromSurveyResponseActivity(final @NonNull PushNotificationEnvelope envelope,
@@ -325,11 +392,33 @@ public final class PushNotifications {
 
     final String projectParam = ObjectUtils.toString(projectId);
 
-    final Notification notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_UPDATES)
+    final NotificationCompat.Builder notificationBuilder = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_UPDATES)
       .setContentIntent(projectUpdateContentIntent(envelope, update, projectParam))
-      .setLargeIcon(fetchBitmap(activity.projectPhoto(), false))
-      .build();
-    notificationManager().notify(envelope.signature(), notification);
+      .setLargeIcon(fetchBitmap(activity.projectPhoto(), false));
+    notifyInProjectGroup(envelope, notificationBuilder, projectId, CHANNEL_PROJECT_UPDATES);
+  }
+
+  /**
+   * Displays the notification in a group with the other notifications for the project, so a burst of them for one
+   * project is bundled together.
+   */
+  private void notifyInProjectGroup(final @NonNull PushNotificationEnvelope envelope,
+    final @NonNull NotificationCompat.Builder notificationBuilder, final long projectId, final @NonNull String channelId) {
+
+    final String group = PROJECT_GROUP_PREFIX + projectId;
+    notificationManager().notify(envelope.signature(), notificationBuilder.setGroup(group).build());
+
+    // Older versions show a group summary as one more notification.
+    if (ApiCapabilities.canGroupNotifications()) {
+      final Notification summary = new NotificationCompat.Builder(this.context, channelId)
+        .setSmallIcon(R.drawable.ic_kickstarter_micro_k)
+        .setColor(ContextCompat.getColor(this.context, R.color.kds_create_700))
+        .setGroup(group)
+        .setGroupSummary(true)
+        .setAutoCancel(true)
+        .build();
+      notificationManager().notify(group, PROJECT_GROUP_SUMMARY_ID, summary);
+    }
   }
 
 
@@ -416,14 +505,24 @@ public final class PushNotifications {
       return null;
     }
 
+    final Resources resources = this.context.getResources();
+    final int width = resources.getDimensionPixelSize(android.R.dimen.notification_large_icon_width);
+    final int height = resources.getDimensionPixelSize(android.R.dimen.notification_large_icon_height);
+
     try {
-      RequestCreator requestCreator =  Picasso.get().load(url).transform(new CropSquareTransformation());
-      if (transformIntoCircle) {
-        requestCreator = requestCreator.transform(new CircleTransformation());
-      }
-      return requestCreator.get();
-    } catch (IOException e) {
-      Timber.e(e.getMessage(), "Failed to load large icon: %s");
+      // Decoded at the size of the icon, this runs on the notification pool.
+      return Glide.with(this.context)
+        .asBitmap()
+        .load(url)
+        .transform(transformIntoCircle ? new CircleTransformation() : new CropSquareTransformation())
+        .diskCacheStrategy(DiskCacheStrategy.ALL)
+        .submit(width, height)
+        .get();
+    } catch (ExecutionException e) {
+      Timber.e(e, "Failed to load large icon: %s", url);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
       return null;
     }
   }
@@ -432,60 +531,70 @@ public final class PushNotifications {
     return (NotificationManager) this.context.getSystemService(Context.NOTIFICATION_SERVICE);
   }
 
-  private @Nullable Observable<Pair<PushNotificationEnvelope, MessageThread>> fetchMessageThreadWithEnvelope(
+  private @NonNull Observable<Pair<PushNotificationEnvelope, MessageThread>> fetchMessageThreadWithEnvelope(
     final @NonNull PushNotificationEnvelope envelope) {
 
     final PushNotificationEnvelope.Message message = envelope.message();
     if (message == null) {
-      return null;
+      return Observable.empty();
     }
 
-    final Observable<MessageThread> messageThread = this.client.fetchMessagesForThread(message.messageThreadId())
-      .compose(neverError())
-      .map(MessageThreadEnvelope::messageThread);
+    final Observable<MessageThread> messageThread = coalesced(
+      "message_thread_" + message.messageThreadId(),
+      this.client.fetchMessagesForThread(message.messageThreadId())
+        .compose(neverError())
+        .map(MessageThreadEnvelope::messageThread)
+        .filter(ObjectUtils::isNotNull)
+    );
 
     return Observable.just(envelope)
       .compose(combineLatestPair(messageThread));
   }
 
-  private @Nullable Observable<Pair<PushNotificationEnvelope, SurveyResponse>> fetchSurveyResponseWithEnvelope(
+  private @NonNull Observable<Pair<PushNotificationEnvelope, SurveyResponse>> fetchSurveyResponseWithEnvelope(
     final @NonNull PushNotificationEnvelope envelope) {
 
     final PushNotificationEnvelope.Survey survey = envelope.survey();
     if (survey == null) {
-      return null;
+      return Observable.empty();
     }
 
-    final Observable<SurveyResponse> surveyResponse = this.client.fetchSurveyResponse(survey.id())
-      .compose(neverError());
+    final Observable<SurveyResponse> surveyResponse = coalesced(
+      "survey_" + survey.id(),
+      this.client.fetchSurveyResponse(survey.id())
+        .compose(neverError())
+    );
 
     return Observable.just(envelope)
       .compose(combineLatestPair(surveyResponse));
   }
 
-  private @Nullable Observable<Pair<PushNotificationEnvelope, Update>> fetchUpdateWithEnvelope(
+  private @NonNull Observable<Pair<PushNotificationEnvelope, Update>> fetchUpdateWithEnvelope(
     final @NonNull PushNotificationEnvelope envelope) {
 
     final Activity activity = envelope.activity();
     if (activity == null) {
-      return null;
+      return Observable.empty();
     }
 
     final Long updateId = activity.updateId();
     if (updateId == null) {
-      return null;
+      return Observable.empty();
     }
 
     final Long projectId = activity.projectId();
     if (projectId == null) {
-      return null;
+      return Observable.empty();
     }
 
     final String projectParam = ObjectUtils.toString(projectId);
     final String updateParam = ObjectUtils.toString(updateId);
 
-    final Observable<Update> update = this.client.fetchUpdate(projectParam, updateParam)
-      .compose(neverError());
+    final Observable<Update> update = coalesced(
+      "update_" + projectParam + "_" + updateParam,
+      this.client.fetchUpdate(projectParam, updateParam)
+        .compose(neverError())
+    );
 
     return Observable.just(envelope)
       .compose(combineLatestPair(update));
@@ -1,44 +1,93 @@
 package com.kickstarter.libs;
 
-import android.util.Pair;
-
-import com.jakewharton.rxbinding.support.v7.widget.RxRecyclerView;
 import com.kickstarter.libs.utils.extensions.BoolenExtKt;
 import com.kickstarter.libs.utils.Secrets;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.StaggeredGridLayoutManager;
 import rx.Observable;
 import rx.Subscription;
+import rx.android.schedulers.AndroidSchedulers;
 import rx.functions.Action0;
 import rx.subjects.PublishSubject;
 
-import static com.kickstarter.libs.rx.transformers.Transformers.combineLatestPair;
-
 public final class RecyclerViewPaginator {
+  /**
+   * Rows from the end of the list at which the next page is requested, before any look-ahead by screens.
+   */
+  public static final int DEFAULT_PREFETCH_ITEMS = 5;
+
+  /**
+   * Screens of rows from the end of the list at which the next page is requested.
+   */
+  public static final float DEFAULT_PREFETCH_SCREENS = 1.0f;
+
+  /**
+   * The look-ahead is multiplied by this while the list is flung, so a fast scroll requests the next page earlier.
+   */
+  private static final int FLING_PREFETCH_MULTIPLIER = 2;
+
   private final @NonNull RecyclerView recyclerView;
   private final @NonNull Boolean isScrollEnabled;
   private final @NonNull Action0 nextPage;
   private final Observable<Boolean> isLoading;
+  private final int prefetchItems;
+  private final float prefetchScreens;
   private Subscription subscription;
-  private static final int DIRECTION_DOWN = 1;
   private Subscription retrySubscription;
   private final PublishSubject<Void> retryLoadingNextPageSubject =  PublishSubject.create();
 
+  private boolean loading;
+  /**
+   * Item count the next page was last requested at, so scrolling within the same page doesn't request it again.
+   */
+  private int requestedAtItemCount = -1;
+  /**
+   * Set when a page finished loading without adding rows, e.g. because it failed, so the next scroll asks for it again.
+   */
+  private boolean retryOnScroll;
+  private int[] staggeredPositions = new int[0];
+
+  private final RecyclerView.OnScrollListener scrollListener = new RecyclerView.OnScrollListener() {
+    @Override
+    public void onScrolled(final @NonNull RecyclerView recyclerView, final int dx, final int dy) {
+      if (dy > 0) {
+        if (RecyclerViewPaginator.this.retryOnScroll) {
+          RecyclerViewPaginator.this.retryOnScroll = false;
+          RecyclerViewPaginator.this.requestedAtItemCount = -1;
+        }
+        loadNextPageIfCloseToBottom();
+      }
+    }
+  };
+
+  private final Runnable loadNextPageIfCloseToBottom = this::loadNextPageIfCloseToBottom;
+
   public RecyclerViewPaginator(final @NonNull RecyclerView recyclerView, final @NonNull Action0 nextPage, final @NonNull Observable<Boolean> isLoading) {
-    this.recyclerView = recyclerView;
-    this.nextPage = nextPage;
-    this.isLoading = isLoading;
-    this.isScrollEnabled =true;
-    start();
+    this(recyclerView, nextPage, isLoading, true);
   }
 
   public RecyclerViewPaginator(final @NonNull RecyclerView recyclerView, final @NonNull Action0 nextPage, final @NonNull Observable<Boolean> isLoading, final @NonNull Boolean isScrollEnabled) {
+    this(recyclerView, nextPage, isLoading, isScrollEnabled, DEFAULT_PREFETCH_ITEMS, DEFAULT_PREFETCH_SCREENS);
+  }
+
+  /**
+   * @param prefetchItems Rows from the end of the list at which the next page is requested.
+   * @param prefetchScreens Screens of rows from the end of the list at which the next page is requested, whichever of
+   *                        the two is further ahead wins.
+   */
+  public RecyclerViewPaginator(final @NonNull RecyclerView recyclerView, final @NonNull Action0 nextPage,
+    final @NonNull Observable<Boolean> isLoading, final @NonNull Boolean isScrollEnabled, final int prefetchItems,
+    final float prefetchScreens) {
     this.recyclerView = recyclerView;
     this.nextPage = nextPage;
     this.isLoading = isLoading;
-    this.isScrollEnabled =isScrollEnabled;
+    this.isScrollEnabled = isScrollEnabled;
+    this.prefetchItems = prefetchItems;
+    this.prefetchScreens = prefetchScreens;
     start();
   }
 
@@ -49,29 +98,20 @@ public final class RecyclerViewPaginator {
   public void start() {
     stop();
 
-    final Observable<Pair<Integer, Integer>> lastVisibleAndCount = RxRecyclerView.scrollEvents(this.recyclerView)
-      .filter(__ -> BoolenExtKt.isFalse(Secrets.IS_OSS))
-      .filter(__ -> this.recyclerView.canScrollVertically(DIRECTION_DOWN))
-      .map(__ -> this.recyclerView.getLayoutManager())
-      .ofType(LinearLayoutManager.class)
-      .map(this::displayedItemFromLinearLayout)
-      .filter(item -> item.second != 0)
-      .distinctUntilChanged();
-
-    final Observable<Boolean> isNotLoading = this.isLoading
-      .distinctUntilChanged()
-      .filter(loading -> !loading);
+    this.recyclerView.addOnScrollListener(this.scrollListener);
 
-    final Observable<Pair<Integer, Integer>> loadNextPage = lastVisibleAndCount
-      .compose(combineLatestPair(isNotLoading))
+    // A page that finished loading may still leave the user close to the bottom, so check again without waiting for
+    // another scroll. Loading states can come from a background thread, the paginator's state is only touched on main.
+    this.subscription = this.isLoading
       .distinctUntilChanged()
-      .map(p -> p.first)
-      .filter(this::visibleItemIsCloseToBottom);
-
-    this.subscription = loadNextPage
-      .subscribe(__ ->{
-        if(this.isScrollEnabled) {
-          this.nextPage.call();
+      .observeOn(AndroidSchedulers.mainThread())
+      .subscribe(loading -> {
+        final boolean finishedLoading = this.loading && !loading;
+        this.loading = loading;
+        if (!loading) {
+          // Retrying a page that added nothing waits for the user to scroll, so a failing page isn't requested in a loop.
+          this.retryOnScroll = finishedLoading && itemCount() <= this.requestedAtItemCount;
+          this.recyclerView.post(this.loadNextPageIfCloseToBottom);
         }
       });
 
@@ -91,6 +131,9 @@ public final class RecyclerViewPaginator {
    * created `this` is released.
    */
   public void stop() {
+    this.recyclerView.removeOnScrollListener(this.scrollListener);
+    this.recyclerView.removeCallbacks(this.loadNextPageIfCloseToBottom);
+
     if (this.subscription != null) {
       this.subscription.unsubscribe();
       this.subscription = null;
@@ -102,13 +145,79 @@ public final class RecyclerViewPaginator {
   }
 
   /**
-   * Returns a (visibleItem, totalItemCount) pair given a linear layout manager.
+   * Requests the next page when the last visible row is within the prefetch distance of the end of the list. Runs on
+   * every scroll event, so it reads the layout manager directly rather than allocating.
    */
-  private @NonNull Pair<Integer, Integer> displayedItemFromLinearLayout(final @NonNull LinearLayoutManager manager) {
-    return new Pair<>(manager.findLastVisibleItemPosition(), manager.getItemCount());
+  private void loadNextPageIfCloseToBottom() {
+    if (BoolenExtKt.isTrue(Secrets.IS_OSS) || !this.isScrollEnabled || this.loading) {
+      return;
+    }
+
+    final RecyclerView.LayoutManager layoutManager = this.recyclerView.getLayoutManager();
+    if (layoutManager == null) {
+      return;
+    }
+
+    final int itemCount = layoutManager.getItemCount();
+    if (itemCount < this.requestedAtItemCount) {
+      // The list was refreshed or its params changed, so the rows the last request was made at are gone.
+      this.requestedAtItemCount = -1;
+    }
+    if (itemCount == 0 || itemCount == this.requestedAtItemCount) {
+      return;
+    }
+
+    final int lastVisible = lastVisibleItemPosition(layoutManager);
+    final boolean isFlinging = this.recyclerView.getScrollState() == RecyclerView.SCROLL_STATE_SETTLING;
+    if (lastVisible != RecyclerView.NO_POSITION
+      && isWithinPrefetchDistance(lastVisible, itemCount, layoutManager.getChildCount(), isFlinging, this.prefetchItems, this.prefetchScreens)) {
+      this.requestedAtItemCount = itemCount;
+      this.nextPage.call();
+    }
+  }
+
+  private int itemCount() {
+    final RecyclerView.LayoutManager layoutManager = this.recyclerView.getLayoutManager();
+    return layoutManager == null ? 0 : layoutManager.getItemCount();
+  }
+
+  /**
+   * Returns the last visible adapter position for linear, grid and staggered grid layouts, or
+   * {@link RecyclerView#NO_POSITION} for other layout managers.
+   */
+  @VisibleForTesting
+  int lastVisibleItemPosition(final @NonNull RecyclerView.LayoutManager layoutManager) {
+    if (layoutManager instanceof LinearLayoutManager) {
+      // Includes GridLayoutManager.
+      return ((LinearLayoutManager) layoutManager).findLastVisibleItemPosition();
+    } else if (layoutManager instanceof StaggeredGridLayoutManager) {
+      final StaggeredGridLayoutManager staggeredGridLayoutManager = (StaggeredGridLayoutManager) layoutManager;
+      if (this.staggeredPositions.length != staggeredGridLayoutManager.getSpanCount()) {
+        this.staggeredPositions = new int[staggeredGridLayoutManager.getSpanCount()];
+      }
+      staggeredGridLayoutManager.findLastVisibleItemPositions(this.staggeredPositions);
+
+      int lastVisible = RecyclerView.NO_POSITION;
+      for (final int position : this.staggeredPositions) {
+        lastVisible = Math.max(lastVisible, position);
+      }
+      return lastVisible;
+    }
+
+    return RecyclerView.NO_POSITION;
   }
 
-  private boolean visibleItemIsCloseToBottom(final @NonNull Pair<Integer, Integer> visibleItemOfTotal) {
-    return visibleItemOfTotal.first == visibleItemOfTotal.second - 1;
+  /**
+   * Returns true when fewer than the look-ahead rows remain after the last visible row. The look-ahead is the larger of
+   * {@code prefetchItems} and {@code prefetchScreens} worth of the visible rows, doubled while the list is flung.
+   */
+  @VisibleForTesting
+  static boolean isWithinPrefetchDistance(final int lastVisible, final int itemCount, final int visibleCount,
+    final boolean isFlinging, final int prefetchItems, final float prefetchScreens) {
+    int lookAhead = Math.max(prefetchItems, (int) Math.ceil(visibleCount * prefetchScreens));
+    if (isFlinging) {
+      lookAhead *= FLING_PREFETCH_MULTIPLIER;
+    }
+    return itemCount - 1 - lastVisible <= lookAhead;
   }
 }
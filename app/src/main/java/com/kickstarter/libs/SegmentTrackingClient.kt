@@ -2,6 +2,8 @@ package com.kickstarter.libs
 
 import android.content.Context
 import android.content.SharedPreferences
+import com.kickstarter.libs.analytics.AnalyticsEvent
+import com.kickstarter.libs.analytics.AnalyticsPipeline
 import com.kickstarter.libs.braze.BrazeClient
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.libs.utils.Secrets
@@ -28,8 +30,9 @@ open class SegmentTrackingClient(
     currentConfig: CurrentConfigType,
     currentUser: CurrentUserType,
     optimizely: ExperimentsClientType,
-    preference: SharedPreferences
-) : TrackingClient(context, currentUser, build, currentConfig, optimizely) {
+    preference: SharedPreferences,
+    pipeline: AnalyticsPipeline? = null
+) : TrackingClient(context, currentUser, build, currentConfig, optimizely, pipeline) {
 
     override var isInitialized = false
     override var loggedInUser: User? = null
@@ -66,6 +69,7 @@ open class SegmentTrackingClient(
 
     override fun initialize() {
         calledFromOnCreate = true
+        startPipeline()
         if (build.isDebug) {
             Timber.d("${type().tag} initialize called from currentThread: ${Thread.currentThread()}")
         }
@@ -184,6 +188,11 @@ open class SegmentTrackingClient(
         }
     }
 
+    /**
+     * Keeps the queued events until Segment is initialized.
+     */
+    override fun send(events: List<AnalyticsEvent>): Boolean = isInitialized && super.send(events)
+
     override fun type() = Type.SEGMENT
 
     /**
@@ -1,5 +1,6 @@
 package com.kickstarter.libs
 
+import android.content.ComponentCallbacks
 import android.content.Context
 import android.content.res.Configuration
 import android.net.ConnectivityManager
@@ -10,6 +11,9 @@ import com.google.android.gms.common.GoogleApiAvailability
 import com.google.firebase.crashlytics.FirebaseCrashlytics
 import com.kickstarter.BuildConfig
 import com.kickstarter.R
+import com.kickstarter.libs.analytics.AnalyticsEvent
+import com.kickstarter.libs.analytics.AnalyticsPipeline
+import com.kickstarter.libs.analytics.AnalyticsSink
 import com.kickstarter.libs.qualifiers.ApplicationContext
 import com.kickstarter.libs.utils.WebUtils
 import com.kickstarter.libs.utils.extensions.currentVariants
@@ -25,11 +29,13 @@ abstract class TrackingClient(
     @set:Inject var currentUser: CurrentUserType,
     @set:Inject var build: Build,
     @set:Inject var currentConfig: CurrentConfigType,
-    @set:Inject var optimizely: ExperimentsClientType
-) : TrackingClientType() {
+    @set:Inject var optimizely: ExperimentsClientType,
+    private val pipeline: AnalyticsPipeline? = null
+) : TrackingClientType(), AnalyticsSink {
 
-    override val isGooglePlayServicesAvailable: Boolean
-        get() = GoogleApiAvailability.getInstance().isGooglePlayServicesAvailable(this.context) == ConnectionResult.SUCCESS
+    override val isGooglePlayServicesAvailable: Boolean by lazy {
+        GoogleApiAvailability.getInstance().isGooglePlayServicesAvailable(this.context) == ConnectionResult.SUCCESS
+    }
 
     override val isTalkBackOn: Boolean
         get() {
@@ -37,21 +43,63 @@ abstract class TrackingClient(
             return am?.isTouchExplorationEnabled ?: false
         }
 
+    init {
+        // - The session properties are built once, until one of the device's settings they come from changes.
+        (this.context.getSystemService(Context.ACCESSIBILITY_SERVICE) as AccessibilityManager?)
+            ?.addTouchExplorationStateChangeListener { invalidateProperties() }
+
+        this.context.registerComponentCallbacks(object : ComponentCallbacks {
+            override fun onConfigurationChanged(newConfig: Configuration) = invalidateProperties()
+            override fun onLowMemory() {}
+        })
+    }
+
     override fun track(eventName: String, additionalProperties: Map<String, Any>) {
         if (isEnabled()) {
-            try {
-                trackingData(eventName, combinedProperties(additionalProperties))
-
-                if (this.build.isDebug) {
-                    val dataForLogs = combinedProperties(additionalProperties).toString()
-                    Timber.d("Queued ${type().tag} $eventName event: $dataForLogs")
+            val pipeline = this.pipeline
+            if (pipeline != null) {
+                // - The user and time are the ones the event was tracked with, the rest is added off the calling thread.
+                val user = loggedInUser()
+                val timestamp = time()
+                pipeline.track(eventName, additionalProperties) {
+                    properties(eventName, it, user, timestamp)
+                }
+            } else {
+                properties(eventName, additionalProperties, loggedInUser(), time())?.let {
+                    trackingData(eventName, it)
                 }
-            } catch (e: JSONException) {
+            }
+        }
+    }
+
+    /**
+     * Starts sending the events queued by the pipeline, once the client can send them.
+     */
+    protected fun startPipeline() {
+        this.pipeline?.start(this)
+    }
+
+    /**
+     * Sends the events queued by the pipeline.
+     */
+    override fun send(events: List<AnalyticsEvent>): Boolean {
+        events.forEach { trackingData(it.name, it.properties) }
+        return true
+    }
+
+    private fun properties(eventName: String, additionalProperties: Map<String, Any>, user: User?, timestamp: Long): Map<String, Any>? {
+        return try {
+            combinedProperties(additionalProperties, user, timestamp).also {
                 if (this.build.isDebug) {
-                    Timber.e("Failed to encode ${type().tag} event: $eventName")
+                    Timber.d("Queued ${type().tag} $eventName event: $it")
                 }
-                FirebaseCrashlytics.getInstance().log("E/${TrackingClient::class.java.simpleName}: Failed to encode ${type().tag} event: $eventName")
             }
+        } catch (e: JSONException) {
+            if (this.build.isDebug) {
+                Timber.e("Failed to encode ${type().tag} event: $eventName")
+            }
+            FirebaseCrashlytics.getInstance().log("E/${TrackingClient::class.java.simpleName}: Failed to encode ${type().tag} event: $eventName")
+            null
         }
     }
 
@@ -5,6 +5,7 @@ import com.kickstarter.libs.utils.MapUtils
 import com.kickstarter.models.User
 import org.json.JSONArray
 import java.util.Locale
+import java.util.concurrent.atomic.AtomicInteger
 
 abstract class TrackingClientType {
     enum class Type(val tag: String) {
@@ -52,24 +53,71 @@ abstract class TrackingClientType {
      */
     abstract fun initialize()
 
+    /**
+     * The user and session properties built for a config, a user and a version of the device's settings.
+     */
+    private class PropertiesSnapshot(val config: Config?, val user: User?, val version: Int, val properties: Map<String, Any>)
+
+    @Volatile
+    private var propertiesSnapshot: PropertiesSnapshot? = null
+    private val propertiesVersion = AtomicInteger()
+
     fun track(eventName: String) {
         track(eventName, HashMap())
     }
 
-    private fun genericProperties(): Map<String, Any> {
+    /**
+     * Rebuilds the user and session properties for the next event, e.g. once the device's orientation or accessibility
+     * settings changed. A new config or user is noticed without it.
+     */
+    protected fun invalidateProperties() {
+        this.propertiesVersion.incrementAndGet()
+    }
+
+    /**
+     * The user and session properties that only change with the config, the user or the device's settings. They're
+     * built once and shared by the events tracked until one of them changes.
+     */
+    private fun snapshotProperties(user: User?): Map<String, Any> {
+        val config = this.config
+        val version = this.propertiesVersion.get()
+        this.propertiesSnapshot?.let {
+            if (it.config === config && it.user === user && it.version == version) {
+                return it.properties
+            }
+        }
+
         val hashMap = hashMapOf<String, Any>()
-        loggedInUser()?.let {
+        user?.let {
             hashMap.putAll(userProperties(it))
             hashMap["user_country"] = userCountry(it)
         }
-        hashMap.putAll(sessionProperties(loggedInUser() != null))
-        hashMap.putAll(contextProperties())
+        hashMap.putAll(sessionProperties(user != null))
+        this.propertiesSnapshot = PropertiesSnapshot(config, user, version, hashMap)
         return hashMap
     }
 
-    private fun contextProperties(): Map<String, Any> {
+    /**
+     * The session properties that can change between events. The enabled features come from Optimizely, which
+     * initializes asynchronously and changes with the logged in user, so they're read for every event.
+     */
+    private fun liveSessionProperties(): Map<String, Any> {
         val properties = hashMapOf<String, Any>()
-        properties["timestamp"] = time()
+        properties.apply {
+            // - Add the optimizely experiments as part of the session properties
+            optimizely()?.let {
+                this.putAll(it.getTrackingProperties())
+            }
+            this["enabled_features"] = enabledFeatureFlags()
+            this["wifi_connection"] = wifiConnection()
+        }
+
+        return MapUtils.prefixKeys(properties, "session_")
+    }
+
+    private fun contextProperties(timestamp: Long): Map<String, Any> {
+        val properties = hashMapOf<String, Any>()
+        properties["timestamp"] = timestamp
         return MapUtils.prefixKeys(properties, "context_")
     }
 
@@ -88,18 +136,12 @@ abstract class TrackingClientType {
             this["device_model"] = model()
             this["device_orientation"] = deviceOrientation()
             this["display_language"] = Locale.getDefault().language
-            this["enabled_features"] = enabledFeatureFlags()
             this["is_voiceover_running"] = isTalkBackOn
             this["mp_lib"] = "kickstarter_android"
             this["os"] = "android"
             this["os_version"] = OSVersion()
             this["user_agent"] = userAgent() ?: ""
             this["user_is_logged_in"] = userIsLoggedIn
-            // - Add the optimizely experiments as part of the session properties
-            optimizely()?.let {
-                this.putAll(it.getTrackingProperties())
-            }
-            this["wifi_connection"] = wifiConnection()
         }
 
         return MapUtils.prefixKeys(properties, "session_")
@@ -107,10 +149,29 @@ abstract class TrackingClientType {
 
     /**
      * We use the same properties for Segment and DataLake
+     *
+     * @param user - The user logged in when the event was tracked
+     * @param timestamp - When the event was tracked, in seconds
      */
-    fun combinedProperties(additionalProperties: Map<String, Any>): Map<String, Any> {
-        return HashMap(additionalProperties).apply {
-            putAll(genericProperties())
+    @JvmOverloads
+    fun combinedProperties(
+        additionalProperties: Map<String, Any>,
+        user: User? = loggedInUser(),
+        timestamp: Long = time()
+    ): Map<String, Any> {
+        val snapshotProperties = snapshotProperties(user)
+        return HashMap<String, Any>(additionalProperties.size + snapshotProperties.size + LIVE_PROPERTIES_COUNT).apply {
+            putAll(additionalProperties)
+            putAll(snapshotProperties)
+            putAll(liveSessionProperties())
+            putAll(contextProperties(timestamp))
         }
     }
+
+    companion object {
+        /**
+         * Roughly the number of properties added to the snapshot for each event.
+         */
+        private const val LIVE_PROPERTIES_COUNT = 9
+    }
 }
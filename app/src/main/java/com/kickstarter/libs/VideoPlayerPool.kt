@@ -0,0 +1,211 @@
+package com.kickstarter.libs
+
+import android.content.Context
+import com.google.android.exoplayer2.ExoPlayer
+import com.google.android.exoplayer2.MediaItem
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider
+import com.google.android.exoplayer2.source.DefaultMediaSourceFactory
+import com.google.android.exoplayer2.trackselection.AdaptiveTrackSelection
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector
+import com.google.android.exoplayer2.upstream.DataSource
+import com.google.android.exoplayer2.upstream.DataSpec
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource
+import com.google.android.exoplayer2.upstream.cache.Cache
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource
+import com.google.android.exoplayer2.upstream.cache.CacheWriter
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor
+import com.google.android.exoplayer2.upstream.cache.SimpleCache
+import rx.Observable
+import rx.Scheduler
+import rx.Subscription
+import rx.schedulers.Schedulers
+import timber.log.Timber
+import java.io.File
+
+/**
+ * Hands out at most [maxPlayers] players, shared by every video in a story and by the fullscreen player. A video
+ * keeps its player until the player is recycled or, when every player is taken, handed to another video, least recently
+ * used first, and the caller that had it is told so it can detach its views. The position a video was recycled at is
+ * kept, so it resumes there.
+ *
+ * Every player reads through [cache], so a video is only downloaded once, and [prefetch] downloads the start of a video
+ * before it's played. Players are handed out on the main thread.
+ */
+class VideoPlayerPool @JvmOverloads constructor(
+    private val context: Context,
+    val cache: Cache,
+    upstreamDataSourceFactory: DataSource.Factory,
+    private val scheduler: Scheduler,
+    private val maxPlayers: Int = DEFAULT_MAX_PLAYERS,
+    private val prefetchBytes: Long = DEFAULT_PREFETCH_BYTES
+) {
+    val dataSourceFactory: CacheDataSource.Factory = CacheDataSource.Factory()
+        .setCache(this.cache)
+        .setUpstreamDataSourceFactory(upstreamDataSourceFactory)
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+
+    // - Players by the url they're playing, least recently used first.
+    private val players = LinkedHashMap<String, ExoPlayer>(maxPlayers, 0.75f, true)
+    private val idlePlayers = ArrayDeque<ExoPlayer>()
+    private val owners = HashMap<String, () -> Unit>()
+    private val positions = HashMap<String, Long>()
+
+    private var playingUrl: String? = null
+    private var prefetchUrl: String? = null
+    private var prefetchWriter: CacheWriter? = null
+    private var prefetchSubscription: Subscription? = null
+
+    /**
+     * Returns the player for `url`, preparing an idle or the least recently used player when it doesn't have one.
+     * `onTaken` is called when the player stops playing `url` for this caller, because it was handed to another video,
+     * released, or asked for again.
+     */
+    fun player(url: String, onTaken: () -> Unit = { }): ExoPlayer {
+        this.owners.put(url, onTaken)?.invoke()
+        this.players[url]?.let { return it }
+
+        val player = this.idlePlayers.removeFirstOrNull()
+            ?: if (playerCount() < this.maxPlayers) newPlayer() else takeLeastRecentlyUsedPlayer()
+
+        player.playWhenReady = false
+        player.setMediaItem(MediaItem.fromUri(url), this.positions[url] ?: 0L)
+        player.prepare()
+        this.players[url] = player
+        return player
+    }
+
+    /**
+     * Stops the player for `url` and keeps it for the next video, remembering where `url` was stopped.
+     */
+    fun recycle(url: String) {
+        this.owners.remove(url)
+        val player = this.players.remove(url) ?: return
+        stop(url, player)
+        this.idlePlayers.addLast(player)
+    }
+
+    /**
+     * Pauses the video that was playing and resumes `url`, if it was started before.
+     */
+    fun resume(url: String) {
+        val player = this.players[url] ?: return
+        if (player.playWhenReady) {
+            return
+        }
+
+        this.playingUrl?.let { this.players[it]?.playWhenReady = false }
+        if (player.currentPosition != 0L) {
+            player.playWhenReady = true
+        }
+        this.playingUrl = url
+    }
+
+    /**
+     * Returns where `url` is, without handing it a player or changing which player is handed out next.
+     */
+    fun position(url: String): Long =
+        this.players.entries.firstOrNull { it.key == url }?.value?.currentPosition ?: this.positions[url] ?: 0L
+
+    fun pauseAll() {
+        this.players.values.forEach { it.playWhenReady = false }
+    }
+
+    fun seekTo(url: String, position: Long) {
+        this.positions[url] = position
+        this.players[url]?.seekTo(position)
+    }
+
+    /**
+     * Downloads the first bytes of `url` into the cache in the background, cancelling the video prefetched before.
+     */
+    fun prefetch(url: String) {
+        if (url == this.prefetchUrl || this.players.containsKey(url)) {
+            return
+        }
+
+        cancelPrefetch()
+        val dataSpec = DataSpec.Builder()
+            .setUri(url)
+            .setLength(this.prefetchBytes)
+            .build()
+        val writer = CacheWriter(this.dataSourceFactory.createDataSource(), dataSpec, null, null)
+        this.prefetchUrl = url
+        this.prefetchWriter = writer
+        this.prefetchSubscription = Observable.fromCallable { writer.cache() }
+            .subscribeOn(this.scheduler)
+            .subscribe({ }, { Timber.d(it, "Stopped prefetching %s", url) })
+    }
+
+    /**
+     * Releases every player, e.g. when the story goes away. Players are created again when needed.
+     */
+    fun releaseAll() {
+        cancelPrefetch()
+        val owners = this.owners.values.toList()
+        this.owners.clear()
+        owners.forEach { it() }
+        this.players.forEach { (url, player) ->
+            this.positions[url] = player.currentPosition
+            player.release()
+        }
+        this.players.clear()
+        this.idlePlayers.forEach { it.release() }
+        this.idlePlayers.clear()
+        this.playingUrl = null
+    }
+
+    fun playerCount() = this.players.size + this.idlePlayers.size
+
+    private fun newPlayer(): ExoPlayer = ExoPlayer.Builder(this.context)
+        .setMediaSourceFactory(DefaultMediaSourceFactory(this.dataSourceFactory))
+        .setTrackSelector(DefaultTrackSelector(this.context, AdaptiveTrackSelection.Factory()))
+        .build()
+
+    private fun takeLeastRecentlyUsedPlayer(): ExoPlayer {
+        val iterator = this.players.entries.iterator()
+        val (url, player) = iterator.next()
+        iterator.remove()
+        this.owners.remove(url)?.invoke()
+        stop(url, player)
+        return player
+    }
+
+    private fun stop(url: String, player: ExoPlayer) {
+        this.positions[url] = player.currentPosition
+        player.stop()
+        player.clearMediaItems()
+        if (url == this.playingUrl) {
+            this.playingUrl = null
+        }
+    }
+
+    private fun cancelPrefetch() {
+        this.prefetchWriter?.cancel()
+        this.prefetchSubscription?.unsubscribe()
+        this.prefetchWriter = null
+        this.prefetchSubscription = null
+        this.prefetchUrl = null
+    }
+
+    companion object {
+        const val DEFAULT_MAX_PLAYERS = 3
+        const val DEFAULT_PREFETCH_BYTES = 1024L * 1024
+        const val MEDIA_CACHE_DIRECTORY = "media"
+        const val MEDIA_CACHE_SIZE_BYTES = 200L * 1024 * 1024
+
+        /**
+         * A pool reading through a disk cache of [MEDIA_CACHE_SIZE_BYTES] that drops the least recently played
+         * videos first.
+         */
+        @JvmStatic
+        fun create(context: Context, userAgent: String): VideoPlayerPool {
+            val cache = SimpleCache(
+                File(context.cacheDir, MEDIA_CACHE_DIRECTORY),
+                LeastRecentlyUsedCacheEvictor(MEDIA_CACHE_SIZE_BYTES),
+                StandaloneDatabaseProvider(context)
+            )
+            val upstreamDataSourceFactory = DefaultHttpDataSource.Factory().setUserAgent(userAgent)
+            return VideoPlayerPool(context, cache, upstreamDataSourceFactory, Schedulers.io())
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.kickstarter.libs.analytics
+
+import org.json.JSONException
+import org.json.JSONObject
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.EOFException
+import java.io.File
+import java.io.FileInputStream
+import java.io.FileOutputStream
+import java.io.IOException
+
+/**
+ * An event tracked with its properties, waiting to be sent.
+ */
+class AnalyticsEvent(val name: String, val properties: Map<String, Any?>)
+
+/**
+ * A queue of events that outlives the process. Events are appended to [file] as they're added, and the file is only
+ * rewritten once sent events are removed. When the queue holds [maxSize] events, the oldest ones are dropped to make
+ * room for new ones.
+ *
+ * Not thread safe, the pipeline only uses it from its worker.
+ */
+class AnalyticsEventQueue @JvmOverloads constructor(private val file: File, private val maxSize: Int = DEFAULT_MAX_SIZE) {
+    private val events = ArrayDeque<AnalyticsEvent>()
+    private var output: DataOutputStream? = null
+    private var isLoaded = false
+
+    fun size(): Int {
+        load()
+        return this.events.size
+    }
+
+    fun add(event: AnalyticsEvent) {
+        load()
+        if (this.events.size >= this.maxSize) {
+            // - Drop a tenth of the queue at once, so a full queue isn't rewritten for every event.
+            remove(maxOf(1, this.maxSize / 10))
+        }
+
+        this.events.addLast(event)
+        try {
+            val output = this.output ?: DataOutputStream(BufferedOutputStream(FileOutputStream(this.file, true)))
+                .also { this.output = it }
+            write(output, event)
+            output.flush()
+        } catch (e: IOException) {
+            closeOutput()
+        } catch (e: JSONException) {
+            // - Properties JSON can't hold, e.g. NaN, are still sent but not saved.
+        }
+    }
+
+    /**
+     * Returns up to `count` of the oldest events, without removing them.
+     */
+    fun peek(count: Int): List<AnalyticsEvent> {
+        load()
+        return this.events.take(count)
+    }
+
+    /**
+     * Removes the `count` oldest events.
+     */
+    fun remove(count: Int) {
+        load()
+        repeat(minOf(count, this.events.size)) { this.events.removeFirst() }
+        rewrite()
+    }
+
+    private fun load() {
+        if (this.isLoaded) {
+            return
+        }
+        this.isLoaded = true
+
+        if (!this.file.exists()) {
+            return
+        }
+
+        try {
+            DataInputStream(BufferedInputStream(FileInputStream(this.file))).use { input ->
+                while (true) {
+                    this.events.addLast(read(input) ?: break)
+                }
+            }
+        } catch (e: IOException) {
+            // - A record cut short by the process dying is dropped, the ones before it are kept.
+        } catch (e: JSONException) {
+        }
+
+        while (this.events.size > this.maxSize) {
+            this.events.removeFirst()
+        }
+    }
+
+    private fun rewrite() {
+        closeOutput()
+
+        // - Written next to the queue first, so the queue is never half written.
+        val temporaryFile = File(this.file.path + TEMPORARY_SUFFIX)
+        try {
+            DataOutputStream(BufferedOutputStream(FileOutputStream(temporaryFile))).use { output ->
+                this.events.forEach { write(output, it) }
+            }
+            if (!temporaryFile.renameTo(this.file)) {
+                temporaryFile.delete()
+            }
+        } catch (e: IOException) {
+            temporaryFile.delete()
+        }
+    }
+
+    private fun closeOutput() {
+        try {
+            this.output?.close()
+        } catch (ignored: IOException) {
+        }
+        this.output = null
+    }
+
+    private fun write(output: DataOutputStream, event: AnalyticsEvent) {
+        val properties = JSONObject()
+        event.properties.forEach { (key, value) -> properties.put(key, JSONObject.wrap(value)) }
+        val bytes = properties.toString().toByteArray(Charsets.UTF_8)
+
+        output.writeUTF(event.name)
+        output.writeInt(bytes.size)
+        output.write(bytes)
+    }
+
+    private fun read(input: DataInputStream): AnalyticsEvent? {
+        val name = try {
+            input.readUTF()
+        } catch (e: EOFException) {
+            return null
+        }
+
+        val bytes = ByteArray(input.readInt())
+        input.readFully(bytes)
+        val json = JSONObject(String(bytes, Charsets.UTF_8))
+        val properties = HashMap<String, Any?>(json.length())
+        json.keys().forEach { key ->
+            properties[key] = json.get(key).takeUnless { it == JSONObject.NULL }
+        }
+
+        return AnalyticsEvent(name, properties)
+    }
+
+    companion object {
+        const val DEFAULT_MAX_SIZE = 1000
+        private const val TEMPORARY_SUFFIX = ".tmp"
+    }
+}
@@ -0,0 +1,132 @@
+package com.kickstarter.libs.analytics
+
+import com.google.firebase.crashlytics.FirebaseCrashlytics
+import com.kickstarter.libs.utils.EventName
+import rx.Scheduler
+import timber.log.Timber
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Where the pipeline sends its events, e.g. Segment.
+ */
+interface AnalyticsSink {
+    /**
+     * Sends `events`, oldest first. Returns false if they can't be sent yet, they're kept and sent again on the next
+     * flush.
+     */
+    fun send(events: List<AnalyticsEvent>): Boolean
+}
+
+/**
+ * Takes tracked events off the calling thread. Each event's properties are added on the pipeline's worker, and the
+ * event is kept in [queue] until the sink takes it. Events are sent in batches of [batchSize], every
+ * [flushIntervalSeconds], and when the app goes to the background.
+ *
+ * Events tracked faster than the worker can add their properties are dropped once [maxPendingEvents] are waiting, and
+ * a page view with the same properties as the one tracked right before it is only sent once.
+ */
+class AnalyticsPipeline @JvmOverloads constructor(
+    private val queue: AnalyticsEventQueue,
+    private val scheduler: Scheduler,
+    private val batchSize: Int = DEFAULT_BATCH_SIZE,
+    private val flushIntervalSeconds: Long = DEFAULT_FLUSH_INTERVAL_SECONDS,
+    private val maxPendingEvents: Int = DEFAULT_MAX_PENDING_EVENTS
+) {
+    private val worker = this.scheduler.createWorker()
+    private val pendingEvents = AtomicInteger()
+    private var sink: AnalyticsSink? = null
+
+    // - Only read and written on the worker.
+    private var lastPageView: Map<String, Any>? = null
+    private var lastPageViewTime = 0L
+
+    /**
+     * Starts sending events to `sink`, including the ones left in the queue by an earlier session.
+     */
+    fun start(sink: AnalyticsSink) {
+        this.worker.schedule {
+            this.sink = sink
+            flushQueue()
+        }
+        this.worker.schedulePeriodically(
+            { flushQueue() },
+            this.flushIntervalSeconds,
+            this.flushIntervalSeconds,
+            TimeUnit.SECONDS
+        )
+    }
+
+    /**
+     * Queues the event `eventName`. `properties` returns its full properties from the ones it was tracked with, and is
+     * called on the pipeline's worker. An event whose `properties` returns null isn't sent.
+     */
+    fun track(
+        eventName: String,
+        additionalProperties: Map<String, Any>,
+        properties: (Map<String, Any>) -> Map<String, Any?>?
+    ) {
+        if (this.pendingEvents.incrementAndGet() > this.maxPendingEvents) {
+            this.pendingEvents.decrementAndGet()
+            return
+        }
+
+        val time = this.scheduler.now()
+        this.worker.schedule {
+            this.pendingEvents.decrementAndGet()
+            if (!isRepeatedPageView(eventName, additionalProperties, time)) {
+                properties(additionalProperties)?.let {
+                    this.queue.add(AnalyticsEvent(eventName, it))
+                    if (this.queue.size() >= this.batchSize) {
+                        flushQueue()
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the queued events now, e.g. when the app goes to the background.
+     */
+    fun flush() {
+        this.worker.schedule { flushQueue() }
+    }
+
+    private fun isRepeatedPageView(eventName: String, additionalProperties: Map<String, Any>, time: Long): Boolean {
+        if (eventName != EventName.PAGE_VIEWED.eventName) {
+            return false
+        }
+
+        val isRepeated = additionalProperties == this.lastPageView && time - this.lastPageViewTime < REPEATED_PAGE_VIEW_MS
+        this.lastPageView = additionalProperties
+        this.lastPageViewTime = time
+        return isRepeated
+    }
+
+    private fun flushQueue() {
+        val sink = this.sink ?: return
+
+        while (this.queue.size() > 0) {
+            val events = this.queue.peek(this.batchSize)
+            val isSent = try {
+                sink.send(events)
+            } catch (e: RuntimeException) {
+                // - A batch the sink can't take would otherwise be sent again on every flush, so it's dropped.
+                Timber.e(e, "Failed to send ${events.size} analytics events")
+                FirebaseCrashlytics.getInstance().log("E/${AnalyticsPipeline::class.java.simpleName}: Failed to send ${events.size} analytics events: $e")
+                true
+            }
+            if (!isSent) {
+                return
+            }
+            this.queue.remove(events.size)
+        }
+    }
+
+    companion object {
+        const val DEFAULT_BATCH_SIZE = 20
+        const val DEFAULT_FLUSH_INTERVAL_SECONDS = 30L
+        const val DEFAULT_MAX_PENDING_EVENTS = 500
+        private const val REPEATED_PAGE_VIEW_MS = 1000L
+    }
+}
@@ -0,0 +1,34 @@
+package com.kickstarter.libs.graphql
+
+import com.apollographql.apollo.api.Operation
+import com.apollographql.apollo.api.ResponseField
+import com.apollographql.apollo.cache.normalized.CacheKey
+import com.apollographql.apollo.cache.normalized.CacheKeyResolver
+
+/**
+ * Normalizes GraphQL records on their relay id, the same id we build with `encodeRelayId`, so that
+ * a `Project` fetched through `FetchProjectQuery` and the same `Project` returned by a mutation
+ * share a single record in the cache.
+ *
+ * `node(id:)` lookups are resolved straight from the argument, which lets queries such as
+ * `GetShippingRulesForRewardIdQuery` be answered from the cache without a network round trip.
+ */
+class RelayIdCacheKeyResolver : CacheKeyResolver() {
+
+    override fun fromFieldRecordSet(field: ResponseField, recordSet: Map<String, Any>): CacheKey {
+        return (recordSet[ID_FIELD] as? String)?.let { CacheKey.from(it) } ?: CacheKey.NO_KEY
+    }
+
+    override fun fromFieldArguments(field: ResponseField, variables: Operation.Variables): CacheKey {
+        if (field.fieldName != NODE_FIELD) {
+            return CacheKey.NO_KEY
+        }
+
+        return (field.resolveArgument(ID_FIELD, variables) as? String)?.let { CacheKey.from(it) } ?: CacheKey.NO_KEY
+    }
+
+    companion object {
+        private const val ID_FIELD = "id"
+        private const val NODE_FIELD = "node"
+    }
+}
@@ -0,0 +1,68 @@
+package com.kickstarter.libs.gson
+
+import com.google.gson.Gson
+import com.google.gson.TypeAdapter
+import com.google.gson.TypeAdapterFactory
+import com.google.gson.reflect.TypeToken
+import com.kickstarter.models.Project
+import com.kickstarter.models.User
+import com.kickstarter.services.apiresponses.ActivityEnvelope
+import com.kickstarter.services.apiresponses.DiscoverEnvelope
+import com.kickstarter.services.apiresponses.MessageThreadsEnvelope
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope
+
+/**
+ * Streaming adapters for the largest and most frequent API responses (discovery, activity, messages and project
+ * stats) and the projects and users they're made of. Every other type, including the models nested in these, is
+ * left to Gson, which hands back these adapters whenever one of those types holds a project or user.
+ */
+class ApiTypeAdapterFactory : TypeAdapterFactory {
+    override fun <T> create(gson: Gson, type: TypeToken<T>): TypeAdapter<T>? {
+        val adapter: TypeAdapter<*> = when (type.rawType) {
+            Project::class.java -> ProjectTypeAdapter(gson, writer(gson, Project::class.java))
+            User::class.java -> UserTypeAdapter(gson, writer(gson, User::class.java))
+
+            DiscoverEnvelope::class.java ->
+                DiscoverEnvelopeTypeAdapter(gson, writer(gson, DiscoverEnvelope::class.java))
+            DiscoverEnvelope.UrlsEnvelope::class.java ->
+                DiscoverEnvelopeTypeAdapter.Urls(gson, writer(gson, DiscoverEnvelope.UrlsEnvelope::class.java))
+            DiscoverEnvelope.UrlsEnvelope.ApiEnvelope::class.java ->
+                DiscoverEnvelopeTypeAdapter.Api(writer(gson, DiscoverEnvelope.UrlsEnvelope.ApiEnvelope::class.java))
+            DiscoverEnvelope.StatsEnvelope::class.java ->
+                DiscoverEnvelopeTypeAdapter.Stats(writer(gson, DiscoverEnvelope.StatsEnvelope::class.java))
+
+            ActivityEnvelope::class.java ->
+                ActivityEnvelopeTypeAdapter(gson, writer(gson, ActivityEnvelope::class.java))
+            ActivityEnvelope.UrlsEnvelope::class.java ->
+                ActivityEnvelopeTypeAdapter.Urls(gson, writer(gson, ActivityEnvelope.UrlsEnvelope::class.java))
+            ActivityEnvelope.UrlsEnvelope.ApiEnvelope::class.java ->
+                ActivityEnvelopeTypeAdapter.Api(writer(gson, ActivityEnvelope.UrlsEnvelope.ApiEnvelope::class.java))
+
+            MessageThreadsEnvelope::class.java ->
+                MessageThreadsEnvelopeTypeAdapter(gson, writer(gson, MessageThreadsEnvelope::class.java))
+            MessageThreadsEnvelope.UrlsEnvelope::class.java ->
+                MessageThreadsEnvelopeTypeAdapter.Urls(gson, writer(gson, MessageThreadsEnvelope.UrlsEnvelope::class.java))
+            MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope::class.java ->
+                MessageThreadsEnvelopeTypeAdapter.Api(writer(gson, MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope::class.java))
+
+            ProjectStatsEnvelope::class.java ->
+                ProjectStatsEnvelopeTypeAdapter(gson, writer(gson, ProjectStatsEnvelope::class.java))
+            ProjectStatsEnvelope.FundingDateStats::class.java ->
+                ProjectStatsEnvelopeTypeAdapter.FundingDate(gson, writer(gson, ProjectStatsEnvelope.FundingDateStats::class.java))
+            ProjectStatsEnvelope.ReferrerStats::class.java ->
+                ProjectStatsEnvelopeTypeAdapter.Referrer(writer(gson, ProjectStatsEnvelope.ReferrerStats::class.java))
+            ProjectStatsEnvelope.RewardStats::class.java ->
+                ProjectStatsEnvelopeTypeAdapter.Reward(writer(gson, ProjectStatsEnvelope.RewardStats::class.java))
+
+            else -> return null
+        }
+
+        @Suppress("UNCHECKED_CAST")
+        return adapter as TypeAdapter<T>
+    }
+
+    /**
+     * Gson's reflective adapter for `type`, used to write it exactly as before.
+     */
+    private fun <T> writer(gson: Gson, type: Class<T>): TypeAdapter<T> = gson.getDelegateAdapter(this, TypeToken.get(type))
+}
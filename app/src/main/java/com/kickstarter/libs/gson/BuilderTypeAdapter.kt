@@ -0,0 +1,38 @@
+package com.kickstarter.libs.gson
+
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.JsonWriter
+
+/**
+ * Reads a model field by field into its builder, so decoding skips reflection and gets the builder's defaults for
+ * anything missing or null. Writing goes through `writer`, Gson's reflective adapter, so stored JSON is unchanged.
+ */
+abstract class BuilderTypeAdapter<T, B>(private val writer: TypeAdapter<T>) : TypeAdapter<T>() {
+    protected abstract fun builder(): B
+
+    /**
+     * Reads the value of `name` into `builder`, skipping names it doesn't know.
+     */
+    protected abstract fun readField(reader: JsonReader, name: String, builder: B)
+
+    protected abstract fun build(builder: B): T
+
+    final override fun write(out: JsonWriter, value: T?) = this.writer.write(out, value)
+
+    final override fun read(reader: JsonReader): T? {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull()
+            return null
+        }
+
+        val builder = builder()
+        reader.beginObject()
+        while (reader.hasNext()) {
+            readField(reader, reader.nextName(), builder)
+        }
+        reader.endObject()
+        return build(builder)
+    }
+}
@@ -0,0 +1,28 @@
+package com.kickstarter.libs.gson
+
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.JsonWriter
+import org.joda.time.DateTime
+
+/**
+ * Reads and writes dates as seconds since the epoch, straight from the stream.
+ */
+class DateTimeTypeAdapter : TypeAdapter<DateTime>() {
+    override fun write(out: JsonWriter, value: DateTime?) {
+        if (value == null) {
+            out.nullValue()
+        } else {
+            out.value(value.millis / 1000)
+        }
+    }
+
+    override fun read(reader: JsonReader): DateTime? {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull()
+            return null
+        }
+        return DateTime(reader.nextLong() * 1000L)
+    }
+}
@@ -0,0 +1,267 @@
+package com.kickstarter.libs.gson
+
+import com.google.gson.Gson
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.kickstarter.libs.utils.extensions.nextFloatOrNull
+import com.kickstarter.libs.utils.extensions.nextIntOrNull
+import com.kickstarter.libs.utils.extensions.nextListOrNull
+import com.kickstarter.libs.utils.extensions.nextStringOrNull
+import com.kickstarter.models.Activity
+import com.kickstarter.models.MessageThread
+import com.kickstarter.models.Project
+import com.kickstarter.services.apiresponses.ActivityEnvelope
+import com.kickstarter.services.apiresponses.DiscoverEnvelope
+import com.kickstarter.services.apiresponses.MessageThreadsEnvelope
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope.CumulativeStats
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope.FundingDateStats
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope.ReferralAggregateStats
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope.ReferrerStats
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope.RewardStats
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope.VideoStats
+import com.kickstarter.services.apiresponses.commentresponse.PageInfoEnvelope
+import org.joda.time.DateTime
+
+class DiscoverEnvelopeTypeAdapter(gson: Gson, writer: TypeAdapter<DiscoverEnvelope>) :
+    BuilderTypeAdapter<DiscoverEnvelope, DiscoverEnvelope.Builder>(writer) {
+    private val pageInfo = gson.getAdapter(PageInfoEnvelope::class.java)
+    private val project = gson.getAdapter(Project::class.java)
+    private val stats = gson.getAdapter(DiscoverEnvelope.StatsEnvelope::class.java)
+    private val urls = gson.getAdapter(DiscoverEnvelope.UrlsEnvelope::class.java)
+
+    override fun builder() = DiscoverEnvelope.builder()
+
+    override fun readField(reader: JsonReader, name: String, builder: DiscoverEnvelope.Builder) {
+        when (name) {
+            "projects" -> builder.projects(reader.nextListOrNull(this.project))
+            "urls" -> builder.urls(this.urls.read(reader))
+            "stats" -> builder.stats(this.stats.read(reader))
+            "page_info_envelope" -> builder.pageInfoEnvelope(this.pageInfo.read(reader))
+            else -> reader.skipValue()
+        }
+    }
+
+    override fun build(builder: DiscoverEnvelope.Builder) = builder.build()
+
+    class Urls(gson: Gson, writer: TypeAdapter<DiscoverEnvelope.UrlsEnvelope>) :
+        BuilderTypeAdapter<DiscoverEnvelope.UrlsEnvelope, DiscoverEnvelope.UrlsEnvelope.Builder>(writer) {
+        private val api = gson.getAdapter(DiscoverEnvelope.UrlsEnvelope.ApiEnvelope::class.java)
+
+        override fun builder() = DiscoverEnvelope.UrlsEnvelope.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: DiscoverEnvelope.UrlsEnvelope.Builder) {
+            when (name) {
+                "api" -> builder.api(this.api.read(reader))
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: DiscoverEnvelope.UrlsEnvelope.Builder) = builder.build()
+    }
+
+    class Api(writer: TypeAdapter<DiscoverEnvelope.UrlsEnvelope.ApiEnvelope>) :
+        BuilderTypeAdapter<DiscoverEnvelope.UrlsEnvelope.ApiEnvelope, DiscoverEnvelope.UrlsEnvelope.ApiEnvelope.Builder>(writer) {
+        override fun builder() = DiscoverEnvelope.UrlsEnvelope.ApiEnvelope.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: DiscoverEnvelope.UrlsEnvelope.ApiEnvelope.Builder) {
+            when (name) {
+                "more_projects" -> builder.moreProjects(reader.nextStringOrNull())
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: DiscoverEnvelope.UrlsEnvelope.ApiEnvelope.Builder) = builder.build()
+    }
+
+    class Stats(writer: TypeAdapter<DiscoverEnvelope.StatsEnvelope>) :
+        BuilderTypeAdapter<DiscoverEnvelope.StatsEnvelope, DiscoverEnvelope.StatsEnvelope.Builder>(writer) {
+        override fun builder() = DiscoverEnvelope.StatsEnvelope.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: DiscoverEnvelope.StatsEnvelope.Builder) {
+            when (name) {
+                "count" -> builder.count(reader.nextIntOrNull())
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: DiscoverEnvelope.StatsEnvelope.Builder) = builder.build()
+    }
+}
+
+class ActivityEnvelopeTypeAdapter(gson: Gson, writer: TypeAdapter<ActivityEnvelope>) :
+    BuilderTypeAdapter<ActivityEnvelope, ActivityEnvelope.Builder>(writer) {
+    private val activity = gson.getAdapter(Activity::class.java)
+    private val urls = gson.getAdapter(ActivityEnvelope.UrlsEnvelope::class.java)
+
+    override fun builder() = ActivityEnvelope.builder()
+
+    override fun readField(reader: JsonReader, name: String, builder: ActivityEnvelope.Builder) {
+        when (name) {
+            "activities" -> reader.nextListOrNull(this.activity)?.let { builder.activities(it) }
+            "urls" -> this.urls.read(reader)?.let { builder.urls(it) }
+            else -> reader.skipValue()
+        }
+    }
+
+    override fun build(builder: ActivityEnvelope.Builder) = builder.build()
+
+    class Urls(gson: Gson, writer: TypeAdapter<ActivityEnvelope.UrlsEnvelope>) :
+        BuilderTypeAdapter<ActivityEnvelope.UrlsEnvelope, ActivityEnvelope.UrlsEnvelope.Builder>(writer) {
+        private val api = gson.getAdapter(ActivityEnvelope.UrlsEnvelope.ApiEnvelope::class.java)
+
+        override fun builder() = ActivityEnvelope.UrlsEnvelope.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: ActivityEnvelope.UrlsEnvelope.Builder) {
+            when (name) {
+                "api" -> this.api.read(reader)?.let { builder.api(it) }
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: ActivityEnvelope.UrlsEnvelope.Builder) = builder.build()
+    }
+
+    class Api(writer: TypeAdapter<ActivityEnvelope.UrlsEnvelope.ApiEnvelope>) :
+        BuilderTypeAdapter<ActivityEnvelope.UrlsEnvelope.ApiEnvelope, ActivityEnvelope.UrlsEnvelope.ApiEnvelope.Builder>(writer) {
+        override fun builder() = ActivityEnvelope.UrlsEnvelope.ApiEnvelope.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: ActivityEnvelope.UrlsEnvelope.ApiEnvelope.Builder) {
+            when (name) {
+                "more_activities" -> reader.nextStringOrNull()?.let { builder.moreActivities(it) }
+                "newer_activities" -> builder.newerActivities(reader.nextStringOrNull())
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: ActivityEnvelope.UrlsEnvelope.ApiEnvelope.Builder) = builder.build()
+    }
+}
+
+class MessageThreadsEnvelopeTypeAdapter(gson: Gson, writer: TypeAdapter<MessageThreadsEnvelope>) :
+    BuilderTypeAdapter<MessageThreadsEnvelope, MessageThreadsEnvelope.Builder>(writer) {
+    private val messageThread = gson.getAdapter(MessageThread::class.java)
+    private val urls = gson.getAdapter(MessageThreadsEnvelope.UrlsEnvelope::class.java)
+
+    override fun builder() = MessageThreadsEnvelope.builder()
+
+    override fun readField(reader: JsonReader, name: String, builder: MessageThreadsEnvelope.Builder) {
+        when (name) {
+            "message_threads" -> reader.nextListOrNull(this.messageThread)?.let { builder.messageThreads(it) }
+            "urls" -> this.urls.read(reader)?.let { builder.urls(it) }
+            else -> reader.skipValue()
+        }
+    }
+
+    override fun build(builder: MessageThreadsEnvelope.Builder) = builder.build()
+
+    class Urls(gson: Gson, writer: TypeAdapter<MessageThreadsEnvelope.UrlsEnvelope>) :
+        BuilderTypeAdapter<MessageThreadsEnvelope.UrlsEnvelope, MessageThreadsEnvelope.UrlsEnvelope.Builder>(writer) {
+        private val api = gson.getAdapter(MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope::class.java)
+
+        override fun builder() = MessageThreadsEnvelope.UrlsEnvelope.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: MessageThreadsEnvelope.UrlsEnvelope.Builder) {
+            when (name) {
+                "api" -> this.api.read(reader)?.let { builder.api(it) }
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: MessageThreadsEnvelope.UrlsEnvelope.Builder) = builder.build()
+    }
+
+    class Api(writer: TypeAdapter<MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope>) :
+        BuilderTypeAdapter<MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope, MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope.Builder>(writer) {
+        override fun builder() = MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope.Builder) {
+            when (name) {
+                "more_message_threads" -> reader.nextStringOrNull()?.let { builder.moreMessageThreads(it) }
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: MessageThreadsEnvelope.UrlsEnvelope.ApiEnvelope.Builder) = builder.build()
+    }
+}
+
+class ProjectStatsEnvelopeTypeAdapter(gson: Gson, writer: TypeAdapter<ProjectStatsEnvelope>) :
+    BuilderTypeAdapter<ProjectStatsEnvelope, ProjectStatsEnvelope.Builder>(writer) {
+    private val cumulativeStats = gson.getAdapter(CumulativeStats::class.java)
+    private val fundingDateStats = gson.getAdapter(FundingDateStats::class.java)
+    private val referralAggregateStats = gson.getAdapter(ReferralAggregateStats::class.java)
+    private val referrerStats = gson.getAdapter(ReferrerStats::class.java)
+    private val rewardStats = gson.getAdapter(RewardStats::class.java)
+    private val videoStats = gson.getAdapter(VideoStats::class.java)
+
+    override fun builder() = ProjectStatsEnvelope.builder()
+
+    override fun readField(reader: JsonReader, name: String, builder: ProjectStatsEnvelope.Builder) {
+        when (name) {
+            "cumulative_stats" -> builder.cumulative(this.cumulativeStats.read(reader))
+            "funding_distribution" -> builder.fundingDistribution(reader.nextListOrNull(this.fundingDateStats))
+            "referral_aggregates" -> builder.referralAggregates(this.referralAggregateStats.read(reader))
+            "referral_distribution" -> builder.referralDistribution(reader.nextListOrNull(this.referrerStats))
+            "reward_distribution" -> builder.rewardDistribution(reader.nextListOrNull(this.rewardStats))
+            "video_stats" -> builder.videoStats(this.videoStats.read(reader))
+            else -> reader.skipValue()
+        }
+    }
+
+    override fun build(builder: ProjectStatsEnvelope.Builder) = builder.build()
+
+    class FundingDate(gson: Gson, writer: TypeAdapter<FundingDateStats>) :
+        BuilderTypeAdapter<FundingDateStats, FundingDateStats.Builder>(writer) {
+        private val dateTime = gson.getAdapter(DateTime::class.java)
+
+        override fun builder() = FundingDateStats.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: FundingDateStats.Builder) {
+            when (name) {
+                "backers_count" -> builder.backersCount(reader.nextIntOrNull())
+                "cumulative_pledged" -> builder.cumulativePledged(reader.nextFloatOrNull())
+                "cumulative_backers_count" -> builder.cumulativeBackersCount(reader.nextIntOrNull())
+                "date" -> builder.date(this.dateTime.read(reader))
+                "pledged" -> builder.pledged(reader.nextFloatOrNull())
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: FundingDateStats.Builder) = builder.build()
+    }
+
+    class Referrer(writer: TypeAdapter<ReferrerStats>) : BuilderTypeAdapter<ReferrerStats, ReferrerStats.Builder>(writer) {
+        override fun builder() = ReferrerStats.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: ReferrerStats.Builder) {
+            when (name) {
+                "backers_count" -> builder.backersCount(reader.nextIntOrNull())
+                "code" -> builder.code(reader.nextStringOrNull())
+                "percentage_of_dollars" -> builder.percentageOfDollars(reader.nextFloatOrNull())
+                "pledged" -> builder.pledged(reader.nextFloatOrNull())
+                "referrer_name" -> builder.referrerName(reader.nextStringOrNull())
+                "referrer_type" -> builder.referrerType(reader.nextStringOrNull())
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: ReferrerStats.Builder) = builder.build()
+    }
+
+    class Reward(writer: TypeAdapter<RewardStats>) : BuilderTypeAdapter<RewardStats, RewardStats.Builder>(writer) {
+        override fun builder() = RewardStats.builder()
+
+        override fun readField(reader: JsonReader, name: String, builder: RewardStats.Builder) {
+            when (name) {
+                "backers_count" -> builder.backersCount(reader.nextIntOrNull())
+                "reward_id" -> builder.rewardId(reader.nextIntOrNull())
+                "minimum" -> builder.minimum(reader.nextIntOrNull())
+                "pledged" -> builder.pledged(reader.nextFloatOrNull())
+                else -> reader.skipValue()
+            }
+        }
+
+        override fun build(builder: RewardStats.Builder) = builder.build()
+    }
+}
@@ -0,0 +1,100 @@
+package com.kickstarter.libs.gson
+
+import com.google.gson.Gson
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.kickstarter.libs.Permission
+import com.kickstarter.libs.utils.extensions.nextBooleanOrNull
+import com.kickstarter.libs.utils.extensions.nextDoubleOrNull
+import com.kickstarter.libs.utils.extensions.nextFloatOrNull
+import com.kickstarter.libs.utils.extensions.nextIntOrNull
+import com.kickstarter.libs.utils.extensions.nextListOrNull
+import com.kickstarter.libs.utils.extensions.nextLongOrNull
+import com.kickstarter.libs.utils.extensions.nextStringOrNull
+import com.kickstarter.models.Backing
+import com.kickstarter.models.Category
+import com.kickstarter.models.EnvironmentalCommitment
+import com.kickstarter.models.Location
+import com.kickstarter.models.Photo
+import com.kickstarter.models.Project
+import com.kickstarter.models.ProjectFaq
+import com.kickstarter.models.Reward
+import com.kickstarter.models.Urls
+import com.kickstarter.models.User
+import com.kickstarter.models.Video
+import org.joda.time.DateTime
+
+class ProjectTypeAdapter(gson: Gson, writer: TypeAdapter<Project>) : BuilderTypeAdapter<Project, Project.Builder>(writer) {
+    private val backing = gson.getAdapter(Backing::class.java)
+    private val category = gson.getAdapter(Category::class.java)
+    private val dateTime = gson.getAdapter(DateTime::class.java)
+    private val envCommitment = gson.getAdapter(EnvironmentalCommitment::class.java)
+    private val location = gson.getAdapter(Location::class.java)
+    private val permission = gson.getAdapter(Permission::class.java)
+    private val photo = gson.getAdapter(Photo::class.java)
+    private val projectFaq = gson.getAdapter(ProjectFaq::class.java)
+    private val reward = gson.getAdapter(Reward::class.java)
+    private val string = gson.getAdapter(String::class.java)
+    private val urls = gson.getAdapter(Urls::class.java)
+    private val user = gson.getAdapter(User::class.java)
+    private val video = gson.getAdapter(Video::class.java)
+
+    override fun builder() = Project.builder()
+
+    override fun readField(reader: JsonReader, name: String, builder: Project.Builder) {
+        when (name) {
+            "available_card_types" -> builder.availableCardTypes(reader.nextListOrNull(this.string))
+            "backers_count" -> builder.backersCount(reader.nextIntOrNull())
+            "blurb" -> builder.blurb(reader.nextStringOrNull())
+            "backing" -> builder.backing(this.backing.read(reader))
+            "category" -> builder.category(this.category.read(reader))
+            "comments_count" -> builder.commentsCount(reader.nextIntOrNull())
+            "country" -> builder.country(reader.nextStringOrNull())
+            "created_at" -> builder.createdAt(this.dateTime.read(reader))
+            "creator" -> builder.creator(this.user.read(reader))
+            "currency" -> builder.currency(reader.nextStringOrNull())
+            "currency_symbol" -> builder.currencySymbol(reader.nextStringOrNull())
+            "current_currency" -> builder.currentCurrency(reader.nextStringOrNull())
+            "currency_trailing_code" -> builder.currencyTrailingCode(reader.nextBooleanOrNull())
+            "display_prelaunch" -> builder.displayPrelaunch(reader.nextBooleanOrNull())
+            "featured_at" -> builder.featuredAt(this.dateTime.read(reader))
+            "friends" -> builder.friends(reader.nextListOrNull(this.user))
+            "fx_rate" -> builder.fxRate(reader.nextFloatOrNull())
+            "deadline" -> builder.deadline(this.dateTime.read(reader))
+            "goal" -> builder.goal(reader.nextDoubleOrNull())
+            "id" -> builder.id(reader.nextLongOrNull())
+            "is_backing" -> builder.isBacking(reader.nextBooleanOrNull())
+            "is_starred" -> builder.isStarred(reader.nextBooleanOrNull())
+            "last_update_published_at" -> builder.lastUpdatePublishedAt(this.dateTime.read(reader))
+            "launched_at" -> builder.launchedAt(this.dateTime.read(reader))
+            "location" -> builder.location(this.location.read(reader))
+            "name" -> builder.name(reader.nextStringOrNull())
+            "permissions" -> builder.permissions(reader.nextListOrNull(this.permission))
+            "pledged" -> builder.pledged(reader.nextDoubleOrNull())
+            "photo" -> builder.photo(this.photo.read(reader))
+            "prelaunch_activated" -> builder.prelaunchActivated(reader.nextBooleanOrNull())
+            "tags" -> builder.tags(reader.nextListOrNull(this.string))
+            "rewards" -> builder.rewards(reader.nextListOrNull(this.reward))
+            "slug" -> builder.slug(reader.nextStringOrNull())
+            "staff_pick" -> builder.staffPick(reader.nextBooleanOrNull())
+            "can_comment" -> builder.canComment(reader.nextBooleanOrNull())
+            "state" -> builder.state(reader.nextStringOrNull())
+            "state_changed_at" -> builder.stateChangedAt(this.dateTime.read(reader))
+            "static_usd_rate" -> builder.staticUsdRate(reader.nextFloatOrNull())
+            "usd_exchange_rate" -> builder.usdExchangeRate(reader.nextFloatOrNull())
+            "unread_messages_count" -> builder.unreadMessagesCount(reader.nextIntOrNull())
+            "unseen_activity_count" -> builder.unseenActivityCount(reader.nextIntOrNull())
+            "updates_count" -> builder.updatesCount(reader.nextIntOrNull())
+            "updated_at" -> builder.updatedAt(this.dateTime.read(reader))
+            "urls" -> builder.urls(this.urls.read(reader))
+            "video" -> builder.video(this.video.read(reader))
+            "project_faqs" -> builder.projectFaqs(reader.nextListOrNull(this.projectFaq))
+            "env_commitments" -> builder.envCommitments(reader.nextListOrNull(this.envCommitment))
+            "risks" -> builder.risks(reader.nextStringOrNull())
+            "story" -> builder.story(reader.nextStringOrNull())
+            else -> reader.skipValue()
+        }
+    }
+
+    override fun build(builder: Project.Builder) = builder.build()
+}
@@ -0,0 +1,74 @@
+package com.kickstarter.libs.gson
+
+import com.google.gson.Gson
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.kickstarter.libs.utils.extensions.nextBooleanOrNull
+import com.kickstarter.libs.utils.extensions.nextIntOrNull
+import com.kickstarter.libs.utils.extensions.nextLongOrNull
+import com.kickstarter.libs.utils.extensions.nextStringOrNull
+import com.kickstarter.models.Avatar
+import com.kickstarter.models.Location
+import com.kickstarter.models.User
+
+class UserTypeAdapter(gson: Gson, writer: TypeAdapter<User>) : BuilderTypeAdapter<User, User.Builder>(writer) {
+    private val avatar = gson.getAdapter(Avatar::class.java)
+    private val location = gson.getAdapter(Location::class.java)
+
+    override fun builder() = User.builder()
+
+    override fun readField(reader: JsonReader, name: String, builder: User.Builder) {
+        when (name) {
+            "alumni_newsletter" -> builder.alumniNewsletter(reader.nextBooleanOrNull())
+            "arts_culture_newsletter" -> builder.artsCultureNewsletter(reader.nextBooleanOrNull())
+            "avatar" -> builder.avatar(this.avatar.read(reader))
+            "backed_projects_count" -> builder.backedProjectsCount(reader.nextIntOrNull())
+            "created_projects_count" -> builder.createdProjectsCount(reader.nextIntOrNull())
+            "draft_projects_count" -> builder.draftProjectsCount(reader.nextIntOrNull())
+            "errored_backings_count" -> builder.erroredBackingsCount(reader.nextIntOrNull())
+            "facebook_connected" -> builder.facebookConnected(reader.nextBooleanOrNull())
+            "film_newsletter" -> builder.filmNewsletter(reader.nextBooleanOrNull())
+            "games_newsletter" -> builder.gamesNewsletter(reader.nextBooleanOrNull())
+            "happening_newsletter" -> builder.happeningNewsletter(reader.nextBooleanOrNull())
+            "id" -> builder.id(reader.nextLongOrNull())
+            "invent_newsletter" -> builder.inventNewsletter(reader.nextBooleanOrNull())
+            "is_admin" -> builder.isAdmin(reader.nextBooleanOrNull())
+            "is_email_verified" -> builder.isEmailVerified(reader.nextBooleanOrNull())
+            "chosen_currency" -> builder.chosenCurrency(reader.nextStringOrNull())
+            "location" -> builder.location(this.location.read(reader))
+            "member_projects_count" -> builder.memberProjectsCount(reader.nextIntOrNull())
+            "music_newsletter" -> builder.musicNewsletter(reader.nextBooleanOrNull())
+            "name" -> builder.name(reader.nextStringOrNull())
+            "notify_mobile_of_backings" -> builder.notifyMobileOfBackings(reader.nextBooleanOrNull())
+            "notify_mobile_of_comments" -> builder.notifyMobileOfComments(reader.nextBooleanOrNull())
+            "notify_mobile_of_creator_edu" -> builder.notifyMobileOfCreatorEdu(reader.nextBooleanOrNull())
+            "notify_mobile_of_follower" -> builder.notifyMobileOfFollower(reader.nextBooleanOrNull())
+            "notify_mobile_of_friend_activity" -> builder.notifyMobileOfFriendActivity(reader.nextBooleanOrNull())
+            "notify_mobile_of_messages" -> builder.notifyMobileOfMessages(reader.nextBooleanOrNull())
+            "notify_mobile_of_post_likes" -> builder.notifyMobileOfPostLikes(reader.nextBooleanOrNull())
+            "notify_mobile_of_updates" -> builder.notifyMobileOfUpdates(reader.nextBooleanOrNull())
+            "notify_mobile_of_marketing_update" -> builder.notifyMobileOfMarketingUpdate(reader.nextBooleanOrNull())
+            "notify_of_backings" -> builder.notifyOfBackings(reader.nextBooleanOrNull())
+            "notify_of_comments" -> builder.notifyOfComments(reader.nextBooleanOrNull())
+            "notify_of_comment_replies" -> builder.notifyOfCommentReplies(reader.nextBooleanOrNull())
+            "notify_of_creator_digest" -> builder.notifyOfCreatorDigest(reader.nextBooleanOrNull())
+            "notify_of_creator_edu" -> builder.notifyOfCreatorEdu(reader.nextBooleanOrNull())
+            "notify_of_follower" -> builder.notifyOfFollower(reader.nextBooleanOrNull())
+            "notify_of_friend_activity" -> builder.notifyOfFriendActivity(reader.nextBooleanOrNull())
+            "notify_of_messages" -> builder.notifyOfMessages(reader.nextBooleanOrNull())
+            "notify_of_updates" -> builder.notifyOfUpdates(reader.nextBooleanOrNull())
+            "opted_out_of_recommendations" -> builder.optedOutOfRecommendations(reader.nextBooleanOrNull())
+            "promo_newsletter" -> builder.promoNewsletter(reader.nextBooleanOrNull())
+            "publishing_newsletter" -> builder.publishingNewsletter(reader.nextBooleanOrNull())
+            "show_public_profile" -> builder.showPublicProfile(reader.nextBooleanOrNull())
+            "social" -> builder.social(reader.nextBooleanOrNull())
+            "starred_projects_count" -> builder.starredProjectsCount(reader.nextIntOrNull())
+            "unread_messages_count" -> builder.unreadMessagesCount(reader.nextIntOrNull())
+            "unseen_activity_count" -> builder.unseenActivityCount(reader.nextIntOrNull())
+            "weekly_newsletter" -> builder.weeklyNewsletter(reader.nextBooleanOrNull())
+            else -> reader.skipValue()
+        }
+    }
+
+    override fun build(builder: User.Builder) = builder.build()
+}
@@ -13,15 +13,18 @@ import com.kickstarter.libs.utils.extensions.size
 import org.jsoup.nodes.Element
 import org.jsoup.nodes.TextNode
 
-fun Element.extractViewElementTypeFromDiv(): ViewElementType {
+internal const val TEMPLATE_ASSET_CLASS = "template asset"
+internal const val TEMPLATE_OEMBED_CLASS = "template oembed"
+
+fun HTMLElement.extractViewElementTypeFromDiv(): ViewElementType {
     var type: ViewElementType = ViewElementType.UNKNOWN
 
     if (this.isImageStructure()) {
-        if (this.children().getOrNull(0)?.children()?.getOrNull(0)?.tag()?.name == ViewElementType.IMAGE.tag) {
+        if (this.child(0)?.child(0)?.tagName == ViewElementType.IMAGE.tag) {
             type = ViewElementType.IMAGE
         }
     } else if (this.isIframeStructure()) {
-        if (this.children().getOrNull(0)?.tag()?.name == ViewElementType.EXTERNAL_SOURCES.tag) {
+        if (this.child(0)?.tagName == ViewElementType.EXTERNAL_SOURCES.tag) {
             type = ViewElementType.EXTERNAL_SOURCES
         }
     }
@@ -29,60 +32,48 @@ fun Element.extractViewElementTypeFromDiv(): ViewElementType {
     return type
 }
 
-fun Element.isIframeStructure(): Boolean {
-    val isTemplateDiv = this.attributes().filter {
-        it.key == "class" && it.value == "template oembed"
-    }
-
-    return !isTemplateDiv.isNullOrEmpty()
-}
-
-fun Element.isImageStructure(): Boolean {
-    val isTemplateDiv = this.attributes().filter {
-        it.key == "class" && it.value == "template asset"
-    }
+fun HTMLElement.isIframeStructure(): Boolean = this.attr("class") == TEMPLATE_OEMBED_CLASS
 
-    return !isTemplateDiv.isNullOrEmpty()
-}
+fun HTMLElement.isImageStructure(): Boolean = this.attr("class") == TEMPLATE_ASSET_CLASS
 
-fun Element.parseAudioElement(): AudioViewElement {
+fun HTMLElement.parseAudioElement(): AudioViewElement {
     val url = this.children()
-        .firstOrNull { (it.attr("type") ?: "").contentEquals("audio/mp3") }
+        .firstOrNull { it.attr("type") == "audio/mp3" }
         ?.attr("src") ?: ""
 
     return AudioViewElement(url)
 }
 
-fun Element.parseVideoElement(): String {
-    val sourceUrls = this.children().mapNotNull { it.attr("src") }
+fun HTMLElement.parseVideoElement(): String {
+    val sourceUrls = this.children().map { it.attr("src") }
     return sourceUrls.firstOrNull { it.contains("high") } ?: sourceUrls.first()
 }
-fun Element.parseVideoElementThumbnailUrl(): String? {
-    return this.parent()?.attr("data-image")
+fun HTMLElement.parseVideoElementThumbnailUrl(): String? {
+    return this.parent?.attr("data-image") ?: ""
 }
 
-fun Element.parseImageElement(): ImageViewElement {
-    var src = ""
-    var caption: String? = null
+fun HTMLElement.parseImageElement(): ImageViewElement {
     var href: String? = null
+    val parent = this.parent
 
-    if (this.parent()?.tag()?.name == "a") {
-        href = this.parent()?.attr("href")
+    if (parent?.tagName == "a") {
+        href = parent.attr("href")
     }
 
-    caption = this.attr("data-caption")
-    src = this.children().getOrNull(0)?.children()?.getOrNull(0)?.attr("src").toString()
+    val caption = this.attr("data-caption")
+    val image = this.child(0)?.child(0)
+    var src = image?.attr("src").toString()
 
     // - it's a gif collect attribute data-src instead
     if (src.contains(".gif")) {
-        src = this.children().getOrNull(0)?.children()?.getOrNull(0)?.attr("data-src").toString()
+        src = image?.attr("data-src").toString()
     }
 
     return ImageViewElement(src = src, href = href, caption = caption)
 }
 
-fun Element.parseExternalElement(): ExternalSourceViewElement {
-    val sourceUrls = this.children().getOrNull(0)?.apply {
+fun HTMLElement.parseExternalElement(): ExternalSourceViewElement {
+    val sourceUrls = this.child(0)?.toJsoupElement()?.apply {
         this.attr("width", "100%")
     }.toString()
 
@@ -90,112 +81,110 @@ fun Element.parseExternalElement(): ExternalSourceViewElement {
 }
 
 /**
- * This function extract from the textNode a tag list from their ancestors
- * until it detects the parent blockType.
- *
- * Note: BlockTypes are direct children of body HTML tag
- * @param tags - Populates the list of parent tags
- * @param urls - In case of any of the parents is a link(<a>) populates the urls list
+ * Copies an embed into a detached Jsoup element, so it's written out the same way the web does.
  */
-private fun extractTextAttributes(
-    element: Element,
-    tags: MutableList<String>,
-    urls: MutableList<String>
-) {
-    tags.add(element.tagName())
-    if (TextComponent.TextBlockType.values().map { it.tag }
-        .contains(element.tagName())
-    ) {
-        // End recursive calls
-    } else {
-        if (element.tagName() == "a") {
-            urls.add(element.attr("href"))
-        }
-        element.parent()?.let {
-            extractTextAttributes(it, tags, urls)
+private fun HTMLElement.toJsoupElement(): Element {
+    val element = Element(this.tagName)
+    val attributes = this.attributes
+    if (attributes != null) {
+        for (i in attributes.indices step 2) {
+            element.attr(attributes[i], attributes[i + 1])
         }
     }
-}
 
-private fun getLiElement(element: Element, liElement: MutableList<Element>) {
-    if (element.tagName().contains("li")) {
-        liElement.add(element)
-    } else element.parent()?.let { getLiElement(it, liElement) }
+    this.childNodes().forEach {
+        when (it) {
+            is HTMLElement -> element.appendChild(it.toJsoupElement())
+            is HTMLTextNode -> element.appendChild(TextNode(it.wholeText()))
+            is HTMLDataNode -> Unit
+        }
+    }
+    return element
 }
 
 /**
  * Each TextComponent will have:
- * - it's own list of styles to apply
+ * - it's own list of styles to apply, collected from the ancestors of the text up to its block
  * - the url string in case the textComponent was a link
  * - the text to display
+ *
+ * @param element - The parent of the text
  */
-fun TextNode.parseTextElement(element: Element): TextComponent {
-    val tagsOther = mutableListOf<String>()
-    val urls = mutableListOf<String>()
-
-    extractTextAttributes(element, tagsOther, urls)
-
-    // - Extract from the list of styles the 'UNKNOWN', and 'LIST', the list style is process separately
-    val textStyleList = tagsOther.map { tag -> TextComponent.TextStyleType.initialize(tag) }
-        .filter { it != TextComponent.TextStyleType.LIST }
-        .filter { it != TextComponent.TextStyleType.UNKNOWN }
-        .toMutableList()
+fun HTMLTextNode.parseTextElement(element: HTMLElement, text: String = this.text()): TextComponent {
+    val textStyleList = mutableListOf<TextComponent.TextStyleType>()
+    var href: String? = null
+    var block: HTMLElement? = element
 
-    val href = urls.firstOrNull() ?: ""
+    while (block != null) {
+        val style = TextComponent.TextStyleType.initialize(block.tagName)
+        if (style != TextComponent.TextStyleType.LIST && style != TextComponent.TextStyleType.UNKNOWN) {
+            textStyleList.add(style)
+        }
+        if (TextComponent.TextBlockType.isBlockTag(block.tagName)) {
+            break
+        }
+        if (block.tagName == "a" && href == null) {
+            href = block.attr("href")
+        }
+        block = block.parent
+    }
 
     // - I am child of a li, but not the element itself
-    if (tagsOther.contains("ul")) {
-        val list = mutableListOf<Element>()
-        getLiElement(element, liElement = list)
-        val liElement = list.firstOrNull()
-        val parent = element.parent()
-        val grandFather = parent?.parent()
+    if (block?.tagName == TextComponent.TextBlockType.LIST.tag) {
+        val liElement = element.closestListItem()
+        val parent = element.parent
+        val grandFather = parent?.parent
 
         // - Clean up the liElement, many times you get empty child TextNodes or TextNodes with &nbsp
-        val liChildElements = liElement?.childNodes()?.filter {
-            !(it is TextNode && it.text().trim().isEmpty())
-        }
+        val firstChild = liElement?.childNodes()?.firstOrNull { !it.isBlankText() }
+        val lastChild = liElement?.childNodes()?.lastOrNull { !it.isBlankText() }
 
         // Am I the first child of the LI element?
-        if (this == liChildElements?.first() || element == liChildElements?.first()) {
+        if (firstChild != null && (this === firstChild || element === firstChild || parent === firstChild)) {
             textStyleList.add(TextComponent.TextStyleType.LIST)
-        } else {
-            // Is my parent the first child of the LI element?
-            if (liChildElements?.first() == parent) {
-                textStyleList.add(TextComponent.TextStyleType.LIST)
-            }
         }
 
         // Am I the last child of the LI element?
-        if (this == liChildElements?.last() || element == liChildElements?.last()) {
+        if (lastChild != null && (this === lastChild || element === lastChild || parent === lastChild)) {
             textStyleList.add(TextComponent.TextStyleType.LIST_END)
-        } else {
-            // Is my parent the last child of the LI element?
-            if (liChildElements?.last() == parent) {
-                textStyleList.add(TextComponent.TextStyleType.LIST_END)
-            }
         }
 
         if (textStyleList.size >= 3) {
             // Is my gradFather the first child of the LI element?
-            if (liChildElements?.first() == grandFather) {
+            if (firstChild != null && firstChild === grandFather) {
                 textStyleList.add(TextComponent.TextStyleType.LIST)
             }
 
             // Is my gradFather the last child of the LI element?
-            if (liChildElements?.last() == grandFather) {
+            if (lastChild != null && lastChild === grandFather) {
                 textStyleList.add(TextComponent.TextStyleType.LIST_END)
             }
         }
     }
 
     return TextComponent(
-        this.text(),
-        href,
+        text,
+        href ?: "",
         textStyleList
     )
 }
 
+/**
+ * The closest list item, stopping at the first ancestor whose children weren't kept.
+ */
+private fun HTMLElement.closestListItem(): HTMLElement? {
+    var element: HTMLElement? = this
+    while (element != null && element.keepsChildren) {
+        if (element.tagName.contains("li")) {
+            return element
+        }
+        element = element.parent
+    }
+    return null
+}
+
+private fun HTMLNode.isBlankText() = this is HTMLTextNode && this.text().isBlank()
+
 fun TextViewElement.getStyledComponents(
     bodySize: Int,
     headerSize: Int,
@@ -1,7 +1,5 @@
 package com.kickstarter.libs.htmlparser
 
-import org.jsoup.nodes.Element
-
 interface ViewElement
 
 data class TextViewElement(var components: List<TextComponent>) : ViewElement
@@ -29,9 +27,13 @@ data class TextComponent(
         LIST("ul");
 
         companion object {
+            private val tags = values().mapNotNull { it.tag }.toSet()
+
             fun initialize(tag: String): TextBlockType? {
                 return values().firstOrNull { it.tag == tag }
             }
+
+            fun isBlockTag(tag: String) = tag in tags
         }
     }
 
@@ -46,8 +48,10 @@ data class TextComponent(
         UNKNOWN(null);
 
         companion object {
+            private val byTag = values().filter { it.tag != null }.associateBy { it.tag }
+
             fun initialize(tag: String): TextStyleType {
-                return (values().find { it.tag == tag }) ?: UNKNOWN
+                return byTag[tag] ?: UNKNOWN
             }
         }
     }
@@ -72,16 +76,14 @@ enum class ViewElementType(val tag: String?) {
     UNKNOWN(null);
 
     companion object {
-        fun initialize(element: Element): ViewElementType {
-            val tag = element.tag().name
+        fun initialize(element: HTMLElement): ViewElementType {
+            val tag = element.tagName
             when {
-                tag == "a" -> {
-                    element.children().find { it.tagName() == "div" }?.let { return@let it.extractViewElementTypeFromDiv() }
-                }
+                // - Links around images are looked inside of like any other element, see parseImageElement.
                 tag == "div" -> {
                     return element.extractViewElementTypeFromDiv()
                 }
-                TextComponent.TextBlockType.values().map { it.tag }.contains(tag) -> {
+                TextComponent.TextBlockType.isBlockTag(tag) -> {
                     return TEXT
                 }
                 tag == VIDEO.tag -> {
@@ -0,0 +1,148 @@
+package com.kickstarter.libs.htmlparser
+
+/**
+ * A lightweight node of a story, built by [HTMLTreeBuilder] only for the block being parsed.
+ */
+sealed class HTMLNode {
+    var parent: HTMLElement? = null
+        internal set
+}
+
+/**
+ * An element with its attributes, stored as alternating names and values. Elements outside of the block being parsed
+ * don't keep their children, only what their descendants may read from their ancestors.
+ */
+class HTMLElement internal constructor(
+    val tagName: String,
+    internal val attributes: Array<String>?,
+    keepsChildren: Boolean
+) : HTMLNode() {
+    private val nodes: MutableList<HTMLNode>? = if (keepsChildren) mutableListOf() else null
+
+    internal val keepsChildren: Boolean
+        get() = this.nodes != null
+
+    fun childNodes(): List<HTMLNode> = this.nodes ?: emptyList()
+
+    /**
+     * Returns the value of the attribute [key], or an empty string when it's missing.
+     */
+    fun attr(key: String): String = attr(this.attributes, key)
+
+    /**
+     * Returns the child element at [index], skipping text and comments.
+     */
+    fun child(index: Int): HTMLElement? {
+        var elementIndex = 0
+        childNodes().forEach {
+            if (it is HTMLElement) {
+                if (elementIndex == index) {
+                    return it
+                }
+                elementIndex++
+            }
+        }
+        return null
+    }
+
+    fun children(): List<HTMLElement> = childNodes().filterIsInstance<HTMLElement>()
+
+    internal fun appendChild(node: HTMLNode) {
+        node.parent?.removeChild(node)
+        node.parent = this
+        this.nodes?.add(node)
+    }
+
+    internal fun removeChild(node: HTMLNode) {
+        this.nodes?.remove(node)
+        node.parent = null
+    }
+
+    /**
+     * Moves all the children of this element to the end of [other].
+     */
+    internal fun moveChildrenTo(other: HTMLElement) {
+        val nodes = this.nodes ?: return
+        nodes.forEach {
+            it.parent = null
+            other.appendChild(it)
+        }
+        nodes.clear()
+    }
+
+    internal fun hasSameAttributes(other: HTMLElement): Boolean =
+        (this.attributes ?: NO_ATTRIBUTES).contentEquals(other.attributes ?: NO_ATTRIBUTES)
+
+    companion object {
+        private val NO_ATTRIBUTES = emptyArray<String>()
+
+        internal fun attr(attributes: Array<String>?, key: String): String {
+            attributes ?: return ""
+            for (i in attributes.indices step 2) {
+                if (attributes[i] == key) {
+                    return attributes[i + 1]
+                }
+            }
+            return ""
+        }
+    }
+}
+
+class HTMLTextNode internal constructor(private val wholeText: String) : HTMLNode() {
+
+    /**
+     * The text with runs of whitespace collapsed to a single space.
+     */
+    fun text(): String {
+        if (isNormalized()) {
+            return this.wholeText
+        }
+
+        val builder = StringBuilder(this.wholeText.length)
+        var lastWasWhite = false
+        this.wholeText.forEach { c ->
+            if (isWhitespace(c)) {
+                if (!lastWasWhite) {
+                    builder.append(' ')
+                    lastWasWhite = true
+                }
+            } else if (c != ZERO_WIDTH_SPACE && c != SOFT_HYPHEN) {
+                builder.append(c)
+                lastWasWhite = false
+            }
+        }
+        return builder.toString()
+    }
+
+    internal fun wholeText() = this.wholeText
+
+    private fun isNormalized(): Boolean {
+        var lastWasWhite = false
+        this.wholeText.forEach { c ->
+            if (isWhitespace(c)) {
+                if (lastWasWhite || c != ' ') {
+                    return false
+                }
+                lastWasWhite = true
+            } else if (c == ZERO_WIDTH_SPACE || c == SOFT_HYPHEN) {
+                return false
+            } else {
+                lastWasWhite = false
+            }
+        }
+        return true
+    }
+
+    companion object {
+        private const val ZERO_WIDTH_SPACE = '\u200B'
+        private const val SOFT_HYPHEN = '\u00AD'
+
+        private fun isWhitespace(c: Char) =
+            c == ' ' || c == '\t' || c == '\n' || c == '\u000C' || c == '\r' || c == '\u00A0'
+    }
+}
+
+/**
+ * A comment, or the contents of a script or style element. Never shown, but still a sibling of the nodes around it.
+ */
+class HTMLDataNode internal constructor() : HTMLNode()
@@ -1,74 +1,104 @@
 package com.kickstarter.libs.htmlparser
 
-import org.jsoup.Jsoup
-import org.jsoup.nodes.Element
-import org.jsoup.nodes.TextNode
-import org.jsoup.select.Elements
+open class HTMLParser {
 
-class HTMLParser {
-
-    fun parse(html: String): List<ViewElement> {
-        val doc = Jsoup.parse(html)
+    /**
+     * Parses [html] into [ViewElement]s in a single pass, holding only the block being parsed rather than the whole
+     * document. When [onChunk] is given it's called with the elements parsed so far once the first [FIRST_CHUNK_SIZE]
+     * are ready and again each time their number doubles, so the top of a long story can be shown while the rest is
+     * parsed.
+     */
+    @JvmOverloads
+    open fun parse(html: String, onChunk: ((List<ViewElement>) -> Unit)? = null): List<ViewElement> {
+        val chunks = onChunk?.let { Chunks(it) }
         val viewElements = mutableListOf<ViewElement>()
-        doc.children().forEach {
-            viewElements.addAll(parse(it.children()))
-        }
+        HTMLTokenizer(html).tokenize(
+            HTMLTreeBuilder { block ->
+                parse(block, viewElements, chunks)
+            }
+        )
 
         return viewElements
     }
 
-    private fun parse(children: Elements?): List<ViewElement> {
-        val viewElements = mutableListOf<ViewElement>()
-
-        children?.forEach { element ->
-            when (ViewElementType.initialize(element)) {
-                ViewElementType.IMAGE -> {
-                    viewElements.add(element.parseImageElement())
-                }
-                ViewElementType.TEXT -> {
-                    val textViewElement = TextViewElement(parseTextElement(element, mutableListOf()))
-                    viewElements.add(textViewElement)
-                    return@forEach
-                }
-                ViewElementType.VIDEO -> {
-                    val videoViewElement = VideoViewElement(
-                        element.parseVideoElement(),
-                        element
-                            .parseVideoElementThumbnailUrl(),
-                        0
-                    )
-                    viewElements.add(videoViewElement)
-                }
-                ViewElementType.AUDIO -> {
-                    val audioElement = element.parseAudioElement()
-                    viewElements.add(audioElement)
-                }
-                ViewElementType.EXTERNAL_SOURCES -> {
-                    viewElements.add(element.parseExternalElement())
-                }
-                else -> {
-                    viewElements.addAll(parse(element.children()))
+    private fun parse(element: HTMLElement, viewElements: MutableList<ViewElement>, chunks: Chunks?) {
+        when (ViewElementType.initialize(element)) {
+            ViewElementType.IMAGE -> {
+                viewElements.add(element.parseImageElement())
+            }
+            ViewElementType.TEXT -> {
+                val textViewElement = TextViewElement(parseTextElement(element, mutableListOf()))
+                viewElements.add(textViewElement)
+            }
+            ViewElementType.VIDEO -> {
+                val videoViewElement = VideoViewElement(
+                    element.parseVideoElement(),
+                    element
+                        .parseVideoElementThumbnailUrl(),
+                    0
+                )
+                viewElements.add(videoViewElement)
+            }
+            ViewElementType.AUDIO -> {
+                val audioElement = element.parseAudioElement()
+                viewElements.add(audioElement)
+            }
+            ViewElementType.EXTERNAL_SOURCES -> {
+                viewElements.add(element.parseExternalElement())
+            }
+            else -> {
+                element.childNodes().forEach {
+                    if (it is HTMLElement) {
+                        parse(it, viewElements, chunks)
+                    }
                 }
             }
         }
-        return viewElements
+        chunks?.onParsed(viewElements)
     }
 
+    /**
+     * Adds the text inside of [element] to [textComponents], without copying it at every level.
+     */
     private fun parseTextElement(
-        element: Element,
+        element: HTMLElement,
         textComponents: MutableList<TextComponent>
     ): List<TextComponent> {
 
         for (node in element.childNodes()) {
-            (node as? TextNode)?.let { textNode ->
-                if (textNode.text().trim().isNotEmpty()) {
-                    textComponents.add(textNode.parseTextElement(element))
+            when (node) {
+                is HTMLTextNode -> {
+                    val text = node.text()
+                    if (text.isNotBlank()) {
+                        textComponents.add(node.parseTextElement(element, text))
+                    }
                 }
+                is HTMLElement -> parseTextElement(node, textComponents)
+                is HTMLDataNode -> Unit
             }
-            (node as? Element)?.let {
-                parseTextElement(it, textComponents)
+        }
+        return textComponents
+    }
+
+    /**
+     * Calls [onChunk] with a copy of the elements parsed so far each time their number reaches the next chunk size.
+     * Chunk sizes double, so copying stays linear in the size of the story.
+     */
+    private class Chunks(private val onChunk: (List<ViewElement>) -> Unit) {
+        private var nextChunkSize = FIRST_CHUNK_SIZE
+
+        fun onParsed(viewElements: List<ViewElement>) {
+            if (viewElements.size >= this.nextChunkSize) {
+                this.onChunk(viewElements.toList())
+                this.nextChunkSize = viewElements.size * 2
             }
         }
-        return textComponents.toList()
+    }
+
+    companion object {
+        /**
+         * Enough elements to fill the first screen of a story.
+         */
+        const val FIRST_CHUNK_SIZE = 8
     }
 }
@@ -0,0 +1,409 @@
+package com.kickstarter.libs.htmlparser
+
+import org.jsoup.nodes.Entities
+import org.jsoup.parser.Parser
+
+/**
+ * Reads a story in a single pass and reports its tags, text and comments to a [Handler] as it goes, without building a
+ * document. Follows the tokenization rules of the HTML spec closely enough that the [HTMLTreeBuilder] ends up with the
+ * same elements Jsoup would for the HTML the story editor produces.
+ */
+internal class HTMLTokenizer(private val html: String) {
+
+    interface Handler {
+        /**
+         * @param attributes Alternating attribute names and values, or null when the tag has none.
+         */
+        fun startTag(name: String, attributes: Array<String>?, selfClosing: Boolean)
+        fun endTag(name: String)
+        fun text(text: String)
+        fun comment()
+        fun end()
+    }
+
+    private val text = StringBuilder()
+
+    /**
+     * Tag and attribute names repeat throughout a story, so they're kept here to be copied out of it only once.
+     */
+    private val names = arrayOfNulls<String>(NAMES_SIZE)
+    private val attributes = ArrayList<String>()
+    private var selfClosing = false
+
+    fun tokenize(handler: Handler) {
+        val length = this.html.length
+        var pos = 0
+        while (pos < length) {
+            val tagOpen = this.html.indexOf('<', pos)
+            if (tagOpen == -1) {
+                appendText(pos, length, true)
+                break
+            }
+            appendText(pos, tagOpen, true)
+            pos = readMarkup(tagOpen, handler)
+        }
+        flushText(handler)
+        handler.end()
+    }
+
+    /**
+     * Reads whatever starts with the `<` at [tagOpen] and returns the position after it.
+     */
+    private fun readMarkup(tagOpen: Int, handler: Handler): Int {
+        val next = tagOpen + 1
+        return when {
+            next >= this.html.length -> {
+                appendText(tagOpen, next, false)
+                next
+            }
+            isAsciiLetter(this.html[next]) -> readStartTag(next, handler)
+            this.html[next] == '/' -> {
+                val nameStart = next + 1
+                when {
+                    nameStart >= this.html.length -> {
+                        appendText(tagOpen, nameStart, false)
+                        nameStart
+                    }
+                    isAsciiLetter(this.html[nameStart]) -> readEndTag(nameStart, handler)
+                    // - `</>` is dropped without splitting the text around it.
+                    this.html[nameStart] == '>' -> nameStart + 1
+                    else -> readBogusComment(nameStart, handler)
+                }
+            }
+            this.html[next] == '!' -> when {
+                this.html.startsWith("--", next + 1) -> readComment(next + 3, handler)
+                this.html.regionMatches(next + 1, "DOCTYPE", 0, DOCTYPE_LENGTH, ignoreCase = true) -> {
+                    flushText(handler)
+                    skipPast('>', next)
+                }
+                else -> readBogusComment(next + 1, handler)
+            }
+            this.html[next] == '?' -> readBogusComment(next, handler)
+            else -> {
+                appendText(tagOpen, next, false)
+                next
+            }
+        }
+    }
+
+    private fun readStartTag(nameStart: Int, handler: Handler): Int {
+        val nameEnd = tagNameEnd(nameStart)
+        val name = name(nameStart, nameEnd)
+        val pos = readAttributes(nameEnd)
+        if (pos == -1) {
+            // - A tag cut off by the end of the story is dropped.
+            return this.html.length
+        }
+
+        val attributes = if (this.attributes.isEmpty()) null else this.attributes.toTypedArray()
+        flushText(handler)
+        handler.startTag(name, attributes, this.selfClosing)
+
+        return when {
+            this.selfClosing -> pos
+            name in RAWTEXT_TAGS -> readRawText(pos, name, false, handler)
+            name in RCDATA_TAGS -> readRawText(pos, name, true, handler)
+            name == "plaintext" -> {
+                appendText(pos, this.html.length, false)
+                this.html.length
+            }
+            else -> pos
+        }
+    }
+
+    private fun readEndTag(nameStart: Int, handler: Handler): Int {
+        val nameEnd = tagNameEnd(nameStart)
+        val name = name(nameStart, nameEnd)
+
+        // - End tags can't have attributes, but they're read the same way so quoted `>`s don't end the tag.
+        val pos = readAttributes(nameEnd)
+        if (pos == -1) {
+            return this.html.length
+        }
+
+        flushText(handler)
+        handler.endTag(name)
+        return pos
+    }
+
+    /**
+     * Reads the attributes of a tag into [attributes] up to and including its `>`. Returns the position after the tag,
+     * or -1 when the story ends inside it.
+     */
+    private fun readAttributes(start: Int): Int {
+        this.attributes.clear()
+        this.selfClosing = false
+
+        var pos = start
+        while (true) {
+            pos = skipWhitespace(pos)
+            if (pos >= this.html.length) {
+                return -1
+            }
+
+            when (this.html[pos]) {
+                '>' -> return pos + 1
+                // - An unexpected `<` ends the tag and starts the next one.
+                '<' -> return pos
+                '/' -> {
+                    if (this.html.startsWith("/>", pos)) {
+                        this.selfClosing = true
+                        return pos + 2
+                    }
+                    pos++
+                }
+                else -> {
+                    pos = readAttribute(pos)
+                    if (pos == -1) {
+                        return -1
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the attribute starting at [start] into [attributes], keeping the first value of a repeated name. Returns
+     * the position after it, or -1 when the story ends inside it.
+     */
+    private fun readAttribute(start: Int): Int {
+        var pos = start + 1
+        while (pos < this.html.length && !isAttributeNameEnd(this.html[pos])) {
+            pos++
+        }
+        val name = name(start, pos)
+
+        pos = skipWhitespace(pos)
+        if (pos >= this.html.length) {
+            return -1
+        }
+
+        var value = ""
+        if (this.html[pos] == '=') {
+            pos = skipWhitespace(pos + 1)
+            if (pos >= this.html.length) {
+                return -1
+            }
+
+            val quote = this.html[pos]
+            if (quote == '"' || quote == '\'') {
+                val valueEnd = this.html.indexOf(quote, pos + 1)
+                if (valueEnd == -1) {
+                    return -1
+                }
+                value = decode(this.html.substring(pos + 1, valueEnd), true)
+                pos = valueEnd + 1
+            } else if (quote != '>') {
+                val valueStart = pos
+                while (pos < this.html.length && !isWhitespace(this.html[pos]) && this.html[pos] != '>') {
+                    pos++
+                }
+                if (pos >= this.html.length) {
+                    return -1
+                }
+                value = decode(this.html.substring(valueStart, pos), true)
+            }
+        }
+
+        if (!hasAttribute(name)) {
+            this.attributes.add(name)
+            this.attributes.add(value)
+        }
+        return pos
+    }
+
+    /**
+     * Reads the contents of a raw text element such as an iframe or script up to its end tag.
+     */
+    private fun readRawText(start: Int, name: String, decodeEntities: Boolean, handler: Handler): Int {
+        var pos = start
+        while (true) {
+            val endTagOpen = this.html.indexOf("</", pos)
+            if (endTagOpen == -1) {
+                appendText(start, this.html.length, decodeEntities)
+                return this.html.length
+            }
+
+            val nameEnd = endTagOpen + 2 + name.length
+            if (this.html.regionMatches(endTagOpen + 2, name, 0, name.length, ignoreCase = true) &&
+                nameEnd < this.html.length && isTagNameEnd(this.html[nameEnd])
+            ) {
+                appendText(start, endTagOpen, decodeEntities)
+                return readEndTag(endTagOpen + 2, handler)
+            }
+            pos = endTagOpen + 2
+        }
+    }
+
+    private fun readComment(start: Int, handler: Handler): Int {
+        flushText(handler)
+        handler.comment()
+
+        // - `<!-->` and `<!--->` are empty comments.
+        if (this.html.startsWith(">", start)) return start + 1
+        if (this.html.startsWith("->", start)) return start + 2
+
+        var pos = start
+        while (true) {
+            val dashes = this.html.indexOf("--", pos)
+            when {
+                dashes == -1 -> return this.html.length
+                this.html.startsWith(">", dashes + 2) -> return dashes + 3
+                this.html.startsWith("!>", dashes + 2) -> return dashes + 4
+            }
+            pos = dashes + 1
+        }
+    }
+
+    private fun readBogusComment(start: Int, handler: Handler): Int {
+        flushText(handler)
+        handler.comment()
+        return skipPast('>', start)
+    }
+
+    private fun appendText(start: Int, end: Int, decodeEntities: Boolean) {
+        if (start >= end) {
+            return
+        }
+
+        if (decodeEntities && this.html.indexOf('&', start) in start until end) {
+            this.text.append(decode(this.html.substring(start, end), false))
+        } else {
+            this.text.append(this.html, start, end)
+        }
+    }
+
+    private fun flushText(handler: Handler) {
+        if (this.text.isNotEmpty()) {
+            handler.text(this.text.toString())
+            this.text.setLength(0)
+        }
+    }
+
+    /**
+     * Returns the lowercased name between [start] and [end].
+     */
+    private fun name(start: Int, end: Int): String {
+        var hash = 0
+        for (i in start until end) {
+            val c = this.html[i]
+            if (c.code >= ASCII_SIZE) {
+                return this.html.substring(start, end).lowercase()
+            }
+            hash = 31 * hash + c.lowercaseChar().code
+        }
+
+        val slot = hash and (NAMES_SIZE - 1)
+        val cached = this.names[slot]
+        val length = end - start
+        if (cached != null && cached.length == length && this.html.regionMatches(start, cached, 0, length, ignoreCase = true)) {
+            return cached
+        }
+        return this.html.substring(start, end).lowercase().also { this.names[slot] = it }
+    }
+
+    private fun hasAttribute(name: String): Boolean {
+        for (i in 0 until this.attributes.size step 2) {
+            if (this.attributes[i] == name) {
+                return true
+            }
+        }
+        return false
+    }
+
+    private fun tagNameEnd(start: Int): Int {
+        var pos = start
+        while (pos < this.html.length && !isTagNameEnd(this.html[pos]) && this.html[pos] != '<') {
+            pos++
+        }
+        return pos
+    }
+
+    private fun skipWhitespace(start: Int): Int {
+        var pos = start
+        while (pos < this.html.length && isWhitespace(this.html[pos])) {
+            pos++
+        }
+        return pos
+    }
+
+    private fun skipPast(c: Char, start: Int): Int {
+        val pos = this.html.indexOf(c, start)
+        return if (pos == -1) this.html.length else pos + 1
+    }
+
+    companion object {
+        private const val DOCTYPE_LENGTH = 7
+        private const val MAX_REFERENCE_DIGITS = 7
+        private const val NAMES_SIZE = 256
+        private const val ASCII_SIZE = 128
+
+        private val RAWTEXT_TAGS = setOf("iframe", "noembed", "noframes", "script", "style", "xmp")
+        private val RCDATA_TAGS = setOf("textarea", "title")
+
+        /**
+         * Decodes the character references in [string]. The usual `&name;` and `&#nnn;` forms are decoded here, anything
+         * else by Jsoup, whose decoder is exact but sets up a whole tokenizer for every call.
+         */
+        private fun decode(string: String, inAttribute: Boolean): String {
+            var ampersand = string.indexOf('&')
+            if (ampersand == -1) {
+                return string
+            }
+
+            val builder = StringBuilder(string.length)
+            var pos = 0
+            while (ampersand != -1) {
+                val next = ampersand + 1
+                if (next < string.length && (string[next] == '#' || isAsciiLetter(string[next]))) {
+                    val end = string.indexOf(';', next)
+                    val decoded = (if (end == -1) null else decodeReference(string, next, end))
+                        ?: return Parser.unescapeEntities(string, inAttribute)
+                    builder.append(string, pos, ampersand).append(decoded)
+                    pos = end + 1
+                }
+                // - Otherwise it's just an ampersand.
+                ampersand = string.indexOf('&', next)
+            }
+            builder.append(string, pos, string.length)
+            return builder.toString()
+        }
+
+        /**
+         * Decodes the reference between [start] and the `;` at [end], or returns null when it isn't one of the usual
+         * forms.
+         */
+        private fun decodeReference(string: String, start: Int, end: Int): String? {
+            if (string[start] != '#') {
+                var pos = start
+                while (pos < end && isAsciiLetter(string[pos])) {
+                    pos++
+                }
+                while (pos < end && string[pos] in '0'..'9') {
+                    pos++
+                }
+                val name = string.substring(start, end)
+                return if (pos == end && Entities.isNamedEntity(name)) Entities.getByName(name) else null
+            }
+
+            val hex = start + 1 < end && (string[start + 1] == 'x' || string[start + 1] == 'X')
+            val digits = if (hex) start + 2 else start + 1
+            if (digits == end || end - digits > MAX_REFERENCE_DIGITS) {
+                return null
+            }
+            val codePoint = string.substring(digits, end).toIntOrNull(if (hex) 16 else 10) ?: return null
+
+            // - Leaves control characters, surrogates and the Windows-1252 range to Jsoup's replacements.
+            val replaced = codePoint < ' '.code || codePoint in 0x7F..0x9F || codePoint in 0xD800..0xDFFF
+            return if (replaced || codePoint > Character.MAX_CODE_POINT) null else String(Character.toChars(codePoint))
+        }
+
+        private fun isAsciiLetter(c: Char) = c in 'a'..'z' || c in 'A'..'Z'
+
+        private fun isWhitespace(c: Char) = c == ' ' || c == '\t' || c == '\n' || c == '\u000C' || c == '\r'
+
+        private fun isTagNameEnd(c: Char) = isWhitespace(c) || c == '/' || c == '>'
+
+        private fun isAttributeNameEnd(c: Char) = isWhitespace(c) || c == '/' || c == '=' || c == '>'
+    }
+}
@@ -0,0 +1,518 @@
+package com.kickstarter.libs.htmlparser
+
+/**
+ * Builds the elements of a story from the tokens of an [HTMLTokenizer], following the tree construction rules of the
+ * HTML spec for a body: paragraphs closed by blocks, list items closing each other, formatting carried across blocks.
+ *
+ * Only the children of blocks that can become a [ViewElement] are kept. Each one is passed to [onBlock] as soon as it's
+ * closed and then dropped, so parsing a story only ever holds one block and the elements it's nested in. Tables are
+ * handled more simply than by the spec.
+ */
+internal class HTMLTreeBuilder(private val onBlock: (HTMLElement) -> Unit) : HTMLTokenizer.Handler {
+    private val openElements = ArrayList<HTMLElement>()
+
+    /**
+     * Formatting elements to reopen in the next block, with null marking the start of an applet, marquee or object.
+     */
+    private val formattingElements = ArrayList<HTMLElement?>()
+    private var block: HTMLElement? = null
+    private var inBody = false
+    private var skipNextNewline = false
+
+    override fun startTag(name: String, attributes: Array<String>?, selfClosing: Boolean) {
+        this.skipNextNewline = false
+        if (name !in HEAD_TAGS) {
+            this.inBody = true
+        }
+
+        when (name) {
+            "html", "head", "body", "frameset" -> return
+            "a" -> {
+                if (lastFormattingElement(name) != null) {
+                    endFormattingElement(name)
+                    this.openElements.lastOrNull { it.tagName == name }?.let {
+                        this.formattingElements.remove(it)
+                        removeOpenElement(it)
+                    }
+                }
+                reconstructFormattingElements()
+                pushFormattingElement(insert(name, attributes))
+            }
+            in FORMATTING_TAGS -> {
+                reconstructFormattingElements()
+                pushFormattingElement(insert(name, attributes))
+            }
+            in PARAGRAPH_CLOSING_TAGS -> {
+                closeParagraph()
+                insert(name, attributes)
+            }
+            in HEADING_TAGS -> {
+                closeParagraph()
+                if (currentElement()?.tagName in HEADING_TAGS) {
+                    pop()
+                }
+                insert(name, attributes)
+            }
+            "pre", "listing" -> {
+                closeParagraph()
+                insert(name, attributes)
+                this.skipNextNewline = true
+            }
+            "li" -> {
+                closeListItem(LIST_ITEM_TAGS)
+                closeParagraph()
+                insert(name, attributes)
+            }
+            "dd", "dt" -> {
+                closeListItem(DEFINITION_TAGS)
+                closeParagraph()
+                insert(name, attributes)
+            }
+            "form", "plaintext" -> {
+                closeParagraph()
+                insert(name, attributes)
+            }
+            "xmp" -> {
+                closeParagraph()
+                reconstructFormattingElements()
+                insert(name, attributes)
+            }
+            "button" -> {
+                if (inScope(name)) {
+                    endTag(name)
+                }
+                reconstructFormattingElements()
+                insert(name, attributes)
+            }
+            "applet", "marquee", "object" -> {
+                reconstructFormattingElements()
+                insert(name, attributes)
+                this.formattingElements.add(null)
+            }
+            "hr" -> {
+                closeParagraph()
+                insertEmpty(name, attributes)
+            }
+            "image" -> startTag("img", attributes, selfClosing)
+            in EMPTY_FORMATTED_TAGS -> {
+                reconstructFormattingElements()
+                insertEmpty(name, attributes)
+            }
+            in EMPTY_TAGS -> insertEmpty(name, attributes)
+            in UNFORMATTED_TAGS -> insert(name, attributes)
+            else -> {
+                reconstructFormattingElements()
+                insert(name, attributes)
+            }
+        }
+
+        if (selfClosing && name !in EMPTY_TAGS && name !in EMPTY_FORMATTED_TAGS && name != "hr" && name != "image") {
+            endTag(name)
+        }
+    }
+
+    override fun endTag(name: String) {
+        this.skipNextNewline = false
+        if (!this.inBody && name != "br") {
+            // - End tags before the body starts are dropped.
+            return
+        }
+
+        when (name) {
+            "html", "head", "body" -> return
+            "p" -> {
+                if (inScope(name, BUTTON_SCOPE_TAGS)) {
+                    generateImpliedEndTags(name)
+                    popUntil(name)
+                } else {
+                    // - A stray `</p>` closes an empty paragraph.
+                    startTag(name, null, false)
+                    endTag(name)
+                }
+            }
+            "li" -> if (inScope(name, LIST_ITEM_SCOPE_TAGS)) {
+                generateImpliedEndTags(name)
+                popUntil(name)
+            }
+            "dd", "dt" -> if (inScope(name)) {
+                generateImpliedEndTags(name)
+                popUntil(name)
+            }
+            in HEADING_TAGS -> if (HEADING_TAGS.any { inScope(it) }) {
+                generateImpliedEndTags(name)
+                while (pop().tagName !in HEADING_TAGS) {
+                    // - Pops up to the closest heading, whichever its level.
+                }
+            }
+            in BLOCK_TAGS -> if (inScope(name)) {
+                generateImpliedEndTags(null)
+                popUntil(name)
+            }
+            "a", in FORMATTING_TAGS -> endFormattingElement(name)
+            "applet", "marquee", "object" -> if (inScope(name)) {
+                generateImpliedEndTags(null)
+                popUntil(name)
+                clearFormattingElementsToMarker()
+            }
+            "br" -> startTag(name, null, false)
+            else -> endOtherElement(name)
+        }
+    }
+
+    override fun text(text: String) {
+        var data = text
+        if (this.skipNextNewline) {
+            this.skipNextNewline = false
+            if (data.startsWith("\n")) {
+                data = data.substring(1)
+            }
+            if (data.isEmpty()) {
+                return
+            }
+        }
+
+        if (!this.inBody) {
+            if (data.all { it == ' ' || it == '\t' || it == '\n' || it == '\u000C' || it == '\r' }) {
+                return
+            }
+            this.inBody = true
+        }
+
+        reconstructFormattingElements()
+        val parent = currentElement() ?: return
+        if (parent.keepsChildren) {
+            parent.appendChild(if (parent.tagName in DATA_TAGS) HTMLDataNode() else HTMLTextNode(data))
+        }
+    }
+
+    override fun comment() {
+        this.skipNextNewline = false
+        currentElement()?.let { if (it.keepsChildren) it.appendChild(HTMLDataNode()) }
+    }
+
+    /**
+     * Closes everything left open at the end of the story.
+     */
+    override fun end() {
+        while (this.openElements.isNotEmpty()) {
+            pop()
+        }
+    }
+
+    private fun currentElement(): HTMLElement? = this.openElements.lastOrNull()
+
+    /**
+     * Opens an element. Outside of a block, an element that can become a [ViewElement] starts a new block.
+     */
+    private fun insert(name: String, attributes: Array<String>?): HTMLElement {
+        val element = createElement(name, attributes)
+        this.openElements.add(element)
+        return element
+    }
+
+    private fun insertEmpty(name: String, attributes: Array<String>?) {
+        createElement(name, attributes)
+    }
+
+    private fun createElement(name: String, attributes: Array<String>?): HTMLElement {
+        val parent = currentElement()
+        val startsBlock = this.block == null && startsBlock(name, attributes)
+        val element = HTMLElement(name, attributes, this.block != null || startsBlock)
+        if (parent != null) {
+            parent.appendChild(element)
+        }
+        if (startsBlock) {
+            this.block = element
+        }
+        return element
+    }
+
+    /**
+     * Closes an element that isn't the current one.
+     */
+    private fun removeOpenElement(element: HTMLElement) {
+        this.openElements.removeLast(element)
+        if (element === this.block) {
+            this.block = null
+            this.onBlock(element)
+        }
+    }
+
+    private fun pop(): HTMLElement {
+        val element = this.openElements.removeAt(this.openElements.size - 1)
+        if (element === this.block) {
+            this.block = null
+            this.onBlock(element)
+        }
+        return element
+    }
+
+    private fun popUntil(name: String) {
+        while (this.openElements.isNotEmpty() && pop().tagName != name) {
+            // - Pops up to and including the closest element named name.
+        }
+    }
+
+    private fun closeParagraph() {
+        if (inScope("p", BUTTON_SCOPE_TAGS)) {
+            endTag("p")
+        }
+    }
+
+    private fun closeListItem(itemTags: Set<String>) {
+        for (i in this.openElements.indices.reversed()) {
+            val element = this.openElements[i]
+            if (element.tagName in itemTags) {
+                endTag(element.tagName)
+                return
+            }
+            if (element.tagName in SPECIAL_TAGS && element.tagName !in LIST_ITEM_BREAKER_TAGS) {
+                return
+            }
+        }
+    }
+
+    private fun generateImpliedEndTags(excluding: String?) {
+        while (true) {
+            val name = currentElement()?.tagName ?: return
+            if (name == excluding || name !in IMPLIED_END_TAGS) {
+                return
+            }
+            pop()
+        }
+    }
+
+    private fun inScope(name: String, extraScopeTags: Set<String> = emptySet()): Boolean {
+        for (i in this.openElements.indices.reversed()) {
+            val tagName = this.openElements[i].tagName
+            if (tagName == name) {
+                return true
+            }
+            if (tagName in SCOPE_TAGS || tagName in extraScopeTags) {
+                return false
+            }
+        }
+        return false
+    }
+
+    private fun endOtherElement(name: String) {
+        for (i in this.openElements.indices.reversed()) {
+            val element = this.openElements[i]
+            if (element.tagName == name) {
+                generateImpliedEndTags(name)
+                popUntil(name)
+                return
+            }
+            if (element.tagName in SPECIAL_TAGS) {
+                return
+            }
+        }
+    }
+
+    /**
+     * Closes the formatting element [name] with the adoption agency algorithm: when blocks were opened inside of it, the
+     * blocks are moved out of the formatting element and their contents wrapped in a copy of it, so the formatting still
+     * applies to them.
+     */
+    private fun endFormattingElement(name: String) {
+        repeat(MAX_ADOPTIONS) {
+            val formattingElement = lastFormattingElement(name) ?: return endOtherElement(name)
+            val index = this.openElements.indexOfLast { it === formattingElement }
+            if (index == -1) {
+                this.formattingElements.remove(formattingElement)
+                return
+            }
+            if (!inScope(name)) {
+                return
+            }
+
+            val furthestBlock = (index + 1 until this.openElements.size)
+                .firstOrNull { this.openElements[it].tagName in SPECIAL_TAGS }
+                ?.let { this.openElements[it] }
+            if (furthestBlock == null) {
+                popUntil(name)
+                this.formattingElements.remove(formattingElement)
+                return
+            }
+
+            adopt(formattingElement, this.openElements.getOrNull(index - 1), furthestBlock)
+        }
+    }
+
+    private fun adopt(formattingElement: HTMLElement, commonAncestor: HTMLElement?, furthestBlock: HTMLElement) {
+        var bookmark = this.formattingElements.indexOf(formattingElement)
+        var node = furthestBlock
+        var lastNode = furthestBlock
+
+        // - Formatting elements between the formatting element and the furthest block are copied above the block,
+        // anything else in between is closed.
+        for (i in 0 until MAX_ADOPTED_NODES) {
+            val nodeIndex = this.openElements.indexOfLast { it === node }
+            if (nodeIndex != -1) {
+                node = this.openElements[nodeIndex - 1]
+            }
+            if (node !in this.formattingElements) {
+                removeOpenElement(node)
+                continue
+            }
+            if (node === formattingElement) {
+                break
+            }
+
+            val replacement = HTMLElement(node.tagName, null, node.keepsChildren)
+            this.formattingElements[this.formattingElements.indexOf(node)] = replacement
+            this.openElements[this.openElements.indexOfLast { it === node }] = replacement
+            node = replacement
+
+            if (lastNode === furthestBlock) {
+                bookmark = this.formattingElements.indexOf(node) + 1
+            }
+            node.appendChild(lastNode)
+            lastNode = node
+        }
+
+        if (commonAncestor != null) {
+            commonAncestor.appendChild(lastNode)
+        } else {
+            lastNode.parent?.removeChild(lastNode)
+        }
+
+        val adopter = HTMLElement(formattingElement.tagName, formattingElement.attributes, furthestBlock.keepsChildren)
+        if (furthestBlock.keepsChildren) {
+            furthestBlock.moveChildrenTo(adopter)
+        } else {
+            this.openElements.filter { it.parent === furthestBlock }.forEach { adopter.appendChild(it) }
+        }
+        furthestBlock.appendChild(adopter)
+
+        this.formattingElements.remove(formattingElement)
+        pushFormattingElement(adopter, bookmark)
+        this.openElements.removeLast(formattingElement)
+        this.openElements.add(this.openElements.indexOfLast { it === furthestBlock } + 1, adopter)
+    }
+
+    private fun lastFormattingElement(name: String): HTMLElement? {
+        for (i in this.formattingElements.indices.reversed()) {
+            val element = this.formattingElements[i] ?: return null
+            if (element.tagName == name) {
+                return element
+            }
+        }
+        return null
+    }
+
+    private fun pushFormattingElement(element: HTMLElement, position: Int = this.formattingElements.size) {
+        // - Keeps no more than three identical formatting elements open.
+        var identical = 0
+        for (i in this.formattingElements.indices.reversed()) {
+            val other = this.formattingElements[i] ?: break
+            if (other.tagName == element.tagName && other.hasSameAttributes(element)) {
+                identical++
+                if (identical == MAX_IDENTICAL_FORMATTING_ELEMENTS) {
+                    this.formattingElements.removeAt(i)
+                    break
+                }
+            }
+        }
+        if (position in 0..this.formattingElements.size) {
+            this.formattingElements.add(position, element)
+        } else {
+            this.formattingElements.add(element)
+        }
+    }
+
+    /**
+     * Reopens the formatting elements that were closed by the end of a block, so `<p><b>one</p><p>two` is bold twice.
+     */
+    private fun reconstructFormattingElements() {
+        val last = this.formattingElements.lastOrNull() ?: return
+        if (isOpen(last)) {
+            return
+        }
+
+        var start = this.formattingElements.size - 1
+        while (start > 0) {
+            val entry = this.formattingElements[start - 1]
+            if (entry == null || isOpen(entry)) {
+                break
+            }
+            start--
+        }
+
+        for (i in start until this.formattingElements.size) {
+            val entry = this.formattingElements[i] ?: continue
+            this.formattingElements[i] = insert(entry.tagName, entry.attributes)
+        }
+    }
+
+    private fun clearFormattingElementsToMarker() {
+        while (this.formattingElements.isNotEmpty()) {
+            if (this.formattingElements.removeAt(this.formattingElements.size - 1) == null) {
+                return
+            }
+        }
+    }
+
+    private fun isOpen(element: HTMLElement) = this.openElements.any { it === element }
+
+    private fun ArrayList<HTMLElement>.removeLast(element: HTMLElement) {
+        val index = indexOfLast { it === element }
+        if (index != -1) {
+            removeAt(index)
+        }
+    }
+
+    companion object {
+        private const val MAX_IDENTICAL_FORMATTING_ELEMENTS = 3
+        private const val MAX_ADOPTIONS = 8
+        private const val MAX_ADOPTED_NODES = 3
+
+        /**
+         * Whether an element outside of a block starts one: the elements [ViewElementType] doesn't look inside of.
+         */
+        private fun startsBlock(name: String, attributes: Array<String>?): Boolean = when (name) {
+            "video", "audio" -> true
+            "div" -> HTMLElement.attr(attributes, "class").let { it == TEMPLATE_ASSET_CLASS || it == TEMPLATE_OEMBED_CLASS }
+            else -> TextComponent.TextBlockType.isBlockTag(name)
+        }
+
+        /**
+         * Tags that go in the head when they come before anything else, so they don't start the body.
+         */
+        private val HEAD_TAGS = setOf(
+            "base", "basefont", "bgsound", "head", "html", "link", "meta", "noframes", "noscript", "script", "style",
+            "template", "title"
+        )
+        private val FORMATTING_TAGS = setOf(
+            "b", "big", "code", "em", "font", "i", "nobr", "s", "small", "strike", "strong", "tt", "u"
+        )
+        private val PARAGRAPH_CLOSING_TAGS = setOf(
+            "address", "article", "aside", "blockquote", "center", "details", "dir", "div", "dl", "fieldset",
+            "figcaption", "figure", "footer", "header", "hgroup", "menu", "nav", "ol", "p", "section", "summary", "ul"
+        )
+        private val BLOCK_TAGS = PARAGRAPH_CLOSING_TAGS - "p" + setOf("button", "form", "listing", "pre")
+        private val HEADING_TAGS = setOf("h1", "h2", "h3", "h4", "h5", "h6")
+        private val LIST_ITEM_TAGS = setOf("li")
+        private val DEFINITION_TAGS = setOf("dd", "dt")
+        private val LIST_ITEM_BREAKER_TAGS = setOf("address", "div", "p")
+        private val EMPTY_FORMATTED_TAGS = setOf("area", "br", "embed", "img", "input", "keygen", "wbr")
+        private val EMPTY_TAGS = setOf(
+            "base", "basefont", "bgsound", "col", "command", "frame", "link", "meta", "param", "source", "track"
+        )
+        private val UNFORMATTED_TAGS = setOf("iframe", "noembed", "noframes", "script", "style", "textarea", "title")
+        private val DATA_TAGS = setOf("script", "style")
+        private val IMPLIED_END_TAGS = setOf("dd", "dt", "li", "optgroup", "option", "p", "rb", "rp", "rt", "rtc")
+        private val SCOPE_TAGS = setOf("applet", "caption", "html", "marquee", "object", "table", "td", "th", "template")
+        private val BUTTON_SCOPE_TAGS = setOf("button")
+        private val LIST_ITEM_SCOPE_TAGS = setOf("ol", "ul")
+        private val SPECIAL_TAGS = setOf(
+            "address", "applet", "area", "article", "aside", "base", "basefont", "bgsound", "blockquote", "body", "br",
+            "button", "caption", "center", "col", "colgroup", "command", "dd", "details", "dir", "div", "dl", "dt",
+            "embed", "fieldset", "figcaption", "figure", "footer", "form", "frame", "frameset", "h1", "h2", "h3", "h4",
+            "h5", "h6", "head", "header", "hgroup", "hr", "html", "iframe", "img", "input", "isindex", "li", "link",
+            "listing", "marquee", "menu", "meta", "nav", "noembed", "noframes", "noscript", "ol", "object", "p",
+            "param", "plaintext", "pre", "script", "section", "select", "style", "summary", "table", "tbody", "td",
+            "textarea", "tfoot", "th", "thead", "title", "tr", "ul", "wbr", "xmp"
+        )
+    }
+}
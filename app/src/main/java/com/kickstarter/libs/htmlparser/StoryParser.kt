@@ -0,0 +1,53 @@
+package com.kickstarter.libs.htmlparser
+
+import android.util.LruCache
+import rx.Observable
+import rx.Scheduler
+
+/**
+ * Parses project stories into [ViewElement]s off the calling thread, keeping the most recently parsed stories in
+ * memory so reopening a project doesn't parse its story again.
+ */
+class StoryParser @JvmOverloads constructor(
+    private val htmlParser: HTMLParser = HTMLParser(),
+    cacheSize: Int = DEFAULT_CACHE_SIZE
+) {
+    private val cache = LruCache<StoryKey, List<ViewElement>>(cacheSize)
+
+    /**
+     * Emits the parsed [story] of a project. A story that isn't cached is parsed on [scheduler] and emitted in growing
+     * chunks, each one a prefix of the next, ending with all of its elements.
+     */
+    fun viewElements(projectId: Long, story: String, scheduler: Scheduler): Observable<List<ViewElement>> {
+        val key = StoryKey(projectId, story.length, story.hashCode())
+        this.cache.get(key)?.let { return Observable.just(it) }
+
+        return Observable.create<List<ViewElement>> { subscriber ->
+            try {
+                var emittedSize = -1
+                val viewElements = this.htmlParser.parse(story) { chunk ->
+                    if (!subscriber.isUnsubscribed) {
+                        emittedSize = chunk.size
+                        subscriber.onNext(chunk)
+                    }
+                }
+                this.cache.put(key, viewElements)
+
+                if (!subscriber.isUnsubscribed) {
+                    if (viewElements.size != emittedSize) {
+                        subscriber.onNext(viewElements)
+                    }
+                    subscriber.onCompleted()
+                }
+            } catch (e: Exception) {
+                subscriber.onError(e)
+            }
+        }.subscribeOn(scheduler)
+    }
+
+    private data class StoryKey(val projectId: Long, val storyLength: Int, val storyHash: Int)
+
+    companion object {
+        private const val DEFAULT_CACHE_SIZE = 8
+    }
+}
@@ -19,10 +19,15 @@ class ApolloPaginate<Data, Envelope : ApolloEnvelope, Params>(
     val clearWhenStartingOver: Boolean = true,
     val concater: Func2<List<Data>?, List<Data>?, List<Data>?>,
     val distinctUntilChanged: Boolean,
-    val isReversed: Boolean
+    val isReversed: Boolean,
+    val snapshotStore: PaginationSnapshotStoreType? = null,
+    val snapshotDataType: Class<Data>? = null,
+    val snapshotItemId: Func1<Data, Long?>? = null,
+    val snapshotKey: Func1<Params, Observable<String>>? = null
 ) {
     private val _morePath = PublishSubject.create<String?>()
     private val _isFetching = PublishSubject.create<Boolean>()
+    private var morePath: String? = null
     private var isFetching: Observable<Boolean?> = this._isFetching
     private var loadingPage: Observable<Int?>? = null
     private var paginatedData: Observable<List<Data>>? = null
@@ -53,18 +58,14 @@ class ApolloPaginate<Data, Envelope : ApolloEnvelope, Params>(
 
         private var concater: Func2<List<Data>?, List<Data>?, List<Data>?> =
             Func2 { xs: List<Data>?, ys: List<Data>? ->
-                mutableListOf<Data>().apply {
-                    if (isReversed) {
-                        ys?.toMutableList()?.let { this.addAll(it) }
-                        xs?.toMutableList()?.let { this.addAll(it) }
-                    } else {
-                        xs?.toMutableList()?.let { this.addAll(it) }
-                        ys?.toMutableList()?.let { this.addAll(it) }
-                    }
-                }.toList()
+                PaginatedList.concat(xs ?: emptyList(), ys ?: emptyList(), isReversed)
             }
         private var distinctUntilChanged = false
         private var isReversed = false
+        private var snapshotStore: PaginationSnapshotStoreType? = null
+        private var snapshotDataType: Class<Data>? = null
+        private var snapshotItemId: Func1<Data, Long?>? = null
+        private var snapshotKey: Func1<Params, Observable<String>>? = null
 
         /**
          * [Required] An observable that emits whenever a new page of data should be loaded.
@@ -140,6 +141,24 @@ class ApolloPaginate<Data, Envelope : ApolloEnvelope, Params>(
             return this
         }
 
+        /**
+         * [Optional] Saves the loaded data in `snapshotStore` under the first key `snapshotKey` emits for the params.
+         * When the list is loaded again with the same params, the saved data is emitted right away while the first page
+         * is fetched again, and kept if that page has the same `snapshotItemId`s.
+         */
+        fun snapshots(
+            snapshotStore: PaginationSnapshotStoreType,
+            snapshotDataType: Class<Data>,
+            snapshotItemId: Func1<Data, Long?>,
+            snapshotKey: Func1<Params, Observable<String>>
+        ): Builder<Data, Envelope, Params> {
+            this.snapshotStore = snapshotStore
+            this.snapshotDataType = snapshotDataType
+            this.snapshotItemId = snapshotItemId
+            this.snapshotKey = snapshotKey
+            return this
+        }
+
         @Throws(RuntimeException::class)
         fun build(): ApolloPaginate<Data, Envelope, Params> {
             // Early error when required field is not set
@@ -167,7 +186,11 @@ class ApolloPaginate<Data, Envelope : ApolloEnvelope, Params>(
                 clearWhenStartingOver,
                 concater,
                 distinctUntilChanged,
-                isReversed
+                isReversed,
+                snapshotStore,
+                snapshotDataType,
+                snapshotItemId,
+                snapshotKey
             )
         }
     }
@@ -181,28 +204,102 @@ class ApolloPaginate<Data, Envelope : ApolloEnvelope, Params>(
      * Returns an observable that emits the accumulated list of paginated data each time a new page is loaded.
      */
     private fun dataWithPagination(firstPageParams: Params): Observable<List<Data>?>? {
-        val data = paramsAndMoreUrlWithPagination(firstPageParams)?.concatMap {
+        val snapshotStore = this.snapshotStore
+        val snapshotDataType = this.snapshotDataType
+        val snapshotKey = this.snapshotKey
+        if (snapshotStore == null || snapshotDataType == null || snapshotKey == null) {
+            return dataWithPagination(firstPageParams, null, null)
+        }
+
+        return snapshotKey.call(firstPageParams)
+            .take(1)
+            .concatMap { key ->
+                snapshotStore.snapshot(key, snapshotDataType)
+                    .map<PaginationSnapshot<Data>?> { it }
+                    .defaultIfEmpty(null)
+                    .concatMap { dataWithPagination(firstPageParams, key, it) }
+            }
+    }
+
+    /**
+     * Returns an observable that emits the accumulated list of paginated data each time a new page is loaded, saving it
+     * under [snapshotKey] when there's one. A [snapshot] is emitted first and kept after the first page if that page
+     * has the same items as when the snapshot was saved.
+     */
+    private fun dataWithPagination(
+        firstPageParams: Params,
+        snapshotKey: String?,
+        snapshot: PaginationSnapshot<Data>?
+    ): Observable<List<Data>?> {
+        var data = paramsAndMoreUrlWithPagination(firstPageParams).concatMap {
             fetchData(it)
-        }?.takeUntil { obj ->
+        }.takeUntil { obj ->
             obj?.isEmpty()
         }
 
-        val paginatedData =
-            if (clearWhenStartingOver)
-                data?.scan(ArrayList(), concater)
+        if (snapshot != null) {
+            data = data.publish { pages ->
+                Observable.merge(
+                    pages.take(1).map { revalidate(snapshot, it) },
+                    pages.skip(1)
+                )
+            }
+        }
+
+        var paginatedData =
+            if (clearWhenStartingOver && snapshot == null)
+                data.scan(ArrayList(), concater)
             else
-                data?.scan(concater)
+                data.scan(concater)
+
+        val snapshotStore = this.snapshotStore
+        val snapshotDataType = this.snapshotDataType
+        if (snapshotKey != null && snapshotStore != null && snapshotDataType != null) {
+            paginatedData = paginatedData.doOnNext {
+                if (!it.isNullOrEmpty()) {
+                    snapshotStore.save(snapshotKey, PaginationSnapshot(it, morePath), snapshotDataType)
+                }
+            }
+        }
+
+        if (snapshot != null) {
+            paginatedData = paginatedData.startWith(snapshot.data)
+        }
 
         return if (distinctUntilChanged)
-            paginatedData?.distinctUntilChanged()
+            paginatedData.distinctUntilChanged()
         else
             paginatedData
     }
 
+    /**
+     * Returns [firstPage] with the rest of the snapshot's data when the snapshot has the same items where [firstPage]
+     * goes, continuing from the snapshot's cursor, or else [firstPage]. Items are matched by [snapshotItemId], since
+     * e.g. a comment's replies count changes while its place in the list doesn't.
+     */
+    private fun revalidate(snapshot: PaginationSnapshot<Data>, firstPage: List<Data>?): List<Data>? {
+        val data = snapshot.data
+        if (firstPage.isNullOrEmpty() || data.size < firstPage.size) {
+            return firstPage
+        }
+
+        // - The first page of a reversed list is shown last.
+        val rest = if (isReversed) data.subList(0, data.size - firstPage.size) else data.subList(firstPage.size, data.size)
+        val saved = if (isReversed) data.subList(rest.size, data.size) else data.subList(0, firstPage.size)
+        val itemId = this.snapshotItemId
+        if (itemId == null || saved.map { itemId.call(it) } != firstPage.map { itemId.call(it) }) {
+            return firstPage
+        }
+
+        morePath = snapshot.morePath
+        morePath?.let { _morePath.onNext(it) }
+        return if (isReversed) rest + firstPage else firstPage + rest
+    }
+
     /**
      * Returns an observable that emits the params for the next page of data *or* the more URL for the next page.
      */
-    private fun paramsAndMoreUrlWithPagination(firstPageParams: Params): Observable<Pair<Params, String?>>? {
+    private fun paramsAndMoreUrlWithPagination(firstPageParams: Params): Observable<Pair<Params, String?>> {
         return _morePath
             .map { path: String? ->
                 Pair<Params, String?>(
@@ -233,12 +330,11 @@ class ApolloPaginate<Data, Envelope : ApolloEnvelope, Params>(
 
     private fun keepMorePath(envelope: Envelope) {
         try {
-            _morePath.onNext(
-                if (isReversed)
-                    envelope.pageInfoEnvelope()?.startCursor
-                else
-                    envelope.pageInfoEnvelope()?.endCursor
-            )
+            morePath = if (isReversed)
+                envelope.pageInfoEnvelope()?.startCursor
+            else
+                envelope.pageInfoEnvelope()?.endCursor
+            _morePath.onNext(morePath)
         } catch (ignored: MalformedURLException) {
             ignored.printStackTrace()
         }
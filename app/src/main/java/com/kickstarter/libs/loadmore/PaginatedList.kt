@@ -0,0 +1,115 @@
+package com.kickstarter.libs.loadmore
+
+import com.kickstarter.models.Relay
+import java.util.RandomAccess
+
+/**
+ * A read-only list made of the pages loaded so far. Adding a page to a list shares its pages instead of copying their
+ * items, so loading page k doesn't copy the items of the k - 1 pages before it, only a reference to each page.
+ *
+ * Every list holds its own arrays of pages and page ends, which never change once it's built, so a list can be read
+ * from any thread while pages are added to it. Pages are added from one thread at a time, the way `scan` accumulates
+ * them.
+ */
+class PaginatedList<T> private constructor(
+    private val pages: Array<List<T>>,
+    private val ends: IntArray,
+    private val reversed: Boolean,
+    private val distinctIds: DistinctIds?
+) : AbstractList<T>(), RandomAccess {
+
+    override val size: Int = if (this.ends.isEmpty()) 0 else this.ends[this.ends.size - 1]
+
+    override fun get(index: Int): T {
+        if (index < 0 || index >= this.size) {
+            throw IndexOutOfBoundsException("Index: $index, Size: ${this.size}")
+        }
+
+        // - Pages are kept in the order they were loaded, reversed lists read them from the last one.
+        val position = if (this.reversed) this.size - 1 - index else index
+        val page = pageAt(position)
+        val offset = if (this.reversed)
+            index - (this.size - this.ends[page])
+        else
+            index - start(page)
+
+        return this.pages[page][offset]
+    }
+
+    private fun start(page: Int) = if (page == 0) 0 else this.ends[page - 1]
+
+    /**
+     * Returns the page that has the item at `position`, counting from the first page loaded.
+     */
+    private fun pageAt(position: Int): Int {
+        var low = 0
+        var high = this.pages.size - 1
+        while (low < high) {
+            val middle = (low + high) ushr 1
+            if (this.ends[middle] > position) high = middle else low = middle + 1
+        }
+        return low
+    }
+
+    private fun plusPage(page: List<T>): PaginatedList<T> {
+        // - Only the newest list of a chain can add to its ids, an older one starts over from its own pages.
+        val distinctIds = this.distinctIds?.let { if (it.pageCount == this.pages.size) it else DistinctIds.of(this.pages) }
+        val items = distinctIds?.filterNew(page) ?: page.toList()
+        if (items.isEmpty()) {
+            return this
+        }
+
+        val pages = Array(this.pages.size + 1) { if (it < this.pages.size) this.pages[it] else items }
+        val ends = this.ends.copyOf(this.ends.size + 1)
+        ends[this.ends.size] = this.size + items.size
+        distinctIds?.pageCount = pages.size
+        return PaginatedList(pages, ends, this.reversed, distinctIds)
+    }
+
+    /**
+     * The ids of the items in a chain of lists that only keep items whose ids aren't in earlier pages, as of the newest
+     * list's [pageCount] pages. Only read and changed while adding a page.
+     */
+    private class DistinctIds(private val ids: HashSet<Long>, var pageCount: Int) {
+
+        fun <T> filterNew(page: List<T>): List<T> = page.filter { this.ids.add((it as Relay).id()) }
+
+        companion object {
+            fun <T> of(pages: Array<List<T>>): DistinctIds {
+                val ids = HashSet<Long>()
+                pages.forEach { page -> page.forEach { ids.add((it as Relay).id()) } }
+                return DistinctIds(ids, pages.size)
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * Returns the items of `xs` followed by the items of `ys`, or `ys` followed by `xs` when `reversed`. When `xs`
+         * was returned by a concat, `ys` is added without copying the items of `xs`.
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun <T> concat(xs: List<T>, ys: List<T>, reversed: Boolean = false): List<T> =
+            of(xs, reversed, false).plusPage(ys)
+
+        /**
+         * Returns the items of `xs` followed by the items of `ys` whose ids aren't in `xs`, or in `ys` before them. The
+         * ids seen are kept with the pages, so each item is looked up once instead of compared to every item before it.
+         */
+        @JvmStatic
+        fun <T : Relay> concatDistinct(xs: List<T>, ys: List<T>): List<T> =
+            of(xs, false, true).plusPage(ys)
+
+        private fun <T> of(xs: List<T>, reversed: Boolean, distinct: Boolean): PaginatedList<T> {
+            if (xs is PaginatedList<T> && xs.reversed == reversed && (xs.distinctIds != null) == distinct) {
+                return xs
+            }
+
+            // - A list that isn't paginated could still change, so it's copied into the first page.
+            val pages: Array<List<T>> = if (xs.isEmpty()) emptyArray() else arrayOf(xs.toList())
+            val ends = if (xs.isEmpty()) IntArray(0) else intArrayOf(pages[0].size)
+            return PaginatedList(pages, ends, reversed, if (distinct) DistinctIds.of(pages) else null)
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.kickstarter.libs.loadmore
+
+import com.google.gson.Gson
+import com.google.gson.JsonArray
+import com.kickstarter.libs.preferences.BinaryValueStore
+import rx.Observable
+import rx.Scheduler
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * The pages of a list loaded so far, with the more path or cursor of the page that comes after them.
+ */
+class PaginationSnapshot<Data>(val data: List<Data>, val morePath: String?)
+
+interface PaginationSnapshotStoreType {
+    /**
+     * Emits the snapshot saved under [key], or completes without emitting when there isn't one.
+     */
+    fun <Data> snapshot(key: String, dataType: Class<Data>): Observable<PaginationSnapshot<Data>>
+
+    /**
+     * Saves [snapshot] under [key] in the background, replacing the one saved before.
+     */
+    fun <Data> save(key: String, snapshot: PaginationSnapshot<Data>, dataType: Class<Data>)
+
+    /**
+     * Removes every snapshot, e.g. once the user logs out.
+     */
+    fun clear()
+}
+
+/**
+ * Saves snapshots in [directory], one [BinaryValueStore] file per key. The items of a list are turned into a tree with
+ * [gson], so any model the API returns can be saved. Snapshots that can't be read, e.g. of a model that changed since,
+ * are ignored.
+ */
+class PaginationSnapshotStore(
+    private val directory: File,
+    private val gson: Gson,
+    private val scheduler: Scheduler
+) : PaginationSnapshotStoreType {
+    private val worker = this.scheduler.createWorker()
+    private val stores = ConcurrentHashMap<String, BinaryValueStore<StoredSnapshot>>()
+
+    /**
+     * Snapshots waiting to be saved. A list saved again before its previous snapshot was saved is only saved once.
+     */
+    private val pending = ConcurrentHashMap<String, PaginationSnapshot<*>>()
+
+    /**
+     * A snapshot as it's saved, with its key in case two keys share a file name.
+     */
+    private class StoredSnapshot(val key: String, val morePath: String?, val data: JsonArray)
+
+    override fun <Data> snapshot(key: String, dataType: Class<Data>): Observable<PaginationSnapshot<Data>> =
+        Observable.defer {
+            @Suppress("UNCHECKED_CAST")
+            val snapshot = this.pending[key] as PaginationSnapshot<Data>?
+            if (snapshot != null) {
+                Observable.just(snapshot)
+            } else {
+                store(key).value().concatMap { stored ->
+                    val restored = restore(key, stored, dataType)
+                    if (restored != null) Observable.just(restored) else Observable.empty()
+                }
+            }
+        }
+            .subscribeOn(this.scheduler)
+
+    override fun <Data> save(key: String, snapshot: PaginationSnapshot<Data>, dataType: Class<Data>) {
+        if (this.pending.put(key, snapshot) == null) {
+            // - The items are turned into a tree on the worker, not on the thread the page was loaded on.
+            this.worker.schedule {
+                @Suppress("UNCHECKED_CAST")
+                val latest = this.pending.remove(key) as PaginationSnapshot<Data>?
+                latest?.let { store(key).save(StoredSnapshot(key, it.morePath, tree(it.data, dataType))) }
+            }
+        }
+    }
+
+    override fun clear() {
+        this.pending.clear()
+        this.stores.values.forEach { it.delete() }
+        this.worker.schedule {
+            // - Snapshots saved before the app started have no store yet.
+            this.directory.listFiles()?.forEach { it.delete() }
+        }
+    }
+
+    private fun store(key: String) = this.stores.getOrPut(key) {
+        BinaryValueStore(
+            File(this.directory, Integer.toHexString(key.hashCode())),
+            this.gson,
+            StoredSnapshot::class.java,
+            this.scheduler
+        )
+    }
+
+    private fun <Data> tree(data: List<Data>, dataType: Class<Data>) = JsonArray(data.size).apply {
+        data.forEach { add(this@PaginationSnapshotStore.gson.toJsonTree(it, dataType)) }
+    }
+
+    private fun <Data> restore(key: String, stored: StoredSnapshot, dataType: Class<Data>): PaginationSnapshot<Data>? {
+        if (stored.key != key) {
+            return null
+        }
+
+        return try {
+            PaginationSnapshot(stored.data.map { this.gson.fromJson(it, dataType) }, stored.morePath)
+        } catch (e: RuntimeException) {
+            // - Gson couldn't read an item, the model changed since it was saved.
+            null
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.kickstarter.libs.preferences
+
+import com.google.gson.Gson
+import com.google.gson.JsonArray
+import com.google.gson.JsonElement
+import com.google.gson.JsonNull
+import com.google.gson.JsonObject
+import com.google.gson.JsonPrimitive
+import com.google.gson.internal.LazilyParsedNumber
+import rx.Observable
+import rx.Scheduler
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileInputStream
+import java.io.FileOutputStream
+import java.io.IOException
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Keeps a single value in [file], e.g. the current user. The value is turned into a tree with [gson] and the tree is
+ * written in a compact binary form, so reading it back doesn't tokenize JSON text. Files written with another
+ * [FORMAT_VERSION] are ignored.
+ *
+ * Reads and writes run on [scheduler]. A value saved again before the previous one was written is only written once.
+ */
+class BinaryValueStore<T : Any>(
+    private val file: File,
+    private val gson: Gson,
+    private val type: Class<T>,
+    private val scheduler: Scheduler
+) {
+    private val worker = this.scheduler.createWorker()
+
+    /**
+     * The value waiting to be written, [DELETED] when the file is waiting to be deleted, or [NONE].
+     */
+    private val pending = AtomicReference<Any?>(NONE)
+
+    /**
+     * Emits the saved value, or completes without emitting when there isn't one.
+     */
+    fun value(): Observable<T> = Observable.defer {
+        val pending = this.pending.get()
+        @Suppress("UNCHECKED_CAST")
+        val value = when {
+            pending === DELETED -> null
+            pending !== NONE -> pending as T
+            else -> read()
+        }
+        if (value != null) Observable.just(value) else Observable.empty()
+    }
+        .subscribeOn(this.scheduler)
+
+    /**
+     * Saves [value] in the background, replacing the one saved before.
+     */
+    fun save(value: T) = enqueue(value)
+
+    /**
+     * Deletes the saved value in the background.
+     */
+    fun delete() = enqueue(DELETED)
+
+    private fun enqueue(value: Any?) {
+        if (this.pending.getAndSet(value) === NONE) {
+            this.worker.schedule {
+                val latest = this.pending.getAndSet(NONE)
+                @Suppress("UNCHECKED_CAST")
+                if (latest === DELETED) this.file.delete() else write(latest as T)
+            }
+        }
+    }
+
+    private fun read(): T? {
+        if (!this.file.exists()) {
+            return null
+        }
+
+        return try {
+            DataInputStream(BufferedInputStream(FileInputStream(this.file))).use { input ->
+                if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                    return null
+                }
+                this.gson.fromJson(readElement(input, ArrayList()), this.type)
+            }
+        } catch (e: IOException) {
+            null
+        } catch (e: RuntimeException) {
+            // - Gson couldn't read the value, the model changed since it was saved.
+            null
+        }
+    }
+
+    private fun write(value: T) {
+        this.file.parentFile?.mkdirs()
+
+        // - Written next to the file first, so a value being read is never half written.
+        val temporaryFile = File(this.file.path + TEMPORARY_SUFFIX)
+        try {
+            DataOutputStream(BufferedOutputStream(FileOutputStream(temporaryFile))).use { output ->
+                output.writeInt(MAGIC)
+                output.writeInt(FORMAT_VERSION)
+                writeElement(output, this.gson.toJsonTree(value, this.type), HashMap())
+            }
+            if (!temporaryFile.renameTo(this.file)) {
+                temporaryFile.delete()
+            }
+        } catch (e: IOException) {
+            temporaryFile.delete()
+        }
+    }
+
+    companion object {
+        const val FORMAT_VERSION = 1
+        private const val MAGIC = 0x4b53_5653
+        private const val TEMPORARY_SUFFIX = ".tmp"
+
+        private val NONE = Any()
+        private val DELETED = Any()
+
+        private const val TAG_NULL = 0
+        private const val TAG_FALSE = 1
+        private const val TAG_TRUE = 2
+        private const val TAG_LONG = 3
+        private const val TAG_DOUBLE = 4
+        private const val TAG_NUMBER = 5
+        private const val TAG_STRING = 6
+        private const val TAG_ARRAY = 7
+        private const val TAG_OBJECT = 8
+
+        /**
+         * Writes `element` as a tag followed by its value. A string seen before is written as the index it was first
+         * seen at, so object keys repeated across a list are only written once.
+         */
+        private fun writeElement(output: DataOutputStream, element: JsonElement, strings: HashMap<String, Int>) {
+            when {
+                element.isJsonNull -> output.writeByte(TAG_NULL)
+                element.isJsonArray -> {
+                    val array = element.asJsonArray
+                    output.writeByte(TAG_ARRAY)
+                    writeVarInt(output, array.size())
+                    array.forEach { writeElement(output, it, strings) }
+                }
+                element.isJsonObject -> {
+                    val entries = element.asJsonObject.entrySet()
+                    output.writeByte(TAG_OBJECT)
+                    writeVarInt(output, entries.size)
+                    entries.forEach { (key, value) ->
+                        writeString(output, key, strings)
+                        writeElement(output, value, strings)
+                    }
+                }
+                else -> writePrimitive(output, element.asJsonPrimitive, strings)
+            }
+        }
+
+        private fun writePrimitive(output: DataOutputStream, primitive: JsonPrimitive, strings: HashMap<String, Int>) {
+            when {
+                primitive.isBoolean -> output.writeByte(if (primitive.asBoolean) TAG_TRUE else TAG_FALSE)
+                primitive.isString -> {
+                    output.writeByte(TAG_STRING)
+                    writeString(output, primitive.asString, strings)
+                }
+                else -> when (val number = primitive.asNumber) {
+                    is Long, is Int, is Short, is Byte -> {
+                        output.writeByte(TAG_LONG)
+                        writeVarLong(output, number.toLong())
+                    }
+                    is Double, is Float -> {
+                        output.writeByte(TAG_DOUBLE)
+                        output.writeDouble(number.toDouble())
+                    }
+                    else -> {
+                        // - Kept as written, e.g. a BigDecimal.
+                        output.writeByte(TAG_NUMBER)
+                        writeString(output, number.toString(), strings)
+                    }
+                }
+            }
+        }
+
+        private fun readElement(input: DataInputStream, strings: ArrayList<String>): JsonElement =
+            when (val tag = input.readUnsignedByte()) {
+                TAG_NULL -> JsonNull.INSTANCE
+                TAG_FALSE -> JsonPrimitive(false)
+                TAG_TRUE -> JsonPrimitive(true)
+                TAG_LONG -> JsonPrimitive(readVarLong(input))
+                TAG_DOUBLE -> JsonPrimitive(input.readDouble())
+                TAG_NUMBER -> JsonPrimitive(LazilyParsedNumber(readString(input, strings)))
+                TAG_STRING -> JsonPrimitive(readString(input, strings))
+                TAG_ARRAY -> {
+                    val size = readVarInt(input)
+                    JsonArray(size).apply {
+                        repeat(size) { add(readElement(input, strings)) }
+                    }
+                }
+                TAG_OBJECT -> JsonObject().apply {
+                    repeat(readVarInt(input)) { add(readString(input, strings), readElement(input, strings)) }
+                }
+                else -> throw IOException("Unknown tag $tag")
+            }
+
+        /**
+         * Writes the index of `string` shifted left by one with the low bit set when it was seen before, or its length
+         * shifted left by one followed by its UTF-8 bytes.
+         */
+        private fun writeString(output: DataOutputStream, string: String, strings: HashMap<String, Int>) {
+            val index = strings[string]
+            if (index != null) {
+                writeVarInt(output, (index shl 1) or 1)
+                return
+            }
+
+            strings[string] = strings.size
+            val bytes = string.toByteArray(Charsets.UTF_8)
+            writeVarInt(output, bytes.size shl 1)
+            output.write(bytes)
+        }
+
+        private fun readString(input: DataInputStream, strings: ArrayList<String>): String {
+            val header = readVarInt(input)
+            if (header and 1 == 1) {
+                return strings[header ushr 1]
+            }
+
+            val bytes = ByteArray(header ushr 1)
+            input.readFully(bytes)
+            return String(bytes, Charsets.UTF_8).also { strings.add(it) }
+        }
+
+        private fun writeVarInt(output: DataOutputStream, value: Int) = writeVarLong(output, value.toLong())
+
+        private fun readVarInt(input: DataInputStream) = readVarLong(input).toInt()
+
+        /**
+         * Writes `value` zigzag encoded, seven bits per byte, so small ids and counts take one or two bytes.
+         */
+        private fun writeVarLong(output: DataOutputStream, value: Long) {
+            var remaining = (value shl 1) xor (value shr 63)
+            while (remaining and 0x7fL.inv() != 0L) {
+                output.writeByte(((remaining and 0x7f) or 0x80).toInt())
+                remaining = remaining ushr 7
+            }
+            output.writeByte(remaining.toInt())
+        }
+
+        private fun readVarLong(input: DataInputStream): Long {
+            var result = 0L
+            var shift = 0
+            while (shift < 64) {
+                val byte = input.readUnsignedByte()
+                result = result or ((byte and 0x7f).toLong() shl shift)
+                if (byte and 0x80 == 0) {
+                    return (result ushr 1) xor -(result and 1)
+                }
+                shift += 7
+            }
+            throw IOException("Malformed number")
+        }
+    }
+}
@@ -2,77 +2,135 @@ package com.kickstarter.libs.preferences
 
 import android.content.Context
 import androidx.datastore.core.DataStore
+import androidx.datastore.preferences.SharedPreferencesMigration
 import androidx.datastore.preferences.core.Preferences
 import androidx.datastore.preferences.core.booleanPreferencesKey
 import androidx.datastore.preferences.core.edit
 import androidx.datastore.preferences.core.emptyPreferences
 import androidx.datastore.preferences.preferencesDataStore
+import com.kickstarter.ui.SharedPreferenceKey
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.catch
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.filter
 import kotlinx.coroutines.flow.first
 import kotlinx.coroutines.flow.map
-import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.launch
+import rx.Observable
+import rx.subscriptions.Subscriptions
 import java.io.IOException
-import kotlin.jvm.JvmOverloads
 
-class BooleanDataStore @JvmOverloads constructor(
-    private val context: Context,
+// - A single DataStore per file, more than one active DataStore for the same file throws. The keys that used to be
+// shared preferences are moved over on the first read.
+private val Context.settingsDataStore: DataStore<Preferences> by preferencesDataStore(
+    name = "settings",
+    produceMigrations = { context ->
+        listOf(
+            SharedPreferencesMigration(
+                context,
+                "${context.packageName}_preferences",
+                setOf(SharedPreferenceKey.FIRST_SESSION, SharedPreferenceKey.HAS_SEEN_APP_RATING)
+            )
+        )
+    }
+)
+
+/**
+ * A boolean preference backed by a DataStore, read from memory.
+ *
+ * The stored value is loaded once on [scope], as soon as the store is created. Reads are served from memory and never
+ * wait for the disk, so they return the default value until that load finishes; callers that need the stored value
+ * use [observable] or [flow], which only emit once it's loaded. Writes update memory right away and are saved on
+ * [scope]. The value in memory is the one saved, which only holds while this is the only instance for
+ * its key, like the ones provided by the application module.
+ */
+class BooleanDataStore(
+    private val dataStore: DataStore<Preferences>,
     private val key: String,
-    private val defaultValue: Boolean = false
-) : BooleanDataStoreType {
+    private val defaultValue: Boolean = false,
+    private val scope: CoroutineScope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+) : BooleanDataStoreType, BooleanPreferenceType {
+
+    @JvmOverloads
+    constructor(context: Context, key: String, defaultValue: Boolean = false) :
+        this(context.applicationContext.settingsDataStore, key, defaultValue)
+
+    /**
+     * The value in memory, null when it isn't set.
+     */
+    private data class State(val value: Boolean?, val isLoaded: Boolean)
 
-    val Context.dataStore: DataStore<Preferences> by preferencesDataStore(name = "settings")
     private val prefKey = booleanPreferencesKey(this.key)
+    private val state = MutableStateFlow(NOT_LOADED)
 
-    override fun get(): Boolean {
-        val flow: Flow<Boolean> = context.dataStore.data.map {
-            it[prefKey] ?: defaultValue
+    init {
+        this.scope.launch {
+            val preferences = try {
+                this@BooleanDataStore.dataStore.data.first()
+            } catch (e: IOException) {
+                emptyPreferences()
+            }
+
+            // - A value set while loading is newer than the one on disk.
+            this@BooleanDataStore.state.compareAndSet(NOT_LOADED, State(preferences[this@BooleanDataStore.prefKey], true))
         }
-        return unwrapFlowValue(flow) as Boolean
     }
 
-    // - Blocking current thread here, we should return FLOW to be consumed by a coroutine,
-    // for now as we slowly adopt Coroutines we do not want to change the nomenclature
-    // for BooleanPreferenceType, reason why we "force" the value extraction.
-    private fun unwrapFlowValue(flow: Flow<Any>): Any {
-        var flowValue: Any
-        runBlocking(Dispatchers.IO) {
-            flowValue = flow.first()
-        }
+    /**
+     * Whether the stored value has been loaded, or a value set since, so reads return it rather than the default.
+     */
+    val isLoaded: Boolean
+        get() = this.state.value.isLoaded
 
-        return flowValue
-    }
+    override fun get(): Boolean = this.state.value.value ?: this.defaultValue
 
     override val isSet: Boolean
-        get(): Boolean {
-
-            val flow: Flow<Boolean> = context.dataStore.data.catch { exception ->
-                // dataStore.data throws an IOException if it can't read the data
-                if (exception is IOException) {
-                    emit(emptyPreferences())
-                } else {
-                    throw exception
-                }
-            }.map { it.contains(prefKey) }
+        get() = this.state.value.value != null
 
-            return unwrapFlowValue(flow) as Boolean
-        }
+    override fun set(value: Boolean) = update(value)
 
-    override fun set(value: Boolean) {
-        runBlocking {
-            context.dataStore.edit {
-                it[prefKey] = value
-            }
+    override fun delete() = update(null)
+
+    /**
+     * Emits the current value, and every value it changes to.
+     */
+    fun flow(): Flow<Boolean> = this.state
+        .filter { it.isLoaded }
+        .map { it.value ?: this.defaultValue }
+        .distinctUntilChanged()
+
+    override fun observable(): Observable<Boolean> = Observable.create { subscriber ->
+        val job = this.scope.launch {
+            flow().collect { subscriber.onNext(it) }
         }
+        subscriber.add(Subscriptions.create { job.cancel() })
     }
 
-    override fun delete() {
-        runBlocking {
-            context.dataStore.edit {
-                if (it.contains(prefKey))
-                    it.remove(prefKey)
+    private fun update(value: Boolean?) {
+        this.state.value = State(value, true)
+
+        this.scope.launch {
+            try {
+                // - Saves the value in memory when the edit runs, so edits finishing out of order still save the last one.
+                this@BooleanDataStore.dataStore.edit {
+                    val current = this@BooleanDataStore.state.value.value
+                    if (current == null) {
+                        it.remove(this@BooleanDataStore.prefKey)
+                    } else {
+                        it[this@BooleanDataStore.prefKey] = current
+                    }
+                }
+            } catch (e: IOException) {
+                // - The value stays in memory, and is saved with the next write.
             }
         }
     }
+
+    companion object {
+        private val NOT_LOADED = State(null, false)
+    }
 }
@@ -1,5 +1,7 @@
 package com.kickstarter.libs.preferences
 
+import rx.Observable
+
 interface BooleanDataStoreType {
     /**
      * Get the current value of the preference.
@@ -20,4 +22,9 @@ interface BooleanDataStoreType {
      * Delete the currently stored preference.
      */
     fun delete()
+
+    /**
+     * Emits the current value of the preference, and every value it changes to.
+     */
+    fun observable(): Observable<Boolean>
 }
@@ -16,6 +16,7 @@ import com.kickstarter.libs.Build;
 import com.kickstarter.libs.CurrentConfigType;
 import com.kickstarter.libs.CurrentUserType;
 import com.kickstarter.libs.Logout;
+import com.kickstarter.libs.analytics.AnalyticsPipeline;
 import com.kickstarter.libs.preferences.StringPreferenceType;
 import com.kickstarter.libs.rx.transformers.Transformers;
 import com.kickstarter.libs.utils.extensions.ConfigExtension;
@@ -25,6 +26,7 @@ import com.kickstarter.services.apiresponses.ErrorEnvelope;
 import javax.inject.Inject;
 
 public final class ApplicationLifecycleUtil implements Application.ActivityLifecycleCallbacks, ComponentCallbacks2 {
+  protected @Inject AnalyticsPipeline analyticsPipeline;
   protected @Inject ApiClientType client;
   protected @Inject CurrentConfigType config;
   protected @Inject CurrentUserType currentUser;
@@ -161,6 +163,8 @@ public final class ApplicationLifecycleUtil implements Application.ActivityLifec
   public void onTrimMemory(final int i) {
     if(i == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) {
       this.isInBackground = true;
+      // Send the queued analytics events while the process is still likely to be alive.
+      this.analyticsPipeline.flush();
     }
   }
 }
@@ -7,9 +7,13 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 public final class NumberUtils {
   private NumberUtils() {}
@@ -19,9 +23,7 @@ public final class NumberUtils {
   }
 
   public static @NonNull String flooredPercentage(final float value, final @NonNull Locale locale) {
-    final NumberFormat numberFormat = NumberFormat.getPercentInstance(locale);
-    numberFormat.setRoundingMode(RoundingMode.DOWN);
-    return numberFormat.format(value / 100);
+    return cachedNumberFormat(FormatterKey.KIND_PERCENT, locale, null, RoundingMode.DOWN, -1).format(value / 100);
   }
 
   /**
@@ -35,7 +37,7 @@ public final class NumberUtils {
    * Returns a formatted number for the specified locale.
    */
   public static @NonNull String format(final int value, final @NonNull Locale locale) {
-    return NumberFormat.getIntegerInstance(locale).format(value);
+    return cachedNumberFormat(FormatterKey.KIND_INTEGER, locale, null, null, -1).format(value);
   }
 
   /**
@@ -60,11 +62,6 @@ public final class NumberUtils {
   public static @NonNull String format(final float value, final @NonNull NumberOptions options,
     final @NonNull Locale locale) {
 
-    final NumberFormat numberFormat = numberFormat(options, locale);
-    if (numberFormat instanceof DecimalFormat) {
-      numberFormat.setRoundingMode(ObjectUtils.coalesce(options.roundingMode(), RoundingMode.HALF_DOWN));
-    }
-
     int precision = ObjectUtils.coalesce(options.precision(), 0);
     float divisor = 1.0f;
     String suffix = "";
@@ -86,18 +83,23 @@ public final class NumberUtils {
     }
 
     if (options.currencyCode() != null) {
-      suffix = String.format("%s %s", suffix, options.currencyCode());
+      suffix = suffix + " " + options.currencyCode();
     }
 
-    numberFormat.setMinimumFractionDigits(precision);
-    numberFormat.setMaximumFractionDigits(precision);
+    final NumberFormat numberFormat = cachedNumberFormat(
+      options.isCurrency() ? FormatterKey.KIND_CURRENCY : FormatterKey.KIND_NUMBER,
+      locale,
+      options.currencySymbol(),
+      ObjectUtils.coalesce(options.roundingMode(), RoundingMode.HALF_DOWN),
+      precision
+    );
 
     float bucketedValue = value;
     if (value >= bucketAbove) {
       bucketedValue = value / divisor;
     }
 
-    return String.format("%s%s", numberFormat.format(bucketedValue), suffix).trim();
+    return (numberFormat.format(bucketedValue) + suffix).trim();
   }
 
   /**
@@ -139,22 +141,129 @@ public final class NumberUtils {
     }
   }
 
+  /**
+   * Returns a formatter for the given kind, locale and options from a per-thread cache, creating it on first use.
+   * Formatters aren't thread-safe and are configured once when created, so callers must not change them.
+   *
+   * @param precision Fraction digits to show, or -1 to keep the locale's default.
+   */
+  private static @NonNull NumberFormat cachedNumberFormat(final int kind, final @NonNull Locale locale,
+    final @Nullable String currencySymbol, final @Nullable RoundingMode roundingMode, final int precision) {
+
+    final Map<FormatterKey, NumberFormat> formatters = FORMATTERS.get();
+    final FormatterKey key = new FormatterKey(kind, locale, currencySymbol, roundingMode, precision);
+
+    NumberFormat numberFormat = formatters.get(key);
+    if (numberFormat == null) {
+      if (formatters.size() >= MAX_CACHED_FORMATTERS_PER_THREAD) {
+        formatters.clear();
+      }
+      numberFormat = numberFormat(kind, locale, currencySymbol, roundingMode, precision);
+      formatters.put(key, numberFormat);
+    }
+
+    return numberFormat;
+  }
+
   /**
    * Return a formatter that can output an appropriate number based on the input currency and locale.
    */
-  private static @NonNull NumberFormat numberFormat(final @NonNull NumberOptions options, final @NonNull Locale locale) {
+  private static @NonNull NumberFormat numberFormat(final int kind, final @NonNull Locale locale,
+    final @Nullable String currencySymbol, final @Nullable RoundingMode roundingMode, final int precision) {
+
     final NumberFormat numberFormat;
 
-    if (options.isCurrency()) {
-      final DecimalFormat decimalFormat = (DecimalFormat) NumberFormat.getCurrencyInstance(locale);
-      final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
-      symbols.setCurrencySymbol(options.currencySymbol());
-      decimalFormat.setDecimalFormatSymbols(symbols);
-      numberFormat = decimalFormat;
-    } else {
-      numberFormat = NumberFormat.getInstance(locale);
+    switch (kind) {
+      case FormatterKey.KIND_INTEGER:
+        numberFormat = NumberFormat.getIntegerInstance(locale);
+        break;
+      case FormatterKey.KIND_PERCENT:
+        numberFormat = NumberFormat.getPercentInstance(locale);
+        break;
+      case FormatterKey.KIND_CURRENCY:
+        final DecimalFormat decimalFormat = (DecimalFormat) NumberFormat.getCurrencyInstance(locale);
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        symbols.setCurrencySymbol(currencySymbol);
+        decimalFormat.setDecimalFormatSymbols(symbols);
+        numberFormat = decimalFormat;
+        break;
+      default:
+        numberFormat = NumberFormat.getInstance(locale);
+        break;
+    }
+
+    if (roundingMode != null && (kind == FormatterKey.KIND_PERCENT || numberFormat instanceof DecimalFormat)) {
+      numberFormat.setRoundingMode(roundingMode);
+    }
+    if (precision >= 0) {
+      numberFormat.setMinimumFractionDigits(precision);
+      numberFormat.setMaximumFractionDigits(precision);
     }
 
     return numberFormat;
   }
+
+  /**
+   * Identifies a configured formatter in the per-thread cache.
+   */
+  private static final class FormatterKey {
+    static final int KIND_INTEGER = 0;
+    static final int KIND_PERCENT = 1;
+    static final int KIND_NUMBER = 2;
+    static final int KIND_CURRENCY = 3;
+
+    private final int kind;
+    private final @NonNull Locale locale;
+    private final @Nullable String currencySymbol;
+    private final @Nullable RoundingMode roundingMode;
+    private final int precision;
+
+    FormatterKey(final int kind, final @NonNull Locale locale, final @Nullable String currencySymbol,
+      final @Nullable RoundingMode roundingMode, final int precision) {
+      this.kind = kind;
+      this.locale = locale;
+      this.currencySymbol = currencySymbol;
+      this.roundingMode = roundingMode;
+      this.precision = precision;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof FormatterKey)) {
+        return false;
+      }
+      final FormatterKey other = (FormatterKey) obj;
+      return this.kind == other.kind
+        && this.precision == other.precision
+        && this.roundingMode == other.roundingMode
+        && this.locale.equals(other.locale)
+        && Objects.equals(this.currencySymbol, other.currencySymbol);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = this.kind;
+      result = 31 * result + this.locale.hashCode();
+      result = 31 * result + (this.currencySymbol != null ? this.currencySymbol.hashCode() : 0);
+      result = 31 * result + (this.roundingMode != null ? this.roundingMode.hashCode() : 0);
+      result = 31 * result + this.precision;
+      return result;
+    }
+  }
+
+  /**
+   * Formatters in use are bounded by the locales, currency symbols, rounding modes and precisions the app displays, this
+   * only guards against an unexpected spread of options.
+   */
+  private static final int MAX_CACHED_FORMATTERS_PER_THREAD = 64;
+
+  private static final ThreadLocal<Map<FormatterKey, NumberFormat>> FORMATTERS = new ThreadLocal<Map<FormatterKey, NumberFormat>>() {
+    @Override
+    protected Map<FormatterKey, NumberFormat> initialValue() {
+      return new HashMap<>();
+    }
+  };
 }
@@ -0,0 +1,135 @@
+package com.kickstarter.libs.utils
+
+import android.content.SharedPreferences
+import rx.Scheduler
+import java.net.CookieManager
+import java.net.CookieStore
+import java.net.HttpCookie
+import java.net.URI
+import java.util.concurrent.TimeUnit
+
+/**
+ * A cookie store that keeps every cookie in [delegate], so the cookie jar sees the same cookies, and also indexes the
+ * ref tag cookies by name so a project's ref tag is found without going through every cookie.
+ *
+ * At most [maxSize] ref tag cookies are kept. Past that, the expired ones are dropped first, then the oldest. Ref tag
+ * cookies are also saved to [sharedPreferences], in a single edit for the ones added within [persistDelayMs].
+ */
+class RefTagCookieStore @JvmOverloads constructor(
+    private val sharedPreferences: SharedPreferences,
+    private val scheduler: Scheduler,
+    private val maxSize: Int = DEFAULT_MAX_SIZE,
+    private val persistDelayMs: Long = DEFAULT_PERSIST_DELAY_MS,
+    private val delegate: CookieStore = CookieManager().cookieStore
+) : CookieStore {
+
+    private class Entry(val uri: URI?, val cookie: HttpCookie)
+
+    private val worker = this.scheduler.createWorker()
+
+    // - Guarded by `this`, in the order the cookies were added.
+    private val refTagCookies = LinkedHashMap<String, Entry>()
+
+    /**
+     * Values waiting to be saved to preferences by cookie name, null for the ones to remove. Guarded by `this`.
+     */
+    private val pending = HashMap<String, String?>()
+
+    /**
+     * Returns the ref tag cookie named `name`, or null if there isn't one or it has expired.
+     */
+    @Synchronized
+    fun refTagCookie(name: String): HttpCookie? {
+        val entry = this.refTagCookies[name] ?: return null
+        if (entry.cookie.hasExpired()) {
+            removeRefTagCookie(name, entry)
+            return null
+        }
+        return entry.cookie
+    }
+
+    @Synchronized
+    override fun add(uri: URI?, cookie: HttpCookie) {
+        this.delegate.add(uri, cookie)
+        if (!cookie.name.startsWith(REF_TAG_COOKIE_PREFIX)) {
+            return
+        }
+
+        // - Re-added cookies move to the end, so the oldest cookie is always first.
+        this.refTagCookies.remove(cookie.name)
+        this.refTagCookies[cookie.name] = Entry(uri, cookie)
+        persist(cookie.name, cookie.value)
+        evict()
+    }
+
+    override fun get(uri: URI): List<HttpCookie> = this.delegate.get(uri)
+
+    override fun getCookies(): List<HttpCookie> = this.delegate.cookies
+
+    override fun getURIs(): List<URI> = this.delegate.urIs
+
+    @Synchronized
+    override fun remove(uri: URI?, cookie: HttpCookie): Boolean {
+        if (this.refTagCookies[cookie.name]?.cookie == cookie) {
+            this.refTagCookies.remove(cookie.name)
+        }
+        return this.delegate.remove(uri, cookie)
+    }
+
+    @Synchronized
+    override fun removeAll(): Boolean {
+        // - Saved ref tags outlive the session, like they did before the store.
+        this.refTagCookies.clear()
+        return this.delegate.removeAll()
+    }
+
+    private fun evict() {
+        if (this.refTagCookies.size <= this.maxSize) {
+            return
+        }
+
+        this.refTagCookies.entries
+            .filter { it.value.cookie.hasExpired() }
+            .forEach { removeRefTagCookie(it.key, it.value) }
+
+        val iterator = this.refTagCookies.entries.iterator()
+        while (this.refTagCookies.size > this.maxSize && iterator.hasNext()) {
+            val (name, entry) = iterator.next()
+            iterator.remove()
+            this.delegate.remove(entry.uri, entry.cookie)
+            persist(name, null)
+        }
+    }
+
+    private fun removeRefTagCookie(name: String, entry: Entry) {
+        this.refTagCookies.remove(name)
+        this.delegate.remove(entry.uri, entry.cookie)
+        persist(name, null)
+    }
+
+    private fun persist(name: String, value: String?) {
+        val isScheduled = this.pending.isNotEmpty()
+        this.pending[name] = value
+        if (!isScheduled) {
+            this.worker.schedule({ flush() }, this.persistDelayMs, TimeUnit.MILLISECONDS)
+        }
+    }
+
+    private fun flush() {
+        val values = synchronized(this) {
+            HashMap(this.pending).also { this.pending.clear() }
+        }
+
+        val editor = this.sharedPreferences.edit()
+        values.forEach { (name, value) ->
+            if (value != null) editor.putString(name, value) else editor.remove(name)
+        }
+        editor.apply()
+    }
+
+    companion object {
+        const val DEFAULT_MAX_SIZE = 200
+        const val DEFAULT_PERSIST_DELAY_MS = 1000L
+        const val REF_TAG_COOKIE_PREFIX = "ref_"
+    }
+}
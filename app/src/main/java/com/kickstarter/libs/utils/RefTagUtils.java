@@ -117,13 +117,22 @@ public final class RefTagUtils {
   }
 
   /**
-   * Stores the ref tag in a cookie and shared preference for the project.
+   * Stores the ref tag in a cookie and shared preference for the project. A `RefTagCookieStore` saves the preference
+   * itself, batched with the other ref tags stored around the same time.
    */
   public static void storeCookie(final @NonNull RefTag refTag, final @NonNull Project project,
     final @NonNull CookieManager cookieManager, final @NonNull SharedPreferences sharedPreferences) {
 
     final HttpCookie cookie = buildCookieWithRefTagAndProject(refTag, project);
-    cookieManager.getCookieStore().add(null, cookie);
+    final CookieStore cookieStore = cookieManager.getCookieStore();
+    if (cookieStore instanceof RefTagCookieStore) {
+      if (cookie != null) {
+        cookieStore.add(null, cookie);
+      }
+      return;
+    }
+
+    cookieStore.add(null, cookie);
 
     if (cookie != null) {
       final SharedPreferences.Editor editor = sharedPreferences.edit();
@@ -140,20 +149,35 @@ public final class RefTagUtils {
 
     final String cookieName = cookieNameForProject(project);
 
-    // First try finding the cookie in the cookie store
+    // First try finding the cookie in the cookie store, by name when the store indexes ref tags
     final CookieStore cookieStore = cookieManager.getCookieStore();
-    for (final HttpCookie cookie : cookieStore.getCookies()) {
-      if (cookieName.equals(cookie.getName())) {
+    if (cookieStore instanceof RefTagCookieStore) {
+      final HttpCookie cookie = ((RefTagCookieStore) cookieStore).refTagCookie(cookieName);
+      if (cookie != null) {
         return cookie;
       }
+    } else {
+      for (final HttpCookie cookie : cookieStore.getCookies()) {
+        if (cookieName.equals(cookie.getName())) {
+          return cookie;
+        }
+      }
     }
 
     // If we can't find it in the cookie store let's look in shared prefs
     final String cookieValue = sharedPreferences.getString(cookieName, null);
-    if (cookieValue != null) {
+    if (cookieValue != null && !hasDeadlinePassed(project)) {
       return buildCookieWithValueAndProject(cookieValue, project);
     }
 
     return null;
   }
+
+  /**
+   * Ref tag cookies expire on the project deadline, so a ref tag saved for a project that has ended isn't used.
+   */
+  private static boolean hasDeadlinePassed(final @NonNull Project project) {
+    final DateTime deadline = project.deadline();
+    return deadline != null && deadline.isBeforeNow();
+  }
 }
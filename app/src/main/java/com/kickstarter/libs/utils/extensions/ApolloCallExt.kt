@@ -0,0 +1,48 @@
+package com.kickstarter.libs.utils.extensions
+
+import com.apollographql.apollo.ApolloCall
+import com.apollographql.apollo.ApolloQueryCall
+import com.apollographql.apollo.api.Response
+import com.apollographql.apollo.exception.ApolloException
+import rx.Observable
+import rx.Scheduler
+import rx.schedulers.Schedulers
+import rx.subscriptions.Subscriptions
+
+/**
+ * Enqueues a copy of this call for every subscriber and emits its responses on `scheduler`, completing once the call
+ * is done. A call reading from the cache and then the network responds twice.
+ *
+ * Unsubscribing cancels a query, so a request that's no longer wanted stops and its response is never emitted. A
+ * mutation that has started is left to finish, since the user's change may already be on its way to the server, and
+ * only its response is dropped.
+ */
+fun <T> ApolloCall<T>.toObservable(scheduler: Scheduler = Schedulers.io()): Observable<Response<T>> {
+    val call = this
+    return Observable.create<Response<T>> { subscriber ->
+        val subscriberCall = call.clone()
+        if (subscriberCall is ApolloQueryCall<*>) {
+            subscriber.add(Subscriptions.create { subscriberCall.cancel() })
+        }
+
+        subscriberCall.enqueue(object : ApolloCall.Callback<T>() {
+            override fun onResponse(response: Response<T>) {
+                if (!subscriber.isUnsubscribed) {
+                    subscriber.onNext(response)
+                }
+            }
+
+            override fun onFailure(e: ApolloException) {
+                if (!subscriber.isUnsubscribed) {
+                    subscriber.onError(e)
+                }
+            }
+
+            override fun onStatusEvent(event: ApolloCall.StatusEvent) {
+                if (event == ApolloCall.StatusEvent.COMPLETED && !subscriber.isUnsubscribed) {
+                    subscriber.onCompleted()
+                }
+            }
+        })
+    }.observeOn(scheduler)
+}
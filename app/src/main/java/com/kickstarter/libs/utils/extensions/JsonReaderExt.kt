@@ -0,0 +1,42 @@
+package com.kickstarter.libs.utils.extensions
+
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+
+/**
+ * Readers for hand written type adapters. Like Gson's own adapters they read a JSON null as null.
+ */
+fun JsonReader.nextBooleanOrNull(): Boolean? = nextOrNull {
+    if (peek() == JsonToken.STRING) nextString().toBoolean() else nextBoolean()
+}
+
+fun JsonReader.nextIntOrNull(): Int? = nextOrNull { nextInt() }
+
+fun JsonReader.nextLongOrNull(): Long? = nextOrNull { nextLong() }
+
+fun JsonReader.nextDoubleOrNull(): Double? = nextOrNull { nextDouble() }
+
+fun JsonReader.nextFloatOrNull(): Float? = nextOrNull { nextDouble().toFloat() }
+
+fun JsonReader.nextStringOrNull(): String? = nextOrNull {
+    if (peek() == JsonToken.BOOLEAN) nextBoolean().toString() else nextString()
+}
+
+fun <T> JsonReader.nextListOrNull(adapter: TypeAdapter<T>): List<T>? = nextOrNull {
+    val list = ArrayList<T>()
+    beginArray()
+    while (hasNext()) {
+        list.add(adapter.read(this))
+    }
+    endArray()
+    list
+}
+
+private inline fun <T> JsonReader.nextOrNull(next: JsonReader.() -> T): T? {
+    if (peek() == JsonToken.NULL) {
+        nextNull()
+        return null
+    }
+    return next()
+}
@@ -0,0 +1,29 @@
+package com.kickstarter.mock
+
+import com.kickstarter.libs.loadmore.PaginationSnapshot
+import com.kickstarter.libs.loadmore.PaginationSnapshotStoreType
+import rx.Observable
+import rx.subjects.PublishSubject
+
+/**
+ * Emits the snapshots it was created with and records the ones saved, without emitting them back, so each test starts
+ * from the same snapshots.
+ */
+open class MockPaginationSnapshotStore(private val snapshots: Map<String, PaginationSnapshot<*>> = emptyMap()) :
+    PaginationSnapshotStoreType {
+    private val saved = PublishSubject.create<Pair<String, PaginationSnapshot<*>>>()
+    val savedKeys: Observable<String> = this.saved.map { it.first }
+    val savedSnapshots: Observable<PaginationSnapshot<*>> = this.saved.map { it.second }
+
+    override fun <Data> snapshot(key: String, dataType: Class<Data>): Observable<PaginationSnapshot<Data>> {
+        @Suppress("UNCHECKED_CAST")
+        val snapshot = this.snapshots[key] as PaginationSnapshot<Data>?
+        return if (snapshot != null) Observable.just(snapshot) else Observable.empty()
+    }
+
+    override fun <Data> save(key: String, snapshot: PaginationSnapshot<Data>, dataType: Class<Data>) {
+        this.saved.onNext(Pair(key, snapshot))
+    }
+
+    override fun clear() {}
+}
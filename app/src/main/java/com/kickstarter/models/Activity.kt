@@ -18,10 +18,10 @@ class Activity internal constructor(
     private val update: Update?,
     private val updatedAt: DateTime?,
     private val user: User?
-) : Parcelable {
+) : Parcelable, Relay {
     fun category() = this.category
     fun createdAt() = this.createdAt
-    fun id() = this.id
+    override fun id() = this.id
     fun project() = this.project
     fun update() = this.update
     fun updatedAt() = this.updatedAt
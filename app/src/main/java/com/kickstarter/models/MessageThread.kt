@@ -12,10 +12,10 @@ class MessageThread private constructor(
     private val participant: User?,
     private val project: Project?,
     private val unreadMessagesCount: Int
-) : Parcelable {
+) : Parcelable, Relay {
     fun backing() = this.backing
     fun closed() = this.closed
-    fun id() = this.id
+    override fun id() = this.id
     fun lastMessage() = this.lastMessage
     fun participant() = this.participant
     fun project() = this.project
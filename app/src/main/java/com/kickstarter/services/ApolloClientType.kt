@@ -37,14 +37,24 @@ interface ApolloClientType {
 
     fun getShippingRules(reward: Reward): Observable<ShippingRulesEnvelope>
 
+    fun getShippingRules(reward: Reward, fetchPolicy: FetchPolicy): Observable<ShippingRulesEnvelope> = getShippingRules(reward)
+
     fun clearUnseenActivity(): Observable<Int>
 
     fun fetchCategories(): Observable<List<Category>>
 
+    fun fetchCategories(fetchPolicy: FetchPolicy): Observable<List<Category>> = fetchCategories()
+
     fun fetchCategory(param: String): Observable<Category?>
 
     fun getProject(slug: String): Observable<Project>
 
+    /**
+     * With [FetchPolicy.CACHE_AND_NETWORK] the returned observable can emit twice: once from the
+     * normalized cache, then again once the network response arrives.
+     */
+    fun getProject(slug: String, fetchPolicy: FetchPolicy): Observable<Project> = getProject(slug)
+
     fun getProject(project: Project): Observable<Project>
 
     fun getProjects(discoveryParams: DiscoveryParams, cursor: String? = null): Observable<DiscoverEnvelope>
@@ -74,6 +84,8 @@ interface ApolloClientType {
 
     fun getProjectAddOns(slug: String, locationId: Location): Observable<List<Reward>>
 
+    fun getProjectAddOns(slug: String, locationId: Location, fetchPolicy: FetchPolicy): Observable<List<Reward>> = getProjectAddOns(slug, locationId)
+
     fun watchProject(project: Project): Observable<Project>
 
     fun unWatchProject(project: Project): Observable<Project>
@@ -0,0 +1,40 @@
+package com.kickstarter.services
+
+import com.kickstarter.libs.Config
+import com.kickstarter.models.Category
+import com.kickstarter.models.Project
+import com.kickstarter.models.User
+import rx.Observable
+import java.util.concurrent.TimeUnit
+
+/**
+ * An [ApiClientType] making one request for the config, categories, current user and projects that several screens
+ * and view models ask for at the same time, see [RequestCoalescer]. Every other call goes straight to `client`.
+ */
+class CoalescingApiClient @JvmOverloads constructor(
+    private val client: ApiClientType,
+    private val coalescer: RequestCoalescer = RequestCoalescer()
+) : ApiClientType by client {
+
+    override fun config(): Observable<Config> =
+        this.coalescer.coalesce("config") { this.client.config() }
+
+    override fun fetchCategories(): Observable<List<Category>> =
+        this.coalescer.coalesce("categories", CATEGORIES_TTL_MS) { this.client.fetchCategories() }
+
+    override fun fetchCurrentUser(): Observable<User> =
+        this.coalescer.coalesce("current_user") { this.client.fetchCurrentUser() }
+
+    override fun fetchProject(param: String): Observable<Project> =
+        this.coalescer.coalesce("project:$param") { this.client.fetchProject(param) }
+
+    override fun fetchProject(project: Project): Observable<Project> =
+        this.coalescer.coalesce("project_with_initial:${project.param()}") { this.client.fetchProject(project) }
+
+    companion object {
+        /**
+         * Categories rarely change, so they're shared a little while after they're fetched.
+         */
+        val CATEGORIES_TTL_MS = TimeUnit.SECONDS.toMillis(30)
+    }
+}
@@ -0,0 +1,36 @@
+package com.kickstarter.services
+
+import com.kickstarter.models.Backing
+import com.kickstarter.models.Category
+import com.kickstarter.models.Project
+import rx.Observable
+
+/**
+ * An [ApolloClientType] making one query for the projects, backings and categories that several screens and view
+ * models ask for at the same time, see [RequestCoalescer]. Every other call goes straight to `client`.
+ *
+ * Calls made with different fetch policies aren't shared, as they don't emit the same responses.
+ */
+class CoalescingApolloClient @JvmOverloads constructor(
+    private val client: ApolloClientType,
+    private val coalescer: RequestCoalescer = RequestCoalescer()
+) : ApolloClientType by client {
+
+    override fun fetchCategories(): Observable<List<Category>> =
+        this.coalescer.coalesce("categories", CoalescingApiClient.CATEGORIES_TTL_MS) { this.client.fetchCategories() }
+
+    override fun fetchCategories(fetchPolicy: FetchPolicy): Observable<List<Category>> =
+        this.coalescer.coalesce("categories:$fetchPolicy") { this.client.fetchCategories(fetchPolicy) }
+
+    override fun getProject(slug: String): Observable<Project> =
+        this.coalescer.coalesce("project:$slug") { this.client.getProject(slug) }
+
+    override fun getProject(slug: String, fetchPolicy: FetchPolicy): Observable<Project> =
+        this.coalescer.coalesce("project:$slug:$fetchPolicy") { this.client.getProject(slug, fetchPolicy) }
+
+    override fun getProject(project: Project): Observable<Project> =
+        this.coalescer.coalesce("project_model:${project.slug()}") { this.client.getProject(project) }
+
+    override fun getProjectBacking(slug: String): Observable<Backing> =
+        this.coalescer.coalesce("project_backing:$slug") { this.client.getProjectBacking(slug) }
+}
@@ -0,0 +1,18 @@
+package com.kickstarter.services
+
+/**
+ * Where a GraphQL query should be read from when the normalized cache is enabled.
+ */
+enum class FetchPolicy {
+    /** Read from the normalized cache and only go to the network on a cache miss. */
+    CACHE_FIRST,
+
+    /** Go to the network and fall back to the normalized cache if the request fails. */
+    NETWORK_FIRST,
+
+    /** Emit the cached value right away (if any), then emit the network value and complete. */
+    CACHE_AND_NETWORK,
+
+    /** Always go to the network. Responses are still written to the normalized cache. */
+    NETWORK_ONLY
+}
@@ -22,12 +22,17 @@ import UpdateUserPasswordMutation
 import UserPaymentsQuery
 import UserPrivacyQuery
 import WatchProjectMutation
-import com.apollographql.apollo.ApolloCall
 import com.apollographql.apollo.ApolloClient
+import com.apollographql.apollo.ApolloQueryCall
+import com.apollographql.apollo.api.Operation
+import com.apollographql.apollo.api.Query
 import com.apollographql.apollo.api.Response
-import com.apollographql.apollo.exception.ApolloException
+import com.apollographql.apollo.fetcher.ApolloResponseFetchers
+import com.apollographql.apollo.fetcher.ResponseFetcher
+import com.apollographql.apollo.internal.batch.BatchConfig
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.libs.utils.extensions.toBoolean
+import com.kickstarter.libs.utils.extensions.toObservable
 import com.kickstarter.libs.utils.extensions.toProjectSort
 import com.kickstarter.models.Backing
 import com.kickstarter.models.Category
@@ -64,146 +69,103 @@ import type.BackingState
 import type.CurrencyCode
 import type.PaymentTypes
 
-class KSApolloClient(val service: ApolloClient) : ApolloClientType {
-
-    override fun cancelBacking(backing: Backing, note: String): Observable<Any> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Any>()
-            service.mutate(
-                CancelBackingMutation.builder()
-                    .backingId(encodeRelayId(backing))
-                    .note(note)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<CancelBackingMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<CancelBackingMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onNext(response.errors?.first()?.message)
-                        } else {
-                            val state = response.data?.cancelBacking()?.backing()?.status()
-                            val success = state == BackingState.CANCELED
-                            ps.onNext(success)
-                        }
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
+/**
+ * Queries are sent one HTTP request each, unless `batchQueries` is set, in which case queries made within
+ * [BATCH_INTERVAL_MS] of each other, e.g. the ones a project page makes as it opens, share one HTTP request.
+ * `service` must be built with [batchConfig] for that. Each query still gets its own response and errors, only a
+ * failed request fails every query in it. Mutations are never batched.
+ */
+class KSApolloClient @JvmOverloads constructor(
+    val service: ApolloClient,
+    private val batchQueries: Boolean = false
+) : ApolloClientType {
+
+    init {
+        if (this.batchQueries) {
+            this.service.startBatchPoller()
         }
     }
 
-    override fun createBacking(createBackingData: CreateBackingData): Observable<Checkout> {
-        return Observable.defer {
-            val createBackingMutation = CreateBackingMutation.builder()
-                .projectId(encodeRelayId(createBackingData.project))
-                .amount(createBackingData.amount)
-                .paymentType(PaymentTypes.CREDIT_CARD.rawValue())
-                .paymentSourceId(createBackingData.paymentSourceId)
-                .locationId(createBackingData.locationId?.let { it })
-                .rewardIds(createBackingData.rewardsIds?.let { list -> list.map { encodeRelayId(it) } })
-                .refParam(createBackingData.refTag?.tag())
+    override fun cancelBacking(backing: Backing, note: String): Observable<Any> {
+        return this.service.mutate(
+            CancelBackingMutation.builder()
+                .backingId(encodeRelayId(backing))
+                .note(note)
                 .build()
+        )
+            .toObservable()
+            .map<Any> { response ->
+                if (response.hasErrors()) {
+                    response.errors?.first()?.message
+                } else {
+                    val state = response.data?.cancelBacking()?.backing()?.status()
+                    state == BackingState.CANCELED
+                }
+            }
+    }
 
-            val ps = PublishSubject.create<Checkout>()
-
-            this.service.mutate(createBackingMutation)
-                .enqueue(object : ApolloCall.Callback<CreateBackingMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<CreateBackingMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                        }
-
-                        val checkoutPayload = response.data?.createBacking()?.checkout()
+    override fun createBacking(createBackingData: CreateBackingData): Observable<Checkout> {
+        val createBackingMutation = CreateBackingMutation.builder()
+            .projectId(encodeRelayId(createBackingData.project))
+            .amount(createBackingData.amount)
+            .paymentType(PaymentTypes.CREDIT_CARD.rawValue())
+            .paymentSourceId(createBackingData.paymentSourceId)
+            .locationId(createBackingData.locationId?.let { it })
+            .rewardIds(createBackingData.rewardsIds?.let { list -> list.map { encodeRelayId(it) } })
+            .refParam(createBackingData.refTag?.tag())
+            .build()
 
-                        // TODO: Add new status field to backing model
-                        val backing = Checkout.Backing.builder()
-                            .clientSecret(
-                                checkoutPayload?.backing()?.fragments()?.checkoutBacking()
-                                    ?.clientSecret()
-                            )
-                            .requiresAction(
-                                checkoutPayload?.backing()?.fragments()?.checkoutBacking()
-                                    ?.requiresAction() ?: false
-                            )
-                            .build()
+        return this.service.mutate(createBackingMutation)
+            .toObservable()
+            .map { response ->
+                val checkoutPayload = response.requireNoErrors().data?.createBacking()?.checkout()
+
+                // TODO: Add new status field to backing model
+                val backing = Checkout.Backing.builder()
+                    .clientSecret(
+                        checkoutPayload?.backing()?.fragments()?.checkoutBacking()
+                            ?.clientSecret()
+                    )
+                    .requiresAction(
+                        checkoutPayload?.backing()?.fragments()?.checkoutBacking()
+                            ?.requiresAction() ?: false
+                    )
+                    .build()
 
-                        ps.onNext(
-                            Checkout.builder()
-                                .id(decodeRelayId(checkoutPayload?.id()))
-                                .backing(backing)
-                                .build()
-                        )
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+                Checkout.builder()
+                    .id(decodeRelayId(checkoutPayload?.id()))
+                    .backing(backing)
+                    .build()
+            }
     }
 
     override fun getBacking(backingId: String): Observable<Backing> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Backing>()
-
-            this.service.query(
-                GetBackingQuery.builder()
-                    .backingId(backingId).build()
-            )
-                .enqueue(object : ApolloCall.Callback<GetBackingQuery.Data>() {
-                    override fun onFailure(e: ApolloException) {
-                        ps.onError(e)
-                    }
-
-                    override fun onResponse(response: Response<GetBackingQuery.Data>) {
-                        response.data?.let { data ->
-                            Observable.just(data.backing())
-                                .filter { it?.fragments()?.backing() != null }
-                                .map { backingObj ->
-                                    backingTransformer(
-                                        backingObj?.fragments()?.backing()
-                                    )
-                                }
-                                .filter { ObjectUtils.isNotNull(it) }
-                                .subscribe {
-                                    ps.onNext(it)
-                                    ps.onCompleted()
-                                }
-                        }
-                    }
-                })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        return query(
+            GetBackingQuery.builder()
+                .backingId(backingId).build()
+        )
+            .toObservable()
+            .data()
+            .map { data -> data.backing() }
+            .filter { it?.fragments()?.backing() != null }
+            .map { backingObj ->
+                backingTransformer(
+                    backingObj?.fragments()?.backing()
+                )
+            }
+            .filter { ObjectUtils.isNotNull(it) }
     }
 
     override fun clearUnseenActivity(): Observable<Int> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Int>()
-            service.mutate(
-                ClearUserUnseenActivityMutation.builder()
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<ClearUserUnseenActivityMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<ClearUserUnseenActivityMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                        }
-                        response.data?.clearUserUnseenActivity()?.activityIndicatorCount().let {
-                            handleResponse(it, ps)
-                        }
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            ClearUserUnseenActivityMutation.builder()
+                .build()
+        )
+            .toObservable()
+            .map { response ->
+                response.requireNoErrors().data?.clearUserUnseenActivity()?.activityIndicatorCount()
+                    ?: throw Exception()
+            }
     }
 
     override fun getProjectComments(
@@ -211,57 +173,40 @@ class KSApolloClient(val service: ApolloClient) : ApolloClientType {
         cursor: String?,
         limit: Int
     ): Observable<CommentEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CommentEnvelope>()
+        return query(
+            GetProjectCommentsQuery.builder()
+                .cursor(cursor)
+                .slug(slug)
+                .limit(limit)
+                .build()
+        )
+            .toObservable()
+            .data()
+            .map { data -> data.project() }
+            .filter { it?.comments() != null }
+            .map { project ->
+
+                val comments = project?.comments()?.edges()?.map { edge ->
+                    commentTransformer(
+                        edge?.node()?.fragments()?.comment()
+                    ).toBuilder()
+                        .cursor(edge?.cursor())
+                        .build()
+                }
 
-            this.service.query(
-                GetProjectCommentsQuery.builder()
-                    .cursor(cursor)
-                    .slug(slug)
-                    .limit(limit)
+                CommentEnvelope.builder()
+                    .commentableId(project?.id())
+                    .comments(comments)
+                    .totalCount(project?.comments()?.totalCount() ?: 0)
+                    .pageInfoEnvelope(
+                        createPageInfoObject(
+                            project?.comments()?.pageInfo()?.fragments()
+                                ?.pageInfo()
+                        )
+                    )
                     .build()
-            )
-                .enqueue(object : ApolloCall.Callback<GetProjectCommentsQuery.Data>() {
-                    override fun onFailure(e: ApolloException) {
-                        ps.onError(e)
-                    }
-
-                    override fun onResponse(response: Response<GetProjectCommentsQuery.Data>) {
-                        response.data?.let { data ->
-                            Observable.just(data.project())
-                                .filter { it?.comments() != null }
-                                .map { project ->
-
-                                    val comments = project?.comments()?.edges()?.map { edge ->
-                                        commentTransformer(
-                                            edge?.node()?.fragments()?.comment()
-                                        ).toBuilder()
-                                            .cursor(edge?.cursor())
-                                            .build()
-                                    }
-
-                                    CommentEnvelope.builder()
-                                        .commentableId(project?.id())
-                                        .comments(comments)
-                                        .totalCount(project?.comments()?.totalCount() ?: 0)
-                                        .pageInfoEnvelope(
-                                            createPageInfoObject(
-                                                project?.comments()?.pageInfo()?.fragments()
-                                                    ?.pageInfo()
-                                            )
-                                        )
-                                        .build()
-                                }
-                                .filter { ObjectUtils.isNotNull(it) }
-                                .subscribe {
-                                    ps.onNext(it)
-                                    ps.onCompleted()
-                                }
-                        }
-                    }
-                })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+            }
+            .filter { ObjectUtils.isNotNull(it) }
     }
 
     override fun getProjectUpdateComments(
@@ -269,62 +214,45 @@ class KSApolloClient(val service: ApolloClient) : ApolloClientType {
         cursor: String?,
         limit: Int
     ): Observable<CommentEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CommentEnvelope>()
+        return query(
+            GetProjectUpdateCommentsQuery.builder()
+                .cursor(cursor)
+                .id(updateId)
+                .limit(limit)
+                .build()
+        )
+            .toObservable()
+            .data()
+            .map { data -> data.post() }
+            .filter { it?.fragments()?.freeformPost()?.comments() != null }
+            .map { post ->
+
+                val comments =
+                    post?.fragments()?.freeformPost()?.comments()?.edges()
+                        ?.map { edge ->
+                            commentTransformer(
+                                edge?.node()?.fragments()?.comment()
+                            ).toBuilder()
+                                .cursor(edge?.cursor())
+                                .build()
+                        }
 
-            this.service.query(
-                GetProjectUpdateCommentsQuery.builder()
-                    .cursor(cursor)
-                    .id(updateId)
-                    .limit(limit)
+                CommentEnvelope.builder()
+                    .comments(comments)
+                    .commentableId(post?.id())
+                    .totalCount(
+                        post?.fragments()?.freeformPost()?.comments()
+                            ?.totalCount() ?: 0
+                    )
+                    .pageInfoEnvelope(
+                        createPageInfoObject(
+                            post?.fragments()?.freeformPost()?.comments()
+                                ?.pageInfo()?.fragments()?.pageInfo()
+                        )
+                    )
                     .build()
-            )
-                .enqueue(object : ApolloCall.Callback<GetProjectUpdateCommentsQuery.Data>() {
-                    override fun onFailure(e: ApolloException) {
-                        ps.onError(e)
-                    }
-
-                    override fun onResponse(response: Response<GetProjectUpdateCommentsQuery.Data>) {
-                        response.data?.let { data ->
-                            Observable.just(data.post())
-                                .filter { it?.fragments()?.freeformPost()?.comments() != null }
-                                .map { post ->
-
-                                    val comments =
-                                        post?.fragments()?.freeformPost()?.comments()?.edges()
-                                            ?.map { edge ->
-                                                commentTransformer(
-                                                    edge?.node()?.fragments()?.comment()
-                                                ).toBuilder()
-                                                    .cursor(edge?.cursor())
-                                                    .build()
-                                            }
-
-                                    CommentEnvelope.builder()
-                                        .comments(comments)
-                                        .commentableId(post?.id())
-                                        .totalCount(
-                                            post?.fragments()?.freeformPost()?.comments()
-                                                ?.totalCount() ?: 0
-                                        )
-                                        .pageInfoEnvelope(
-                                            createPageInfoObject(
-                                                post?.fragments()?.freeformPost()?.comments()
-                                                    ?.pageInfo()?.fragments()?.pageInfo()
-                                            )
-                                        )
-                                        .build()
-                                }
-                                .filter { ObjectUtils.isNotNull(it) }
-                                .subscribe {
-                                    ps.onNext(it)
-                                    ps.onCompleted()
-                                }
-                        }
-                    }
-                })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+            }
+            .filter { ObjectUtils.isNotNull(it) }
     }
 
     override fun getRepliesForComment(
@@ -332,31 +260,16 @@ class KSApolloClient(val service: ApolloClient) : ApolloClientType {
         cursor: String?,
         pageSize: Int
     ): Observable<CommentEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CommentEnvelope>()
-            this.service.query(
-                GetRepliesForCommentQuery.builder()
-                    .commentableId(encodeRelayId(comment))
-                    .cursor(cursor)
-                    .pageSize(pageSize)
-                    .build()
-            ).enqueue(object : ApolloCall.Callback<GetRepliesForCommentQuery.Data>() {
-                override fun onFailure(e: ApolloException) {
-                    ps.onError(e)
-                }
-
-                override fun onResponse(response: Response<GetRepliesForCommentQuery.Data>) {
-                    response.data?.let { responseData ->
-                        Observable.just(createCommentEnvelop(responseData))
-                            .subscribe {
-                                ps.onNext(it)
-                                ps.onCompleted()
-                            }
-                    }
-                }
-            })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        return query(
+            GetRepliesForCommentQuery.builder()
+                .commentableId(encodeRelayId(comment))
+                .cursor(cursor)
+                .pageSize(pageSize)
+                .build()
+        )
+            .toObservable()
+            .data()
+            .map { responseData -> createCommentEnvelop(responseData) }
     }
 
     override fun getProject(project: Project): Observable<Project> {
@@ -364,138 +277,80 @@ class KSApolloClient(val service: ApolloClient) : ApolloClientType {
     }
 
     override fun getProject(slug: String): Observable<Project> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Project>()
-            this.service.query(
-                FetchProjectQuery.builder()
-                    .slug(slug)
-                    .build()
-            ).enqueue(object : ApolloCall.Callback<FetchProjectQuery.Data>() {
-                override fun onFailure(e: ApolloException) {
-                    ps.onError(e)
-                }
+        return getProject(slug, FetchPolicy.NETWORK_ONLY)
+    }
 
-                override fun onResponse(response: Response<FetchProjectQuery.Data>) {
-                    response.data?.let { responseData ->
-                        Observable.just(
-                            projectTransformer(
-                                responseData.project()?.fragments()?.fullProject()
-                            )
-                        )
-                            .subscribeOn(Schedulers.io())
-                            .subscribe {
-                                ps.onNext(it)
-                                ps.onCompleted()
-                            }
-                    }
-                }
-            })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+    override fun getProject(slug: String, fetchPolicy: FetchPolicy): Observable<Project> {
+        return query(
+            FetchProjectQuery.builder()
+                .slug(slug)
+                .build()
+        )
+            .responseFetcher(fetchPolicy.toResponseFetcher())
+            .toObservable()
+            .data()
+            .map { responseData -> projectTransformer(responseData.project()?.fragments()?.fullProject()) }
     }
 
     override fun fetchCategories(): Observable<List<Category>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<List<Category>>()
-            this.service.query(
-                GetRootCategoriesQuery.builder()
-                    .build()
-            ).enqueue(object : ApolloCall.Callback<GetRootCategoriesQuery.Data>() {
-                override fun onFailure(e: ApolloException) {
-                    ps.onError(e)
-                }
+        return fetchCategories(FetchPolicy.NETWORK_ONLY)
+    }
 
-                override fun onResponse(response: Response<GetRootCategoriesQuery.Data>) {
-                    response.data?.let { responseData ->
-                        val subCategories = responseData.rootCategories()
-                            .flatMap { it.subcategories()?.nodes().orEmpty() }
-                            .map {
-                                categoryTransformer(it.fragments().category())
-                            }
-                        val rootCategories = responseData.rootCategories()
-                            .map { categoryTransformer(it.fragments().category()) }.toMutableList()
-                            .apply {
-                                addAll(subCategories)
-                            }
-                        Observable.just(rootCategories)
-                            .subscribeOn(Schedulers.io())
-                            .subscribe {
-                                ps.onNext(it)
-                                ps.onCompleted()
-                            }
+    override fun fetchCategories(fetchPolicy: FetchPolicy): Observable<List<Category>> {
+        return query(
+            GetRootCategoriesQuery.builder()
+                .build()
+        )
+            .responseFetcher(fetchPolicy.toResponseFetcher())
+            .toObservable()
+            .data()
+            .map<List<Category>> { responseData ->
+                val subCategories = responseData.rootCategories()
+                    .flatMap { it.subcategories()?.nodes().orEmpty() }
+                    .map {
+                        categoryTransformer(it.fragments().category())
+                    }
+                responseData.rootCategories()
+                    .map { categoryTransformer(it.fragments().category()) }.toMutableList()
+                    .apply {
+                        addAll(subCategories)
                     }
-                }
-            })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+            }
     }
 
     override fun fetchCategory(categoryParam: String): Observable<Category?> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Category>()
-            this.service.query(
-                FetchCategoryQuery.builder()
-                    .categoryParam(categoryParam)
-                    .build()
-            ).enqueue(object : ApolloCall.Callback<FetchCategoryQuery.Data>() {
-                override fun onFailure(e: ApolloException) {
-                    ps.onError(e)
-                }
-
-                override fun onResponse(response: Response<FetchCategoryQuery.Data>) {
-                    response.data?.let { responseData ->
-                        val category = categoryTransformer(responseData.category()?.fragments()?.category())
-
-                        Observable.just(category)
-                            .subscribeOn(Schedulers.io())
-                            .subscribe {
-                                ps.onNext(it)
-                                ps.onCompleted()
-                            }
-                    }
-                }
-            })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        return query(
+            FetchCategoryQuery.builder()
+                .categoryParam(categoryParam)
+                .build()
+        )
+            .toObservable()
+            .data()
+            .map { responseData -> categoryTransformer(responseData.category()?.fragments()?.category()) }
     }
 
     override fun getProjects(
         discoveryParams: DiscoveryParams,
         slug: String?
     ): Observable<DiscoverEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<DiscoverEnvelope>()
-            this.service.query(
-                buildFetchProjectsQuery(discoveryParams, slug)
-            ).enqueue(object : ApolloCall.Callback<FetchProjectsQuery.Data>() {
-                override fun onFailure(e: ApolloException) {
-                    ps.onError(e)
+        return query(
+            buildFetchProjectsQuery(discoveryParams, slug)
+        )
+            .toObservable()
+            .data()
+            .map { responseData ->
+                val projects = responseData.projects()?.edges()?.map {
+                    projectTransformer(it.node()?.fragments()?.projectCard())
                 }
-
-                override fun onResponse(response: Response<FetchProjectsQuery.Data>) {
-                    response.data?.let { responseData ->
-                        val projects = responseData.projects()?.edges()?.map {
-                            projectTransformer(it.node()?.fragments()?.projectCard())
-                        }
-                        val pageInfoEnvelope =
-                            responseData.projects()?.pageInfo()?.fragments()?.pageInfo()?.let {
-                                createPageInfoObject(it)
-                            }
-                        val discoverEnvelope = DiscoverEnvelope.builder()
-                            .projects(projects)
-                            .pageInfoEnvelope(pageInfoEnvelope)
-                            .build()
-                        Observable.just(discoverEnvelope)
-                            .subscribeOn(Schedulers.io())
-                            .subscribe {
-                                ps.onNext(it)
-                                ps.onCompleted()
-                            }
+                val pageInfoEnvelope =
+                    responseData.projects()?.pageInfo()?.fragments()?.pageInfo()?.let {
+                        createPageInfoObject(it)
                     }
-                }
-            })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+                DiscoverEnvelope.builder()
+                    .projects(projects)
+                    .pageInfoEnvelope(pageInfoEnvelope)
+                    .build()
+            }
     }
 
     private fun buildFetchProjectsQuery(
@@ -526,362 +381,197 @@ class KSApolloClient(val service: ApolloClient) : ApolloClientType {
     }
 
     override fun getComment(commentableId: String): Observable<Comment> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Comment>()
-            this.service.query(
-                GetCommentQuery.builder()
-                    .commentableId(commentableId)
-                    .build()
-            ).enqueue(object : ApolloCall.Callback<GetCommentQuery.Data>() {
-                override fun onFailure(e: ApolloException) {
-                    ps.onError(e)
-                }
-
-                override fun onResponse(response: Response<GetCommentQuery.Data>) {
-                    response.data?.let { responseData ->
-                        Observable.just(mapGetCommentQueryResponseToComment(responseData))
-                            .subscribe {
-                                ps.onNext(it)
-                                ps.onCompleted()
-                            }
-                    }
-                }
-            })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        return query(
+            GetCommentQuery.builder()
+                .commentableId(commentableId)
+                .build()
+        )
+            .toObservable()
+            .data()
+            .map { responseData -> mapGetCommentQueryResponseToComment(responseData) }
     }
 
     override fun createComment(comment: PostCommentData): Observable<Comment> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Comment>()
-            this.service.mutate(
-                CreateCommentMutation.builder()
-                    .parentId(comment.parent?.let { encodeRelayId(it) })
-                    .commentableId(comment.commentableId)
-                    .clientMutationId(comment.clientMutationId)
-                    .body(comment.body)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<CreateCommentMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<CreateCommentMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                        }
-                        /* make a copy of what you posted. just in case
-                         * we want to update the list without doing
-                         * a full refresh.
-                         */
-                        ps.onNext(
-                            commentTransformer(
-                                response.data?.createComment()?.comment()?.fragments()?.comment()
-                            )
-                        )
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            CreateCommentMutation.builder()
+                .parentId(comment.parent?.let { encodeRelayId(it) })
+                .commentableId(comment.commentableId)
+                .clientMutationId(comment.clientMutationId)
+                .body(comment.body)
+                .build()
+        )
+            .toObservable()
+            .map { response ->
+                /* make a copy of what you posted. just in case
+                 * we want to update the list without doing
+                 * a full refresh.
+                 */
+                commentTransformer(
+                    response.requireNoErrors().data?.createComment()?.comment()?.fragments()?.comment()
+                )
+            }
     }
 
     override fun createPassword(
         password: String,
         confirmPassword: String
     ): Observable<CreatePasswordMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CreatePasswordMutation.Data>()
-            service.mutate(
-                CreatePasswordMutation.builder()
-                    .password(password)
-                    .passwordConfirmation(confirmPassword)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<CreatePasswordMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<CreatePasswordMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                        }
-                        ps.onNext(response.data)
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            CreatePasswordMutation.builder()
+                .password(password)
+                .passwordConfirmation(confirmPassword)
+                .build()
+        )
+            .toObservable()
+            .map<CreatePasswordMutation.Data> { response -> response.requireNoErrors().data }
     }
 
     override fun creatorDetails(slug: String): Observable<CreatorDetails> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CreatorDetails>()
-            service.query(
-                ProjectCreatorDetailsQuery.builder()
-                    .slug(slug)
+        return query(
+            ProjectCreatorDetailsQuery.builder()
+                .slug(slug)
+                .build()
+        )
+            .toObservable()
+            .map { response -> response.requireNoErrors().data?.project()?.creator() }
+            .filter { it != null }
+            .map { requireNotNull(it) }
+            .map {
+                CreatorDetails.builder()
+                    .backingsCount(it.backingsCount())
+                    .launchedProjectsCount(it.launchedProjects()?.totalCount() ?: 1)
                     .build()
-            )
-                .enqueue(object : ApolloCall.Callback<ProjectCreatorDetailsQuery.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<ProjectCreatorDetailsQuery.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-
-                        response.data?.project()?.creator()?.let {
-                            ps.onNext(
-                                CreatorDetails.builder()
-                                    .backingsCount(it.backingsCount())
-                                    .launchedProjectsCount(it.launchedProjects()?.totalCount() ?: 1)
-                                    .build()
-                            )
-                            ps.onCompleted()
-                        }
-                    }
-                })
-            return@defer ps
-        }
+            }
     }
 
     override fun deletePaymentSource(paymentSourceId: String): Observable<DeletePaymentSourceMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<DeletePaymentSourceMutation.Data>()
-            service.mutate(
-                DeletePaymentSourceMutation.builder()
-                    .paymentSourceId(paymentSourceId)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<DeletePaymentSourceMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<DeletePaymentSourceMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-                        ps.onNext(response.data)
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            DeletePaymentSourceMutation.builder()
+                .paymentSourceId(paymentSourceId)
+                .build()
+        )
+            .toObservable()
+            .map<DeletePaymentSourceMutation.Data> { response -> response.requireNoErrors().data }
     }
 
     override fun erroredBackings(): Observable<List<ErroredBacking>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<List<ErroredBacking>>()
-            this.service.query(ErroredBackingsQuery.builder().build())
-                .enqueue(object : ApolloCall.Callback<ErroredBackingsQuery.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<ErroredBackingsQuery.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        } else {
-                            Observable.just(response.data)
-                                .map { cards -> cards?.me()?.backings()?.nodes() }
-                                .map { list ->
-                                    val erroredBackings = list?.asSequence()?.map {
-                                        val project = ErroredBacking.Project.builder()
-                                            .finalCollectionDate(
-                                                it.project()?.finalCollectionDate()
-                                            )
-                                            .name(it.project()?.name())
-                                            .slug(it.project()?.slug())
-                                            .build()
-                                        ErroredBacking.builder()
-                                            .project(project)
-                                            .build()
-                                    }
-                                    erroredBackings?.toList() ?: listOf()
-                                }
-                                .subscribe {
-                                    ps.onNext(it)
-                                    ps.onCompleted()
-                                }
-                        }
-                    }
-                })
-            return@defer ps
-        }
+        return query(ErroredBackingsQuery.builder().build())
+            .toObservable()
+            .map { response -> response.requireNoErrors().data }
+            .map { cards -> cards?.me()?.backings()?.nodes() }
+            .map { list ->
+                val erroredBackings = list?.asSequence()?.map {
+                    val project = ErroredBacking.Project.builder()
+                        .finalCollectionDate(
+                            it.project()?.finalCollectionDate()
+                        )
+                        .name(it.project()?.name())
+                        .slug(it.project()?.slug())
+                        .build()
+                    ErroredBacking.builder()
+                        .project(project)
+                        .build()
+                }
+                erroredBackings?.toList() ?: listOf()
+            }
     }
 
     override fun getProjectBacking(slug: String): Observable<Backing> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Backing>()
-
-            this.service.query(
-                GetProjectBackingQuery.builder()
-                    .slug(slug)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<GetProjectBackingQuery.Data>() {
-                    override fun onFailure(e: ApolloException) {
-                        ps.onError(e)
-                    }
-
-                    override fun onResponse(response: Response<GetProjectBackingQuery.Data>) {
-                        response.data?.let { data ->
-                            Observable.just(data.project()?.backing())
-                                .filter { it?.fragments()?.backing() != null }
-                                .map { backingObj ->
-                                    backingTransformer(
-                                        backingObj?.fragments()?.backing()
-                                    )
-                                }
-                                .subscribe {
-                                    ps.onNext(it)
-                                    ps.onCompleted()
-                                }
-                        }
-                    }
-                })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        return query(
+            GetProjectBackingQuery.builder()
+                .slug(slug)
+                .build()
+        )
+            .toObservable()
+            .data()
+            .map { data -> data.project()?.backing() }
+            .filter { it?.fragments()?.backing() != null }
+            .map { backingObj ->
+                backingTransformer(
+                    backingObj?.fragments()?.backing()
+                )
+            }
     }
 
     override fun getShippingRules(reward: Reward): Observable<ShippingRulesEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<ShippingRulesEnvelope>()
-
-            this.service.query(
-                GetShippingRulesForRewardIdQuery.builder()
-                    .rewardId(encodeRelayId(reward))
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<GetShippingRulesForRewardIdQuery.Data>() {
-                    override fun onFailure(e: ApolloException) {
-                        ps.onError(e)
-                    }
+        return getShippingRules(reward, FetchPolicy.NETWORK_ONLY)
+    }
 
-                    override fun onResponse(response: Response<GetShippingRulesForRewardIdQuery.Data>) {
-                        response.data?.let { data ->
-                            Observable.just(data?.node() as? GetShippingRulesForRewardIdQuery.AsReward)
-                                .filter { !it?.shippingRulesExpanded()?.nodes().isNullOrEmpty() }
-                                .map {
-                                    it?.shippingRulesExpanded()?.nodes()?.mapNotNull { node ->
-                                        node.fragments().shippingRule()
-                                    }
-                                }
-                                .filter { ObjectUtils.isNotNull(it) }
-                                .subscribe { shippingList ->
-                                    val shippingEnvelope = shippingRulesListTransformer(shippingList ?: emptyList())
-                                    ps.onNext(shippingEnvelope)
-                                    ps.onCompleted()
-                                }
-                        }
-                    }
-                })
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+    override fun getShippingRules(reward: Reward, fetchPolicy: FetchPolicy): Observable<ShippingRulesEnvelope> {
+        return query(
+            GetShippingRulesForRewardIdQuery.builder()
+                .rewardId(encodeRelayId(reward))
+                .build()
+        )
+            .responseFetcher(fetchPolicy.toResponseFetcher())
+            .toObservable()
+            .data()
+            .map { data -> data.node() as? GetShippingRulesForRewardIdQuery.AsReward }
+            .filter { !it?.shippingRulesExpanded()?.nodes().isNullOrEmpty() }
+            .map {
+                it?.shippingRulesExpanded()?.nodes()?.mapNotNull { node ->
+                    node.fragments().shippingRule()
+                }
+            }
+            .filter { ObjectUtils.isNotNull(it) }
+            .map { shippingList -> shippingRulesListTransformer(shippingList ?: emptyList()) }
     }
 
     override fun getProjectAddOns(slug: String, locationId: Location): Observable<List<Reward>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<List<Reward>>()
-
-            this.service.query(
-                GetProjectAddOnsQuery.builder()
-                    .slug(slug)
-                    .locationId(encodeRelayId(locationId))
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<GetProjectAddOnsQuery.Data>() {
-                    override fun onFailure(e: ApolloException) {
-                        ps.onError(e)
-                    }
+        return getProjectAddOns(slug, locationId, FetchPolicy.NETWORK_ONLY)
+    }
 
-                    override fun onResponse(response: Response<GetProjectAddOnsQuery.Data>) {
-                        response.data?.let { data ->
-                            Observable.just(data.project()?.addOns())
-                                .filter { it?.nodes() != null }
-                                .map<List<Reward>> { addOnsList ->
-                                    addOnsList?.let {
-                                        getAddOnsFromProject(
-                                            it
-                                        )
-                                    } ?: emptyList()
-                                }
-                                .subscribe {
-                                    ps.onNext(it)
-                                    ps.onCompleted()
-                                }
-                        }
-                    }
-                })
-            return@defer ps
-        }
+    override fun getProjectAddOns(slug: String, locationId: Location, fetchPolicy: FetchPolicy): Observable<List<Reward>> {
+        return query(
+            GetProjectAddOnsQuery.builder()
+                .slug(slug)
+                .locationId(encodeRelayId(locationId))
+                .build()
+        )
+            .responseFetcher(fetchPolicy.toResponseFetcher())
+            .toObservable()
+            .data()
+            .map { data -> data.project()?.addOns() }
+            .filter { it?.nodes() != null }
+            .map<List<Reward>> { addOnsList ->
+                addOnsList?.let {
+                    getAddOnsFromProject(
+                        it
+                    )
+                } ?: emptyList()
+            }
     }
 
     override fun watchProject(project: Project): Observable<Project> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Project>()
-            this.service.mutate(
-                WatchProjectMutation.builder().id(encodeRelayId(project)).build()
-            )
-                .enqueue(object : ApolloCall.Callback<WatchProjectMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<WatchProjectMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                        }
-                        /* make a copy of what you posted. just in case
-                         * we want to update the list without doing
-                         * a full refresh.
-                         */
-                        ps.onNext(
-                            projectTransformer(
-                                response.data?.watchProject()?.project()?.fragments()?.fullProject()
-                            )
-                        )
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            WatchProjectMutation.builder().id(encodeRelayId(project)).build()
+        )
+            .toObservable()
+            .map { response ->
+                /* make a copy of what you posted. just in case
+                 * we want to update the list without doing
+                 * a full refresh.
+                 */
+                projectTransformer(
+                    response.requireNoErrors().data?.watchProject()?.project()?.fragments()?.fullProject()
+                )
+            }
     }
 
     override fun unWatchProject(project: Project): Observable<Project> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Project>()
-            this.service.mutate(
-                UnwatchProjectMutation.builder().id(encodeRelayId(project)).build()
-            )
-                .enqueue(object : ApolloCall.Callback<UnwatchProjectMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<UnwatchProjectMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                        }
-                        /* make a copy of what you posted. just in case
-                         * we want to update the list without doing
-                         * a full refresh.
-                         */
-                        ps.onNext(
-                            projectTransformer(
-                                response.data?.watchProject()?.project()?.fragments()?.fullProject()
-                            )
-                        )
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            UnwatchProjectMutation.builder().id(encodeRelayId(project)).build()
+        )
+            .toObservable()
+            .map { response ->
+                /* make a copy of what you posted. just in case
+                 * we want to update the list without doing
+                 * a full refresh.
+                 */
+                projectTransformer(
+                    response.requireNoErrors().data?.watchProject()?.project()?.fragments()?.fullProject()
+                )
+            }
     }
 
     private fun getAddOnsFromProject(addOnsGr: GetProjectAddOnsQuery.AddOns): List<Reward> {
@@ -898,234 +588,124 @@ class KSApolloClient(val service: ApolloClient) : ApolloClientType {
     }
 
     override fun getStoredCards(): Observable<List<StoredCard>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<List<StoredCard>>()
-            this.service.query(UserPaymentsQuery.builder().build())
-                .enqueue(object : ApolloCall.Callback<UserPaymentsQuery.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<UserPaymentsQuery.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        } else {
-                            Observable.just(response.data)
-                                .map { cards -> cards?.me()?.storedCards()?.nodes() }
-                                .map { list ->
-                                    val storedCards = list?.asSequence()?.map {
-                                        StoredCard.builder()
-                                            .expiration(it.expirationDate())
-                                            .id(it.id())
-                                            .lastFourDigits(it.lastFour())
-                                            .type(it.type())
-                                            .build()
-                                    }
-                                    storedCards?.toList() ?: listOf()
-                                }
-                                .subscribe {
-                                    ps.onNext(it)
-                                    ps.onCompleted()
-                                }
-                        }
-                    }
-                })
-            return@defer ps
-        }
+        return query(UserPaymentsQuery.builder().build())
+            .toObservable()
+            .map { response -> response.requireNoErrors().data }
+            .map { cards -> cards?.me()?.storedCards()?.nodes() }
+            .map { list ->
+                val storedCards = list?.asSequence()?.map {
+                    StoredCard.builder()
+                        .expiration(it.expirationDate())
+                        .id(it.id())
+                        .lastFourDigits(it.lastFour())
+                        .type(it.type())
+                        .build()
+                }
+                storedCards?.toList() ?: listOf()
+            }
     }
 
     override fun savePaymentMethod(savePaymentMethodData: SavePaymentMethodData): Observable<StoredCard> {
-        return Observable.defer {
-            val ps = PublishSubject.create<StoredCard>()
-            service.mutate(
-                SavePaymentMethodMutation.builder()
-                    .paymentType(savePaymentMethodData.paymentType)
-                    .stripeToken(savePaymentMethodData.stripeToken)
-                    .stripeCardId(savePaymentMethodData.stripeCardId)
-                    .reusable(savePaymentMethodData.reusable)
+        return this.service.mutate(
+            SavePaymentMethodMutation.builder()
+                .paymentType(savePaymentMethodData.paymentType)
+                .stripeToken(savePaymentMethodData.stripeToken)
+                .stripeCardId(savePaymentMethodData.stripeCardId)
+                .reusable(savePaymentMethodData.reusable)
+                .build()
+        )
+            .toObservable()
+            .map { response -> response.requireNoErrors().data?.createPaymentSource()?.paymentSource() }
+            .filter { it != null }
+            .map { requireNotNull(it) }
+            .map {
+                StoredCard.builder()
+                    .expiration(it.expirationDate())
+                    .id(it.id())
+                    .lastFourDigits(it.lastFour())
+                    .type(it.type())
                     .build()
-            )
-                .enqueue(object : ApolloCall.Callback<SavePaymentMethodMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<SavePaymentMethodMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-
-                        val paymentSource = response.data?.createPaymentSource()?.paymentSource()
-                        paymentSource?.let {
-                            val storedCard = StoredCard.builder()
-                                .expiration(it.expirationDate())
-                                .id(it.id())
-                                .lastFourDigits(it.lastFour())
-                                .type(it.type())
-                                .build()
-                            ps.onNext(storedCard)
-                            ps.onCompleted()
-                        }
-                    }
-                })
-            return@defer ps
-        }
+            }
     }
 
     override fun sendMessage(project: Project, recipient: User, body: String): Observable<Long> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Long>()
-            service.mutate(
-                SendMessageMutation.builder()
-                    .projectId(encodeRelayId(project))
-                    .recipientId(encodeRelayId(recipient))
-                    .body(body)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<SendMessageMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<SendMessageMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-                        handleResponse(
-                            decodeRelayId(
-                                response.data?.sendMessage()?.conversation()?.id()
-                            ),
-                            ps
-                        )
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            SendMessageMutation.builder()
+                .projectId(encodeRelayId(project))
+                .recipientId(encodeRelayId(recipient))
+                .body(body)
+                .build()
+        )
+            .toObservable()
+            .map { response ->
+                decodeRelayId(
+                    response.requireNoErrors().data?.sendMessage()?.conversation()?.id()
+                ) ?: throw Exception()
+            }
     }
 
     override fun sendVerificationEmail(): Observable<SendEmailVerificationMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<SendEmailVerificationMutation.Data>()
-            service.mutate(
-                SendEmailVerificationMutation.builder()
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<SendEmailVerificationMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<SendEmailVerificationMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-                        ps.onNext(response.data)
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            SendEmailVerificationMutation.builder()
+                .build()
+        )
+            .toObservable()
+            .map<SendEmailVerificationMutation.Data> { response -> response.requireNoErrors().data }
     }
 
     override fun updateBacking(updateBackingData: UpdateBackingData): Observable<Checkout> {
-        return Observable.defer {
-            val updateBackingMutation = UpdateBackingMutation.builder()
-                .backingId(encodeRelayId(updateBackingData.backing))
-                .amount(updateBackingData.amount.toString())
-                .locationId(updateBackingData.locationId)
-                .rewardIds(updateBackingData.rewardsIds?.let { list -> list.map { encodeRelayId(it) } })
-                .paymentSourceId(updateBackingData.paymentSourceId)
-                .build()
-
-            val ps = PublishSubject.create<Checkout>()
-            service.mutate(updateBackingMutation)
-                .enqueue(object : ApolloCall.Callback<UpdateBackingMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<UpdateBackingMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                        }
+        val updateBackingMutation = UpdateBackingMutation.builder()
+            .backingId(encodeRelayId(updateBackingData.backing))
+            .amount(updateBackingData.amount.toString())
+            .locationId(updateBackingData.locationId)
+            .rewardIds(updateBackingData.rewardsIds?.let { list -> list.map { encodeRelayId(it) } })
+            .paymentSourceId(updateBackingData.paymentSourceId)
+            .build()
 
-                        val checkoutPayload = response.data?.updateBacking()?.checkout()
-                        val backing = Checkout.Backing.builder()
-                            .clientSecret(
-                                checkoutPayload?.backing()?.fragments()?.checkoutBacking()
-                                    ?.clientSecret()
-                            )
-                            .requiresAction(
-                                checkoutPayload?.backing()?.fragments()?.checkoutBacking()
-                                    ?.requiresAction() ?: false
-                            )
-                            .build()
+        return this.service.mutate(updateBackingMutation)
+            .toObservable()
+            .map { response ->
+                val checkoutPayload = response.requireNoErrors().data?.updateBacking()?.checkout()
+                val backing = Checkout.Backing.builder()
+                    .clientSecret(
+                        checkoutPayload?.backing()?.fragments()?.checkoutBacking()
+                            ?.clientSecret()
+                    )
+                    .requiresAction(
+                        checkoutPayload?.backing()?.fragments()?.checkoutBacking()
+                            ?.requiresAction() ?: false
+                    )
+                    .build()
 
-                        ps.onNext(
-                            Checkout.builder()
-                                .id(decodeRelayId(checkoutPayload?.id()))
-                                .backing(backing)
-                                .build()
-                        )
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+                Checkout.builder()
+                    .id(decodeRelayId(checkoutPayload?.id()))
+                    .backing(backing)
+                    .build()
+            }
     }
 
     override fun updateUserCurrencyPreference(currency: CurrencyCode): Observable<UpdateUserCurrencyMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UpdateUserCurrencyMutation.Data>()
-            service.mutate(
-                UpdateUserCurrencyMutation.builder()
-                    .chosenCurrency(currency)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<UpdateUserCurrencyMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<UpdateUserCurrencyMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-                        ps.onNext(response.data)
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            UpdateUserCurrencyMutation.builder()
+                .chosenCurrency(currency)
+                .build()
+        )
+            .toObservable()
+            .map<UpdateUserCurrencyMutation.Data> { response -> response.requireNoErrors().data }
     }
 
     override fun updateUserEmail(
         email: String,
         currentPassword: String
     ): Observable<UpdateUserEmailMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UpdateUserEmailMutation.Data>()
-            service.mutate(
-                UpdateUserEmailMutation.builder()
-                    .email(email)
-                    .currentPassword(currentPassword)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<UpdateUserEmailMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<UpdateUserEmailMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-                        ps.onNext(response.data)
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            UpdateUserEmailMutation.builder()
+                .email(email)
+                .currentPassword(currentPassword)
+                .build()
+        )
+            .toObservable()
+            .map<UpdateUserEmailMutation.Data> { response -> response.requireNoErrors().data }
     }
 
     override fun updateUserPassword(
@@ -1133,48 +713,37 @@ class KSApolloClient(val service: ApolloClient) : ApolloClientType {
         newPassword: String,
         confirmPassword: String
     ): Observable<UpdateUserPasswordMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UpdateUserPasswordMutation.Data>()
-            service.mutate(
-                UpdateUserPasswordMutation.builder()
-                    .currentPassword(currentPassword)
-                    .password(newPassword)
-                    .passwordConfirmation(confirmPassword)
-                    .build()
-            )
-                .enqueue(object : ApolloCall.Callback<UpdateUserPasswordMutation.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
-
-                    override fun onResponse(response: Response<UpdateUserPasswordMutation.Data>) {
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-                        ps.onNext(response.data)
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+        return this.service.mutate(
+            UpdateUserPasswordMutation.builder()
+                .currentPassword(currentPassword)
+                .password(newPassword)
+                .passwordConfirmation(confirmPassword)
+                .build()
+        )
+            .toObservable()
+            .map<UpdateUserPasswordMutation.Data> { response -> response.requireNoErrors().data }
     }
 
     override fun userPrivacy(): Observable<UserPrivacyQuery.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UserPrivacyQuery.Data>()
-            service.query(UserPrivacyQuery.builder().build())
-                .enqueue(object : ApolloCall.Callback<UserPrivacyQuery.Data>() {
-                    override fun onFailure(exception: ApolloException) {
-                        ps.onError(exception)
-                    }
+        return query(UserPrivacyQuery.builder().build())
+            .toObservable()
+            .map<UserPrivacyQuery.Data> { response -> response.data }
+    }
 
-                    override fun onResponse(response: Response<UserPrivacyQuery.Data>) {
-                        ps.onNext(response.data)
-                        ps.onCompleted()
-                    }
-                })
-            return@defer ps
-        }
+    private fun <D : Operation.Data, T, V : Operation.Variables> query(query: Query<D, T, V>): ApolloQueryCall<T> {
+        val call = this.service.query(query)
+        return if (this.batchQueries) call.toBuilder().canBeBatched(true).build() else call
+    }
+
+    companion object {
+        const val BATCH_INTERVAL_MS = 10L
+        const val MAX_BATCH_SIZE = 10
+
+        /**
+         * The batching configuration of the [ApolloClient] a client batching queries is made with.
+         */
+        @JvmStatic
+        fun batchConfig() = BatchConfig(true, BATCH_INTERVAL_MS, MAX_BATCH_SIZE)
     }
 }
 
@@ -1208,14 +777,29 @@ private fun mapGetCommentQueryResponseToComment(responseData: GetCommentQuery.Da
     return commentTransformer(commentFragment)
 }
 
-private fun <T : Any?> handleResponse(it: T, ps: PublishSubject<T>) {
-    when {
-        ObjectUtils.isNull(it) -> {
-            ps.onError(Exception())
-        }
-        else -> {
-            ps.onNext(it)
-            ps.onCompleted()
-        }
+private fun FetchPolicy.toResponseFetcher(): ResponseFetcher {
+    return when (this) {
+        FetchPolicy.CACHE_FIRST -> ApolloResponseFetchers.CACHE_FIRST
+        FetchPolicy.NETWORK_FIRST -> ApolloResponseFetchers.NETWORK_FIRST
+        FetchPolicy.CACHE_AND_NETWORK -> ApolloResponseFetchers.CACHE_AND_NETWORK
+        FetchPolicy.NETWORK_ONLY -> ApolloResponseFetchers.NETWORK_ONLY
     }
 }
+
+/**
+ * Fails with the first GraphQL error of a response that has any.
+ */
+private fun <T> Response<T>.requireNoErrors(): Response<T> {
+    if (hasErrors()) {
+        throw Exception(errors?.first()?.message)
+    }
+    return this
+}
+
+/**
+ * The data of every response, dropping responses without any.
+ */
+private fun <T> Observable<Response<T>>.data(): Observable<T> {
+    return filter { it.data != null }
+        .map { requireNotNull(it.data) }
+}
@@ -0,0 +1,63 @@
+package com.kickstarter.services
+
+import rx.Observable
+import rx.Scheduler
+import rx.schedulers.Schedulers
+
+/**
+ * Shares one upstream request among every subscriber asking for the same key while it's in flight, e.g. the
+ * project page and its holders all fetching the same project as it opens.
+ *
+ * Once a request completes it's forgotten, unless it was made with a TTL, in which case its values are replayed to
+ * anyone asking for the same key until the TTL runs out. Failed requests are never kept.
+ */
+class RequestCoalescer @JvmOverloads constructor(private val scheduler: Scheduler = Schedulers.computation()) {
+    private class Request(val observable: Observable<*>, val expiresAt: Long = Long.MAX_VALUE)
+
+    private val requests = HashMap<Any, Request>()
+
+    /**
+     * Returns an observable sharing the request in flight for `key`, or making one with `request` when there's none.
+     */
+    @JvmOverloads
+    fun <T> coalesce(key: Any, ttlMs: Long = 0L, request: () -> Observable<T>): Observable<T> {
+        return Observable.defer {
+            synchronized(this.requests) {
+                val existing = this.requests[key]
+                if (existing != null && existing.expiresAt > this.scheduler.now()) {
+                    @Suppress("UNCHECKED_CAST")
+                    return@defer existing.observable as Observable<T>
+                }
+
+                val shared = share(key, ttlMs, request())
+                this.requests[key] = Request(shared)
+                return@defer shared
+            }
+        }
+    }
+
+    fun inFlightCount(): Int = synchronized(this.requests) {
+        this.requests.values.count { it.expiresAt == Long.MAX_VALUE }
+    }
+
+    private fun <T> share(key: Any, ttlMs: Long, upstream: Observable<T>): Observable<T> {
+        val values = ArrayList<T>()
+        return upstream
+            .doOnSubscribe { synchronized(values) { values.clear() } }
+            .doOnNext { synchronized(values) { values.add(it) } }
+            .doOnCompleted { finish(key, ttlMs, synchronized(values) { values.toList() }) }
+            .doOnError { finish(key, 0L, emptyList()) }
+            .replay()
+            .refCount()
+    }
+
+    private fun <T> finish(key: Any, ttlMs: Long, values: List<T>) {
+        synchronized(this.requests) {
+            if (ttlMs > 0L) {
+                this.requests[key] = Request(Observable.from(values), this.scheduler.now() + ttlMs)
+            } else {
+                this.requests.remove(key)
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.kickstarter.services.interceptors
 
 import android.net.Uri
 import com.kickstarter.libs.Build
-import com.kickstarter.libs.CurrentUserType
 import com.kickstarter.libs.FirebaseHelper
 import com.kickstarter.libs.perimeterx.PerimeterXClientType
 import com.kickstarter.libs.utils.WebUtils.userAgent
@@ -17,7 +16,7 @@ import java.io.IOException
 
 class ApiRequestInterceptor(
     private val clientId: String,
-    private val currentUser: CurrentUserType,
+    private val authHeaderProvider: AuthHeaderProvider,
     private val endpoint: String,
     private val pxManager: PerimeterXClientType,
     private val build: Build
@@ -51,12 +50,9 @@ class ApiRequestInterceptor(
     private fun url(initialHttpUrl: HttpUrl): HttpUrl {
         val builder: Builder = initialHttpUrl.newBuilder()
             .setQueryParameter("client_id", clientId)
-        currentUser.observable()
-            .subscribe {
-                if (currentUser.accessToken != null) {
-                    builder.setQueryParameter("oauth_token", currentUser.accessToken)
-                }
-            }
+        authHeaderProvider.accessToken()?.let {
+            builder.setQueryParameter("oauth_token", it)
+        }
         return builder.build()
     }
 
@@ -0,0 +1,40 @@
+package com.kickstarter.services.interceptors
+
+import com.kickstarter.libs.CurrentUserType
+
+/**
+ * Keeps the current user's access token in memory for the network interceptors. A single subscription to
+ * [CurrentUserType.observable] updates it, so intercepting a request is a field read instead of a new subscription.
+ *
+ * The token is read from the access token preference rather than from the emitted user, which is loaded in the
+ * background, so requests made right after startup are already authenticated.
+ */
+class AuthHeaderProvider(private val currentUser: CurrentUserType) {
+
+    private class Session(val accessToken: String?) {
+        val isLoggedIn = accessToken != null
+    }
+
+    @Volatile
+    private var session = Session(this.currentUser.accessToken)
+
+    init {
+        this.currentUser.observable()
+            .subscribe { this.session = Session(this.currentUser.accessToken) }
+    }
+
+    /**
+     * The access token of the current session, `null` when logged out.
+     */
+    fun accessToken(): String? = this.session.accessToken
+
+    /**
+     * `true` when a user is logged in.
+     */
+    fun isLoggedIn(): Boolean = this.session.isLoggedIn
+
+    /**
+     * The value of the `Authorization` header for the current session, `null` when there is no access token.
+     */
+    fun authorizationHeader(): String? = this.session.accessToken?.let { "token $it" }
+}
@@ -1,7 +1,6 @@
 package com.kickstarter.services.interceptors
 
 import com.kickstarter.libs.Build
-import com.kickstarter.libs.CurrentUserType
 import com.kickstarter.libs.FirebaseHelper
 import com.kickstarter.libs.perimeterx.PerimeterXClientType
 import com.kickstarter.libs.utils.WebUtils
@@ -15,7 +14,7 @@ import okhttp3.Response
  */
 class GraphQLInterceptor(
     private val clientId: String,
-    private val currentUser: CurrentUserType,
+    private val authHeaderProvider: AuthHeaderProvider,
     private val build: Build,
     private val pxManager: PerimeterXClientType
 ) : Interceptor {
@@ -23,10 +22,9 @@ class GraphQLInterceptor(
         val original = chain.request()
         val builder = original.newBuilder().method(original.method, original.body)
 
-        this.currentUser.observable()
-            .subscribe {
-                builder.addHeader("Authorization", "token " + this.currentUser.accessToken)
-            }
+        this.authHeaderProvider.authorizationHeader()?.let {
+            builder.addHeader("Authorization", it)
+        }
 
         builder.addHeader("User-Agent", WebUtils.userAgent(this.build))
             .addHeader("X-KICKSTARTER-CLIENT", this.clientId)
@@ -2,7 +2,6 @@ package com.kickstarter.services.interceptors
 
 import android.net.Uri
 import com.kickstarter.libs.Build
-import com.kickstarter.libs.CurrentUserType
 import com.kickstarter.libs.InternalToolsType
 import com.kickstarter.libs.perimeterx.PerimeterXClientType
 import com.kickstarter.libs.utils.Secrets
@@ -10,7 +9,6 @@ import com.kickstarter.libs.utils.WebUtils.userAgent
 import com.kickstarter.libs.utils.extensions.isHivequeenUri
 import com.kickstarter.libs.utils.extensions.isStagingUri
 import com.kickstarter.libs.utils.extensions.isWebUri
-import com.kickstarter.models.User
 import okhttp3.Credentials
 import okhttp3.Interceptor
 import okhttp3.Interceptor.Chain
@@ -22,22 +20,13 @@ import java.io.IOException
  * Interceptor for web requests to Kickstarter, not API requests. Used by web views and the web client.
  */
 class WebRequestInterceptor(
-    private val currentUser: CurrentUserType,
+    private val authHeaderProvider: AuthHeaderProvider,
     private val endpoint: String,
     private val internalTools: InternalToolsType,
     private val build: Build,
     private val pxManager: PerimeterXClientType
 ) : Interceptor {
 
-    private var loggedInUser: User? = null
-
-    init {
-        currentUser.observable()
-            .subscribe {
-                loggedInUser = it
-            }
-    }
-
     @Throws(IOException::class)
     override fun intercept(chain: Chain): Response {
         return chain.proceed(request(chain.request()))
@@ -52,9 +41,9 @@ class WebRequestInterceptor(
 
         val basicAuthorizationHeader = internalTools.basicAuthorizationHeader()
 
-        loggedInUser?.let {
-            requestBuilder.addHeader("Authorization", "token " + this.currentUser.accessToken)
-        } ?: basicAuthorizationHeader?.let {
+        if (authHeaderProvider.isLoggedIn()) {
+            requestBuilder.addHeader("Authorization", "token " + authHeaderProvider.accessToken())
+        } else basicAuthorizationHeader?.let {
             if (shouldAddBasicAuthorizationHeader(initialRequest))
                 requestBuilder.addHeader("Authorization", it)
         }
@@ -76,7 +65,7 @@ class WebRequestInterceptor(
     private fun shouldIntercept(request: Request) = Uri.parse(request.url.toString()).isWebUri(endpoint)
 
     private fun shouldAddBasicAuthorizationHeader(request: Request) =
-        if (loggedInUser == null) {
+        if (!authHeaderProvider.isLoggedIn()) {
             Uri.parse(request.url.toString()).isHivequeenUri(endpoint)
         } else false
 
@@ -1,6 +1,5 @@
 package com.kickstarter.services.transformers
 
-import com.google.android.gms.common.util.Base64Utils
 import com.kickstarter.libs.Permission
 import com.kickstarter.libs.utils.extensions.negate
 import com.kickstarter.mock.factories.RewardFactory
@@ -32,32 +31,15 @@ import type.CollaboratorPermission
 import type.CreditCardPaymentType
 import type.RewardType
 import type.ShippingPreference
-import java.nio.charset.Charset
-import kotlin.math.absoluteValue
 
 /**
  * Set of package level functions that will be used to transform the GraphQL data structures into
  * Kickstarter Data Models.
  */
 
-fun decodeRelayId(encodedRelayId: String?): Long? {
-    return try {
-        encodedRelayId?.let {
-            String(Base64Utils.decode(it), Charset.defaultCharset())
-                .replaceBeforeLast("-", "", "")
-                .toLong()
-                .absoluteValue
-        }
-    } catch (e: Exception) {
-        null
-    }
-}
+fun decodeRelayId(encodedRelayId: String?): Long? = encodedRelayId?.let { RelayIdCodec.decode(it) }
 
-fun <T : Relay> encodeRelayId(relay: T): String {
-    val classSimpleName = relay.javaClass.simpleName.replaceFirst("AutoParcel_", "")
-    val id = relay.id()
-    return Base64Utils.encodeUrlSafe(("$classSimpleName-$id").toByteArray(Charset.defaultCharset()))
-}
+fun <T : Relay> encodeRelayId(relay: T): String = RelayIdCodec.encode(relay)
 
 /**
  * Transform the ProjectFaq GraphQL data structure into our own ProjectFaq data model
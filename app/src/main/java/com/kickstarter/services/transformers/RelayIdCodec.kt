@@ -0,0 +1,169 @@
+package com.kickstarter.services.transformers
+
+import com.google.android.gms.common.util.Base64Utils
+import com.kickstarter.models.Relay
+import java.nio.charset.Charset
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.math.absoluteValue
+
+/**
+ * Encodes and decodes relay IDs, the base64 of `<Type>-<id>` that GraphQL identifies every node by.
+ *
+ * Both run once per project, reward, comment and backing we transform, so they work on bytes: decoding reads the id
+ * straight from the decoded bytes and encoding writes the id after the type's prefix, which is built once per class.
+ * Anything the fast path doesn't expect, like whitespace, url safe characters or non ASCII text, goes through the
+ * original string based implementation, so every input decodes exactly as it always has.
+ */
+object RelayIdCodec {
+    private const val ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+    private const val URL_SAFE_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+    private const val PADDING = '='
+    private const val DASH: Byte = 0x2D // -
+    private const val ZERO: Byte = 0x30 // 0
+
+    private val alphabetValues = IntArray(128) { -1 }.also { values ->
+        ALPHABET.forEachIndexed { index, char -> values[char.code] = index }
+    }
+
+    private val prefixes = ConcurrentHashMap<Class<*>, ByteArray>()
+
+    /**
+     * Returns the id encoded in `encodedRelayId`, or null when it isn't a relay ID.
+     */
+    fun decode(encodedRelayId: String): Long? {
+        val bytes = decodeBase64(encodedRelayId)
+        if (bytes == null || bytes.any { it < 0 }) {
+            return decodeAsString(encodedRelayId)
+        }
+
+        val dash = bytes.lastIndexOf(DASH)
+        return if (dash < 0) null else parseId(bytes, dash + 1)
+    }
+
+    /**
+     * Returns the url safe relay ID of `relay`, named after its class.
+     */
+    fun encode(relay: Relay): String {
+        val prefix = prefixes.getOrPut(relay.javaClass) {
+            "${relay.javaClass.simpleName.replaceFirst("AutoParcel_", "")}-".toByteArray(Charset.defaultCharset())
+        }
+
+        val id = relay.id()
+        val bytes = prefix.copyOf(prefix.size + length(id))
+        var remaining = id
+        var index = bytes.size
+        // - Takes the absolute value of each remainder rather than of the id, so Long.MIN_VALUE needs no special case.
+        do {
+            bytes[--index] = (ZERO + (remaining % 10).toInt().absoluteValue).toByte()
+            remaining /= 10
+        } while (remaining != 0L)
+        if (id < 0) {
+            bytes[--index] = DASH
+        }
+
+        return encodeBase64UrlSafe(bytes)
+    }
+
+    /**
+     * Parses the ASCII digits from `start` to the end of `bytes` the way the original decoder did, which parsed them
+     * with the dash before them, as in `"-<digits>".toLong().absoluteValue`. So a sign after the dash isn't an id, and
+     * digits that only fit as a negative long decode to [Long.MIN_VALUE].
+     */
+    private fun parseId(bytes: ByteArray, start: Int): Long? {
+        if (start == bytes.size) {
+            return null
+        }
+
+        // - Accumulates negatively, like String.toLong, so Long.MIN_VALUE can be parsed.
+        var id = 0L
+        for (index in start until bytes.size) {
+            val digit = bytes[index] - ZERO
+            if (digit !in 0..9 || id < (Long.MIN_VALUE + digit) / 10) {
+                return null
+            }
+            id = id * 10 - digit
+        }
+        return id.absoluteValue
+    }
+
+    /**
+     * Decodes padded, standard base64 with no whitespace, or returns null for anything else.
+     */
+    private fun decodeBase64(encoded: String): ByteArray? {
+        val length = encoded.length
+        if (length == 0 || length % 4 != 0) {
+            return null
+        }
+
+        val padding = when {
+            encoded[length - 2] == PADDING && encoded[length - 1] == PADDING -> 2
+            encoded[length - 1] == PADDING -> 1
+            else -> 0
+        }
+        val bytes = ByteArray(length / 4 * 3 - padding)
+        var byteIndex = 0
+        var charIndex = 0
+        while (charIndex < length) {
+            val last = charIndex == length - 4
+            val first = value(encoded[charIndex])
+            val second = value(encoded[charIndex + 1])
+            val third = if (last && padding == 2) 0 else value(encoded[charIndex + 2])
+            val fourth = if (last && padding >= 1) 0 else value(encoded[charIndex + 3])
+            if (first < 0 || second < 0 || third < 0 || fourth < 0) {
+                return null
+            }
+
+            val bits = first shl 18 or (second shl 12) or (third shl 6) or fourth
+            bytes[byteIndex++] = (bits shr 16).toByte()
+            if (byteIndex < bytes.size) bytes[byteIndex++] = (bits shr 8).toByte()
+            if (byteIndex < bytes.size) bytes[byteIndex++] = bits.toByte()
+            // - Leftover bits in a padded quartet are left to the original decoder to accept or reject.
+            if (last && (padding == 2 && bits and 0xFFFF != 0 || padding == 1 && bits and 0xFF != 0)) {
+                return null
+            }
+            charIndex += 4
+        }
+        return bytes
+    }
+
+    private fun value(char: Char): Int = if (char.code < 128) this.alphabetValues[char.code] else -1
+
+    private fun encodeBase64UrlSafe(bytes: ByteArray): String {
+        val chars = CharArray((bytes.size + 2) / 3 * 4)
+        var charIndex = 0
+        var byteIndex = 0
+        while (byteIndex < bytes.size) {
+            val remaining = bytes.size - byteIndex
+            val bits = (bytes[byteIndex].toInt() and 0xFF shl 16) or
+                (if (remaining > 1) bytes[byteIndex + 1].toInt() and 0xFF shl 8 else 0) or
+                (if (remaining > 2) bytes[byteIndex + 2].toInt() and 0xFF else 0)
+            chars[charIndex++] = URL_SAFE_ALPHABET[bits shr 18 and 0x3F]
+            chars[charIndex++] = URL_SAFE_ALPHABET[bits shr 12 and 0x3F]
+            chars[charIndex++] = if (remaining > 1) URL_SAFE_ALPHABET[bits shr 6 and 0x3F] else PADDING
+            chars[charIndex++] = if (remaining > 2) URL_SAFE_ALPHABET[bits and 0x3F] else PADDING
+            byteIndex += 3
+        }
+        return String(chars)
+    }
+
+    private fun length(id: Long): Int {
+        var length = if (id < 0) 2 else 1
+        var remaining = id / 10
+        while (remaining != 0L) {
+            length++
+            remaining /= 10
+        }
+        return length
+    }
+
+    private fun decodeAsString(encodedRelayId: String): Long? {
+        return try {
+            String(Base64Utils.decode(encodedRelayId), Charset.defaultCharset())
+                .replaceBeforeLast("-", "", "")
+                .toLong()
+                .absoluteValue
+        } catch (e: Exception) {
+            null
+        }
+    }
+}
@@ -7,12 +7,11 @@ import com.kickstarter.databinding.ActivityEditProfileBinding
 import com.kickstarter.libs.BaseActivity
 import com.kickstarter.libs.qualifiers.RequiresActivityViewModel
 import com.kickstarter.libs.rx.transformers.Transformers
-import com.kickstarter.libs.transformations.CircleTransformation
 import com.kickstarter.libs.utils.SwitchCompatUtils
 import com.kickstarter.libs.utils.extensions.isFalse
 import com.kickstarter.models.User
+import com.kickstarter.ui.extensions.loadCircleImage
 import com.kickstarter.viewmodels.EditProfileViewModel
-import com.squareup.picasso.Picasso
 import rx.android.schedulers.AndroidSchedulers
 
 @RequiresActivityViewModel(EditProfileViewModel.ViewModel::class)
@@ -29,7 +28,7 @@ class EditProfileActivity : BaseActivity<EditProfileViewModel.ViewModel>() {
             .compose(bindToLifecycle())
             .compose(Transformers.observeForUI())
             .subscribe { url ->
-                Picasso.get().load(url).transform(CircleTransformation()).into(binding.avatarImageView)
+                binding.avatarImageView.loadCircleImage(url)
             }
 
         this.viewModel.outputs.user()
@@ -37,6 +37,9 @@ class MessagesActivity : BaseActivity<MessagesViewModel.ViewModel>() {
     private lateinit var adapter: MessagesAdapter
 
     private lateinit var binding: MessagesLayoutBinding
+
+    // - Set when the view model asks to scroll to the newest message, which may arrive before the adapter has it.
+    private var scrollToBottomRequested = false
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
         binding = MessagesLayoutBinding.inflate(layoutInflater)
@@ -109,7 +112,14 @@ class MessagesActivity : BaseActivity<MessagesViewModel.ViewModel>() {
         viewModel.outputs.messageList()
             .compose(bindToLifecycle())
             .compose<List<Message?>>(Transformers.observeForUI())
-            .subscribe { adapter.messages(it) }
+            .subscribe {
+                adapter.messages(it) {
+                    if (scrollToBottomRequested) {
+                        scrollToBottomRequested = false
+                        scrollToBottom()
+                    }
+                }
+            }
 
         viewModel.outputs.projectNameTextViewText()
             .compose(bindToLifecycle())
@@ -134,7 +144,10 @@ class MessagesActivity : BaseActivity<MessagesViewModel.ViewModel>() {
         viewModel.outputs.scrollRecyclerViewToBottom()
             .compose(bindToLifecycle())
             .compose(Transformers.observeForUI())
-            .subscribe { binding.messagesRecyclerView.scrollToPosition(adapter.itemCount - 1) }
+            .subscribe {
+                scrollToBottomRequested = true
+                scrollToBottom()
+            }
 
         viewModel.outputs.setMessageEditText()
             .compose(bindToLifecycle())
@@ -243,6 +256,12 @@ class MessagesActivity : BaseActivity<MessagesViewModel.ViewModel>() {
         }
     }
 
+    private fun scrollToBottom() {
+        if (adapter.itemCount > 0) {
+            binding.messagesRecyclerView.scrollToPosition(adapter.itemCount - 1)
+        }
+    }
+
     private fun setDefaultRecyclerViewBottomPadding() =
         binding
             .messagesRecyclerView
@@ -13,11 +13,10 @@ import com.kickstarter.libs.KSString
 import com.kickstarter.libs.Logout
 import com.kickstarter.libs.qualifiers.RequiresActivityViewModel
 import com.kickstarter.libs.rx.transformers.Transformers
-import com.kickstarter.libs.transformations.CircleTransformation
 import com.kickstarter.libs.utils.ApplicationUtils
 import com.kickstarter.libs.utils.ViewUtils
+import com.kickstarter.ui.extensions.loadCircleImage
 import com.kickstarter.viewmodels.SettingsViewModel
-import com.squareup.picasso.Picasso
 import rx.android.schedulers.AndroidSchedulers
 
 @RequiresActivityViewModel(SettingsViewModel.ViewModel::class)
@@ -50,7 +49,7 @@ class SettingsActivity : BaseActivity<SettingsViewModel.ViewModel>() {
         this.viewModel.outputs.avatarImageViewUrl()
             .compose(bindToLifecycle())
             .compose(Transformers.observeForUI())
-            .subscribe { url -> Picasso.get().load(url).transform(CircleTransformation()).into(binding.profilePictureImageView) }
+            .subscribe { url -> binding.profilePictureImageView.loadCircleImage(url) }
 
         this.viewModel.outputs.logout()
             .compose(bindToLifecycle())
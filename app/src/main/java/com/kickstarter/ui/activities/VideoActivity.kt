@@ -2,36 +2,25 @@ package com.kickstarter.ui.activities
 
 import android.app.Activity
 import android.content.Intent
-import android.net.Uri
 import android.os.Bundle
 import android.view.View
-import com.google.android.exoplayer2.C
-import com.google.android.exoplayer2.MediaItem
+import com.google.android.exoplayer2.ExoPlayer
 import com.google.android.exoplayer2.Player
-import com.google.android.exoplayer2.SimpleExoPlayer
-import com.google.android.exoplayer2.source.MediaSource
-import com.google.android.exoplayer2.source.ProgressiveMediaSource
-import com.google.android.exoplayer2.source.hls.HlsMediaSource
-import com.google.android.exoplayer2.trackselection.AdaptiveTrackSelection
-import com.google.android.exoplayer2.trackselection.DefaultTrackSelector
-import com.google.android.exoplayer2.upstream.DefaultHttpDataSource
-import com.google.android.exoplayer2.util.Util
 import com.kickstarter.databinding.VideoPlayerLayoutBinding
 import com.kickstarter.libs.BaseActivity
-import com.kickstarter.libs.Build
+import com.kickstarter.libs.VideoPlayerPool
 import com.kickstarter.libs.qualifiers.RequiresActivityViewModel
 import com.kickstarter.libs.rx.transformers.Transformers
-import com.kickstarter.libs.utils.WebUtils.userAgent
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.viewmodels.VideoViewModel
 import com.trello.rxlifecycle.ActivityEvent
 
 @RequiresActivityViewModel(VideoViewModel.ViewModel::class)
 class VideoActivity : BaseActivity<VideoViewModel.ViewModel>() {
-    private lateinit var build: Build
-    private var player: SimpleExoPlayer? = null
+    private lateinit var videoPlayerPool: VideoPlayerPool
+    private var player: ExoPlayer? = null
     private var playerPosition: Long? = null
-    private var trackSelector: DefaultTrackSelector? = null
+    private var videoUrl: String? = null
     private lateinit var binding: VideoPlayerLayoutBinding
 
     override fun onCreate(savedInstanceState: Bundle?) {
@@ -39,7 +28,7 @@ class VideoActivity : BaseActivity<VideoViewModel.ViewModel>() {
         binding = VideoPlayerLayoutBinding.inflate(layoutInflater)
         setContentView(binding.root)
 
-        build = requireNotNull(environment().build())
+        videoPlayerPool = requireNotNull(environment().videoPlayerPool())
 
         viewModel.outputs.preparePlayerWithUrl()
             .compose(Transformers.takeWhen(lifecycle().filter { other: ActivityEvent? -> ActivityEvent.RESUME.equals(other) }))
@@ -106,42 +95,25 @@ class VideoActivity : BaseActivity<VideoViewModel.ViewModel>() {
         }
     }
 
+    /**
+     * Plays `videoUrl` on the player the story was playing it on, so what's buffered already isn't downloaded again.
+     */
     private fun preparePlayer(videoUrl: String) {
-        val adaptiveTrackSelectionFactory: AdaptiveTrackSelection.Factory = AdaptiveTrackSelection.Factory()
-        trackSelector = DefaultTrackSelector(this, adaptiveTrackSelectionFactory)
-//        player = ExoPlayerFactory.newSimpleInstance(this, trackSelector)
-        val player2 = trackSelector?.let {
-            SimpleExoPlayer.Builder(this).setTrackSelector(
-                it
-            )
-        }
-        val playerBuilder = SimpleExoPlayer.Builder(this)
-        trackSelector?.let { playerBuilder.setTrackSelector(it) }
-        player = playerBuilder.build()
+        this.videoUrl = videoUrl
+        player = videoPlayerPool.player(videoUrl)
 
+        binding.playerView.player = null
         binding.playerView.player = player
         player?.addListener(eventListener)
 
-        val playerIsResuming = (playerPosition != 0L)
-        player?.prepare(getMediaSource(videoUrl), playerIsResuming, false)
         playerPosition?.let {
-            player?.seekTo(it)
+            if (it != 0L) {
+                player?.seekTo(it)
+            }
         }
         player?.playWhenReady = true
     }
 
-    private fun getMediaSource(videoUrl: String): MediaSource {
-        val dataSourceFactory = DefaultHttpDataSource.Factory().setUserAgent(userAgent(build))
-        val videoUri = Uri.parse(videoUrl)
-        val fileType = Util.inferContentType(videoUri)
-
-        return if (fileType == C.TYPE_HLS) {
-            HlsMediaSource.Factory(dataSourceFactory).createMediaSource(MediaItem.fromUri(videoUri))
-        } else {
-            ProgressiveMediaSource.Factory(dataSourceFactory).createMediaSource(MediaItem.fromUri(videoUri))
-        }
-    }
-
     private fun releasePlayer() {
         if (player != null) {
             playerPosition = player?.currentPosition
@@ -149,8 +121,8 @@ class VideoActivity : BaseActivity<VideoViewModel.ViewModel>() {
                 viewModel.inputs.onVideoCompleted(it, playerPosition ?: 0L)
             }
             player?.removeListener(eventListener)
-            player?.release()
-            trackSelector = null
+            binding.playerView.player = null
+            videoUrl?.let { videoPlayerPool.recycle(it) }
             player = null
         }
     }
@@ -24,6 +24,14 @@ class DiscoveryProjectCardAdapter(private val delegate: Delegate) : KSListAdapte
         submitList(items())
     }
 
+    /**
+     * The photo of the project card at `position`, loaded by [ProjectCardViewHolder].
+     */
+    fun photoUrl(position: Int): String? {
+        val projectAndParams = objectFromPosition(position) as? Pair<*, *>
+        return (projectAndParams?.first as? Project)?.photo()?.full()
+    }
+
     override fun layout(sectionRow: SectionRow): Int = R.layout.project_card_view
 
     override fun viewHolder(@LayoutRes layout: Int, viewGroup: ViewGroup): KSViewHolder {
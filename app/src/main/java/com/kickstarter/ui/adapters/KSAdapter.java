@@ -6,6 +6,9 @@ import android.view.ViewGroup;
 
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.firebase.crashlytics.FirebaseCrashlytics;
@@ -17,19 +20,43 @@ import com.trello.rxlifecycle.ActivityEvent;
 import java.util.ArrayList;
 import java.util.List;
 
+import rx.Scheduler;
+import rx.android.schedulers.AndroidSchedulers;
+import rx.schedulers.Schedulers;
+
 public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
   private final List<List<Object>> sections = new ArrayList<>();
 
+  /**
+   * Prefix sums of the section sizes: {@code sectionOffsets[i]} is the position of the first row of section {@code i} and
+   * {@code sectionOffsets[sections.size()]} is the item count. Rebuilt lazily after the sections change.
+   */
+  private int[] sectionOffsets = new int[1];
+  private boolean sectionOffsetsInvalid = true;
+  private final SectionRow reusableSectionRow = new SectionRow();
+
+  private @Nullable SectionDiffer sectionDiffer;
+  private @NonNull Scheduler diffScheduler = Schedulers.computation();
+  private @NonNull Scheduler mainScheduler = AndroidSchedulers.mainThread();
+
+  /**
+   * Returns the backing sections. Callers may mutate them, so the position index is rebuilt on the next lookup.
+   */
   public List<List<Object>> sections() {
+    this.sectionOffsetsInvalid = true;
     return this.sections;
   }
 
   public void clearSections() {
+    cancelPendingDiff();
     this.sections.clear();
+    this.sectionOffsetsInvalid = true;
   }
 
   public <T> void addSection(final @NonNull List<T> section) {
+    cancelPendingDiff();
     this.sections.add(new ArrayList<>(section));
+    this.sectionOffsetsInvalid = true;
   }
 
   public <T> void addSections(final @NonNull List<List<T>> sections) {
@@ -39,11 +66,90 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
   }
 
   public <T> void setSection(final int location, final @NonNull List<T> section) {
+    cancelPendingDiff();
     this.sections.set(location, new ArrayList<>(section));
+    this.sectionOffsetsInvalid = true;
   }
 
   public <T> void insertSection(final int location, final @NonNull List<T> section) {
+    cancelPendingDiff();
     this.sections.add(location, new ArrayList<>(section));
+    this.sectionOffsetsInvalid = true;
+  }
+
+  /**
+   * Replaces the sections with {@code newSections}, diffing them against the current sections off the main thread and
+   * notifying only the rows that were inserted, removed, moved or changed. Rows appended to the end of a section, as when
+   * a new page is loaded, are notified as a single range insert.
+   */
+  protected void submitSections(final @NonNull List<? extends List<?>> newSections) {
+    submitSections(newSections, null);
+  }
+
+  /**
+   * Same as {@link #submitSections(List)}, {@code commitCallback} runs once the new sections are in place and the updates
+   * have been dispatched.
+   */
+  protected void submitSections(final @NonNull List<? extends List<?>> newSections, final @Nullable Runnable commitCallback) {
+    final List<List<Object>> oldSections = new ArrayList<>(this.sections);
+    sectionDiffer().submit(oldSections, new ArrayList<>(newSections), (diffedSections, result) -> {
+      this.sections.clear();
+      this.sections.addAll(diffedSections);
+      this.sectionOffsetsInvalid = true;
+      result.dispatchUpdatesTo(new AdapterListUpdateCallback(this));
+      if (commitCallback != null) {
+        commitCallback.run();
+      }
+    });
+  }
+
+  /**
+   * Whether two objects represent the same row, used when diffing submitted sections. Defaults to equality.
+   */
+  protected boolean areItemsTheSame(final @Nullable Object oldItem, final @Nullable Object newItem) {
+    return oldItem == null ? newItem == null : oldItem.equals(newItem);
+  }
+
+  /**
+   * Whether a row that is the same in both sections needs rebinding, used when diffing submitted sections. Defaults
+   * to equality.
+   */
+  protected boolean areContentsTheSame(final @Nullable Object oldItem, final @Nullable Object newItem) {
+    return oldItem == null ? newItem == null : oldItem.equals(newItem);
+  }
+
+  @VisibleForTesting
+  void setSectionDiffSchedulers(final @NonNull Scheduler diffScheduler, final @NonNull Scheduler mainScheduler) {
+    cancelPendingDiff();
+    this.sectionDiffer = null;
+    this.diffScheduler = diffScheduler;
+    this.mainScheduler = mainScheduler;
+  }
+
+  private @NonNull SectionDiffer sectionDiffer() {
+    if (this.sectionDiffer == null) {
+      this.sectionDiffer = new SectionDiffer(new SectionDiffer.ItemCallback() {
+        @Override
+        public boolean areItemsTheSame(final @Nullable Object oldItem, final @Nullable Object newItem) {
+          return KSAdapter.this.areItemsTheSame(oldItem, newItem);
+        }
+
+        @Override
+        public boolean areContentsTheSame(final @Nullable Object oldItem, final @Nullable Object newItem) {
+          return KSAdapter.this.areContentsTheSame(oldItem, newItem);
+        }
+      }, this.diffScheduler, this.mainScheduler);
+    }
+    return this.sectionDiffer;
+  }
+
+  /**
+   * Sections set directly win over a diff still in flight.
+   */
+  private void cancelPendingDiff() {
+    if (this.sectionDiffer != null) {
+      this.sectionDiffer.cancel();
+    }
   }
 
   /**
@@ -110,12 +216,7 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
 
   @Override
   public final int getItemCount() {
-    int itemCount = 0;
-    for (final List<?> section : this.sections) {
-      itemCount += section.size();
-    }
-
-    return itemCount;
+    return sectionOffsets()[this.sections.size()];
   }
 
   /**
@@ -126,10 +227,10 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
   }
 
   protected int sectionCount(final int section) {
-    if (section > sections().size() - 1) {
+    if (section > this.sections.size() - 1) {
       return 0;
     }
-    return sections().get(section).size();
+    return this.sections.get(section).size();
   }
 
   /**
@@ -139,21 +240,51 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
     return objectFromSectionRow(sectionRowFromPosition(position));
   }
 
+  /**
+   * Binary searches the section offsets for the last section starting at or before {@code position}. Empty sections share
+   * their offset with the following section, so the last match is the non-empty section that holds the row. The returned
+   * {@link SectionRow} is reused between calls and must not be held on to.
+   */
   private @NonNull SectionRow sectionRowFromPosition(final int position) {
-    final SectionRow sectionRow = new SectionRow();
-    int cursor = 0;
-    for (final List<?> section : this.sections) {
-      for (final Object __ : section) {
-        if (cursor == position) {
-          return sectionRow;
-        }
-        cursor++;
-        sectionRow.nextRow();
+    final int[] offsets = sectionOffsets();
+    final int sectionCount = this.sections.size();
+
+    if (position < 0 || position >= offsets[sectionCount]) {
+      throw new RuntimeException("Position " + position + " not found in sections");
+    }
+
+    int low = 0;
+    int high = sectionCount - 1;
+    while (low < high) {
+      final int mid = (low + high + 1) >>> 1;
+      if (offsets[mid] <= position) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    this.reusableSectionRow.set(low, position - offsets[low]);
+    return this.reusableSectionRow;
+  }
+
+  private @NonNull int[] sectionOffsets() {
+    if (this.sectionOffsetsInvalid) {
+      final int sectionCount = this.sections.size();
+      if (this.sectionOffsets.length != sectionCount + 1) {
+        this.sectionOffsets = new int[sectionCount + 1];
+      }
+
+      int offset = 0;
+      for (int i = 0; i < sectionCount; i++) {
+        this.sectionOffsets[i] = offset;
+        offset += this.sections.get(i).size();
       }
-      sectionRow.nextSection();
+      this.sectionOffsets[sectionCount] = offset;
+      this.sectionOffsetsInvalid = false;
     }
 
-    throw new RuntimeException("Position " + position + " not found in sections");
+    return this.sectionOffsets;
   }
 
   private @NonNull View inflateView(final @NonNull ViewGroup viewGroup, final @LayoutRes int viewType) {
@@ -194,5 +325,10 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
       this.section++;
       this.row = 0;
     }
+
+    private void set(final int section, final int row) {
+      this.section = section;
+      this.row = row;
+    }
   }
 }
@@ -27,15 +27,23 @@ abstract class KSListAdapter(
 ) : ListAdapter<Any, KSViewHolder>(diffUtil) {
     private val sections = ArrayList<List<Any>>()
 
+    /**
+     * Prefix sums of the section sizes, see [KSAdapter]. Rebuilt lazily after the sections change.
+     */
+    private var sectionOffsets = IntArray(1)
+    private var sectionOffsetsInvalid = true
+
     fun sections(): List<List<Any>> {
         return this.sections
     }
 
     fun clearSections() {
+        this.sectionOffsetsInvalid = true
         this.sections.clear()
     }
 
     fun <T> addSection(section: List<T>) {
+        this.sectionOffsetsInvalid = true
         this.sections.add(ArrayList<Any>(section))
     }
 
@@ -46,7 +54,7 @@ abstract class KSListAdapter(
     }
 
     protected fun items(): MutableList<Any> {
-        val items = ArrayList<Any>()
+        val items = ArrayList<Any>(sectionOffsets()[this.sections.size])
         for (section in sections) {
             items.addAll(section)
         }
@@ -55,10 +63,12 @@ abstract class KSListAdapter(
     }
 
     fun <T> setSection(location: Int, section: List<T>) {
+        this.sectionOffsetsInvalid = true
         this.sections[location] = ArrayList<Any>(section)
     }
 
     fun <T> insertSection(location: Int, section: List<T>) {
+        this.sectionOffsetsInvalid = true
         this.sections.add(location, ArrayList<Any>(section))
     }
 
@@ -121,7 +131,7 @@ abstract class KSListAdapter(
     }
 
     override fun getItemCount(): Int {
-        return items().size
+        return sectionOffsets()[this.sections.size]
     }
 
     /**
@@ -144,21 +154,49 @@ abstract class KSListAdapter(
         return objectFromSectionRow(sectionRowFromPosition(position))
     }
 
+    /**
+     * Binary searches the section offsets for the last section starting at or before [position], which is the non-empty
+     * section holding the row.
+     */
     private fun sectionRowFromPosition(position: Int): SectionRow {
-        val sectionRow = SectionRow()
-        var cursor = 0
-        for (section in this.sections) {
-            for (item in section) {
-                if (cursor == position) {
-                    return sectionRow
-                }
-                cursor++
-                sectionRow.nextRow()
+        val offsets = sectionOffsets()
+        val sectionCount = this.sections.size
+
+        if (position < 0 || position >= offsets[sectionCount]) {
+            throw RuntimeException("Position $position not found in sections")
+        }
+
+        var low = 0
+        var high = sectionCount - 1
+        while (low < high) {
+            val mid = (low + high + 1) ushr 1
+            if (offsets[mid] <= position) {
+                low = mid
+            } else {
+                high = mid - 1
+            }
+        }
+
+        return SectionRow(low, position - offsets[low])
+    }
+
+    private fun sectionOffsets(): IntArray {
+        if (this.sectionOffsetsInvalid) {
+            val sectionCount = this.sections.size
+            if (this.sectionOffsets.size != sectionCount + 1) {
+                this.sectionOffsets = IntArray(sectionCount + 1)
+            }
+
+            var offset = 0
+            for (i in 0 until sectionCount) {
+                this.sectionOffsets[i] = offset
+                offset += this.sections[i].size
             }
-            sectionRow.nextSection()
+            this.sectionOffsets[sectionCount] = offset
+            this.sectionOffsetsInvalid = false
         }
 
-        throw RuntimeException("Position $position not found in sections")
+        return this.sectionOffsets
     }
 
     private fun inflateView(viewGroup: ViewGroup, @LayoutRes viewType: Int): View {
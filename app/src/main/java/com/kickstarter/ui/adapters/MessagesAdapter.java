@@ -5,6 +5,7 @@ import android.view.ViewGroup;
 
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.kickstarter.R;
 import com.kickstarter.databinding.MessageCenterTimestampLayoutBinding;
@@ -16,6 +17,7 @@ import com.kickstarter.ui.viewholders.MessageViewHolder;
 
 import org.joda.time.DateTime;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,18 +36,34 @@ public final class MessagesAdapter extends KSAdapter {
   }
 
   public void messages(final @NonNull List<Message> messages) {
-    clearSections();
+    messages(messages, null);
+  }
+
+  /**
+   * Same as {@link #messages(List)}, {@code commitCallback} runs once the messages are in place.
+   */
+  public void messages(final @NonNull List<Message> messages, final @Nullable Runnable commitCallback) {
+    final List<List<?>> sections = new ArrayList<>();
 
     // Group messages by start of day.
     Observable.from(messages)
       .groupBy(message -> message.createdAt().withTimeAtStartOfDay())
       .forEach(dateAndGroupedMessages -> {
-        addSection(Collections.singletonList(dateAndGroupedMessages.getKey()));
+        sections.add(Collections.singletonList(dateAndGroupedMessages.getKey()));
         dateAndGroupedMessages
-          .forEach(message -> addSection(Collections.singletonList(message)));
+          .forEach(message -> sections.add(Collections.singletonList(message)));
       });
 
-    notifyDataSetChanged();
+    final int previousLastPosition = getItemCount() - 1;
+    submitSections(sections, () -> {
+      // The previous last message is only told it is last when bound, so rebind it once new messages follow it.
+      if (previousLastPosition >= 0 && previousLastPosition < getItemCount() - 1) {
+        notifyItemChanged(previousLastPosition);
+      }
+      if (commitCallback != null) {
+        commitCallback.run();
+      }
+    });
   }
 
   @Override
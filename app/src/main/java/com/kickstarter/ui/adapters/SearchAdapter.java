@@ -17,6 +17,7 @@ import com.kickstarter.ui.viewholders.KSViewHolder;
 import com.kickstarter.ui.viewholders.PopularSearchTitleViewHolder;
 import com.kickstarter.ui.viewholders.ProjectSearchResultViewHolder;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -36,47 +37,37 @@ public final class SearchAdapter extends KSAdapter {
   }
 
   public void loadPopularProjects(final @NonNull List<Project> newProjects) {
-    clearSections();
-
-    if (newProjects.size() > 0) {
-      this.insertSection(SECTION_POPULAR_TITLE, Collections.singletonList(null));
-      this.insertSection(
-        SECTION_FEATURED_PROJECT,
-        Collections.singletonList(
-          Pair.create(newProjects.get(0), true)
-        )
-      );
-      this.insertSection(
-        SECTION_PROJECT,
-        Observable.from(newProjects.subList(1, newProjects.size()))
-          .map(p -> Pair.create(p, false))
-          .toList().toBlocking().first()
-      );
-    }
-
-    notifyDataSetChanged();
+    submitSections(sectionsFromProjects(newProjects, Collections.singletonList(null)));
   }
 
   public void loadSearchProjects(final @NonNull List<Project> newProjects) {
-    clearSections();
+    submitSections(sectionsFromProjects(newProjects, Collections.emptyList()));
+  }
 
-    if (newProjects.size() > 0) {
-      this.insertSection(SECTION_POPULAR_TITLE, Collections.emptyList());
-      this.insertSection(
-        SECTION_FEATURED_PROJECT,
-        Collections.singletonList(
-          Pair.create(newProjects.get(0), true)
-        )
-      );
-      this.insertSection(
-        SECTION_PROJECT,
-        Observable.from(newProjects.subList(1, newProjects.size()))
-          .map(p -> Pair.create(p, false))
-          .toList().toBlocking().first()
-      );
+  /**
+   * Sections for the title, the featured first project and the rest of the projects, or no sections when there are no
+   * projects.
+   */
+  private static @NonNull List<List<?>> sectionsFromProjects(final @NonNull List<Project> newProjects, final @NonNull List<?> titleSection) {
+    if (newProjects.isEmpty()) {
+      return Collections.emptyList();
     }
 
-    notifyDataSetChanged();
+    final List<List<?>> sections = new ArrayList<>();
+    sections.add(SECTION_POPULAR_TITLE, titleSection);
+    sections.add(
+      SECTION_FEATURED_PROJECT,
+      Collections.singletonList(
+        Pair.create(newProjects.get(0), true)
+      )
+    );
+    sections.add(
+      SECTION_PROJECT,
+      Observable.from(newProjects.subList(1, newProjects.size()))
+        .map(p -> Pair.create(p, false))
+        .toList().toBlocking().first()
+    );
+    return sections;
   }
 
   protected @LayoutRes int layout(final @NonNull SectionRow sectionRow) {
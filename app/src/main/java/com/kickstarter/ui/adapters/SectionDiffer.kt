@@ -0,0 +1,174 @@
+package com.kickstarter.ui.adapters
+
+import androidx.recyclerview.widget.DiffUtil
+import androidx.recyclerview.widget.ListUpdateCallback
+import rx.Observable
+import rx.Scheduler
+import rx.Subscription
+
+/**
+ * Computes the difference between two lists of sections on [diffScheduler] and delivers it on [mainScheduler], the
+ * sectioned counterpart of `AsyncListDiffer`. Each section is diffed on its own and the updates are offset by the
+ * position of the section, so a page appended to the last section is dispatched as a single range insert.
+ */
+class SectionDiffer(
+    private val itemCallback: ItemCallback,
+    private val diffScheduler: Scheduler,
+    private val mainScheduler: Scheduler
+) {
+    interface ItemCallback {
+        fun areItemsTheSame(oldItem: Any?, newItem: Any?): Boolean
+        fun areContentsTheSame(oldItem: Any?, newItem: Any?): Boolean
+    }
+
+    fun interface OnDiffedListener {
+        fun onDiffed(sections: List<MutableList<Any?>>, result: Result)
+    }
+
+    private var generation = 0
+    private var pending: Subscription? = null
+
+    /**
+     * Diffs [newSections] against [oldSections] and calls [listener] on the main scheduler with the copied new sections
+     * and the result to dispatch. Results of submissions that were superseded or cancelled are dropped.
+     */
+    fun submit(
+        oldSections: List<List<Any?>>,
+        newSections: List<List<Any?>>,
+        listener: OnDiffedListener
+    ) {
+        val submitted = ++this.generation
+        this.pending?.unsubscribe()
+        this.pending = Observable.fromCallable { calculate(oldSections, newSections) }
+            .subscribeOn(this.diffScheduler)
+            .observeOn(this.mainScheduler)
+            .subscribe { sectionsAndResult ->
+                if (submitted == this.generation) {
+                    listener.onDiffed(sectionsAndResult.first, sectionsAndResult.second)
+                }
+            }
+    }
+
+    /**
+     * Drops any diff in flight, call when the sections are changed without going through [submit].
+     */
+    fun cancel() {
+        this.generation++
+        this.pending?.unsubscribe()
+        this.pending = null
+    }
+
+    private fun calculate(oldSections: List<List<Any?>>, newSections: List<List<Any?>>): Pair<List<MutableList<Any?>>, Result> {
+        val copiedSections = newSections.map { it.toMutableList() }
+        val sectionCount = maxOf(oldSections.size, copiedSections.size)
+        val sectionUpdates = ArrayList<SectionUpdate>(sectionCount)
+
+        // - Updates are positioned against the old sections, since they're dispatched before the later ones change.
+        var offset = 0
+        for (section in 0 until sectionCount) {
+            val oldSection = oldSections.getOrNull(section)
+            val newSection = copiedSections.getOrNull(section)
+
+            sectionUpdates.add(
+                when {
+                    oldSection == null -> SectionUpdate.Inserted(offset, newSection?.size ?: 0)
+                    newSection == null -> SectionUpdate.Removed(offset, oldSection.size)
+                    else -> diffSection(offset, oldSection, newSection)
+                }
+            )
+            offset += oldSection?.size ?: 0
+        }
+
+        return Pair(copiedSections, Result(sectionUpdates))
+    }
+
+    private fun diffSection(offset: Int, oldSection: List<Any?>, newSection: List<Any?>): SectionUpdate {
+        if (isAppend(oldSection, newSection)) {
+            return SectionUpdate.Inserted(offset + oldSection.size, newSection.size - oldSection.size)
+        }
+
+        val diffResult = DiffUtil.calculateDiff(
+            object : DiffUtil.Callback() {
+                override fun getOldListSize() = oldSection.size
+
+                override fun getNewListSize() = newSection.size
+
+                override fun areItemsTheSame(oldItemPosition: Int, newItemPosition: Int) =
+                    itemCallback.areItemsTheSame(oldSection[oldItemPosition], newSection[newItemPosition])
+
+                override fun areContentsTheSame(oldItemPosition: Int, newItemPosition: Int) =
+                    itemCallback.areContentsTheSame(oldSection[oldItemPosition], newSection[newItemPosition])
+            },
+            true
+        )
+
+        return SectionUpdate.Diffed(offset, diffResult)
+    }
+
+    /**
+     * `true` when [newSection] is [oldSection] with rows added at the end, the common case of a paginated list.
+     */
+    private fun isAppend(oldSection: List<Any?>, newSection: List<Any?>): Boolean {
+        if (newSection.size < oldSection.size) {
+            return false
+        }
+
+        for (i in oldSection.indices) {
+            val oldItem = oldSection[i]
+            val newItem = newSection[i]
+            if (oldItem !== newItem && !(this.itemCallback.areItemsTheSame(oldItem, newItem) && this.itemCallback.areContentsTheSame(oldItem, newItem))) {
+                return false
+            }
+        }
+
+        return true
+    }
+
+    /**
+     * Per section updates, dispatched from the last section to the first so the offsets of the sections that are not
+     * yet updated stay valid.
+     */
+    class Result internal constructor(private val sectionUpdates: List<SectionUpdate>) {
+        fun dispatchUpdatesTo(callback: ListUpdateCallback) {
+            for (i in this.sectionUpdates.indices.reversed()) {
+                this.sectionUpdates[i].dispatchUpdatesTo(callback)
+            }
+        }
+    }
+
+    internal sealed class SectionUpdate {
+        abstract fun dispatchUpdatesTo(callback: ListUpdateCallback)
+
+        class Inserted(private val position: Int, private val count: Int) : SectionUpdate() {
+            override fun dispatchUpdatesTo(callback: ListUpdateCallback) {
+                if (this.count > 0) {
+                    callback.onInserted(this.position, this.count)
+                }
+            }
+        }
+
+        class Removed(private val position: Int, private val count: Int) : SectionUpdate() {
+            override fun dispatchUpdatesTo(callback: ListUpdateCallback) {
+                if (this.count > 0) {
+                    callback.onRemoved(this.position, this.count)
+                }
+            }
+        }
+
+        class Diffed(private val offset: Int, private val diffResult: DiffUtil.DiffResult) : SectionUpdate() {
+            override fun dispatchUpdatesTo(callback: ListUpdateCallback) {
+                this.diffResult.dispatchUpdatesTo(OffsetListUpdateCallback(this.offset, callback))
+            }
+        }
+    }
+
+    private class OffsetListUpdateCallback(private val offset: Int, private val callback: ListUpdateCallback) : ListUpdateCallback {
+        override fun onInserted(position: Int, count: Int) = this.callback.onInserted(this.offset + position, count)
+
+        override fun onRemoved(position: Int, count: Int) = this.callback.onRemoved(this.offset + position, count)
+
+        override fun onMoved(fromPosition: Int, toPosition: Int) = this.callback.onMoved(this.offset + fromPosition, this.offset + toPosition)
+
+        override fun onChanged(position: Int, count: Int, payload: Any?) = this.callback.onChanged(this.offset + position, count, payload)
+    }
+}
@@ -18,6 +18,7 @@ import com.kickstarter.ui.viewholders.ProjectCardViewHolder;
 import com.kickstarter.ui.viewholders.ThanksCategoryViewHolder;
 import com.kickstarter.ui.viewholders.ThanksShareViewHolder;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 public final class ThanksAdapter extends KSAdapter {
@@ -60,9 +61,12 @@ public final class ThanksAdapter extends KSAdapter {
   }
 
   public void takeData(final @NonNull ThanksData data) {
-    setSection(SECTION_SHARE_VIEW, Collections.singletonList(data.getBackedProject()));
-    setSection(SECTION_RECOMMENDED_PROJECTS_VIEW, data.getRecommendedProjects());
-    setSection(SECTION_CATEGORY_VIEW, Collections.singletonList(data.getCategory()));
-    notifyDataSetChanged();
+    submitSections(
+      Arrays.asList(
+        Collections.singletonList(data.getBackedProject()),
+        data.getRecommendedProjects(),
+        Collections.singletonList(data.getCategory())
+      )
+    );
   }
 }
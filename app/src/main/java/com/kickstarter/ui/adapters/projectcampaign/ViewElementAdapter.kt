@@ -12,6 +12,7 @@ import com.kickstarter.databinding.ViewElementExternalSourceFromHtmlBinding
 import com.kickstarter.databinding.ViewElementImageFromHtmlBinding
 import com.kickstarter.databinding.ViewElementTextFromHtmlBinding
 import com.kickstarter.databinding.ViewElementVideoFromHtmlBinding
+import com.kickstarter.libs.VideoPlayerPool
 import com.kickstarter.libs.htmlparser.AudioViewElement
 import com.kickstarter.libs.htmlparser.ExternalSourceViewElement
 import com.kickstarter.libs.htmlparser.ImageViewElement
@@ -26,6 +27,7 @@ import com.kickstarter.ui.viewholders.projectcampaign.TextElementViewHolder
 import com.kickstarter.ui.viewholders.projectcampaign.VideoElementViewHolder
 import com.trello.rxlifecycle.FragmentEvent
 import rx.Observable
+import kotlin.math.abs
 
 /**
  * Adapter Specific to hold a list of ViewElements from the HTML Parser
@@ -33,7 +35,8 @@ import rx.Observable
 class ViewElementAdapter(
     val requireActivity: FragmentActivity,
     private val fullScreenDelegate: FullScreenDelegate,
-    private val lifecycle: Observable<FragmentEvent>
+    private val lifecycle: Observable<FragmentEvent>,
+    private val videoPlayerPool: VideoPlayerPool
 ) : RecyclerView
 .Adapter<RecyclerView.ViewHolder>() {
 
@@ -246,7 +249,7 @@ class ViewElementAdapter(
 
     override fun onViewRecycled(holder: RecyclerView.ViewHolder) {
         (holder as? VideoElementViewHolder)?.let { videoElementViewHolder ->
-            videoElementViewHolder.releasePlayer(index = videoElementViewHolder.bindingAdapterPosition)
+            videoElementViewHolder.releasePlayer()
         }
         (holder as? ImageElementViewHolder)?.let {
             it.binding.imageView.setImage("")
@@ -266,21 +269,37 @@ class ViewElementAdapter(
     }
 
     fun playIndexThenPausePreviousPlayer(index: Int) {
-        VideoElementViewHolder.playIndexThenPausePreviousPlayer(index)
+        videoUrl(index)?.let { videoPlayerPool.resume(it) }
     }
 
     fun releaseAllPlayers() {
-        VideoElementViewHolder.releaseAllPlayers()
+        videoPlayerPool.releaseAll()
     }
 
     fun releasePlayersOnPause() {
-        VideoElementViewHolder.releasePlayersOnPause()
+        videoPlayerPool.pauseAll()
     }
 
     fun setPlayerSeekPosition(index: Int, seekPosition: Long) {
-        VideoElementViewHolder.setPlayerSeekPosition(index, seekPosition)
+        videoUrl(index)?.let {
+            videoPlayerPool.seekTo(it, seekPosition)
+            // - Attaches the player to the story again after it was shown fullscreen.
+            notifyItemChanged(index)
+        }
+    }
+
+    /**
+     * Downloads the start of the video closest to `index` so it starts right away once it's scrolled to.
+     */
+    fun prefetchVideoNear(index: Int) {
+        val videos = elements.currentList.withIndex().filter { it.value is VideoViewElement }
+        val nearest = videos.minByOrNull { abs(it.index - index) } ?: return
+        videoPlayerPool.prefetch((nearest.value as VideoViewElement).sourceUrl)
     }
 
+    private fun videoUrl(index: Int): String? =
+        (elements.currentList.getOrNull(index) as? VideoViewElement)?.sourceUrl
+
     interface FullScreenDelegate {
         fun onFullScreenOpened(index: Int, source: String, seekPosition: Long = 0L)
     }
@@ -3,43 +3,82 @@ package com.kickstarter.ui.extensions
 import android.content.Context
 import android.graphics.Color
 import android.graphics.drawable.ColorDrawable
+import android.graphics.drawable.Drawable
 import android.widget.ImageView
 import androidx.appcompat.widget.AppCompatImageView
 import com.bumptech.glide.Glide
+import com.bumptech.glide.RequestBuilder
+import com.bumptech.glide.RequestManager
+import com.bumptech.glide.load.DataSource
 import com.bumptech.glide.load.engine.DiskCacheStrategy
+import com.bumptech.glide.load.engine.GlideException
+import com.bumptech.glide.request.RequestListener
+import com.bumptech.glide.request.target.Target
 import com.kickstarter.R
 import com.kickstarter.libs.transformations.CircleTransformation
 import com.kickstarter.libs.utils.extensions.isKSApplication
-import com.squareup.picasso.Callback
-import com.squareup.picasso.Picasso
 
+/**
+ * Every image goes through Glide, configured in [com.kickstarter.libs.KSGlideModule], so images share one memory cache
+ * and one disk cache and are decoded at the size of the view.
+ */
 fun ImageView.loadCircleImage(url: String?) {
     url?.let {
-        Picasso.get().load(it)
-            .transform(CircleTransformation())
-            .into(this)
+        imageRequests()
+            ?.load(it)
+            ?.transform(CircleTransformation())
+            ?.diskCacheStrategy(DiskCacheStrategy.ALL)
+            ?.into(this)
+    }
+}
+
+fun ImageView.loadImage(url: String?, placeholder: Drawable? = null) {
+    imageRequests()
+        ?.load(url)
+        ?.placeholder(placeholder)
+        ?.into(this)
+}
+
+/**
+ * Loads `url` cropped to `width` by `height`, the same request [croppedImage] makes so a preloaded image is used.
+ */
+fun ImageView.loadCroppedImage(url: String?, width: Int, height: Int, placeholder: Drawable? = null) {
+    url?.let {
+        imageRequests()
+            ?.croppedImage(it, width, height)
+            ?.placeholder(placeholder)
+            ?.into(this)
     }
 }
 
 fun ImageView.loadImage(url: String?, context: Context, imageViewPlaceholder: AppCompatImageView? = null) {
     val target = this
     if (context.applicationContext.isKSApplication()) {
-        Picasso
-            .get()
+        Glide.with(this)
             .load(url)
-            .into(
-                this,
-                object : Callback {
-                    override fun onSuccess() {
-                        imageViewPlaceholder?.setImageDrawable(target.drawable)
-                    }
-
-                    override fun onError(e: Exception?) {
-                        target.setImageDrawable(null)
-                        imageViewPlaceholder?.setImageDrawable(null)
-                    }
+            .listener(object : RequestListener<Drawable> {
+                override fun onResourceReady(
+                    resource: Drawable?,
+                    model: Any?,
+                    target: Target<Drawable>?,
+                    dataSource: DataSource?,
+                    isFirstResource: Boolean
+                ): Boolean {
+                    imageViewPlaceholder?.setImageDrawable(resource)
+                    return false
+                }
+
+                override fun onLoadFailed(
+                    e: GlideException?,
+                    model: Any?,
+                    target: Target<Drawable>?,
+                    isFirstResource: Boolean
+                ): Boolean {
+                    imageViewPlaceholder?.setImageDrawable(null)
+                    return false
                 }
-            )
+            })
+            .into(target)
     } else {
         this.setImageResource(R.drawable.image_placeholder)
     }
@@ -47,7 +86,7 @@ fun ImageView.loadImage(url: String?, context: Context, imageViewPlaceholder: Ap
 
 fun ImageView.loadGifImage(url: String?, context: Context) {
     if (context.applicationContext.isKSApplication()) {
-        Glide.with(context)
+        Glide.with(this)
             .asGif()
             .placeholder(ColorDrawable(Color.TRANSPARENT))
             .diskCacheStrategy(DiskCacheStrategy.ALL)
@@ -57,3 +96,14 @@ fun ImageView.loadGifImage(url: String?, context: Context) {
         this.setImageResource(R.drawable.image_placeholder)
     }
 }
+
+fun RequestManager.croppedImage(url: String, width: Int, height: Int): RequestBuilder<Drawable> =
+    load(url)
+        .override(width, height)
+        .centerCrop()
+
+/**
+ * Images aren't loaded from the network in unit tests.
+ */
+private fun ImageView.imageRequests(): RequestManager? =
+    if (context.applicationContext.isKSApplication()) Glide.with(this) else null
@@ -11,6 +11,11 @@ import android.widget.ImageView
 import androidx.core.view.isGone
 import androidx.recyclerview.widget.ConcatAdapter
 import androidx.recyclerview.widget.LinearLayoutManager
+import com.bumptech.glide.Glide
+import com.bumptech.glide.ListPreloader
+import com.bumptech.glide.RequestBuilder
+import com.bumptech.glide.integration.recyclerview.RecyclerViewPreloader
+import com.bumptech.glide.util.FixedPreloadSizeProvider
 import com.jakewharton.rxbinding.view.RxView
 import com.kickstarter.R
 import com.kickstarter.databinding.FragmentDiscoveryBinding
@@ -25,6 +30,8 @@ import com.kickstarter.libs.utils.AnimationUtils.crossFadeAndReverse
 import com.kickstarter.libs.utils.TransitionUtils
 import com.kickstarter.libs.utils.ViewUtils
 import com.kickstarter.libs.utils.extensions.getProjectIntent
+import com.kickstarter.libs.utils.extensions.isKSApplication
+import com.kickstarter.libs.utils.extensions.photoHeightFromWidthRatio
 import com.kickstarter.models.Activity
 import com.kickstarter.models.Category
 import com.kickstarter.models.Project
@@ -41,7 +48,9 @@ import com.kickstarter.ui.adapters.DiscoveryOnboardingAdapter
 import com.kickstarter.ui.adapters.DiscoveryProjectCardAdapter
 import com.kickstarter.ui.data.Editorial
 import com.kickstarter.ui.data.LoginReason
+import com.kickstarter.ui.extensions.croppedImage
 import com.kickstarter.ui.viewholders.EditorialViewHolder
+import com.kickstarter.ui.viewholders.ProjectCardViewHolder
 import com.kickstarter.viewmodels.DiscoveryFragmentViewModel
 import rx.android.schedulers.AndroidSchedulers
 import rx.schedulers.Schedulers
@@ -80,6 +89,9 @@ class DiscoveryFragment : BaseFragment<DiscoveryFragmentViewModel.ViewModel>() {
                 { this@DiscoveryFragment.viewModel.inputs.nextPage() },
                 this@DiscoveryFragment.viewModel.outputs.isFetchingProjects()
             )
+            if (context.applicationContext.isKSApplication()) {
+                addOnScrollListener(projectCardPhotoPreloader(discoveryAdapter, discoveryProjectCardAdapter))
+            }
         }
 
         binding?.discoverySwipeRefreshLayout?.let {
@@ -288,7 +300,37 @@ class DiscoveryFragment : BaseFragment<DiscoveryFragmentViewModel.ViewModel>() {
         binding?.discoveryRecyclerView?.smoothScrollToPosition(0)
     }
 
+    /**
+     * Loads the photos of the next project cards before they're scrolled to, with the same request the cards make.
+     */
+    private fun projectCardPhotoPreloader(
+        discoveryAdapter: ConcatAdapter,
+        projectCardAdapter: DiscoveryProjectCardAdapter
+    ): RecyclerViewPreloader<String> {
+        val photoWidth = ProjectCardViewHolder.photoWidth(requireContext())
+        val photoHeight = photoHeightFromWidthRatio(photoWidth)
+        val requests = Glide.with(this)
+
+        val photos = object : ListPreloader.PreloadModelProvider<String> {
+            override fun getPreloadItems(position: Int): List<String> {
+                val adapterAndPosition = discoveryAdapter.getWrappedAdapterAndPosition(position)
+                return if (adapterAndPosition.first === projectCardAdapter) {
+                    listOfNotNull(projectCardAdapter.photoUrl(adapterAndPosition.second))
+                } else {
+                    emptyList()
+                }
+            }
+
+            override fun getPreloadRequestBuilder(url: String): RequestBuilder<*> =
+                requests.croppedImage(url, photoWidth, photoHeight)
+        }
+
+        return RecyclerViewPreloader(requests, photos, FixedPreloadSizeProvider(photoWidth, photoHeight), PRELOADED_PROJECT_CARDS)
+    }
+
     companion object {
+        private const val PRELOADED_PROJECT_CARDS = 4
+
         @JvmStatic
         fun newInstance(position: Int): DiscoveryFragment {
             val fragment = DiscoveryFragment()
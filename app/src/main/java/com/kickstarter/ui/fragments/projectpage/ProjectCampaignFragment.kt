@@ -8,6 +8,7 @@ import android.view.ViewGroup
 import androidx.activity.result.contract.ActivityResultContracts
 import androidx.recyclerview.widget.ConcatAdapter
 import androidx.recyclerview.widget.LinearLayoutManager
+import com.kickstarter.KSApplication
 import com.kickstarter.R
 import com.kickstarter.databinding.FragmentProjectCampaignBinding
 import com.kickstarter.libs.BaseFragment
@@ -50,7 +51,8 @@ class ProjectCampaignFragment :
 
     override fun onViewCreated(view: View, savedInstanceState: Bundle?) {
         super.onViewCreated(view, savedInstanceState)
-        viewElementAdapter = ViewElementAdapter(requireActivity(), this, this.lifecycle())
+        val videoPlayerPool = requireNotNull((activity?.applicationContext as? KSApplication)?.component()?.environment()?.videoPlayerPool())
+        viewElementAdapter = ViewElementAdapter(requireActivity(), this, this.lifecycle(), videoPlayerPool)
         val headerElementAdapter = HeaderElementAdapter()
 
         binding?.projectCampaignViewListItems?.itemAnimator = null
@@ -104,7 +106,10 @@ class ProjectCampaignFragment :
             override fun onItemIsFirstVisibleItem(index: Int) {
                 // play just visible item
                 if (index != -1) {
-                    viewElementAdapter?.playIndexThenPausePreviousPlayer(index)
+                    // - The story comes after the header in the list.
+                    val elementIndex = index - headerElementAdapter.itemCount
+                    viewElementAdapter?.playIndexThenPausePreviousPlayer(elementIndex)
+                    viewElementAdapter?.prefetchVideoNear(elementIndex)
                 }
             }
         }
@@ -22,7 +22,6 @@ import com.kickstarter.libs.Configure
 import com.kickstarter.libs.KSString
 import com.kickstarter.libs.qualifiers.RequiresFragmentViewModel
 import com.kickstarter.libs.rx.transformers.Transformers
-import com.kickstarter.libs.transformations.CircleTransformation
 import com.kickstarter.libs.utils.DateTimeUtils
 import com.kickstarter.libs.utils.NumberUtils
 import com.kickstarter.libs.utils.SocialUtils
@@ -35,13 +34,13 @@ import com.kickstarter.ui.ArgumentsKey
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.activities.ProjectSocialActivity
 import com.kickstarter.ui.data.ProjectData
+import com.kickstarter.ui.extensions.loadCircleImage
 import com.kickstarter.ui.extensions.startCampaignWebViewActivity
 import com.kickstarter.ui.extensions.startCreatorBioWebViewActivity
 import com.kickstarter.ui.extensions.startCreatorDashboardActivity
 import com.kickstarter.ui.extensions.startProjectUpdatesActivity
 import com.kickstarter.ui.extensions.startRootCommentsActivity
 import com.kickstarter.viewmodels.projectpage.ProjectOverviewViewModel
-import com.squareup.picasso.Picasso
 import org.joda.time.DateTime
 
 @RequiresFragmentViewModel(ProjectOverviewViewModel.ViewModel::class)
@@ -227,10 +226,7 @@ class ProjectOverviewFragment : BaseFragment<ProjectOverviewViewModel.ViewModel>
             .compose(Transformers.observeForUI())
             .subscribe { url: String? ->
                 url?.let {
-                    Picasso.get()
-                        .load(it)
-                        .transform(CircleTransformation())
-                        .into(binding.projectSocialImage)
+                    binding.projectSocialImage.loadCircleImage(it)
                 }
             }
 
@@ -379,15 +375,8 @@ class ProjectOverviewFragment : BaseFragment<ProjectOverviewViewModel.ViewModel>
     }
 
     private fun setAvatar(url: String) {
-        Picasso.get()
-            .load(url)
-            .transform(CircleTransformation())
-            .into(binding.avatar)
-
-        Picasso.get()
-            .load(url)
-            .transform(CircleTransformation())
-            .into(binding.creatorAvatarVerified.avatarVariant)
+        binding.avatar.loadCircleImage(url)
+        binding.creatorAvatarVerified.avatarVariant.loadCircleImage(url)
     }
 
     private fun setConvertedCurrencyView(pledgedAndGoal: Pair<String, String>) {
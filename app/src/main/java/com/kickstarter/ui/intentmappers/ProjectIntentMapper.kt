@@ -8,6 +8,7 @@ import com.kickstarter.libs.utils.extensions.query
 import com.kickstarter.models.Project
 import com.kickstarter.services.ApiClientType
 import com.kickstarter.services.ApolloClientType
+import com.kickstarter.services.FetchPolicy
 import com.kickstarter.services.apiresponses.PushNotificationEnvelope
 import com.kickstarter.ui.IntentKey
 import rx.Observable
@@ -35,14 +36,18 @@ object ProjectIntentMapper {
                 .startWith(intentProject)
                 .retry(3)
 
+        // - Render straight away from the normalized cache when the project was seen before,
+        // then emit again once the network response arrives.
         val projectFromParceledParam = Observable.just(paramFromIntent(intent))
             .filter { `object`: String? -> ObjectUtils.isNotNull(`object`) }
             .switchMap { slug: String? ->
-                slug?.let { apolloClient.getProject(it) }
+                slug?.let { apolloClient.getProject(it, FetchPolicy.CACHE_AND_NETWORK) }
             }
             .retry(3)
         return projectFromParceledProject
-            .mergeWith(projectFromParceledParam).last()
+            .takeLast(1)
+            .mergeWith(projectFromParceledParam)
+            .switchIfEmpty(Observable.error(NoSuchElementException("Sequence contains no elements")))
     }
 
     /**
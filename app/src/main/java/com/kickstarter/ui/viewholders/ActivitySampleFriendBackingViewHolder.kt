@@ -5,12 +5,11 @@ import android.view.View
 import com.kickstarter.R
 import com.kickstarter.databinding.ActivitySampleFriendBackingViewBinding
 import com.kickstarter.libs.rx.transformers.Transformers
-import com.kickstarter.libs.transformations.CircleTransformation
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.models.Activity
 import com.kickstarter.models.Project
+import com.kickstarter.ui.extensions.loadCircleImage
 import com.kickstarter.viewmodels.ActivitySampleFriendBackingViewHolderViewModel
-import com.squareup.picasso.Picasso
 
 class ActivitySampleFriendBackingViewHolder(
     private val binding: ActivitySampleFriendBackingViewBinding,
@@ -36,9 +35,7 @@ class ActivitySampleFriendBackingViewHolder(
                 if (user != null && project != null) {
                     binding.activityTitle.visibility = View.GONE
                     user.avatar().small()?.let { url ->
-                        Picasso.get().load(url)
-                            .transform(CircleTransformation())
-                            .into(binding.activityImage)
+                        binding.activityImage.loadCircleImage(url)
                     }
                     binding.activitySubtitle.text = Html.fromHtml(
                         ksString.format(
@@ -4,11 +4,10 @@ import android.view.View
 import com.kickstarter.R
 import com.kickstarter.databinding.ActivitySampleFriendFollowViewBinding
 import com.kickstarter.libs.rx.transformers.Transformers
-import com.kickstarter.libs.transformations.CircleTransformation
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.models.Activity
+import com.kickstarter.ui.extensions.loadCircleImage
 import com.kickstarter.viewmodels.ActivitySampleFriendFollowViewHolderViewModel
-import com.squareup.picasso.Picasso
 
 class ActivitySampleFriendFollowViewHolder(
     private val binding: ActivitySampleFriendFollowViewBinding,
@@ -30,9 +29,7 @@ class ActivitySampleFriendFollowViewHolder(
             .subscribe {
                 it.user()?.let { user ->
                     user.avatar()?.small()?.let {
-                        Picasso.get().load(it)
-                            .transform(CircleTransformation())
-                            .into(binding.activityImage)
+                        binding.activityImage.loadCircleImage(it)
                     }
 
                     binding.activityTitle.text = ksString.format(
@@ -6,8 +6,8 @@ import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.models.Activity
 import com.kickstarter.models.Project
+import com.kickstarter.ui.extensions.loadImage
 import com.kickstarter.viewmodels.ActivitySampleProjectViewHolderViewModel
-import com.squareup.picasso.Picasso
 
 class ActivitySampleProjectViewHolder(
     private val binding: ActivitySampleProjectViewBinding,
@@ -39,9 +39,7 @@ class ActivitySampleProjectViewHolder(
                 activity.project()?.let { project ->
                     val photo = project.photo()
                     photo?.let {
-                        Picasso.get()
-                            .load(photo.little())
-                            .into(binding.activityImage)
+                        binding.activityImage.loadImage(photo.little())
                     }
                     binding.activityTitle.text = project.name()
                     val activitySubtitleText = when (activity.category()) {
@@ -8,8 +8,8 @@ import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.libs.utils.extensions.deadlineCountdownDetail
 import com.kickstarter.models.Project
+import com.kickstarter.ui.extensions.loadImage
 import com.kickstarter.viewmodels.ProjectSearchResultHolderViewModel
-import com.squareup.picasso.Picasso
 
 class FeaturedSearchResultViewHolder(
     private val binding: FeaturedSearchResultViewBinding,
@@ -54,7 +54,7 @@ class FeaturedSearchResultViewHolder(
     }
 
     private fun setProjectImageUrl(imageUrl: String) {
-        Picasso.get().load(imageUrl).into(binding.projectImageView)
+        binding.projectImageView.loadImage(imageUrl)
     }
 
     override fun onClick(view: View) {
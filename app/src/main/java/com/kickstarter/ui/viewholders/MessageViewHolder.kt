@@ -2,12 +2,11 @@ package com.kickstarter.ui.viewholders
 
 import com.kickstarter.databinding.MessageViewBinding
 import com.kickstarter.libs.rx.transformers.Transformers
-import com.kickstarter.libs.transformations.CircleTransformation
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.libs.utils.ViewUtils
 import com.kickstarter.models.Message
+import com.kickstarter.ui.extensions.loadCircleImage
 import com.kickstarter.viewmodels.MessageHolderViewModel
-import com.squareup.picasso.Picasso
 
 class MessageViewHolder(private val binding: MessageViewBinding) : KSViewHolder(binding.root) {
     private val viewModel = MessageHolderViewModel.ViewModel(environment())
@@ -60,8 +59,6 @@ class MessageViewHolder(private val binding: MessageViewBinding) : KSViewHolder(
     }
 
     private fun setParticipantAvatarImageView(avatarUrl: String) {
-        Picasso.get().load(avatarUrl)
-            .transform(CircleTransformation())
-            .into(binding.messageSenderAvatarImageView)
+        binding.messageSenderAvatarImageView.loadCircleImage(avatarUrl)
     }
 }
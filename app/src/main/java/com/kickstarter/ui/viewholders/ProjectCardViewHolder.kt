@@ -1,5 +1,6 @@
 package com.kickstarter.ui.viewholders
 
+import android.content.Context
 import android.text.SpannableString
 import android.text.style.ForegroundColorSpan
 import android.util.Pair
@@ -23,8 +24,8 @@ import com.kickstarter.models.Project
 import com.kickstarter.models.User
 import com.kickstarter.services.DiscoveryParams
 import com.kickstarter.ui.extensions.loadCircleImage
+import com.kickstarter.ui.extensions.loadCroppedImage
 import com.kickstarter.viewmodels.ProjectCardHolderViewModel
-import com.squareup.picasso.Picasso
 import org.joda.time.DateTime
 
 class ProjectCardViewHolder(
@@ -267,18 +268,13 @@ class ProjectCardViewHolder(
     }
 
     private fun resizeProjectImage(avatarUrl: String?) {
-        val targetImageWidth = (ViewUtils.getScreenWidthDp(context()) * ViewUtils.getScreenDensity(context()) - context().resources.getDimension(R.dimen.grid_4)).toInt()
+        val targetImageWidth = photoWidth(context())
         val targetImageHeight = photoHeightFromWidthRatio(targetImageWidth)
 
         binding.projectCardPhoto.photo.maxHeight = targetImageHeight
         avatarUrl?.let {
             ResourcesCompat.getDrawable(context().resources, R.drawable.gray_gradient, null)?.let { placeholder ->
-                Picasso.get()
-                    .load(it)
-                    .resize(targetImageWidth, targetImageHeight) // required to fit properly into apis < 18
-                    .centerCrop()
-                    .placeholder(placeholder)
-                    .into(binding.projectCardPhoto.photo)
+                binding.projectCardPhoto.photo.loadCroppedImage(it, targetImageWidth, targetImageHeight, placeholder)
             }
         }
     }
@@ -348,4 +344,13 @@ class ProjectCardViewHolder(
     private fun setSuspendedAtTextView(projectSuspendedAt: DateTime) {
         binding.projectStateViewGroup.fundingUnsuccessfulDateTextView.text = DateTimeUtils.relative(context(), ksString, projectSuspendedAt)
     }
+
+    companion object {
+        /**
+         * The width project photos are loaded at, so they can be preloaded at the same size.
+         */
+        @JvmStatic
+        fun photoWidth(context: Context): Int =
+            (ViewUtils.getScreenWidthDp(context) * ViewUtils.getScreenDensity(context) - context.resources.getDimension(R.dimen.grid_4)).toInt()
+    }
 }
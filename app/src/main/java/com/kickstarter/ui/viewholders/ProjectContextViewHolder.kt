@@ -5,7 +5,7 @@ import com.kickstarter.R
 import com.kickstarter.databinding.ProjectContextViewBinding
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.models.Project
-import com.squareup.picasso.Picasso
+import com.kickstarter.ui.extensions.loadImage
 
 class ProjectContextViewHolder(
     private val binding: ProjectContextViewBinding,
@@ -29,7 +29,7 @@ class ProjectContextViewHolder(
         val photo = project?.photo()
         if (photo != null) {
             binding.projectContextImageView.visibility = View.VISIBLE
-            Picasso.get().load(photo.full()).into(binding.projectContextImageView)
+            binding.projectContextImageView.loadImage(photo.full())
         } else {
             binding.projectContextImageView.visibility = View.INVISIBLE
         }
@@ -1,10 +1,9 @@
 package com.kickstarter.ui.viewholders
 
 import com.kickstarter.databinding.ProjectSocialViewBinding
-import com.kickstarter.libs.transformations.CircleTransformation
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.models.User
-import com.squareup.picasso.Picasso
+import com.kickstarter.ui.extensions.loadCircleImage
 
 class ProjectSocialViewHolder(private val binding: ProjectSocialViewBinding) : KSViewHolder(binding.root) {
     private var user: User? = null
@@ -15,10 +14,7 @@ class ProjectSocialViewHolder(private val binding: ProjectSocialViewBinding) : K
 
     override fun onBind() {
         user?.avatar()?.small()?.let {
-            Picasso.get()
-                .load(it)
-                .transform(CircleTransformation())
-                .into(binding.friendImage)
+            binding.friendImage.loadCircleImage(it)
         }
         binding.friendName.text = user?.name()
     }
@@ -10,7 +10,7 @@ import com.kickstarter.databinding.MediaHeaderBinding
 import com.kickstarter.libs.utils.ViewUtils
 import com.kickstarter.libs.utils.extensions.photoHeightFromWidthRatio
 import com.kickstarter.libs.utils.extensions.toVisibility
-import com.squareup.picasso.Picasso
+import com.kickstarter.ui.extensions.loadCroppedImage
 import rx.Observable
 import rx.subjects.PublishSubject
 
@@ -57,12 +57,7 @@ class MediaHeader @JvmOverloads constructor(
             if (photo != null) {
                 ResourcesCompat.getDrawable(context.resources, R.drawable.gray_gradient, null)
                     ?.let {
-                        Picasso.get()
-                            .load(photo)
-                            .resize(targetImageWidth, targetImageHeight)
-                            .centerCrop()
-                            .placeholder(it)
-                            .into(binding.videoProjectPhoto)
+                        binding.videoProjectPhoto.loadCroppedImage(photo, targetImageWidth, targetImageHeight, it)
                     }
             }
         }
@@ -6,6 +6,7 @@ import com.kickstarter.libs.ApiPaginator
 import com.kickstarter.libs.CurrentUserType
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.ExperimentsClientType
+import com.kickstarter.libs.loadmore.PaginationSnapshotStoreType
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.EventContextValues
 import com.kickstarter.libs.utils.extensions.intValueOrZero
@@ -86,6 +87,7 @@ interface ActivityFeedViewModel {
         private val apolloClient: ApolloClientType
         private val currentUser: CurrentUserType
         private val optimizely: ExperimentsClientType
+        private val paginationSnapshotStore: PaginationSnapshotStoreType?
 
         private val discoverProjectsClick = PublishSubject.create<Void>()
         private val friendBackingClick = PublishSubject.create<Activity>()
@@ -120,6 +122,7 @@ interface ActivityFeedViewModel {
             apolloClient = requireNotNull(environment.apolloClient())
             currentUser = requireNotNull(environment.currentUser())
             optimizely = requireNotNull(environment.optimizely())
+            paginationSnapshotStore = environment.paginationSnapshotStore()
 
             goToDiscovery = discoverProjectsClick
             goToLogin = loginClick
@@ -195,6 +198,13 @@ interface ActivityFeedViewModel {
                         paginationPath
                     )
                 }
+                .apply {
+                    paginationSnapshotStore?.let { store ->
+                        snapshots(store, Activity::class.java) {
+                            currentUser.observable().take(1).map { "activities:${it?.id()}" }
+                        }
+                    }
+                }
                 .build()
 
             paginator.paginatedData()
@@ -16,6 +16,7 @@ import com.kickstarter.models.Backing
 import com.kickstarter.models.Project
 import com.kickstarter.models.Reward
 import com.kickstarter.models.ShippingRule
+import com.kickstarter.services.FetchPolicy
 import com.kickstarter.ui.ArgumentsKey
 import com.kickstarter.ui.data.PledgeData
 import com.kickstarter.ui.data.PledgeReason
@@ -227,7 +228,7 @@ class BackingAddOnsFragmentViewModel {
             Observable
                 .combineLatest(this.retryButtonPressed.startWith(false), reward) { _, rw ->
                     return@combineLatest this.apolloClient
-                        .getShippingRules(rw)
+                        .getShippingRules(rw, FetchPolicy.CACHE_AND_NETWORK)
                         .doOnError {
                             this.showErrorDialog.onNext(true)
                             this.shippingSelectorIsGone.onNext(true)
@@ -255,7 +256,7 @@ class BackingAddOnsFragmentViewModel {
                     val projectSlug = pj.slug() ?: ""
 
                     return@combineLatest this.apolloClient
-                        .getProjectAddOns(projectSlug, shipRuleLocation)
+                        .getProjectAddOns(projectSlug, shipRuleLocation, FetchPolicy.CACHE_AND_NETWORK)
                         .doOnError {
                             this.showErrorDialog.onNext(true)
                             this.shippingSelectorIsGone.onNext(true)
@@ -77,6 +77,7 @@ interface CommentsViewModel {
 
         private val apolloClient = requireNotNull(environment.apolloClient())
         private val currentUserStream = requireNotNull(environment.currentUser())
+        private val paginationSnapshotStore = environment.paginationSnapshotStore()
         val inputs: Inputs = this
         val outputs: Outputs = this
         private val backPressed = PublishSubject.create<Void>()
@@ -437,6 +438,15 @@ interface CommentsViewModel {
                         loadWithProjectOrUpdateComments(Observable.just(it.first), it.second)
                     }
                     .clearWhenStartingOver(false)
+                    .apply {
+                        paginationSnapshotStore?.let { store ->
+                            snapshots(store, CommentCardData::class.java, { it.comment?.id() }) { params ->
+                                currentUserStream.observable().take(1).map {
+                                    "comments:${it?.id()}:${params.second?.id()?.let { id -> "update:$id" } ?: "project:${params.first.slug()}"}"
+                                }
+                            }
+                        }
+                    }
                     .build()
 
             apolloPaginate.isFetching()
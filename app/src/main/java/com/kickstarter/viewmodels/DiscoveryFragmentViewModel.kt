@@ -5,12 +5,12 @@ import com.kickstarter.libs.Environment
 import com.kickstarter.libs.FragmentViewModel
 import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.loadmore.ApolloPaginate.Companion.builder
+import com.kickstarter.libs.loadmore.PaginatedList
 import com.kickstarter.libs.models.OptimizelyFeature
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.EventContextValues
 import com.kickstarter.libs.utils.EventContextValues.ContextPageName.DISCOVER
 import com.kickstarter.libs.utils.ExperimentData
-import com.kickstarter.libs.utils.ListUtils
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.libs.utils.RefTagUtils
 import com.kickstarter.libs.utils.extensions.combineProjectsAndParams
@@ -122,6 +122,7 @@ interface DiscoveryFragmentViewModel {
         private val sharedPreferences = requireNotNull(environment.sharedPreferences())
         private val cookieManager = requireNotNull(environment.cookieManager())
         private val currentUser = requireNotNull(environment.currentUser())
+        private val paginationSnapshotStore = environment.paginationSnapshotStore()
         @JvmField
         val inputs: Inputs = this
         @JvmField
@@ -189,7 +190,14 @@ interface DiscoveryFragmentViewModel {
                 .concater { xs, ys ->
                     xs?.let { firstList ->
                         ys?.let { secondList ->
-                            ListUtils.concatDistinct(firstList, secondList)
+                            PaginatedList.concatDistinct(firstList, secondList)
+                        }
+                    }
+                }
+                .apply {
+                    paginationSnapshotStore?.let { store ->
+                        snapshots(store, Project::class.java) { params ->
+                            currentUser.observable().take(1).map { "discovery:${it?.id()}:${params?.queryParams()}" }
                         }
                     }
                 }
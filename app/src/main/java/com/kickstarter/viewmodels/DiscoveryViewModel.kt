@@ -19,6 +19,7 @@ import com.kickstarter.libs.utils.extensions.positionFromSort
 import com.kickstarter.models.Category
 import com.kickstarter.models.User
 import com.kickstarter.services.DiscoveryParams
+import com.kickstarter.services.FetchPolicy
 import com.kickstarter.services.apiresponses.ErrorEnvelope
 import com.kickstarter.services.apiresponses.InternalBuildEnvelope
 import com.kickstarter.ui.activities.DiscoveryActivity
@@ -283,7 +284,8 @@ interface DiscoveryViewModel {
                     analyticEvents.trackDiscoverFilterCTA(it)
                 }
 
-            val categories = apolloClient.fetchCategories()
+            // - The category tree rarely changes, let the normalized cache serve it after the first load.
+            val categories = apolloClient.fetchCategories(FetchPolicy.CACHE_FIRST)
                 .compose(Transformers.neverError())
                 .flatMapIterable { it }
                 .toSortedList()
@@ -7,6 +7,7 @@ import com.kickstarter.libs.rx.transformers.Transformers.values
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.models.Category
 import com.kickstarter.services.DiscoveryParams
+import com.kickstarter.services.FetchPolicy
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.activities.EditorialActivity
 import com.kickstarter.ui.data.Editorial
@@ -107,7 +108,7 @@ interface EditorialViewModel {
         }
 
         private fun fetchCategories(): Observable<Notification<List<Category>>>? {
-            return this.apolloClient.fetchCategories()
+            return this.apolloClient.fetchCategories(FetchPolicy.CACHE_AND_NETWORK)
                 .doOnSubscribe { this.retryContainerIsGone.onNext(true) }
                 .materialize()
                 .share()
@@ -8,6 +8,7 @@ import com.kickstarter.libs.ActivityViewModel
 import com.kickstarter.libs.ApiPaginator
 import com.kickstarter.libs.CurrentUserType
 import com.kickstarter.libs.Environment
+import com.kickstarter.libs.loadmore.PaginationSnapshotStoreType
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.ObjectUtils
 import com.kickstarter.libs.utils.PairUtils
@@ -76,6 +77,7 @@ interface MessageThreadsViewModel {
         ActivityViewModel<MessageThreadsActivity?>(environment), Inputs, Outputs {
         private val client: ApiClientType?
         private val currentUser: CurrentUserType?
+        private val paginationSnapshotStore: PaginationSnapshotStoreType?
         private fun getStringResForMailbox(mailbox: Mailbox): Int {
             return if (mailbox === Mailbox.INBOX) {
                 R.string.messages_navigation_inbox
@@ -105,6 +107,7 @@ interface MessageThreadsViewModel {
         init {
             client = requireNotNull(environment.apiClient())
             currentUser = requireNotNull(environment.currentUser())
+            paginationSnapshotStore = environment.paginationSnapshotStore()
 
             // NB: project from intent can be null.
             val initialProject = intent()
@@ -200,6 +203,15 @@ interface MessageThreadsViewModel {
                         )
                     }
                     .clearWhenStartingOver(true)
+                    .apply {
+                        paginationSnapshotStore?.let { store ->
+                            snapshots(store, MessageThread::class.java) { params ->
+                                currentUser.observable().take(1).map {
+                                    "message_threads:${it?.id()}:${params.first?.id()}:${params.second?.type}"
+                                }
+                            }
+                        }
+                    }
                     .build()
 
             paginator.isFetching
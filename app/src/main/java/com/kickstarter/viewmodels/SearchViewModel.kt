@@ -6,6 +6,7 @@ import com.kickstarter.libs.ActivityViewModel
 import com.kickstarter.libs.ApiPaginator
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.RefTag
+import com.kickstarter.libs.loadmore.PaginatedList
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.ListUtils
 import com.kickstarter.libs.utils.ObjectUtils
@@ -163,7 +164,7 @@ interface SearchViewModel {
                 }
                 .clearWhenStartingOver(true)
                 .concater { xs: List<Project>, ys: List<Project> ->
-                    ListUtils.concatDistinct(
+                    PaginatedList.concatDistinct(
                         xs,
                         ys
                     )
@@ -208,9 +208,8 @@ interface ThanksViewModel {
                 .compose(bindToLifecycle())
                 .subscribe(this.showSavedPrompt)
 
-            Observable.just(hasSeenAppRatingPreference?.get())
-                .filter { ObjectUtils.isNotNull(it) }
-                .map { requireNotNull(it) }
+            // - Waits for the stored value rather than reading it on the main thread.
+            (hasSeenAppRatingPreference?.observable() ?: Observable.empty())
                 .take(1)
                 .compose(Transformers.combineLatestPair(showGamesNewsletter))
                 .filter { !it.first && !it.second }
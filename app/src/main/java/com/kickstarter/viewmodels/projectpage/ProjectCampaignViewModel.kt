@@ -3,7 +3,6 @@ package com.kickstarter.viewmodels.projectpage
 import androidx.annotation.NonNull
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.FragmentViewModel
-import com.kickstarter.libs.htmlparser.HTMLParser
 import com.kickstarter.libs.htmlparser.VideoViewElement
 import com.kickstarter.libs.htmlparser.ViewElement
 import com.kickstarter.libs.utils.ObjectUtils
@@ -33,7 +32,8 @@ class ProjectCampaignViewModel {
         val inputs: Inputs = this
         val outputs: Outputs = this
 
-        private val htmlParser = HTMLParser()
+        private val storyParser = requireNotNull(environment.storyParser())
+        private val scheduler = requireNotNull(environment.scheduler())
         private val projectDataInput = BehaviorSubject.create<ProjectData>()
         private val storyViewElementsList = BehaviorSubject.create<List<ViewElement>>()
 
@@ -49,11 +49,11 @@ class ProjectCampaignViewModel {
                 .filter { ObjectUtils.isNotNull(it) }
                 .map { requireNotNull(it) }
 
+            // - Stories are parsed off the main thread and emitted in chunks, so the top of a long story shows first.
             project
                 .distinctUntilChanged()
                 .filter { ObjectUtils.isNotNull(it.story()) }
-                .map { requireNotNull(it.story()) }
-                .map { htmlParser.parse(it) }
+                .switchMap { storyParser.viewElements(it.id(), requireNotNull(it.story()), scheduler) }
                 .compose(bindToLifecycle())
                 .subscribe {
                     storyViewElementsList.onNext(it)
@@ -685,6 +685,44 @@ class KSCurrencyTest : TestCase() {
         assertEquals("\u00A0US$\u00A0", unlaunchedCurrency.getCurrencySymbol(Country.US, false))
     }
 
+    @Test
+    fun testFormatCurrency_whenConfigChanges() {
+        val currentConfig: CurrentConfigType = MockCurrentConfig()
+        currentConfig.config(config().toBuilder().countryCode("US").build())
+        val currency = KSCurrency(currentConfig)
+        assertEquals("$100", currency.format(100.1, project()))
+
+        currentConfig.config(config().toBuilder().countryCode("CA").build())
+        assertEquals("US$ 100", currency.format(100.1, project()))
+    }
+
+    @Test
+    fun testFormat_interleavedProjectsAndRoundingModes() {
+        val currency = createKSCurrency("CA")
+        val projects = listOf(project(), caProject(), ukProject())
+        val roundingModes = listOf(RoundingMode.DOWN, RoundingMode.HALF_UP)
+
+        repeat(1_000) { currency.format(it + 0.5, projects[it % projects.size], roundingModes[it % roundingModes.size]) }
+
+        // - Formatters cached while formatting other projects and rounding modes give the same output as before.
+        assertEquals("US$ 1,234", currency.format(1234.5, project()))
+        assertEquals("CA$ 1,234.50", currency.format(1234.5, caProject(), RoundingMode.HALF_UP))
+        assertEquals("£1,234", currency.format(1234.9, ukProject()))
+    }
+
+    @Test
+    fun testFormat_beforeConfigIsLoaded() {
+        val currentConfig: CurrentConfigType = MockCurrentConfig()
+        val currency = KSCurrency(currentConfig)
+
+        // - Formatting doesn't wait for the config, every currency shows its code until it's loaded.
+        assertTrue(currency.format(100.0, ukProject()).contains("GB"))
+
+        currentConfig.config(config().toBuilder().countryCode("CA").build())
+        assertEquals("£100", currency.format(100.0, ukProject()))
+        assertEquals("US$ 100", currency.format(100.0, project()))
+    }
+
     companion object {
         private fun createKSCurrency(countryCode: String): KSCurrency {
             val config = config().toBuilder()
@@ -13,6 +13,7 @@ import com.kickstarter.libs.TrackingClientType
 import com.kickstarter.libs.utils.Secrets
 import com.kickstarter.mock.MockCurrentConfig
 import com.kickstarter.mock.MockExperimentsClientType
+import com.kickstarter.mock.MockPaginationSnapshotStore
 import com.kickstarter.mock.factories.ConfigFactory
 import com.kickstarter.mock.services.MockApiClient
 import com.kickstarter.mock.services.MockApolloClient
@@ -65,6 +66,7 @@ abstract class KSRobolectricTestCase : TestCase() {
             .stripe(Stripe(context(), Secrets.StripePublishableKey.STAGING))
             .analytics(AnalyticEvents(listOf(segmentTestClient)))
             .optimizely(experimentsClientType)
+            .paginationSnapshotStore(MockPaginationSnapshotStore())
             .build()
     }
 
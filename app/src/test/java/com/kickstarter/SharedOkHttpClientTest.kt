@@ -0,0 +1,120 @@
+package com.kickstarter
+
+import com.kickstarter.models.Category
+import com.kickstarter.services.ApiClient
+import com.kickstarter.services.ApiService
+import okhttp3.Call
+import okhttp3.EventListener
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import retrofit2.Retrofit
+import retrofit2.adapter.rxjava.RxJavaCallAdapterFactory
+import retrofit2.converter.gson.GsonConverterFactory
+import rx.observers.TestSubscriber
+import java.net.InetSocketAddress
+import java.net.Proxy
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Checks the shared base [OkHttpClient] against a local [MockWebServer]: connections opened by the REST and GraphQL
+ * clients, and HTTP cache hits for repeated [ApiClient] calls.
+ */
+class SharedOkHttpClientTest : KSRobolectricTestCase() {
+
+    private lateinit var server: MockWebServer
+    private val connectionsOpened = AtomicInteger()
+
+    private val countingListener = object : EventListener() {
+        override fun connectStart(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy) {
+            connectionsOpened.incrementAndGet()
+        }
+    }
+
+    @Before
+    fun startServer() {
+        this.server = MockWebServer()
+        this.server.dispatcher = object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                return when (request.path?.substringBefore("?")) {
+                    "/v1/categories" -> MockResponse()
+                        .setHeader("Cache-Control", "max-age=60")
+                        .setBody("{\"categories\":[]}")
+                    else -> MockResponse().setBody("{}")
+                }
+            }
+        }
+        this.server.start()
+    }
+
+    @After
+    fun stopServer() {
+        this.server.shutdown()
+    }
+
+    @Test
+    fun testRepeatedApiClientCalls_areServedFromHttpCache() {
+        val baseClient = ApplicationModule.provideBaseOkHttpClient(context())
+        baseClient.cache?.evictAll()
+        val apiClient = apiClient(baseClient.newBuilder().eventListener(this.countingListener).build())
+
+        val calls = 50
+        repeat(calls) {
+            val subscriber = TestSubscriber<List<Category>>()
+            apiClient.fetchCategories().subscribe(subscriber)
+            subscriber.awaitTerminalEvent(5, TimeUnit.SECONDS)
+            subscriber.assertNoErrors()
+        }
+
+        assertEquals(1, this.server.requestCount)
+        assertEquals(calls - 1, baseClient.cache?.hitCount())
+        assertEquals(1, this.connectionsOpened.get())
+    }
+
+    @Test
+    fun testRestAndGraphClients_shareConnections() {
+        val baseClient = ApplicationModule.provideBaseOkHttpClient(context())
+        val restClient = baseClient.newBuilder().eventListener(this.countingListener).build()
+        val graphClient = baseClient.newBuilder().eventListener(this.countingListener).build()
+
+        executeAlternating(restClient, graphClient)
+        assertEquals(1, this.connectionsOpened.get())
+
+        // - Two independent clients, as before, each open their own connection to the same host.
+        this.connectionsOpened.set(0)
+        val separateRestClient = OkHttpClient.Builder().eventListener(this.countingListener).build()
+        val separateGraphClient = OkHttpClient.Builder().eventListener(this.countingListener).build()
+
+        executeAlternating(separateRestClient, separateGraphClient)
+        assertEquals(2, this.connectionsOpened.get())
+    }
+
+    private fun executeAlternating(first: OkHttpClient, second: OkHttpClient) {
+        repeat(10) {
+            listOf(first, second).forEach { client ->
+                client.newCall(Request.Builder().url(this.server.url("/graph")).build())
+                    .execute()
+                    .use { it.body?.string() }
+            }
+        }
+    }
+
+    private fun apiClient(okHttpClient: OkHttpClient): ApiClient {
+        val gson = ApplicationModule.provideGson()
+        val service = Retrofit.Builder()
+            .client(okHttpClient)
+            .baseUrl(this.server.url("/"))
+            .addConverterFactory(GsonConverterFactory.create(gson))
+            .addCallAdapterFactory(RxJavaCallAdapterFactory.create())
+            .build()
+            .create(ApiService::class.java)
+        return ApiClient(service, gson)
+    }
+}
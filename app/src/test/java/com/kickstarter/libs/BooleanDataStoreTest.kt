@@ -1,9 +1,26 @@
 package com.kickstarter.libs
 
 import android.content.Context
+import android.os.Looper
+import androidx.datastore.core.DataStore
+import androidx.datastore.preferences.core.Preferences
+import androidx.datastore.preferences.core.booleanPreferencesKey
+import androidx.datastore.preferences.core.mutablePreferencesOf
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.preferences.BooleanDataStore
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.emitAll
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
 import org.junit.Test
+import rx.observers.TestSubscriber
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
 
 class BooleanDataStoreTest : KSRobolectricTestCase() {
 
@@ -51,4 +68,98 @@ class BooleanDataStoreTest : KSRobolectricTestCase() {
         boolDataStorePrefs.delete()
         assertFalse(boolDataStorePrefs.isSet)
     }
+
+    @Test
+    fun testGet_doesNotBlockOnMainThread() {
+        val key = "ThirdKey"
+        val dataStore = SlowDataStore(mutablePreferencesOf(booleanPreferencesKey(key) to true))
+        val boolDataStorePrefs = BooleanDataStore(dataStore, key, false)
+        val values = TestSubscriber<Boolean>()
+        boolDataStorePrefs.observable().subscribe(values)
+
+        // - The disk read hasn't finished, reads on the main thread return the default value rather than wait for it.
+        assertSame(Looper.getMainLooper().thread, Thread.currentThread())
+        repeat(READS) { assertFalse(boolDataStorePrefs.get()) }
+        assertFalse(boolDataStorePrefs.isSet)
+        assertFalse(boolDataStorePrefs.isLoaded)
+        values.assertNoValues()
+
+        dataStore.finishReading()
+
+        // - The stored value comes through the observable once it's loaded, read once off the main thread.
+        values.awaitValueCount(1, 5, TimeUnit.SECONDS)
+        values.assertValue(true)
+        assertTrue(boolDataStorePrefs.get())
+        assertTrue(boolDataStorePrefs.isLoaded)
+        assertEquals(1, dataStore.readThreads.size)
+        assertNotSame(Thread.currentThread(), dataStore.readThreads.first())
+    }
+
+    @Test
+    fun testSet_whileLoading() {
+        val key = "FourthKey"
+        val dataStore = SlowDataStore(mutablePreferencesOf(booleanPreferencesKey(key) to true))
+        val boolDataStorePrefs = BooleanDataStore(dataStore, key, false)
+
+        boolDataStorePrefs.set(false)
+        dataStore.finishReading()
+        runBlocking { withTimeout(5000) { dataStore.preferences.first { it[booleanPreferencesKey(key)] == false } } }
+
+        // - The value set while loading is kept over the one read from disk.
+        assertFalse(boolDataStorePrefs.get())
+        assertTrue(boolDataStorePrefs.isSet)
+    }
+
+    @Test
+    fun testObservable() {
+        val dataStore = SlowDataStore(mutablePreferencesOf())
+        val boolDataStorePrefs = BooleanDataStore(dataStore, "FifthKey", false)
+        val values = Collections.synchronizedList(mutableListOf<Boolean>())
+        val loaded = CountDownLatch(1)
+        val emitted = CountDownLatch(2)
+        val subscription = boolDataStorePrefs.observable().subscribe {
+            values.add(it)
+            loaded.countDown()
+            emitted.countDown()
+        }
+
+        // - Nothing is emitted before the stored value is loaded.
+        assertFalse(loaded.await(100, TimeUnit.MILLISECONDS))
+        dataStore.finishReading()
+        assertTrue(loaded.await(5, TimeUnit.SECONDS))
+
+        boolDataStorePrefs.set(true)
+
+        assertTrue(emitted.await(5, TimeUnit.SECONDS))
+        assertEquals(listOf(false, true), values.toList())
+        subscription.unsubscribe()
+    }
+
+    /**
+     * A DataStore whose reads wait until [finishReading], like a slow disk.
+     */
+    private class SlowDataStore(initial: Preferences) : DataStore<Preferences> {
+        private val isRead = CompletableDeferred<Unit>()
+        val preferences = MutableStateFlow(initial)
+        val readThreads = mutableListOf<Thread>()
+
+        override val data: Flow<Preferences> = flow {
+            synchronized(readThreads) { readThreads.add(Thread.currentThread()) }
+            isRead.await()
+            emitAll(preferences)
+        }
+
+        override suspend fun updateData(transform: suspend (t: Preferences) -> Preferences): Preferences {
+            isRead.await()
+            return transform(preferences.value).also { preferences.value = it }
+        }
+
+        fun finishReading() {
+            isRead.complete(Unit)
+        }
+    }
+
+    companion object {
+        private const val READS = 1_000
+    }
 }
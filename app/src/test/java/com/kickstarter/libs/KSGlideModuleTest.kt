@@ -0,0 +1,100 @@
+package com.kickstarter.libs
+
+import android.graphics.BitmapFactory
+import com.bumptech.glide.load.ImageHeaderParser
+import com.bumptech.glide.load.Options
+import com.bumptech.glide.load.engine.bitmap_recycle.BitmapPoolAdapter
+import com.bumptech.glide.load.engine.bitmap_recycle.LruArrayPool
+import com.bumptech.glide.load.resource.bitmap.DefaultImageHeaderParser
+import com.bumptech.glide.load.resource.bitmap.DownsampleStrategy
+import com.bumptech.glide.load.resource.bitmap.Downsampler
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.transformations.CircleTransformation
+import com.kickstarter.libs.transformations.CropSquareTransformation
+import org.junit.After
+import org.junit.Test
+import java.awt.Color
+import java.awt.GradientPaint
+import java.awt.image.BufferedImage
+import java.io.File
+import javax.imageio.ImageIO
+
+class KSGlideModuleTest : KSRobolectricTestCase() {
+
+    /**
+     * An image of `width` by `height` displayed in a view of `targetWidth` by `targetHeight`.
+     */
+    private data class Fixture(val width: Int, val height: Int, val targetWidth: Int, val targetHeight: Int)
+
+    private val fixtures by lazy {
+        // - Project card photos, avatars and activity thumbnails, sized like the ones the API returns.
+        List(8) { Fixture(2048, 1152, 1000, 562) } +
+            List(8) { Fixture(512, 512, 120, 120) } +
+            List(4) { Fixture(1024, 576, 280, 158) }
+    }
+
+    private val directory by lazy { File(context().cacheDir, "ks_glide_module_test") }
+
+    @After
+    fun deleteFixtures() {
+        directory.deleteRecursively()
+    }
+
+    @Test
+    fun testTransformations_matchTheirVariants() {
+        // - Transformed images are cached by transformation, so equal transformations have to share a key.
+        assertEquals(CircleTransformation(), CircleTransformation())
+        assertEquals(CircleTransformation().hashCode(), CircleTransformation().hashCode())
+        assertEquals(CropSquareTransformation(), CropSquareTransformation())
+        assertFalse(CircleTransformation().equals(CropSquareTransformation()))
+    }
+
+    @Test
+    fun testDecode_atViewSizeUsesLessMemory() {
+        val files = writeFixtures()
+        val displayMetrics = context().resources.displayMetrics
+        val parsers = listOf<ImageHeaderParser>(DefaultImageHeaderParser())
+        val downsampler = Downsampler(parsers, displayMetrics, BitmapPoolAdapter(), LruArrayPool())
+        val options = Options()
+            .set(Downsampler.DECODE_FORMAT, KSGlideModule.DECODE_FORMAT)
+            .set(DownsampleStrategy.OPTION, KSGlideModule.DOWNSAMPLE_STRATEGY)
+
+        // - Full size decodes, the way images were loaded before they were decoded at the size of their view.
+        var fullSizeBytes = 0L
+        files.forEach { (file, _) ->
+            val bitmap = requireNotNull(BitmapFactory.decodeFile(file.path))
+            fullSizeBytes += bitmap.allocationByteCount
+            bitmap.recycle()
+        }
+
+        var pipelineBytes = 0L
+        files.forEach { (file, fixture) ->
+            val bitmap = file.inputStream().use {
+                requireNotNull(downsampler.decode(it, fixture.targetWidth, fixture.targetHeight, options)).get()
+            }
+
+            // - The decoded image still fills its view.
+            assertTrue(bitmap.width >= fixture.targetWidth)
+            assertTrue(bitmap.height >= fixture.targetHeight)
+            pipelineBytes += bitmap.allocationByteCount
+            bitmap.recycle()
+        }
+
+        assertTrue(pipelineBytes < fullSizeBytes)
+    }
+
+    private fun writeFixtures(): List<Pair<File, Fixture>> {
+        directory.mkdirs()
+        return fixtures.mapIndexed { index, fixture ->
+            val image = BufferedImage(fixture.width, fixture.height, BufferedImage.TYPE_INT_RGB)
+            val graphics = image.createGraphics()
+            graphics.paint = GradientPaint(0f, 0f, Color(index * 12, 80, 160), fixture.width.toFloat(), fixture.height.toFloat(), Color.WHITE)
+            graphics.fillRect(0, 0, fixture.width, fixture.height)
+            graphics.dispose()
+
+            val file = File(directory, "fixture_$index.jpg")
+            ImageIO.write(image, "jpg", file)
+            file to fixture
+        }
+    }
+}
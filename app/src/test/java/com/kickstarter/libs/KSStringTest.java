@@ -6,6 +6,11 @@ import com.kickstarter.R;
 import org.junit.Test;
 import org.robolectric.annotation.Config;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 public class KSStringTest extends KSRobolectricTestCase {
   @Test
   public void testFormat_oneSubstitution() {
@@ -96,4 +101,95 @@ public class KSStringTest extends KSRobolectricTestCase {
     assertEquals("von Kristof", ksString().format(application().getString(R.string.project_creator_by_creator),
       "creator_name", "Kristof"));
   }
+
+  @Test
+  public void testFormat_repeatedAndAdjacentKeys() {
+    final String string = "%{name}%{name} and %{other}";
+    assertEquals("abab and c", ksString().format(string, "name", "ab", "other", "c"));
+  }
+
+  @Test
+  public void testFormat_malformedKeysAreLeftAsIs() {
+    final String string = "%{ %{} %{name %{na-me} %%{name}} %{name";
+    assertEquals("%{ %{} %{name %{na-me} %x} %{name", ksString().format(string, "name", "x"));
+  }
+
+  @Test
+  public void testFormat_sameKeyTwice_lastValueWins() {
+    final String string = "by %{name}";
+    assertEquals("by b", ksString().format(string, "name", "a", "name", "b"));
+  }
+
+  @Test
+  public void testFormat_matchesRegexReplace() {
+    final String[] strings = {
+      "",
+      "no keys",
+      "%{a}",
+      "%{a}%{b}",
+      "%{a} of %{b}, %{c}",
+      "{a} %a %{a %{d} $ \\ %{b}",
+      "<b>%{a}</b> %{A} %{a_1}"
+    };
+    final KSString ksString = ksString();
+
+    for (final String string : strings) {
+      final Map<String, String> substitutions = new HashMap<>();
+      substitutions.put("a", "1$");
+      substitutions.put("b", "\\2");
+      substitutions.put("c", null);
+      assertEquals(string, regexReplace(string, substitutions), ksString.format(string, "a", "1$", "b", "\\2", "c", null));
+    }
+  }
+
+  @Test
+  public void testFormat_bindPathMatchesRegex() {
+    final String string = "%{backers_count} backers pledged %{pledged} of %{goal}";
+    final KSString ksString = ksString();
+    final String[][] values = {
+      { "12", "$1,000", "$5,000" },
+      { "0", "", "%{goal}" },
+      { "1", "\\$1", "€5.000" }
+    };
+
+    for (final String[] value : values) {
+      assertEquals(regexReplace(string, substitutions(value[0], value[1], value[2])),
+        ksString.format(string, "backers_count", value[0], "pledged", value[1], "goal", value[2]));
+    }
+  }
+
+  private static Map<String, String> substitutions(final String backersCount, final String pledged, final String goal) {
+    final Map<String, String> substitutions = new HashMap<>();
+    substitutions.put("backers_count", backersCount);
+    substitutions.put("pledged", pledged);
+    substitutions.put("goal", goal);
+    return substitutions;
+  }
+
+  /**
+   * The previous implementation: compiles a pattern from the keys on every call.
+   */
+  private static String regexReplace(final String string, final Map<String, String> substitutions) {
+    final StringBuilder builder = new StringBuilder();
+    for (final String key : substitutions.keySet()) {
+      if (builder.length() > 0) {
+        builder.append("|");
+      }
+      builder
+        .append("(%\\{")
+        .append(key)
+        .append("\\})");
+    }
+
+    final Matcher matcher = Pattern.compile(builder.toString()).matcher(string);
+    final StringBuffer buffer = new StringBuffer();
+    while (matcher.find()) {
+      final String key = matcher.group().replaceAll("[^\\w]", "");
+      final String value = substitutions.get(key);
+      matcher.appendReplacement(buffer, Matcher.quoteReplacement(value != null ? value : ""));
+    }
+    matcher.appendTail(buffer);
+
+    return buffer.toString();
+  }
 }
@@ -21,14 +21,14 @@ public class MockCurrentUser extends CurrentUserType {
 
   @Override
   public void login(final @NonNull User newUser, final @NonNull String accessToken) {
-    this.user.onNext(newUser);
     this.accessToken = accessToken;
+    this.user.onNext(newUser);
   }
 
   @Override
   public void logout() {
-    this.user.onNext(null);
     this.accessToken = null;
+    this.user.onNext(null);
   }
 
   @Override
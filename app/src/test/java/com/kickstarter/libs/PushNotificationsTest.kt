@@ -4,8 +4,19 @@ import android.content.Context
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.mock.factories.MessageThreadEnvelopeFactory
 import com.kickstarter.mock.factories.PushNotificationEnvelopeFactory
+import com.kickstarter.mock.services.MockApiClient
+import com.kickstarter.models.pushdata.GCM
+import com.kickstarter.services.apiresponses.MessageThreadEnvelope
+import com.kickstarter.services.apiresponses.PushNotificationEnvelope
 import com.kickstarter.ui.IntentKey
 import org.junit.Test
+import rx.Observable
+import rx.schedulers.Schedulers
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
 class PushNotificationsTest : KSRobolectricTestCase() {
     lateinit var context: Context
@@ -30,4 +41,69 @@ class PushNotificationsTest : KSRobolectricTestCase() {
             assertEquals(MessagePreviousScreenType.PUSH, messageThreadIntent?.extras?.get(IntentKey.MESSAGE_SCREEN_SOURCE_CONTEXT))
         }
     }
+
+    @Test
+    fun testLoad_1000Envelopes() {
+        val threadCount = AtomicInteger()
+        val executor = Executors.newFixedThreadPool(4) { Thread(it, "push-test-${threadCount.incrementAndGet()}") }
+        val fetches = AtomicInteger()
+        val client = object : MockApiClient() {
+            override fun fetchMessagesForThread(messageThreadId: Long): Observable<MessageThreadEnvelope> =
+                Observable.fromCallable {
+                    // - A slow request, so envelopes for the same thread arrive while it's in flight.
+                    fetches.incrementAndGet()
+                    Thread.sleep(20)
+                    MessageThreadEnvelopeFactory.messageThreadEnvelope()
+                }
+        }
+        val pushNotifications = PushNotifications(context, client, requireNotNull(environment().optimizely()), Schedulers.from(executor))
+        pushNotifications.initialize()
+
+        val envelopes = (0 until LOAD_TEST_ENVELOPES).map { envelope(it) }
+        val lastEnvelopes = CountDownLatch(MAX_PENDING_NOTIFICATIONS)
+        val displayed = Collections.synchronizedList(mutableListOf<PushNotificationEnvelope>())
+        val threads = Collections.synchronizedSet(mutableSetOf<String>())
+        pushNotifications.displayed().subscribe {
+            displayed.add(it)
+            threads.add(Thread.currentThread().name)
+            if (envelopes.indexOf(it) >= LOAD_TEST_ENVELOPES - MAX_PENDING_NOTIFICATIONS) {
+                lastEnvelopes.countDown()
+            }
+        }
+
+        envelopes.forEach { pushNotifications.add(it) }
+
+        // - The buffer drops the oldest envelopes, the newest ones are always displayed.
+        assertTrue(lastEnvelopes.await(30, TimeUnit.SECONDS))
+        val displayedMessages = displayed.count { it.isMessage() }
+
+        assertTrue(displayed.size <= LOAD_TEST_ENVELOPES)
+        assertTrue(threads.all { it.startsWith("push-test-") })
+        assertTrue(threadCount.get() <= 4)
+        assertTrue(fetches.get() < displayedMessages)
+        executor.shutdownNow()
+    }
+
+    /**
+     * Errored pledges, surveys and messages, with blocks of 50 envelopes for the same message thread.
+     */
+    private fun envelope(index: Int): PushNotificationEnvelope {
+        val gcm = GCM.builder()
+            .alert("Notification $index")
+            .title("Hello")
+            .build()
+        val builder = PushNotificationEnvelope.builder().gcm(gcm)
+        return when (index % 3) {
+            0 -> builder.erroredPledge(PushNotificationEnvelope.ErroredPledge.builder().projectId(index % 20L).build())
+            1 -> builder.survey(PushNotificationEnvelope.Survey.builder().id(index.toLong()).projectId(index % 20L).build())
+            else -> builder.message(
+                PushNotificationEnvelope.Message.builder().messageThreadId(index / 50L).projectId(index % 20L).build()
+            )
+        }.build()
+    }
+
+    companion object {
+        private const val LOAD_TEST_ENVELOPES = 1_000
+        private const val MAX_PENDING_NOTIFICATIONS = 100
+    }
 }
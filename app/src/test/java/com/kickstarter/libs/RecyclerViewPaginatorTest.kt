@@ -0,0 +1,145 @@
+package com.kickstarter.libs
+
+import android.view.View
+import android.view.ViewGroup
+import androidx.recyclerview.widget.GridLayoutManager
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.StaggeredGridLayoutManager
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+import org.robolectric.shadows.ShadowLooper
+import rx.Observable
+import rx.subjects.BehaviorSubject
+
+class RecyclerViewPaginatorTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testIsWithinPrefetchDistance_itemsAndScreens() {
+        // - 100 items, 10 visible rows: one screen ahead wins over 5 items.
+        assertFalse(RecyclerViewPaginator.isWithinPrefetchDistance(88, 100, 10, false, 5, 1.0f))
+        assertTrue(RecyclerViewPaginator.isWithinPrefetchDistance(89, 100, 10, false, 5, 1.0f))
+
+        // - Few visible rows: the item distance wins.
+        assertFalse(RecyclerViewPaginator.isWithinPrefetchDistance(93, 100, 2, false, 5, 1.0f))
+        assertTrue(RecyclerViewPaginator.isWithinPrefetchDistance(94, 100, 2, false, 5, 1.0f))
+
+        // - The last row is always within distance, as before.
+        assertTrue(RecyclerViewPaginator.isWithinPrefetchDistance(99, 100, 10, false, 0, 0.0f))
+        assertFalse(RecyclerViewPaginator.isWithinPrefetchDistance(98, 100, 10, false, 0, 0.0f))
+    }
+
+    @Test
+    fun testIsWithinPrefetchDistance_flingLooksFurtherAhead() {
+        assertFalse(RecyclerViewPaginator.isWithinPrefetchDistance(79, 100, 10, false, 5, 1.0f))
+        assertTrue(RecyclerViewPaginator.isWithinPrefetchDistance(79, 100, 10, true, 5, 1.0f))
+    }
+
+    @Test
+    fun testLastVisibleItemPosition_linearLayout() {
+        val recyclerView = laidOutRecyclerView(LinearLayoutManager(context()))
+        assertEquals(9, paginator(recyclerView).lastVisibleItemPosition(recyclerView.layoutManager!!))
+    }
+
+    @Test
+    fun testLastVisibleItemPosition_gridLayout() {
+        val recyclerView = laidOutRecyclerView(GridLayoutManager(context(), 3))
+        assertEquals(29, paginator(recyclerView).lastVisibleItemPosition(recyclerView.layoutManager!!))
+    }
+
+    @Test
+    fun testLastVisibleItemPosition_staggeredGridLayout() {
+        val recyclerView = laidOutRecyclerView(StaggeredGridLayoutManager(2, StaggeredGridLayoutManager.VERTICAL))
+        val paginator = paginator(recyclerView)
+        assertEquals(19, paginator.lastVisibleItemPosition(recyclerView.layoutManager!!))
+
+        // - The span positions are reused between scroll events.
+        assertEquals(19, paginator.lastVisibleItemPosition(recyclerView.layoutManager!!))
+    }
+
+    @Test
+    fun testNextPage_retriedOnScrollAfterPageAddsNothing() {
+        val recyclerView = laidOutRecyclerView(LinearLayoutManager(context()))
+        val isLoading = BehaviorSubject.create(false)
+        var requests = 0
+        RecyclerViewPaginator(recyclerView, { requests++ }, isLoading)
+
+        recyclerView.scrollBy(0, ROW_HEIGHT * 100)
+        assertEquals(1, requests)
+
+        // - The page fails, so the list doesn't grow: not requested again until the user scrolls.
+        isLoading.onNext(true)
+        isLoading.onNext(false)
+        ShadowLooper.runUiThreadTasks()
+        assertEquals(1, requests)
+
+        recyclerView.scrollBy(0, -ROW_HEIGHT)
+        recyclerView.scrollBy(0, ROW_HEIGHT)
+        assertEquals(2, requests)
+    }
+
+    @Test
+    fun testNextPage_requestedAgainAfterListShrinks() {
+        var itemCount = 100
+        val recyclerView = laidOutRecyclerView(LinearLayoutManager(context())) { itemCount }
+        var requests = 0
+        RecyclerViewPaginator(recyclerView, { requests++ }, Observable.just(false))
+
+        recyclerView.scrollBy(0, ROW_HEIGHT * 100)
+        assertEquals(1, requests)
+
+        // - A refresh drops the list to its first pages, then it grows back to the count last requested at.
+        itemCount = 50
+        relayout(recyclerView)
+        recyclerView.scrollToPosition(0)
+        relayout(recyclerView)
+        recyclerView.scrollBy(0, ROW_HEIGHT)
+        assertEquals(1, requests)
+
+        itemCount = 100
+        relayout(recyclerView)
+        recyclerView.scrollBy(0, ROW_HEIGHT * 100)
+        assertEquals(2, requests)
+    }
+
+    private fun paginator(recyclerView: RecyclerView) = RecyclerViewPaginator(recyclerView, {}, Observable.just(false))
+
+    /**
+     * Lays out 100 rows of [ROW_HEIGHT] in a list ten rows tall.
+     */
+    private fun laidOutRecyclerView(
+        layoutManager: RecyclerView.LayoutManager,
+        itemCount: () -> Int = { 100 }
+    ): RecyclerView {
+        val recyclerView = RecyclerView(context())
+        recyclerView.layoutManager = layoutManager
+        recyclerView.adapter = object : RecyclerView.Adapter<RecyclerView.ViewHolder>() {
+            override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): RecyclerView.ViewHolder {
+                val view = View(parent.context)
+                view.layoutParams = RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ROW_HEIGHT)
+                return object : RecyclerView.ViewHolder(view) {}
+            }
+
+            override fun onBindViewHolder(holder: RecyclerView.ViewHolder, position: Int) {}
+
+            override fun getItemCount() = itemCount()
+        }
+
+        relayout(recyclerView)
+        return recyclerView
+    }
+
+    private fun relayout(recyclerView: RecyclerView) {
+        recyclerView.adapter?.notifyDataSetChanged()
+        recyclerView.measure(
+            View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(ROW_HEIGHT * 10, View.MeasureSpec.EXACTLY)
+        )
+        recyclerView.layout(0, 0, WIDTH, ROW_HEIGHT * 10)
+    }
+
+    companion object {
+        private const val ROW_HEIGHT = 100
+        private const val WIDTH = 900
+    }
+}
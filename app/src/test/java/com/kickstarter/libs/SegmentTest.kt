@@ -130,6 +130,61 @@ class SegmentTest : KSRobolectricTestCase() {
         assertContextProperties()
     }
 
+    @Test
+    fun testDefaultProperties_whenConfigChanges() {
+        val currentConfig = mockCurrentConfig()
+        val client = MockTrackingClient(MockCurrentUser(), currentConfig, TrackingClientType.Type.SEGMENT, MockExperimentsClientType())
+        client.eventProperties.subscribe(this.propertiesTest)
+        val segment = AnalyticEvents(listOf(client))
+
+        segment.trackAppOpen()
+        assertTrue(this.propertiesTest.value["session_enabled_features"].toString().contains("android_example_feature"))
+
+        // - A new config rebuilds the session properties.
+        currentConfig.config(ConfigFactory.configWithFeatureEnabled("android_other_feature"))
+        segment.trackAppOpen()
+        assertTrue(this.propertiesTest.value["session_enabled_features"].toString().contains("android_other_feature"))
+        assertFalse(this.propertiesTest.value["session_enabled_features"].toString().contains("android_example_feature"))
+    }
+
+    @Test
+    fun testDefaultProperties_whenOptimizelyFeaturesChange() {
+        var optimizelyFeatures = emptyList<String>()
+        val optimizely = object : MockExperimentsClientType() {
+            override fun enabledFeatures(user: User?): List<String> = optimizelyFeatures
+        }
+        val client = MockTrackingClient(MockCurrentUser(), mockCurrentConfig(), TrackingClientType.Type.SEGMENT, optimizely)
+        client.eventProperties.subscribe(this.propertiesTest)
+        val segment = AnalyticEvents(listOf(client))
+
+        segment.trackAppOpen()
+        assertFalse(this.propertiesTest.value["session_enabled_features"].toString().contains("optimizely_feature"))
+
+        // - Optimizely finished initializing, with the same config and user.
+        optimizelyFeatures = listOf("optimizely_feature")
+        segment.trackAppOpen()
+        assertTrue(this.propertiesTest.value["session_enabled_features"].toString().contains("optimizely_feature"))
+    }
+
+    @Test
+    fun testDefaultProperties_whenUserChanges() {
+        val currentUser = MockCurrentUser()
+        val client = MockTrackingClient(currentUser, mockCurrentConfig(), TrackingClientType.Type.SEGMENT, MockExperimentsClientType())
+        client.eventProperties.subscribe(this.propertiesTest)
+        val segment = AnalyticEvents(listOf(client))
+
+        segment.trackAppOpen()
+        assertEquals(false, this.propertiesTest.value["session_user_is_logged_in"])
+        assertNull(this.propertiesTest.value["user_uid"])
+
+        // - A new user rebuilds the user and session properties.
+        val user = UserFactory.user()
+        currentUser.login(user, "token")
+        segment.trackAppOpen()
+        assertEquals(true, this.propertiesTest.value["session_user_is_logged_in"])
+        assertEquals(user.id().toString(), this.propertiesTest.value["user_uid"])
+    }
+
     @Test
     fun testDefaultProperties_LoggedInUser() {
         val user = user()
@@ -0,0 +1,186 @@
+package com.kickstarter.libs
+
+import android.net.Uri
+import com.google.android.exoplayer2.C
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider
+import com.google.android.exoplayer2.upstream.DataSpec
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor
+import com.google.android.exoplayer2.upstream.cache.SimpleCache
+import com.kickstarter.KSRobolectricTestCase
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import okio.Buffer
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import rx.schedulers.Schedulers
+import java.io.File
+
+class VideoPlayerPoolTest : KSRobolectricTestCase() {
+
+    private lateinit var cache: SimpleCache
+    private lateinit var directory: File
+    private lateinit var pool: VideoPlayerPool
+    private lateinit var server: MockWebServer
+
+    @Before
+    fun setUpServer() {
+        // - Stands in for the video host, serving a different body of VIDEO_BYTES for every path.
+        server = MockWebServer()
+        server.dispatcher = object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest) = MockResponse()
+                .setHeader("Content-Type", "video/mp4")
+                .setBody(Buffer().write(ByteArray(VIDEO_BYTES) { (it + (request.path?.length ?: 0)).toByte() }))
+        }
+        server.start()
+
+        directory = File(context().cacheDir, "video_player_pool_test")
+        cache = SimpleCache(directory, LeastRecentlyUsedCacheEvictor(CACHE_BYTES), StandaloneDatabaseProvider(context()))
+        pool = VideoPlayerPool(context(), cache, DefaultHttpDataSource.Factory(), Schedulers.immediate(), MAX_PLAYERS, PREFETCH_BYTES)
+    }
+
+    @After
+    fun tearDown() {
+        pool.releaseAll()
+        cache.release()
+        directory.deleteRecursively()
+        server.shutdown()
+    }
+
+    @Test
+    fun testDataSourceFactory_readsThroughTheCache() {
+        val url = url("/video_1.mp4")
+
+        assertEquals(VIDEO_BYTES, read(url))
+        assertEquals(VIDEO_BYTES, read(url))
+
+        assertEquals(1, server.requestCount)
+        assertTrue(cache.isCached(url, 0, VIDEO_BYTES.toLong()))
+    }
+
+    @Test
+    fun testPrefetch_cachesTheStartOfTheVideo() {
+        val url = url("/video_1.mp4")
+
+        pool.prefetch(url)
+        assertEquals(1, server.requestCount)
+        assertTrue(cache.isCached(url, 0, PREFETCH_BYTES))
+
+        // - Playback starts from what was prefetched.
+        assertEquals(PREFETCH_BYTES.toInt(), read(url, PREFETCH_BYTES))
+        assertEquals(1, server.requestCount)
+    }
+
+    @Test
+    fun testCache_evictsTheLeastRecentlyUsedVideo() {
+        val first = url("/video_1.mp4")
+        val second = url("/video_2.mp4")
+        val third = url("/video_3.mp4")
+
+        read(first)
+        read(second)
+        read(third)
+
+        // - Only two videos fit in the cache.
+        assertFalse(cache.isCached(first, 0, VIDEO_BYTES.toLong()))
+        assertTrue(cache.isCached(second, 0, VIDEO_BYTES.toLong()))
+        assertTrue(cache.isCached(third, 0, VIDEO_BYTES.toLong()))
+    }
+
+    @Test
+    fun testPlayer_reusesPlayers() {
+        val first = pool.player(url("/video_1.mp4"))
+        assertSame(first, pool.player(url("/video_1.mp4")))
+
+        pool.player(url("/video_2.mp4"))
+        pool.player(url("/video_3.mp4"))
+        assertEquals(MAX_PLAYERS, pool.playerCount())
+
+        // - The least recently used player is handed to the next video.
+        assertSame(first, pool.player(url("/video_4.mp4")))
+        assertEquals(MAX_PLAYERS, pool.playerCount())
+
+        // - A recycled player is reused before the least recently used one.
+        val recycled = pool.player(url("/video_3.mp4"))
+        pool.recycle(url("/video_3.mp4"))
+        assertSame(recycled, pool.player(url("/video_5.mp4")))
+        assertEquals(MAX_PLAYERS, pool.playerCount())
+    }
+
+    @Test
+    fun testPlayer_tellsThePreviousCallerWhenTaken() {
+        val taken = mutableListOf<String>()
+        pool.player(url("/video_1.mp4")) { taken.add("1") }
+        pool.player(url("/video_2.mp4")) { taken.add("2") }
+        pool.player(url("/video_3.mp4")) { taken.add("3") }
+        pool.recycle(url("/video_3.mp4"))
+        assertEquals(emptyList<String>(), taken)
+
+        // - Recycled players are reused without telling anyone, the least recently used player is taken from its caller.
+        pool.player(url("/video_4.mp4")) { taken.add("4") }
+        pool.player(url("/video_5.mp4")) { taken.add("5") }
+        assertEquals(listOf("1"), taken)
+
+        pool.player(url("/video_2.mp4")) { taken.add("fullscreen") }
+        assertEquals(listOf("1", "2"), taken)
+
+        pool.releaseAll()
+        assertEquals(listOf("1", "2", "4", "5", "fullscreen"), taken.take(2) + taken.drop(2).sorted())
+    }
+
+    @Test
+    fun testPosition_doesNotChangeThePlayers() {
+        val first = pool.player(url("/video_1.mp4"))
+        pool.player(url("/video_2.mp4"))
+        pool.player(url("/video_3.mp4"))
+        pool.seekTo(url("/video_1.mp4"), 1_000L)
+
+        assertEquals(1_000L, pool.position(url("/video_1.mp4")))
+        assertEquals(0L, pool.position(url("/video_9.mp4")))
+        assertEquals(MAX_PLAYERS, pool.playerCount())
+
+        // - Looking up the position doesn't count as using the player, so it's still the first one handed on.
+        assertSame(first, pool.player(url("/video_4.mp4")))
+        assertEquals(1_000L, pool.position(url("/video_1.mp4")))
+    }
+
+    @Test
+    fun testSeekTo_isKeptAfterRecycling() {
+        val url = url("/video_1.mp4")
+        pool.player(url)
+        pool.seekTo(url, 1_000L)
+        pool.recycle(url)
+
+        assertEquals(1_000L, pool.player(url).currentPosition)
+    }
+
+    private fun url(path: String) = server.url(path).toString()
+
+    private fun read(url: String, length: Long = C.LENGTH_UNSET): Int {
+        val dataSource = pool.dataSourceFactory.createDataSource()
+        val dataSpec = DataSpec.Builder().setUri(Uri.parse(url)).setLength(length).build()
+        val buffer = ByteArray(4096)
+        var total = 0
+        try {
+            dataSource.open(dataSpec)
+            while (true) {
+                val read = dataSource.read(buffer, 0, buffer.size)
+                if (read == -1) break
+                total += read
+            }
+        } finally {
+            dataSource.close()
+        }
+        return total
+    }
+
+    companion object {
+        private const val VIDEO_BYTES = 64 * 1024
+        private const val CACHE_BYTES = 2L * VIDEO_BYTES
+        private const val MAX_PLAYERS = 3
+        private const val PREFETCH_BYTES = 16L * 1024
+    }
+}
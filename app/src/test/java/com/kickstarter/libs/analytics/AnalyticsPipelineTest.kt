@@ -0,0 +1,242 @@
+package com.kickstarter.libs.analytics
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.utils.EventName
+import org.junit.After
+import org.junit.Test
+import rx.schedulers.Schedulers
+import rx.schedulers.TestScheduler
+import java.io.File
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class AnalyticsPipelineTest : KSRobolectricTestCase() {
+
+    private val scheduler = TestScheduler()
+
+    private class FakeSink(var isAvailable: Boolean = true) : AnalyticsSink {
+        val batches = mutableListOf<List<AnalyticsEvent>>()
+
+        fun eventNames() = this.batches.flatten().map { it.name }
+
+        override fun send(events: List<AnalyticsEvent>): Boolean {
+            if (this.isAvailable) {
+                this.batches.add(events)
+            }
+            return this.isAvailable
+        }
+    }
+
+    private fun file() = File(context().filesDir, "analytics_events_test")
+
+    private fun pipeline(batchSize: Int = 3, maxPendingEvents: Int = 100) =
+        AnalyticsPipeline(AnalyticsEventQueue(file()), this.scheduler, batchSize, 30, maxPendingEvents)
+
+    private fun enriched(properties: Map<String, Any>): Map<String, Any?> = properties + ("session_platform" to "native_android")
+
+    @After
+    fun deleteFile() {
+        file().delete()
+    }
+
+    @Test
+    fun testTrack_sendsFullBatches() {
+        val sink = FakeSink()
+        val pipeline = pipeline()
+        pipeline.start(sink)
+
+        pipeline.track("App Open", emptyMap(), ::enriched)
+        pipeline.track(EventName.CTA_CLICKED.eventName, mapOf("context_cta" to "discover"), ::enriched)
+        this.scheduler.triggerActions()
+        assertTrue(sink.batches.isEmpty())
+
+        pipeline.track(EventName.CARD_CLICKED.eventName, mapOf("context_page" to "discover"), ::enriched)
+        this.scheduler.triggerActions()
+
+        assertEquals(1, sink.batches.size)
+        assertEquals(listOf("App Open", EventName.CTA_CLICKED.eventName, EventName.CARD_CLICKED.eventName), sink.eventNames())
+        assertEquals("discover", sink.batches[0][1].properties["context_cta"])
+        assertEquals("native_android", sink.batches[0][1].properties["session_platform"])
+    }
+
+    @Test
+    fun testTrack_addsPropertiesOnWorker() {
+        val pipeline = pipeline()
+        var calls = 0
+
+        pipeline.track("App Open", emptyMap()) {
+            calls++
+            it
+        }
+        assertEquals(0, calls)
+
+        this.scheduler.triggerActions()
+        assertEquals(1, calls)
+    }
+
+    @Test
+    fun testTrack_withoutProperties() {
+        val sink = FakeSink()
+        val pipeline = pipeline()
+        pipeline.start(sink)
+
+        pipeline.track("App Open", emptyMap()) { null }
+        pipeline.flush()
+        this.scheduler.triggerActions()
+
+        assertTrue(sink.batches.isEmpty())
+    }
+
+    @Test
+    fun testFlush() {
+        val sink = FakeSink()
+        val pipeline = pipeline()
+        pipeline.start(sink)
+
+        pipeline.track("App Open", emptyMap(), ::enriched)
+        pipeline.flush()
+        this.scheduler.triggerActions()
+
+        assertEquals(listOf("App Open"), sink.eventNames())
+    }
+
+    @Test
+    fun testFlush_afterInterval() {
+        val sink = FakeSink()
+        val pipeline = pipeline()
+        pipeline.start(sink)
+
+        pipeline.track("App Open", emptyMap(), ::enriched)
+        this.scheduler.triggerActions()
+        assertTrue(sink.batches.isEmpty())
+
+        this.scheduler.advanceTimeBy(30, TimeUnit.SECONDS)
+        assertEquals(listOf("App Open"), sink.eventNames())
+    }
+
+    @Test
+    fun testFlush_whenSinkUnavailable() {
+        val sink = FakeSink(isAvailable = false)
+        val pipeline = pipeline()
+        pipeline.start(sink)
+
+        pipeline.track("App Open", emptyMap(), ::enriched)
+        pipeline.flush()
+        this.scheduler.triggerActions()
+        assertTrue(sink.batches.isEmpty())
+
+        // - The events are kept until the sink takes them.
+        sink.isAvailable = true
+        pipeline.flush()
+        this.scheduler.triggerActions()
+        assertEquals(listOf("App Open"), sink.eventNames())
+
+        pipeline.flush()
+        this.scheduler.triggerActions()
+        assertEquals(1, sink.batches.size)
+    }
+
+    @Test
+    fun testTrack_repeatedPageView() {
+        val sink = FakeSink()
+        val pipeline = pipeline()
+        pipeline.start(sink)
+
+        val discover = mapOf("context_page" to "discover")
+        pipeline.track(EventName.PAGE_VIEWED.eventName, discover, ::enriched)
+        pipeline.track(EventName.PAGE_VIEWED.eventName, discover, ::enriched)
+        pipeline.track(EventName.PAGE_VIEWED.eventName, mapOf("context_page" to "activity_feed"), ::enriched)
+        this.scheduler.triggerActions()
+
+        this.scheduler.advanceTimeBy(2, TimeUnit.SECONDS)
+        pipeline.track(EventName.PAGE_VIEWED.eventName, mapOf("context_page" to "activity_feed"), ::enriched)
+        pipeline.flush()
+        this.scheduler.triggerActions()
+
+        assertEquals(
+            listOf("discover", "activity_feed", "activity_feed"),
+            sink.batches.flatten().map { it.properties["context_page"] }
+        )
+    }
+
+    @Test
+    fun testTrack_dropsEventsPastMaxPending() {
+        val sink = FakeSink()
+        val pipeline = pipeline(batchSize = 10, maxPendingEvents = 2)
+        pipeline.start(sink)
+
+        repeat(5) { pipeline.track("App Open", mapOf("index" to it), ::enriched) }
+        pipeline.flush()
+        this.scheduler.triggerActions()
+
+        assertEquals(listOf(0, 1), sink.batches.flatten().map { it.properties["index"] })
+    }
+
+    @Test
+    fun testQueue_keepsEventsAcrossSessions() {
+        val pipeline = pipeline()
+        pipeline.track(EventName.CTA_CLICKED.eventName, mapOf("context_cta" to "discover", "is_logged_in" to true, "count" to 2), ::enriched)
+        this.scheduler.triggerActions()
+
+        // - A new session reads the events left in the file.
+        val sink = FakeSink()
+        pipeline().start(sink)
+        this.scheduler.triggerActions()
+
+        val event = sink.batches.flatten().single()
+        assertEquals(EventName.CTA_CLICKED.eventName, event.name)
+        assertEquals("discover", event.properties["context_cta"])
+        assertEquals(true, event.properties["is_logged_in"])
+        assertEquals(2, event.properties["count"])
+        assertEquals("native_android", event.properties["session_platform"])
+    }
+
+    @Test
+    fun testQueue_isBounded() {
+        val queue = AnalyticsEventQueue(file(), 10)
+        repeat(25) { queue.add(AnalyticsEvent("Event $it", emptyMap())) }
+
+        assertTrue(queue.size() <= 10)
+        assertEquals("Event 24", queue.peek(10).last().name)
+
+        // - Removing events rewrites the file.
+        queue.remove(queue.size() - 1)
+        assertEquals(listOf("Event 24"), AnalyticsEventQueue(file(), 10).peek(10).map { it.name })
+    }
+
+    @Test
+    fun testTrack_deliversEveryEvent() {
+        val executor = Executors.newSingleThreadExecutor()
+        val delivered = CountDownLatch(MANY_EVENTS)
+        val sink = object : AnalyticsSink {
+            override fun send(events: List<AnalyticsEvent>): Boolean {
+                repeat(events.size) { delivered.countDown() }
+                return true
+            }
+        }
+        val pipeline = AnalyticsPipeline(
+            AnalyticsEventQueue(file(), MANY_EVENTS),
+            Schedulers.from(executor),
+            AnalyticsPipeline.DEFAULT_BATCH_SIZE,
+            AnalyticsPipeline.DEFAULT_FLUSH_INTERVAL_SECONDS,
+            MANY_EVENTS
+        )
+        pipeline.start(sink)
+
+        val sessionProperties = (0 until 30).associate { "session_property_$it" to "value $it" }
+        repeat(MANY_EVENTS) {
+            pipeline.track(EventName.CTA_CLICKED.eventName, mapOf("context_cta" to "discover", "index" to it)) { properties ->
+                properties + sessionProperties
+            }
+        }
+
+        assertTrue(delivered.await(60, TimeUnit.SECONDS))
+
+        executor.shutdownNow()
+    }
+
+    companion object {
+        private const val MANY_EVENTS = 1_000
+    }
+}
@@ -0,0 +1,145 @@
+package com.kickstarter.libs.gson
+
+import com.google.gson.FieldNamingPolicy
+import com.google.gson.GsonBuilder
+import com.kickstarter.ApplicationModule
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ActivityEnvelopeFactory
+import com.kickstarter.mock.factories.ActivityFactory
+import com.kickstarter.mock.factories.DiscoverEnvelopeFactory
+import com.kickstarter.mock.factories.MessageThreadFactory
+import com.kickstarter.mock.factories.MessageThreadsEnvelopeFactory
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.mock.factories.ProjectStatsEnvelopeFactory
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.models.Project
+import com.kickstarter.models.User
+import com.kickstarter.services.apiresponses.ActivityEnvelope
+import com.kickstarter.services.apiresponses.DiscoverEnvelope
+import com.kickstarter.services.apiresponses.MessageThreadsEnvelope
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope
+import org.joda.time.DateTime
+import org.junit.Test
+
+class ApiTypeAdapterFactoryTest : KSRobolectricTestCase() {
+
+    private val streaming = ApplicationModule.provideGson()
+
+    // - The same Gson without the streaming adapters, decoding every model by reflection.
+    private val reflective = GsonBuilder()
+        .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+        .registerTypeAdapter(DateTime::class.java, DateTimeTypeAdapter())
+        .create()
+
+    @Test
+    fun testDiscoverEnvelope_decodesLikeReflection() {
+        val json = discoverJson()
+
+        val expected = this.reflective.fromJson(json, DiscoverEnvelope::class.java)
+        val envelope = this.streaming.fromJson(json, DiscoverEnvelope::class.java)
+
+        assertEquals(expected.projects(), envelope.projects())
+        assertEquals(expected.urls()?.api()?.moreProjects(), envelope.urls()?.api()?.moreProjects())
+        assertEquals(expected.stats()?.count(), envelope.stats()?.count())
+    }
+
+    @Test
+    fun testActivityEnvelope_decodesLikeReflection() {
+        val json = activityJson()
+        assertEquals(this.reflective.fromJson(json, ActivityEnvelope::class.java), this.streaming.fromJson(json, ActivityEnvelope::class.java))
+    }
+
+    @Test
+    fun testMessageThreadsEnvelope_decodesLikeReflection() {
+        val json = messageThreadsJson()
+        assertEquals(
+            this.reflective.fromJson(json, MessageThreadsEnvelope::class.java),
+            this.streaming.fromJson(json, MessageThreadsEnvelope::class.java)
+        )
+    }
+
+    @Test
+    fun testProjectStatsEnvelope_decodesLikeReflection() {
+        val json = projectStatsJson()
+        assertEquals(
+            this.reflective.fromJson(json, ProjectStatsEnvelope::class.java),
+            this.streaming.fromJson(json, ProjectStatsEnvelope::class.java)
+        )
+    }
+
+    @Test
+    fun testWrite_isUnchanged() {
+        val project = ProjectFactory.backedProject()
+        val user = UserFactory.user()
+
+        assertEquals(this.reflective.toJson(project), this.streaming.toJson(project))
+        assertEquals(this.reflective.toJson(user), this.streaming.toJson(user))
+        assertEquals(user, this.streaming.fromJson(this.streaming.toJson(user), User::class.java))
+    }
+
+    @Test
+    fun testRead_skipsUnknownFieldsAndDefaultsMissingOnes() {
+        val json = """
+            {
+              "projects": [
+                {
+                  "id": 1,
+                  "name": null,
+                  "launched_at": 1500000000,
+                  "some_new_field": { "nested": [1, 2, { "deeper": true }] },
+                  "creator": { "id": 2, "unknown": "value" }
+                }
+              ],
+              "stats": null
+            }
+        """
+
+        val project = this.streaming.fromJson(json, DiscoverEnvelope::class.java).projects().first()
+
+        assertEquals(1L, project.id())
+        assertEquals("", project.name())
+        assertEquals(DateTime(1500000000L * 1000L), project.launchedAt())
+        assertEquals(2L, project.creator().id())
+        assertEquals("", project.creator().name())
+        assertNotNull(project.urls())
+    }
+
+    // - Fixtures are written by the app's own Gson, the way responses and stored values look on the wire.
+    private fun discoverJson() = this.streaming.toJson(DiscoverEnvelopeFactory.discoverEnvelope(projects()))
+
+    private fun activityJson() = this.streaming.toJson(
+        ActivityEnvelopeFactory.activityEnvelope(
+            List(PAGE_SIZE) { if (it % 2 == 0) ActivityFactory.activity() else ActivityFactory.friendBackingActivity() }
+        )
+    )
+
+    private fun messageThreadsJson() = this.streaming.toJson(
+        MessageThreadsEnvelopeFactory.messageThreadsEnvelope().toBuilder()
+            .messageThreads(List(PAGE_SIZE) { MessageThreadFactory.messageThread() })
+            .build()
+    )
+
+    private fun projectStatsJson(): String {
+        val envelope = ProjectStatsEnvelopeFactory.projectStatsEnvelope()
+        return this.streaming.toJson(
+            envelope.toBuilder()
+                .fundingDistribution(List(PAGE_SIZE) { envelope.fundingDistribution().first() })
+                .referralDistribution(List(PAGE_SIZE) { envelope.referralDistribution().first() })
+                .rewardDistribution(List(PAGE_SIZE) { envelope.rewardDistribution().first() })
+                .build()
+        )
+    }
+
+    private fun projects(): List<Project> = List(PAGE_SIZE) {
+        when (it % 4) {
+            0 -> ProjectFactory.project()
+            1 -> ProjectFactory.backedProject()
+            2 -> ProjectFactory.successfulProject()
+            else -> ProjectFactory.staffPick()
+        }
+    }
+
+    companion object {
+        private const val PAGE_SIZE = 20
+    }
+}
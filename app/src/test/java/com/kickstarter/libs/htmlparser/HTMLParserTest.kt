@@ -2,6 +2,7 @@ package com.kickstarter.libs.htmlparser
 
 import junit.framework.TestCase
 import junit.framework.TestCase.assertEquals
+import junit.framework.TestCase.assertTrue
 import org.junit.Test
 import java.net.URI
 
@@ -297,4 +298,85 @@ class HTMLParserTest {
         val audioElement: AudioViewElement = listOfElements.last() as AudioViewElement
         assertEquals(audioElement.sourceUrl, "")
     }
+
+    @Test
+    fun parseFormattingReopenedInNextParagraph() {
+        val html = "<p><strong>bold</p><p>still bold</p>"
+
+        val listOfElements = HTMLParser().parse(html)
+        assertEquals(2, listOfElements.size)
+
+        listOfElements.forEach {
+            val textElement = it as TextViewElement
+            assertEquals(listOf(TextComponent.TextStyleType.BOLD), textElement.components.first().styles)
+        }
+    }
+
+    @Test
+    fun parseLinkClosedInsideParagraph() {
+        val url = "https://www.kickstarter.com"
+        val html = "<a href=\"$url\"><p>linked</a> not linked</p>"
+
+        val listOfElements = HTMLParser().parse(html)
+        assertEquals(1, listOfElements.size)
+
+        val textElement = listOfElements.first() as TextViewElement
+        assertEquals(2, textElement.components.size)
+        assertEquals(TextComponent("linked", url, listOf(TextComponent.TextStyleType.LINK)), textElement.components[0])
+        assertEquals(TextComponent(" not linked", "", emptyList()), textElement.components[1])
+    }
+
+    @Test
+    fun parseTextWithEntities() {
+        val html = "<p>&amp; &lt;b&gt; &#8217;&rsquo; &bogus; &amp</p>"
+
+        val listOfElements = HTMLParser().parse(html)
+
+        val textElement = listOfElements.first() as TextViewElement
+        assertEquals("& <b> \u2019\u2019 &bogus; &", textElement.components.first().text)
+    }
+
+    @Test
+    fun parseLargeStory() {
+        val block = "<p>Paragraph with <strong>bold</strong> and <a href=\"https://www.kickstarter.com\">a link</a></p>" +
+            "<div class=\"template asset\" contenteditable=\"false\" data-caption=\"Caption\">" +
+            "<figure><img alt=\"\" class=\"fit\" src=\"https://ksr-ugc.imgix.net/assets/image.png\"></figure>" +
+            "</div>" +
+            "<ul><li>First</li><li>Second</li></ul>"
+        val count = 1024 * 1024 / block.length + 1
+        val html = block.repeat(count)
+
+        val listOfElements = HTMLParser().parse(html)
+
+        assertEquals(3 * count, listOfElements.size)
+        assertEquals(HTMLParser().parse(block), listOfElements.takeLast(3))
+    }
+
+    @Test
+    fun parseStoryFixtures_matchJsoup() {
+        STORY_FIXTURES.forEach { fixture ->
+            val html = requireNotNull(javaClass.classLoader?.getResource("stories/$fixture")).readText()
+            val viewElements = HTMLParser().parse(html)
+
+            assertTrue(fixture, viewElements.isNotEmpty())
+            assertEquals(fixture, JsoupHTMLParser().parse(html), viewElements)
+        }
+    }
+
+    @Test
+    fun parseStoryFixtures_inChunks_matchJsoup() {
+        STORY_FIXTURES.forEach { fixture ->
+            val html = requireNotNull(javaClass.classLoader?.getResource("stories/$fixture")).readText()
+            val chunks = mutableListOf<List<ViewElement>>()
+            val viewElements = HTMLParser().parse(html) { chunks.add(it) }
+
+            assertEquals(fixture, JsoupHTMLParser().parse(html), viewElements)
+            chunks.forEach { assertEquals(fixture, it, viewElements.subList(0, it.size)) }
+        }
+    }
+
+    companion object {
+        // - Stories as the API returns them: the current editor's markup, and the looser markup of older projects.
+        private val STORY_FIXTURES = listOf("campaign.html", "rewards_and_faq.html", "legacy_markup.html")
+    }
 }
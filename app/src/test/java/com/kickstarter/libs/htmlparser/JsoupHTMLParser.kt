@@ -0,0 +1,172 @@
+package com.kickstarter.libs.htmlparser
+
+import org.jsoup.Jsoup
+import org.jsoup.nodes.Element
+import org.jsoup.nodes.TextNode
+import org.jsoup.select.Elements
+
+/**
+ * The Jsoup document based parser [HTMLParser] replaced, kept as the reference it must agree with.
+ */
+class JsoupHTMLParser {
+
+    fun parse(html: String): List<ViewElement> {
+        val doc = Jsoup.parse(html)
+        val viewElements = mutableListOf<ViewElement>()
+        doc.children().forEach {
+            parse(it.children(), viewElements)
+        }
+
+        return viewElements
+    }
+
+    private fun parse(children: Elements?, viewElements: MutableList<ViewElement>) {
+        children?.forEach { element ->
+            when (viewElementType(element)) {
+                ViewElementType.IMAGE -> viewElements.add(imageElement(element))
+                ViewElementType.TEXT -> viewElements.add(TextViewElement(textComponents(element, mutableListOf())))
+                ViewElementType.VIDEO -> viewElements.add(
+                    VideoViewElement(videoElementUrl(element), element.parent()?.attr("data-image"), 0)
+                )
+                ViewElementType.AUDIO -> viewElements.add(audioElement(element))
+                ViewElementType.EXTERNAL_SOURCES -> viewElements.add(externalElement(element))
+                else -> parse(element.children(), viewElements)
+            }
+        }
+    }
+
+    private fun textComponents(element: Element, textComponents: MutableList<TextComponent>): List<TextComponent> {
+        for (node in element.childNodes()) {
+            (node as? TextNode)?.let { textNode ->
+                if (textNode.text().trim().isNotEmpty()) {
+                    textComponents.add(textComponent(textNode, element))
+                }
+            }
+            (node as? Element)?.let {
+                textComponents(it, textComponents)
+            }
+        }
+        return textComponents.toList()
+    }
+
+    private fun viewElementType(element: Element): ViewElementType {
+        val tag = element.tag().name
+        return when {
+            // - Links around images were looked inside of like any other element.
+            tag == "div" -> viewElementTypeFromDiv(element)
+            TextComponent.TextBlockType.values().map { it.tag }.contains(tag) -> ViewElementType.TEXT
+            tag == ViewElementType.VIDEO.tag -> ViewElementType.VIDEO
+            tag == ViewElementType.AUDIO.tag -> ViewElementType.AUDIO
+            else -> ViewElementType.UNKNOWN
+        }
+    }
+
+    private fun viewElementTypeFromDiv(element: Element): ViewElementType {
+        val isTemplate = { className: String -> element.attributes().any { it.key == "class" && it.value == className } }
+        if (isTemplate("template asset")) {
+            if (element.children().getOrNull(0)?.children()?.getOrNull(0)?.tag()?.name == ViewElementType.IMAGE.tag) {
+                return ViewElementType.IMAGE
+            }
+        } else if (isTemplate("template oembed")) {
+            if (element.children().getOrNull(0)?.tag()?.name == ViewElementType.EXTERNAL_SOURCES.tag) {
+                return ViewElementType.EXTERNAL_SOURCES
+            }
+        }
+        return ViewElementType.UNKNOWN
+    }
+
+    private fun audioElement(element: Element): AudioViewElement {
+        val url = element.children()
+            .firstOrNull { (it.attr("type") ?: "").contentEquals("audio/mp3") }
+            ?.attr("src") ?: ""
+
+        return AudioViewElement(url)
+    }
+
+    private fun videoElementUrl(element: Element): String {
+        val sourceUrls = element.children().mapNotNull { it.attr("src") }
+        return sourceUrls.firstOrNull { it.contains("high") } ?: sourceUrls.first()
+    }
+
+    private fun imageElement(element: Element): ImageViewElement {
+        val href = if (element.parent()?.tag()?.name == "a") element.parent()?.attr("href") else null
+        val image = element.children().getOrNull(0)?.children()?.getOrNull(0)
+        var src = image?.attr("src").toString()
+
+        // - it's a gif collect attribute data-src instead
+        if (src.contains(".gif")) {
+            src = image?.attr("data-src").toString()
+        }
+
+        return ImageViewElement(src = src, href = href, caption = element.attr("data-caption"))
+    }
+
+    private fun externalElement(element: Element): ExternalSourceViewElement {
+        val sourceUrls = element.children().getOrNull(0)?.apply {
+            this.attr("width", "100%")
+        }.toString()
+
+        return ExternalSourceViewElement(sourceUrls)
+    }
+
+    /**
+     * Collects the tags of `element` and its ancestors up to the closest text block, and the links among them.
+     */
+    private fun extractTextAttributes(element: Element, tags: MutableList<String>, urls: MutableList<String>) {
+        tags.add(element.tagName())
+        if (!TextComponent.TextBlockType.values().map { it.tag }.contains(element.tagName())) {
+            if (element.tagName() == "a") {
+                urls.add(element.attr("href"))
+            }
+            element.parent()?.let {
+                extractTextAttributes(it, tags, urls)
+            }
+        }
+    }
+
+    private fun liElement(element: Element): Element? =
+        if (element.tagName().contains("li")) element else element.parent()?.let { liElement(it) }
+
+    private fun textComponent(textNode: TextNode, element: Element): TextComponent {
+        val tagsOther = mutableListOf<String>()
+        val urls = mutableListOf<String>()
+
+        extractTextAttributes(element, tagsOther, urls)
+
+        val textStyleList = tagsOther.map { tag -> TextComponent.TextStyleType.initialize(tag) }
+            .filter { it != TextComponent.TextStyleType.LIST }
+            .filter { it != TextComponent.TextStyleType.UNKNOWN }
+            .toMutableList()
+
+        if (tagsOther.contains("ul")) {
+            val parent = element.parent()
+            val grandFather = parent?.parent()
+            val liChildElements = liElement(element)?.childNodes()?.filter {
+                !(it is TextNode && it.text().trim().isEmpty())
+            }
+
+            if (textNode == liChildElements?.first() || element == liChildElements?.first()) {
+                textStyleList.add(TextComponent.TextStyleType.LIST)
+            } else if (liChildElements?.first() == parent) {
+                textStyleList.add(TextComponent.TextStyleType.LIST)
+            }
+
+            if (textNode == liChildElements?.last() || element == liChildElements?.last()) {
+                textStyleList.add(TextComponent.TextStyleType.LIST_END)
+            } else if (liChildElements?.last() == parent) {
+                textStyleList.add(TextComponent.TextStyleType.LIST_END)
+            }
+
+            if (textStyleList.size >= 3) {
+                if (liChildElements?.first() == grandFather) {
+                    textStyleList.add(TextComponent.TextStyleType.LIST)
+                }
+                if (liChildElements?.last() == grandFather) {
+                    textStyleList.add(TextComponent.TextStyleType.LIST_END)
+                }
+            }
+        }
+
+        return TextComponent(textNode.text(), urls.firstOrNull() ?: "", textStyleList)
+    }
+}
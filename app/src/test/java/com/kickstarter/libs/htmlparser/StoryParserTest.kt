@@ -0,0 +1,120 @@
+package com.kickstarter.libs.htmlparser
+
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+import rx.observers.TestSubscriber
+import rx.schedulers.Schedulers
+
+class StoryParserTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testViewElements_emitsGrowingChunks() {
+        val story = largeStory(10)
+        val storyViewElements = TestSubscriber.create<List<ViewElement>>()
+
+        StoryParser().viewElements(1L, story, Schedulers.immediate()).subscribe(storyViewElements)
+
+        storyViewElements.assertCompleted()
+        val viewElements = storyViewElements.onNextEvents.last()
+        assertEquals(HTMLParser().parse(story), viewElements)
+        assertEquals(HTMLParser.FIRST_CHUNK_SIZE, storyViewElements.onNextEvents.first().size)
+        storyViewElements.onNextEvents.forEach {
+            assertEquals(it, viewElements.subList(0, it.size))
+        }
+    }
+
+    @Test
+    fun testViewElements_emptyStory() {
+        val storyViewElements = TestSubscriber.create<List<ViewElement>>()
+
+        StoryParser().viewElements(1L, "", Schedulers.immediate()).subscribe(storyViewElements)
+
+        storyViewElements.assertValue(emptyList())
+        storyViewElements.assertCompleted()
+    }
+
+    @Test
+    fun testViewElements_parsesSameStoryOnce() {
+        val htmlParser = CountingHTMLParser()
+        val storyParser = StoryParser(htmlParser)
+        val story = largeStory(2)
+
+        storyParser.viewElements(1L, story, Schedulers.immediate()).subscribe()
+        val cachedStoryViewElements = TestSubscriber.create<List<ViewElement>>()
+        storyParser.viewElements(1L, story, Schedulers.immediate()).subscribe(cachedStoryViewElements)
+
+        assertEquals(1, htmlParser.parseCount)
+        cachedStoryViewElements.assertValueCount(1)
+        cachedStoryViewElements.assertCompleted()
+
+        // - A different project or an edited story is parsed again.
+        storyParser.viewElements(2L, story, Schedulers.immediate()).subscribe()
+        storyParser.viewElements(1L, story + "<p>Edited</p>", Schedulers.immediate()).subscribe()
+        assertEquals(3, htmlParser.parseCount)
+    }
+
+    @Test
+    fun testViewElements_evictsLeastRecentlyUsed() {
+        val htmlParser = CountingHTMLParser()
+        val storyParser = StoryParser(htmlParser, 1)
+
+        storyParser.viewElements(1L, "<p>One</p>", Schedulers.immediate()).subscribe()
+        storyParser.viewElements(2L, "<p>Two</p>", Schedulers.immediate()).subscribe()
+        storyParser.viewElements(1L, "<p>One</p>", Schedulers.immediate()).subscribe()
+
+        assertEquals(3, htmlParser.parseCount)
+    }
+
+    @Test
+    fun testViewElements_largeStory() {
+        val story = largeStory(LARGE_STORY_BLOCKS)
+        val viewElements = HTMLParser().parse(story)
+        val htmlParser = CountingHTMLParser()
+        val storyParser = StoryParser(htmlParser)
+
+        val firstChunk = TestSubscriber.create<List<ViewElement>>()
+        storyParser.viewElements(1L, story, Schedulers.immediate()).first().subscribe(firstChunk)
+        val cachedStoryViewElements = TestSubscriber.create<List<ViewElement>>()
+        storyParser.viewElements(1L, story, Schedulers.immediate()).subscribe(cachedStoryViewElements)
+
+        // - The first chunk is the start of the story, and the cached story is the whole of it, parsed once.
+        assertEquals(viewElements.subList(0, HTMLParser.FIRST_CHUNK_SIZE), firstChunk.onNextEvents.single())
+        assertEquals(viewElements, cachedStoryViewElements.onNextEvents.single())
+        assertEquals(1, htmlParser.parseCount)
+    }
+
+    private class CountingHTMLParser : HTMLParser() {
+        var parseCount = 0
+
+        override fun parse(html: String, onChunk: ((List<ViewElement>) -> Unit)?): List<ViewElement> {
+            this.parseCount++
+            return super.parse(html, onChunk)
+        }
+    }
+
+    /**
+     * A story of [blocks] repetitions of text, list, image, embed, audio and video elements.
+     */
+    private fun largeStory(blocks: Int): String {
+        val builder = StringBuilder()
+        repeat(blocks) { index ->
+            builder
+                .append("<p>Paragraph $index with <b>bold</b>, <i>italic</i> and <a href=\"https://www.kickstarter.com\">a link</a>.</p>")
+                .append("<ul><li>First $index</li><li>Second $index</li></ul>")
+                .append("<div class=\"template asset\" contenteditable=\"false\" data-id=\"$index\"><figure>")
+                .append("<img alt=\"\" class=\"fit\" src=\"https://ksr-ugc.imgix.net/assets/$index.jpg\"></figure></div>")
+                .append("<div class=\"template oembed\" contenteditable=\"false\" data-href=\"https://youtu.be/$index\">")
+                .append("<iframe width=\"356\" height=\"200\" src=\"https://www.youtube.com/embed/$index\"></iframe></div>")
+                .append("<div class=\"template asset\" contenteditable=\"false\" data-id=\"$index\"><figure>")
+                .append("<audio controls=\"controls\" preload=\"none\"><source src=\"https://ksr.net/$index.mp3\" type=\"audio/mp3\"></source></audio>")
+                .append("</figure></div>")
+                .append("<div class=\"video-player\" data-video-url=\"https://ksr.net/$index.mp4\" data-image=\"https://ksr.net/$index.jpg\">")
+                .append("<video class=\"landscape\" preload=\"none\"><source src=\"https://ksr.net/$index.mp4\" type=\"video/mp4\"></video></div>")
+        }
+        return builder.toString()
+    }
+
+    companion object {
+        private const val LARGE_STORY_BLOCKS = 500
+    }
+}
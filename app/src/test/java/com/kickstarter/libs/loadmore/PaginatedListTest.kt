@@ -0,0 +1,125 @@
+package com.kickstarter.libs.loadmore
+
+import com.kickstarter.mock.factories.ProjectFactory
+import junit.framework.TestCase
+import org.junit.Test
+
+class PaginatedListTest : TestCase() {
+
+    @Test
+    fun testConcat() {
+        val first = PaginatedList.concat(listOf(1, 2), listOf(3, 4))
+        val second = PaginatedList.concat(first, listOf(5))
+        val third = PaginatedList.concat(second, emptyList())
+
+        assertEquals(listOf(1, 2, 3, 4), first)
+        assertEquals(listOf(1, 2, 3, 4, 5), second)
+        assertEquals(listOf(1, 2, 3, 4, 5), third)
+        assertEquals(5, third.size)
+        assertEquals(5, third[4])
+        assertEquals(listOf(2, 3), second.subList(1, 3))
+    }
+
+    @Test
+    fun testConcat_doesNotChangeEarlierLists() {
+        val first = PaginatedList.concat(listOf(1), listOf(2))
+        val second = PaginatedList.concat(first, listOf(3))
+
+        // - Adding to a list that already had a page added leaves the pages of the later list alone.
+        val branch = PaginatedList.concat(first, listOf(4))
+
+        assertEquals(listOf(1, 2), first)
+        assertEquals(listOf(1, 2, 3), second)
+        assertEquals(listOf(1, 2, 4), branch)
+    }
+
+    @Test
+    fun testConcat_readFromAnotherThreadWhileAdding() {
+        val first = PaginatedList.concat(listOf(0), listOf(1))
+        val errors = mutableListOf<Throwable>()
+        val reader = Thread {
+            try {
+                repeat(READS) { assertEquals(listOf(0, 1), first) }
+            } catch (e: Throwable) {
+                synchronized(errors) { errors.add(e) }
+            }
+        }
+
+        reader.start()
+        var list = first
+        (2 until PAGES).forEach { list = PaginatedList.concat(list, listOf(it)) }
+        reader.join()
+
+        assertEquals(emptyList<Throwable>(), errors)
+        assertEquals((0 until PAGES).toList(), list)
+        assertEquals(listOf(0, 1), first)
+    }
+
+    @Test
+    fun testConcat_copiesFirstList() {
+        val xs = mutableListOf(1, 2)
+        val list = PaginatedList.concat(xs, listOf(3))
+        xs.add(9)
+
+        assertEquals(listOf(1, 2, 3), list)
+    }
+
+    @Test
+    fun testConcat_whenReversed() {
+        val first = PaginatedList.concat(listOf(3, 4), listOf(1, 2), true)
+        val second = PaginatedList.concat(first, listOf(0), true)
+
+        assertEquals(listOf(1, 2, 3, 4), first)
+        assertEquals(listOf(0, 1, 2, 3, 4), second)
+        assertEquals(0, second[0])
+        assertEquals(4, second[4])
+    }
+
+    @Test
+    fun testConcat_outOfBounds() {
+        val list = PaginatedList.concat(listOf(1), listOf(2))
+
+        try {
+            list[2]
+            fail()
+        } catch (e: IndexOutOfBoundsException) {
+        }
+    }
+
+    @Test
+    fun testConcatDistinct() {
+        val project1 = ProjectFactory.project().toBuilder().id(1).build()
+        val project2 = ProjectFactory.project().toBuilder().id(2).build()
+        val project3 = ProjectFactory.project().toBuilder().id(3).build()
+        val updatedProject2 = project2.toBuilder().name("Updated").build()
+
+        val first = PaginatedList.concatDistinct(listOf(project1, project2), listOf(updatedProject2, project3, project3))
+        val second = PaginatedList.concatDistinct(first, listOf(project1))
+
+        assertEquals(listOf(project1, project2, project3), first)
+        assertEquals(listOf(project1, project2, project3), second)
+    }
+
+    @Test
+    fun testConcatDistinct_fromEarlierList() {
+        val project1 = ProjectFactory.project().toBuilder().id(1).build()
+        val project2 = ProjectFactory.project().toBuilder().id(2).build()
+        val project3 = ProjectFactory.project().toBuilder().id(3).build()
+
+        val first = PaginatedList.concatDistinct(listOf(project1), listOf(project2))
+        val second = PaginatedList.concatDistinct(first, listOf(project3))
+
+        // - The ids of the later list's pages don't leak into a branch of the earlier one.
+        val branch = PaginatedList.concatDistinct(first, listOf(project3, project2))
+        val third = PaginatedList.concatDistinct(second, listOf(project3, project1))
+
+        assertEquals(listOf(project1, project2, project3), branch)
+        assertEquals(listOf(project1, project2, project3), third)
+        assertEquals(listOf(project1, project2), first)
+    }
+
+    companion object {
+        private const val PAGES = 2_000
+        private const val READS = 10_000
+    }
+}
@@ -0,0 +1,106 @@
+package com.kickstarter.libs.loadmore
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ActivityFactory
+import com.kickstarter.models.Activity
+import org.junit.After
+import org.junit.Test
+import rx.observers.TestSubscriber
+import rx.schedulers.Schedulers
+import java.io.File
+
+class PaginationSnapshotStoreTest : KSRobolectricTestCase() {
+
+    private fun directory() = File(context().cacheDir, "pagination_snapshots_test")
+
+    private fun store() = PaginationSnapshotStore(directory(), requireNotNull(environment().gson()), Schedulers.immediate())
+
+    @After
+    fun deleteDirectory() {
+        directory().deleteRecursively()
+    }
+
+    @Test
+    fun testSnapshot_whenNothingSaved() {
+        val snapshot = TestSubscriber<PaginationSnapshot<Activity>>()
+        store().snapshot("activities", Activity::class.java).subscribe(snapshot)
+
+        snapshot.assertNoValues()
+        snapshot.assertCompleted()
+    }
+
+    @Test
+    fun testSnapshot_readsSavedSnapshot() {
+        val activities = listOf(ActivityFactory.activity(), ActivityFactory.friendBackingActivity())
+        store().save("activities", PaginationSnapshot(activities, "/v1/activities?cursor=2"), Activity::class.java)
+
+        // - A new store has nothing pending, so the snapshot is read from disk.
+        val snapshot = TestSubscriber<PaginationSnapshot<Activity>>()
+        store().snapshot("activities", Activity::class.java).subscribe(snapshot)
+
+        snapshot.assertValueCount(1)
+        val saved = snapshot.onNextEvents.first()
+        assertEquals("/v1/activities?cursor=2", saved.morePath)
+        assertEquals(activities.map { it.id() }, saved.data.map { it.id() })
+        assertEquals(activities.map { it.category() }, saved.data.map { it.category() })
+        assertEquals(activities.map { it.project()?.id() }, saved.data.map { it.project()?.id() })
+    }
+
+    @Test
+    fun testSnapshot_withoutMorePath() {
+        store().save("activities", PaginationSnapshot(listOf(ActivityFactory.activity()), null), Activity::class.java)
+
+        val snapshot = TestSubscriber<PaginationSnapshot<Activity>>()
+        store().snapshot("activities", Activity::class.java).subscribe(snapshot)
+
+        snapshot.assertValueCount(1)
+        assertNull(snapshot.onNextEvents.first().morePath)
+    }
+
+    @Test
+    fun testSnapshot_isKeyedByKey() {
+        store().save("activities", PaginationSnapshot(listOf(ActivityFactory.activity()), null), Activity::class.java)
+
+        val snapshot = TestSubscriber<PaginationSnapshot<Activity>>()
+        store().snapshot("other", Activity::class.java).subscribe(snapshot)
+
+        snapshot.assertNoValues()
+    }
+
+    @Test
+    fun testSave_replacesSnapshot() {
+        val first = ActivityFactory.activity()
+        val second = ActivityFactory.activity()
+        store().save("activities", PaginationSnapshot(listOf(first), null), Activity::class.java)
+        store().save("activities", PaginationSnapshot(listOf(second), null), Activity::class.java)
+
+        val snapshot = TestSubscriber<PaginationSnapshot<Activity>>()
+        store().snapshot("activities", Activity::class.java).subscribe(snapshot)
+
+        assertEquals(listOf(second.id()), snapshot.onNextEvents.first().data.map { it.id() })
+    }
+
+    @Test
+    fun testClear() {
+        val store = store()
+        store.save("activities", PaginationSnapshot(listOf(ActivityFactory.activity()), null), Activity::class.java)
+        store.clear()
+
+        val snapshot = TestSubscriber<PaginationSnapshot<Activity>>()
+        store().snapshot("activities", Activity::class.java).subscribe(snapshot)
+
+        snapshot.assertNoValues()
+    }
+
+    @Test
+    fun testSnapshot_ignoresUnreadableFile() {
+        store().save("activities", PaginationSnapshot(listOf(ActivityFactory.activity()), null), Activity::class.java)
+        directory().listFiles()?.forEach { it.writeText("not a snapshot") }
+
+        val snapshot = TestSubscriber<PaginationSnapshot<Activity>>()
+        store().snapshot("activities", Activity::class.java).subscribe(snapshot)
+
+        snapshot.assertNoValues()
+        snapshot.assertCompleted()
+    }
+}
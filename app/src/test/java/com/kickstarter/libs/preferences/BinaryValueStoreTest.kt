@@ -0,0 +1,177 @@
+package com.kickstarter.libs.preferences
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.Config
+import com.kickstarter.libs.CurrentUser
+import com.kickstarter.libs.DeviceRegistrarType
+import com.kickstarter.mock.factories.ConfigFactory
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.models.User
+import org.junit.After
+import org.junit.Test
+import rx.observers.TestSubscriber
+import rx.schedulers.Schedulers
+import rx.schedulers.TestScheduler
+import java.io.File
+
+class BinaryValueStoreTest : KSRobolectricTestCase() {
+
+    private val gson by lazy { requireNotNull(environment().gson()) }
+
+    private fun file() = File(context().filesDir, "binary_value_store_test")
+
+    private fun userStore(scheduler: rx.Scheduler = Schedulers.immediate()) =
+        BinaryValueStore(file(), this.gson, User::class.java, scheduler)
+
+    private class NoopDeviceRegistrar : DeviceRegistrarType {
+        override fun registerDevice() {}
+        override fun unregisterDevice() {}
+    }
+
+    @After
+    fun deleteFile() {
+        file().delete()
+    }
+
+    @Test
+    fun testValue_whenNothingSaved() {
+        val value = TestSubscriber<User>()
+        userStore().value().subscribe(value)
+
+        value.assertNoValues()
+        value.assertCompleted()
+    }
+
+    @Test
+    fun testValue_readsSavedValue() {
+        val user = UserFactory.user()
+        userStore().save(user)
+
+        // - A new store has nothing pending, so the value is read from disk.
+        val value = TestSubscriber<User>()
+        userStore().value().subscribe(value)
+
+        value.assertValueCount(1)
+        assertEquals(this.gson.toJson(user), this.gson.toJson(value.onNextEvents.first()))
+    }
+
+    @Test
+    fun testValue_readsConfig() {
+        val config = ConfigFactory.config()
+        BinaryValueStore(file(), this.gson, Config::class.java, Schedulers.immediate()).save(config)
+
+        val value = TestSubscriber<Config>()
+        BinaryValueStore(file(), this.gson, Config::class.java, Schedulers.immediate()).value().subscribe(value)
+
+        assertEquals(this.gson.toJson(config), this.gson.toJson(value.onNextEvents.first()))
+    }
+
+    @Test
+    fun testSave_coalescesWrites() {
+        val scheduler = TestScheduler()
+        val store = userStore(scheduler)
+        val first = UserFactory.user()
+        val second = first.toBuilder().name("Second").build()
+
+        store.save(first)
+        store.save(second)
+
+        // - The latest value is read back before it's written.
+        val pending = TestSubscriber<User>()
+        store.value().subscribe(pending)
+        scheduler.triggerActions()
+        assertEquals("Second", pending.onNextEvents.first().name())
+        assertTrue(file().exists())
+
+        val value = TestSubscriber<User>()
+        userStore().value().subscribe(value)
+        assertEquals("Second", value.onNextEvents.first().name())
+    }
+
+    @Test
+    fun testDelete() {
+        val store = userStore()
+        store.save(UserFactory.user())
+        store.delete()
+
+        val value = TestSubscriber<User>()
+        userStore().value().subscribe(value)
+
+        value.assertNoValues()
+        assertFalse(file().exists())
+    }
+
+    @Test
+    fun testValue_whenFileIsCorrupt() {
+        file().writeBytes(byteArrayOf(1, 2, 3))
+
+        val value = TestSubscriber<User>()
+        userStore().value().subscribe(value)
+
+        value.assertNoValues()
+        value.assertCompleted()
+    }
+
+    @Test
+    fun testCurrentUser_movesPreferenceUser() {
+        val user = UserFactory.user()
+        val userPreference = MockStringPreference(this.gson.toJson(user))
+        val currentUser = CurrentUser(
+            MockStringPreference("token"), NoopDeviceRegistrar(), this.gson, userPreference, userStore(), Schedulers.immediate()
+        )
+
+        assertEquals(user.id(), currentUser.user?.id())
+        assertNull(userPreference.get())
+
+        val value = TestSubscriber<User>()
+        userStore().value().subscribe(value)
+        assertEquals(user.id(), value.onNextEvents.first().id())
+    }
+
+    @Test
+    fun testCurrentUser_corruptPreferenceUserIsLoggedOut() {
+        val userPreference = MockStringPreference("{ not a user")
+        val currentUser = CurrentUser(
+            MockStringPreference("token"), NoopDeviceRegistrar(), this.gson, userPreference, userStore(), Schedulers.immediate()
+        )
+
+        val users = TestSubscriber<User>()
+        currentUser.observable().subscribe(users)
+
+        assertNull(currentUser.user)
+        users.assertValue(null)
+        assertNull(userPreference.get())
+    }
+
+    @Test
+    fun testCurrentUser_loginWhileLoading() {
+        userStore().save(UserFactory.user())
+        val scheduler = TestScheduler()
+        val currentUser = CurrentUser(
+            MockStringPreference(), NoopDeviceRegistrar(), this.gson, MockStringPreference(), userStore(scheduler), scheduler
+        )
+        val users = TestSubscriber<User>()
+        currentUser.observable().subscribe(users)
+        users.assertNoValues()
+
+        // - The saved user is older than the one that just logged in, so it isn't emitted.
+        val loggedInUser = UserFactory.user().toBuilder().id(2).build()
+        currentUser.login(loggedInUser, "token")
+        scheduler.triggerActions()
+
+        assertEquals(listOf(2L), users.onNextEvents.map { it.id() })
+        assertEquals(2L, currentUser.user?.id())
+    }
+
+    @Test
+    fun testCurrentUser_logout() {
+        val currentUser = CurrentUser(
+            MockStringPreference("token"), NoopDeviceRegistrar(), this.gson, MockStringPreference(), userStore(), Schedulers.immediate()
+        )
+        currentUser.login(UserFactory.user(), "token")
+        currentUser.logout()
+
+        assertNull(currentUser.user)
+        assertFalse(file().exists())
+    }
+}
@@ -0,0 +1,55 @@
+package com.kickstarter.libs.preferences;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import rx.Observable;
+import rx.subjects.BehaviorSubject;
+
+public final class MockBooleanDataStore implements BooleanDataStoreType {
+  private final @NonNull List<Boolean> values = new ArrayList<Boolean>();
+  private final @NonNull BehaviorSubject<Boolean> value = BehaviorSubject.create();
+
+  public MockBooleanDataStore() {
+    this.values.add(null);
+    this.value.onNext(false);
+  }
+
+  public MockBooleanDataStore(final boolean value) {
+    this.values.add(value);
+    this.value.onNext(value);
+  }
+
+  @Override
+  public boolean get() {
+    final Boolean value = this.values.get(this.values.size() - 1);
+    return value != null && value;
+  }
+
+  @Override
+  public boolean isSet() {
+    return this.values.get(this.values.size() - 1) != null;
+  }
+
+  @Override
+  public void set(final boolean value) {
+    this.values.add(value);
+    this.value.onNext(value);
+  }
+
+  @Override
+  public void delete() {
+    this.values.add(null);
+    this.value.onNext(false);
+  }
+
+  @Override
+  public @NonNull Observable<Boolean> observable() {
+    return this.value.distinctUntilChanged();
+  }
+
+  public @NonNull List<Boolean> values() {
+    return this.values;
+  }
+}
@@ -5,7 +5,13 @@ import com.kickstarter.libs.NumberOptions;
 import junit.framework.TestCase;
 
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public final class NumberUtilsTest extends TestCase {
   public void testFlooredPercentage() {
@@ -131,5 +137,41 @@ public final class NumberUtilsTest extends TestCase {
     assertEquals(0, NumberUtils.precision(1.0, RoundingMode.HALF_UP));
     assertEquals(2, NumberUtils.precision(1.5, RoundingMode.HALF_UP));
   }
-}
 
+  public void testFormat_sameFormatterAcrossThreads() throws Exception {
+    final NumberOptions options = NumberOptions.builder()
+      .currencySymbol("$")
+      .roundingMode(RoundingMode.HALF_UP)
+      .precision(2)
+      .build();
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      expected.add(NumberUtils.format(i * 1.25f, options, Locale.US));
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final List<Future<List<String>>> results = new ArrayList<>();
+    for (int thread = 0; thread < 8; thread++) {
+      results.add(executor.submit(() -> {
+        final List<String> formatted = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+          formatted.add(NumberUtils.format(i * 1.25f, options, Locale.US));
+        }
+        return formatted;
+      }));
+    }
+
+    for (final Future<List<String>> result : results) {
+      assertEquals(expected, result.get(10, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+  }
+
+  public void testFormat_optionsDoNotLeakBetweenCalls() {
+    final NumberOptions twoDecimals = NumberOptions.builder().precision(2).roundingMode(RoundingMode.HALF_UP).build();
+    assertEquals("1.50", NumberUtils.format(1.5f, twoDecimals, Locale.US));
+    assertEquals("2", NumberUtils.format(1.5f, NumberOptions.builder().roundingMode(RoundingMode.HALF_UP).build(), Locale.US));
+    assertEquals("1", NumberUtils.format(1.5f, NumberOptions.builder().build(), Locale.US));
+    assertEquals("1.50", NumberUtils.format(1.5f, twoDecimals, Locale.US));
+  }
+}
@@ -0,0 +1,116 @@
+package com.kickstarter.libs.utils
+
+import android.content.SharedPreferences
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.MockSharedPreferences
+import com.kickstarter.libs.RefTag
+import com.kickstarter.mock.factories.ProjectFactory
+import org.joda.time.DateTime
+import org.junit.Test
+import rx.schedulers.TestScheduler
+import java.net.CookieManager
+import java.net.HttpCookie
+import java.util.concurrent.TimeUnit
+
+class RefTagCookieStoreTest : KSRobolectricTestCase() {
+
+    private val scheduler = TestScheduler()
+
+    private class CountingSharedPreferences : MockSharedPreferences() {
+        var edits = 0
+
+        override fun edit(): SharedPreferences.Editor {
+            this.edits++
+            return super.edit()
+        }
+    }
+
+    private fun cookie(name: String, maxAge: Long = 3600) = HttpCookie(name, "discovery%3F1").apply { this.maxAge = maxAge }
+
+    @Test
+    fun testRefTagCookie() {
+        val store = RefTagCookieStore(MockSharedPreferences(), this.scheduler)
+        store.add(null, cookie("ref_1"))
+        store.add(null, HttpCookie("session", "1"))
+
+        assertEquals("discovery%3F1", store.refTagCookie("ref_1")?.value)
+        assertNull(store.refTagCookie("ref_2"))
+        assertNull(store.refTagCookie("session"))
+
+        // - The cookie jar still sees every cookie.
+        assertEquals(setOf("ref_1", "session"), store.cookies.map { it.name }.toSet())
+    }
+
+    @Test
+    fun testRefTagCookie_whenExpired() {
+        val store = RefTagCookieStore(MockSharedPreferences(), this.scheduler)
+        store.add(null, cookie("ref_1", maxAge = 0))
+
+        assertNull(store.refTagCookie("ref_1"))
+        assertTrue(store.cookies.isEmpty())
+    }
+
+    @Test
+    fun testAdd_evictsExpiredThenOldest() {
+        val store = RefTagCookieStore(MockSharedPreferences(), this.scheduler, 2)
+        store.add(null, cookie("ref_1"))
+        store.add(null, cookie("ref_2", maxAge = 0))
+        store.add(null, cookie("ref_3"))
+
+        // - The expired cookie made room, the oldest one is kept.
+        assertNotNull(store.refTagCookie("ref_1"))
+        assertNotNull(store.refTagCookie("ref_3"))
+
+        store.add(null, cookie("ref_4"))
+        assertNull(store.refTagCookie("ref_1"))
+        assertNotNull(store.refTagCookie("ref_3"))
+        assertNotNull(store.refTagCookie("ref_4"))
+        assertEquals(setOf("ref_3", "ref_4"), store.cookies.map { it.name }.toSet())
+    }
+
+    @Test
+    fun testAdd_persistsInOneEdit() {
+        val sharedPreferences = CountingSharedPreferences()
+        val store = RefTagCookieStore(sharedPreferences, this.scheduler)
+
+        repeat(10) { store.add(null, cookie("ref_$it")) }
+        assertEquals(0, sharedPreferences.edits)
+
+        this.scheduler.advanceTimeBy(RefTagCookieStore.DEFAULT_PERSIST_DELAY_MS, TimeUnit.MILLISECONDS)
+        assertEquals(1, sharedPreferences.edits)
+        assertEquals("discovery%3F1", sharedPreferences.getString("ref_9", null))
+    }
+
+    @Test
+    fun testRemoveAll() {
+        val sharedPreferences = MockSharedPreferences()
+        val store = RefTagCookieStore(sharedPreferences, this.scheduler)
+        store.add(null, cookie("ref_1"))
+        this.scheduler.advanceTimeBy(RefTagCookieStore.DEFAULT_PERSIST_DELAY_MS, TimeUnit.MILLISECONDS)
+
+        store.removeAll()
+
+        assertNull(store.refTagCookie("ref_1"))
+        assertTrue(store.cookies.isEmpty())
+        assertNotNull(sharedPreferences.getString("ref_1", null))
+    }
+
+    @Test
+    fun testRefTagUtils_withRefTagCookieStore() {
+        val sharedPreferences = MockSharedPreferences()
+        val cookieManager = CookieManager(RefTagCookieStore(sharedPreferences, this.scheduler), null)
+        val project = ProjectFactory.project()
+
+        RefTagUtils.storeCookie(RefTag.recommended(), project, cookieManager, sharedPreferences)
+
+        assertEquals(RefTag.recommended(), RefTagUtils.storedCookieRefTagForProject(project, cookieManager, sharedPreferences))
+
+        // - Once the session is gone, the ref tag is read back from preferences until the deadline.
+        this.scheduler.advanceTimeBy(RefTagCookieStore.DEFAULT_PERSIST_DELAY_MS, TimeUnit.MILLISECONDS)
+        cookieManager.cookieStore.removeAll()
+        assertEquals(RefTag.recommended(), RefTagUtils.storedCookieRefTagForProject(project, cookieManager, sharedPreferences))
+
+        val endedProject = project.toBuilder().deadline(DateTime.now().minusDays(1)).build()
+        assertNull(RefTagUtils.storedCookieRefTagForProject(endedProject, cookieManager, sharedPreferences))
+    }
+}
@@ -0,0 +1,166 @@
+package com.kickstarter.services
+
+import com.apollographql.apollo.ApolloClient
+import com.apollographql.apollo.internal.batch.BatchConfig
+import com.google.gson.JsonObject
+import com.google.gson.JsonParser
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.models.Category
+import com.kickstarter.models.CreatorDetails
+import okhttp3.OkHttpClient
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import rx.observers.TestSubscriber
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class KSApolloClientBatchingTest : KSRobolectricTestCase() {
+
+    private val roundTrips = AtomicInteger()
+    private lateinit var server: MockWebServer
+    private lateinit var service: ApolloClient
+
+    @Before
+    fun setUpServer() {
+        // - Stands in for the GraphQL endpoint, answering a single operation or a batch of them.
+        this.server = MockWebServer()
+        this.server.dispatcher = object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                roundTrips.incrementAndGet()
+                val body = JsonParser().parse(request.body.readUtf8())
+                val response = if (body.isJsonArray) {
+                    body.asJsonArray.joinToString(",", "[", "]") { respond(it.asJsonObject) }
+                } else {
+                    respond(body.asJsonObject)
+                }
+                return MockResponse().setHeader("Content-Type", "application/json").setBody(response)
+            }
+        }
+        this.server.start()
+    }
+
+    @After
+    fun tearDown() {
+        if (this::service.isInitialized) {
+            this.service.stopBatchPoller()
+        }
+        this.server.shutdown()
+    }
+
+    @Test
+    fun testBatchQueries_sendsQueriesInOneRoundTrip() {
+        val client = KSApolloClient(apolloClient(batching = true), true)
+
+        val categories = TestSubscriber<List<Category>>()
+        val creatorDetails = TestSubscriber<CreatorDetails>()
+        val otherCreatorDetails = TestSubscriber<CreatorDetails>()
+        client.fetchCategories().subscribe(categories)
+        client.creatorDetails("creator").subscribe(creatorDetails)
+        client.creatorDetails("other-creator").subscribe(otherCreatorDetails)
+
+        listOf(categories, creatorDetails, otherCreatorDetails).forEach { it.awaitTerminalEvent(5, TimeUnit.SECONDS) }
+
+        assertEquals(1, this.roundTrips.get())
+        categories.assertValueCount(1)
+        assertEquals(3, creatorDetails.onNextEvents.first().backingsCount())
+        assertEquals(3, otherCreatorDetails.onNextEvents.first().backingsCount())
+    }
+
+    @Test
+    fun testBatchQueries_keepsFailuresToTheirQuery() {
+        val client = KSApolloClient(apolloClient(batching = true), true)
+
+        val categories = TestSubscriber<List<Category>>()
+        val creatorDetails = TestSubscriber<CreatorDetails>()
+        val missingCreatorDetails = TestSubscriber<CreatorDetails>()
+        client.fetchCategories().subscribe(categories)
+        client.creatorDetails("creator").subscribe(creatorDetails)
+        client.creatorDetails(MISSING_SLUG).subscribe(missingCreatorDetails)
+
+        listOf(categories, creatorDetails, missingCreatorDetails).forEach { it.awaitTerminalEvent(5, TimeUnit.SECONDS) }
+
+        assertEquals(1, this.roundTrips.get())
+        categories.assertValueCount(1)
+        categories.assertNoErrors()
+        creatorDetails.assertValueCount(1)
+        creatorDetails.assertNoErrors()
+        missingCreatorDetails.assertNoValues()
+        assertEquals("Project not found", missingCreatorDetails.onErrorEvents.first().message)
+    }
+
+    @Test
+    fun testWithoutBatching_sendsOneRoundTripPerQuery() {
+        val client = KSApolloClient(apolloClient(batching = false))
+
+        val subscribers = listOf(
+            TestSubscriber<Any>().also { client.fetchCategories().subscribe(it) },
+            TestSubscriber<Any>().also { client.creatorDetails("creator").subscribe(it) },
+            TestSubscriber<Any>().also { client.creatorDetails("other-creator").subscribe(it) }
+        )
+        subscribers.forEach {
+            it.awaitTerminalEvent(5, TimeUnit.SECONDS)
+            it.assertValueCount(1)
+        }
+
+        assertEquals(3, this.roundTrips.get())
+    }
+
+    private fun apolloClient(batching: Boolean): ApolloClient {
+        val builder = ApolloClient.builder()
+            .serverUrl(this.server.url("/graph"))
+            .okHttpClient(OkHttpClient())
+            .dispatcher(Executor { it.run() })
+        if (batching) {
+            // - A wide window so the three queries made by each test land in the same batch.
+            builder.batchingConfiguration(BatchConfig(true, BATCH_WINDOW_MS, KSApolloClient.MAX_BATCH_SIZE))
+        }
+        return builder.build().also { this.service = it }
+    }
+
+    private fun respond(operation: JsonObject): String {
+        return when (operation.get("operationName").asString) {
+            "GetRootCategories" -> KSApolloClientCacheTest.ROOT_CATEGORIES_RESPONSE
+            "ProjectCreatorDetails" -> {
+                val slug = operation.getAsJsonObject("variables").get("slug").asString
+                if (slug == MISSING_SLUG) PROJECT_NOT_FOUND_RESPONSE else CREATOR_DETAILS_RESPONSE
+            }
+            else -> throw IllegalArgumentException("Unexpected operation $operation")
+        }
+    }
+
+    companion object {
+        private const val BATCH_WINDOW_MS = 250L
+        private const val MISSING_SLUG = "missing"
+
+        private const val CREATOR_DETAILS_RESPONSE = """
+            {
+              "data": {
+                "project": {
+                  "__typename": "Project",
+                  "creator": {
+                    "__typename": "User",
+                    "backingsCount": 3,
+                    "launchedProjects": {
+                      "__typename": "UserCreatedProjectsConnection",
+                      "totalCount": 2
+                    }
+                  }
+                }
+              }
+            }
+        """
+
+        private const val PROJECT_NOT_FOUND_RESPONSE = """
+            {
+              "errors": [{ "message": "Project not found" }],
+              "data": { "project": null }
+            }
+        """
+    }
+}
@@ -0,0 +1,147 @@
+package com.kickstarter.services
+
+import com.apollographql.apollo.ApolloClient
+import com.apollographql.apollo.cache.normalized.lru.EvictionPolicy
+import com.apollographql.apollo.cache.normalized.lru.LruNormalizedCacheFactory
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.graphql.RelayIdCacheKeyResolver
+import com.kickstarter.models.Category
+import okhttp3.Interceptor
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.toResponseBody
+import org.junit.Test
+import rx.observers.TestSubscriber
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class KSApolloClientCacheTest : KSRobolectricTestCase() {
+
+    private val networkHits = AtomicInteger()
+
+    @Test
+    fun testFetchCategories_networkOnly_alwaysHitsNetwork() {
+        val client = KSApolloClient(cachedApolloClient())
+
+        fetchCategories(client, FetchPolicy.NETWORK_ONLY).assertValueCount(1)
+        fetchCategories(client, FetchPolicy.NETWORK_ONLY).assertValueCount(1)
+
+        assertEquals(2, this.networkHits.get())
+    }
+
+    @Test
+    fun testFetchCategories_cacheFirst_hitsNetworkOnce() {
+        val client = KSApolloClient(cachedApolloClient())
+
+        val first = fetchCategories(client, FetchPolicy.CACHE_FIRST)
+        val second = fetchCategories(client, FetchPolicy.CACHE_FIRST)
+        val third = fetchCategories(client, FetchPolicy.CACHE_FIRST)
+
+        assertEquals(1, this.networkHits.get())
+        assertEquals(first.onNextEvents.first(), second.onNextEvents.first())
+        assertEquals(first.onNextEvents.first(), third.onNextEvents.first())
+    }
+
+    @Test
+    fun testFetchCategories_cacheAndNetwork_emitsCachedThenNetwork() {
+        val client = KSApolloClient(cachedApolloClient())
+
+        // - Cold cache, only the network response is emitted.
+        fetchCategories(client, FetchPolicy.CACHE_AND_NETWORK).assertValueCount(1)
+        assertEquals(1, this.networkHits.get())
+
+        // - Warm cache, the cached response is emitted first and the network refreshes it.
+        val warm = fetchCategories(client, FetchPolicy.CACHE_AND_NETWORK)
+        warm.assertValueCount(2)
+        warm.assertCompleted()
+        assertEquals(2, this.networkHits.get())
+    }
+
+    @Test
+    fun testFetchCategories_networkOnlyPopulatesCacheForCacheFirst() {
+        val client = KSApolloClient(cachedApolloClient())
+
+        fetchCategories(client, FetchPolicy.NETWORK_ONLY)
+        fetchCategories(client, FetchPolicy.CACHE_FIRST).assertValueCount(1)
+
+        assertEquals(1, this.networkHits.get())
+    }
+
+    private fun fetchCategories(client: KSApolloClient, fetchPolicy: FetchPolicy): TestSubscriber<List<Category>> {
+        val subscriber = TestSubscriber<List<Category>>()
+        client.fetchCategories(fetchPolicy).subscribe(subscriber)
+        subscriber.awaitTerminalEvent(5, TimeUnit.SECONDS)
+        subscriber.assertNoErrors()
+        return subscriber
+    }
+
+    private fun cachedApolloClient(): ApolloClient {
+        val countingNetwork = Interceptor { chain ->
+            this.networkHits.incrementAndGet()
+            Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ROOT_CATEGORIES_RESPONSE.toResponseBody("application/json".toMediaType()))
+                .build()
+        }
+
+        return ApolloClient.builder()
+            .serverUrl("https://www.kickstarter.com/graph")
+            .okHttpClient(OkHttpClient.Builder().addInterceptor(countingNetwork).build())
+            .normalizedCache(
+                LruNormalizedCacheFactory(EvictionPolicy.builder().maxSizeBytes(1024 * 1024).build()),
+                RelayIdCacheKeyResolver()
+            )
+            .dispatcher(Executor { it.run() })
+            .build()
+    }
+
+    companion object {
+        const val ROOT_CATEGORIES_RESPONSE = """
+            {
+              "data": {
+                "rootCategories": [
+                  {
+                    "__typename": "Category",
+                    "analyticsName": "Art",
+                    "id": "Q2F0ZWdvcnktMQ==",
+                    "name": "Art",
+                    "slug": "art",
+                    "totalProjectCount": 10,
+                    "url": "https://www.kickstarter.com/discover/categories/art",
+                    "parentCategory": null,
+                    "subcategories": {
+                      "__typename": "CategorySubcategoriesConnection",
+                      "nodes": [
+                        {
+                          "__typename": "Category",
+                          "analyticsName": "Ceramics",
+                          "id": "Q2F0ZWdvcnktMjg3",
+                          "name": "Ceramics",
+                          "slug": "art/ceramics",
+                          "totalProjectCount": 3,
+                          "url": "https://www.kickstarter.com/discover/categories/art/ceramics",
+                          "parentCategory": {
+                            "__typename": "Category",
+                            "analyticsName": "Art",
+                            "id": "Q2F0ZWdvcnktMQ==",
+                            "name": "Art",
+                            "slug": "art",
+                            "totalProjectCount": 10,
+                            "url": "https://www.kickstarter.com/discover/categories/art"
+                          }
+                        }
+                      ]
+                    }
+                  }
+                ]
+              }
+            }
+        """
+    }
+}
@@ -0,0 +1,142 @@
+package com.kickstarter.services
+
+import DeletePaymentSourceMutation
+import GetRootCategoriesQuery
+import com.apollographql.apollo.ApolloClient
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.utils.extensions.toObservable
+import com.kickstarter.models.Category
+import okhttp3.Dispatcher
+import okhttp3.Interceptor
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.toResponseBody
+import org.junit.After
+import org.junit.Test
+import rx.observers.TestSubscriber
+import rx.schedulers.Schedulers
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+class KSApolloClientCancellationTest : KSRobolectricTestCase() {
+
+    // - Requests are answered one at a time, in order, so once a later request is answered an earlier one is done.
+    private val network = Executors.newSingleThreadExecutor()
+    private val requests = AtomicInteger()
+    private val firstRequestStarted = CountDownLatch(1)
+    private val answerFirstRequest = CountDownLatch(1)
+    private val firstRequestCanceled = AtomicBoolean()
+
+    @After
+    fun tearDown() {
+        this.answerFirstRequest.countDown()
+        this.network.shutdownNow()
+    }
+
+    @Test
+    fun testToObservable_cancelledCallsNeverReachTransformers() {
+        val service = apolloClient()
+        val transformed = AtomicInteger()
+
+        val cancelled = TestSubscriber<Int>()
+        service.query(GetRootCategoriesQuery.builder().build())
+            .toObservable(Schedulers.immediate())
+            .map { transformed.incrementAndGet() }
+            .subscribe(cancelled)
+
+        assertTrue(this.firstRequestStarted.await(5, TimeUnit.SECONDS))
+        cancelled.unsubscribe()
+        this.answerFirstRequest.countDown()
+
+        val next = TestSubscriber<Int>()
+        service.query(GetRootCategoriesQuery.builder().build())
+            .toObservable(Schedulers.immediate())
+            .map { transformed.incrementAndGet() }
+            .subscribe(next)
+        next.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        assertTrue(this.firstRequestCanceled.get())
+        cancelled.assertNoValues()
+        cancelled.assertNoTerminalEvent()
+        next.assertValues(1)
+        next.assertCompleted()
+        assertEquals(1, transformed.get())
+    }
+
+    @Test
+    fun testFetchCategories_cancelsCallOnUnsubscribe() {
+        val client = KSApolloClient(apolloClient())
+
+        val cancelled = TestSubscriber<List<Category>>()
+        client.fetchCategories().subscribe(cancelled)
+
+        assertTrue(this.firstRequestStarted.await(5, TimeUnit.SECONDS))
+        cancelled.unsubscribe()
+        this.answerFirstRequest.countDown()
+
+        val next = TestSubscriber<List<Category>>()
+        client.fetchCategories().subscribe(next)
+        next.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        assertTrue(this.firstRequestCanceled.get())
+        cancelled.assertNoValues()
+        next.assertValueCount(1)
+        next.assertCompleted()
+    }
+
+    @Test
+    fun testDeletePaymentSource_finishesAfterUnsubscribe() {
+        val client = KSApolloClient(apolloClient())
+
+        val unsubscribed = TestSubscriber<DeletePaymentSourceMutation.Data>()
+        client.deletePaymentSource("payment-source").subscribe(unsubscribed)
+
+        assertTrue(this.firstRequestStarted.await(5, TimeUnit.SECONDS))
+        unsubscribed.unsubscribe()
+        this.answerFirstRequest.countDown()
+
+        // - Once a later request is answered, the mutation has been answered too.
+        val next = TestSubscriber<List<Category>>()
+        client.fetchCategories().subscribe(next)
+        next.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        assertFalse(this.firstRequestCanceled.get())
+        unsubscribed.assertNoValues()
+        unsubscribed.assertNoTerminalEvent()
+    }
+
+    private fun apolloClient(): ApolloClient {
+        val network = Interceptor { chain ->
+            if (this.requests.incrementAndGet() == 1) {
+                this.firstRequestStarted.countDown()
+                this.answerFirstRequest.await(5, TimeUnit.SECONDS)
+                this.firstRequestCanceled.set(chain.call().isCanceled())
+            }
+
+            Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(KSApolloClientCacheTest.ROOT_CATEGORIES_RESPONSE.toResponseBody("application/json".toMediaType()))
+                .build()
+        }
+
+        return ApolloClient.builder()
+            .serverUrl("https://www.kickstarter.com/graph")
+            .okHttpClient(
+                OkHttpClient.Builder()
+                    .dispatcher(Dispatcher(this.network))
+                    .addInterceptor(network)
+                    .build()
+            )
+            .dispatcher(Executor { it.run() })
+            .build()
+    }
+}
@@ -0,0 +1,138 @@
+package com.kickstarter.services
+
+import com.google.android.gms.common.util.Base64Utils
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.models.Backing
+import com.kickstarter.models.Comment
+import com.kickstarter.models.Project
+import com.kickstarter.models.Relay
+import com.kickstarter.models.Reward
+import com.kickstarter.models.User
+import com.kickstarter.services.transformers.RelayIdCodec
+import com.kickstarter.services.transformers.decodeRelayId
+import com.kickstarter.services.transformers.encodeRelayId
+import org.junit.Test
+import java.nio.charset.Charset
+import java.util.Random
+import kotlin.math.absoluteValue
+
+class RelayIdCodecTest : KSRobolectricTestCase() {
+
+    // - Seeded, so a failing case can be reproduced.
+    private val random = Random(SEED)
+
+    @Test
+    fun testDecode_knownIds() {
+        assertEquals(381739L, decodeRelayId("UHJvamVjdEZhcS0zODE3Mzk="))
+        assertEquals(109694L, decodeRelayId("RW52aXJvbm1lbnRhbENvbW1pdG1lbnQtMTA5Njk0"))
+        assertNull(decodeRelayId(null))
+        assertNull(decodeRelayId(""))
+        assertNull(decodeRelayId("not base64"))
+
+        // - Parsed with the dash before them, as the string based implementation did.
+        assertNull(decodeRelayId("UHJvamVjdC0rNQ==")) // Project-+5
+        assertEquals(Long.MIN_VALUE, decodeRelayId("UHJvamVjdC05MjIzMzcyMDM2ODU0Nzc1ODA4")) // Project-9223372036854775808
+        assertNull(decodeRelayId("UHJvamVjdC05MjIzMzcyMDM2ODU0Nzc1ODA5")) // Project-9223372036854775809
+    }
+
+    @Test
+    fun testEncode_roundTripsEveryModel() {
+        ids().forEach { id ->
+            relays(id).forEach { relay ->
+                val encoded = encodeRelayId(relay)
+
+                assertEquals(legacyEncode(relay), encoded)
+                assertEquals(legacyDecode(encoded), decodeRelayId(encoded))
+                if (id != Long.MIN_VALUE) {
+                    assertEquals(id.absoluteValue, decodeRelayId(encoded))
+                }
+            }
+        }
+    }
+
+    @Test
+    fun testDecode_matchesLegacyForRandomPayloads() {
+        repeat(PROPERTY_CASES) {
+            val payload = payload()
+            val bytes = payload.toByteArray(Charset.defaultCharset())
+
+            listOf(
+                java.util.Base64.getEncoder().encodeToString(bytes),
+                java.util.Base64.getEncoder().withoutPadding().encodeToString(bytes),
+                Base64Utils.encode(bytes),
+                Base64Utils.encodeUrlSafe(bytes)
+            ).forEach { encoded ->
+                assertEquals("$payload as $encoded", legacyDecode(encoded), RelayIdCodec.decode(encoded))
+            }
+        }
+    }
+
+    @Test
+    fun testDecode_matchesLegacyForRandomStrings() {
+        repeat(PROPERTY_CASES) {
+            val encoded = String(CharArray(this.random.nextInt(24)) { JUNK[this.random.nextInt(JUNK.length)] })
+            assertEquals(encoded, legacyDecode(encoded), RelayIdCodec.decode(encoded))
+        }
+    }
+
+    private fun ids(): List<Long> =
+        listOf(0L, 1L, -1L, 9L, 10L, 381739L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1) +
+            List(PROPERTY_CASES) { if (it % 2 == 0) this.random.nextLong() else this.random.nextInt(1_000_000).toLong() }
+
+    private fun relays(id: Long): List<Relay> = listOf(
+        Project.builder().id(id).build(),
+        User.builder().id(id).build(),
+        Reward.builder().id(id).build(),
+        Comment.builder().id(id).build(),
+        Backing.builder().id(id).build(),
+        object : Relay {
+            override fun id() = id
+        }
+    )
+
+    /**
+     * A relay ID payload, well formed most of the time and otherwise missing its dash, its digits or its
+     * ASCII, or holding a number too large for a long.
+     */
+    private fun payload(): String {
+        val type = TYPES[this.random.nextInt(TYPES.size)]
+        val digits = this.random.nextLong().toString()
+        return when (this.random.nextInt(8)) {
+            0 -> type
+            1 -> "$type-"
+            2 -> "$type-+$digits"
+            3 -> "$type-${digits}9999999999"
+            4 -> "$type-${digits}x"
+            5 -> "$type-٣٤"
+            6 -> "Prøject-$digits"
+            else -> "$type-$digits"
+        }
+    }
+
+    companion object {
+        private const val SEED = 20221018L
+        private const val PROPERTY_CASES = 2_000
+        private const val JUNK = "ABCDEFabcdef0123456789+/-_= \n"
+        private val TYPES = listOf("Project", "Reward", "Comment", "Backing", "User", "ProjectFaq", "")
+
+        // - The string based implementation the codec replaces, kept as the reference it must agree with.
+        private fun legacyDecode(encodedRelayId: String?): Long? {
+            return try {
+                encodedRelayId?.let {
+                    String(Base64Utils.decode(it), Charset.defaultCharset())
+                        .replaceBeforeLast("-", "", "")
+                        .toLong()
+                        .absoluteValue
+                }
+            } catch (e: Exception) {
+                null
+            }
+        }
+
+        private fun <T : Relay> legacyEncode(relay: T): String {
+            val classSimpleName = relay.javaClass.simpleName.replaceFirst("AutoParcel_", "")
+            val id = relay.id()
+            return Base64Utils.encodeUrlSafe(("$classSimpleName-$id").toByteArray(Charset.defaultCharset()))
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.kickstarter.services
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.mock.services.MockApiClient
+import com.kickstarter.mock.services.MockApolloClient
+import com.kickstarter.models.Category
+import com.kickstarter.models.Project
+import com.kickstarter.models.User
+import org.junit.Test
+import rx.Observable
+import rx.observers.TestSubscriber
+import rx.schedulers.TestScheduler
+import java.util.concurrent.TimeUnit
+
+class RequestCoalescerTest : KSRobolectricTestCase() {
+
+    private val scheduler = TestScheduler()
+    private val coalescer = RequestCoalescer(this.scheduler)
+
+    /**
+     * Counts the requests that reach the network, each answering a second later.
+     */
+    private inner class CountingApiClient : MockApiClient() {
+        var projectRequests = 0
+        var categoryRequests = 0
+        var userRequests = 0
+
+        override fun fetchProject(param: String): Observable<Project> = Observable.defer {
+            projectRequests++
+            Observable.just(ProjectFactory.project().toBuilder().slug(param).build()).delay(1, TimeUnit.SECONDS, scheduler)
+        }
+
+        override fun fetchCategories(): Observable<List<Category>> = Observable.defer {
+            categoryRequests++
+            super.fetchCategories().delay(1, TimeUnit.SECONDS, scheduler)
+        }
+
+        override fun fetchCurrentUser(): Observable<User> = Observable.defer {
+            userRequests++
+            if (userRequests == 1) {
+                Observable.timer(1, TimeUnit.SECONDS, scheduler).flatMap { Observable.error<User>(Exception("offline")) }
+            } else {
+                Observable.just(UserFactory.user()).delay(1, TimeUnit.SECONDS, scheduler)
+            }
+        }
+    }
+
+    private inner class CountingApolloClient : MockApolloClient() {
+        var projectRequests = 0
+
+        override fun getProject(slug: String): Observable<Project> = Observable.defer {
+            projectRequests++
+            super.getProject(slug).delay(1, TimeUnit.SECONDS, scheduler)
+        }
+
+        override fun getProject(slug: String, fetchPolicy: FetchPolicy): Observable<Project> = Observable.defer {
+            projectRequests++
+            super.getProject(slug).delay(1, TimeUnit.SECONDS, scheduler)
+        }
+    }
+
+    private fun <T> subscribe50(observable: () -> Observable<T>): List<TestSubscriber<T>> =
+        List(50) { TestSubscriber<T>().also { subscriber -> observable().subscribe(subscriber) } }
+
+    @Test
+    fun testApiClient_fetchProject_makesOneRequestFor50Subscribers() {
+        val upstream = CountingApiClient()
+        val client = CoalescingApiClient(upstream, this.coalescer)
+
+        val subscribers = subscribe50 { client.fetchProject("slug") }
+        assertEquals(1, upstream.projectRequests)
+
+        this.scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+        subscribers.forEach {
+            it.assertValueCount(1)
+            it.assertCompleted()
+            assertEquals("slug", it.onNextEvents.first().slug())
+        }
+        assertEquals(0, this.coalescer.inFlightCount())
+
+        // - Once the response is in, the next call makes a new request.
+        client.fetchProject("slug").subscribe()
+        assertEquals(2, upstream.projectRequests)
+    }
+
+    @Test
+    fun testApiClient_fetchProject_doesNotShareDifferentProjects() {
+        val upstream = CountingApiClient()
+        val client = CoalescingApiClient(upstream, this.coalescer)
+
+        subscribe50 { client.fetchProject("slug") }
+        subscribe50 { client.fetchProject("other-slug") }
+
+        assertEquals(2, upstream.projectRequests)
+    }
+
+    @Test
+    fun testApiClient_fetchCategories_sharedUntilTtl() {
+        val upstream = CountingApiClient()
+        val client = CoalescingApiClient(upstream, this.coalescer)
+
+        subscribe50 { client.fetchCategories() }
+        this.scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+        assertEquals(1, upstream.categoryRequests)
+
+        // - Categories fetched a moment ago are replayed.
+        val cached = TestSubscriber<List<Category>>()
+        client.fetchCategories().subscribe(cached)
+        cached.assertValueCount(1)
+        cached.assertCompleted()
+        assertEquals(1, upstream.categoryRequests)
+
+        this.scheduler.advanceTimeBy(CoalescingApiClient.CATEGORIES_TTL_MS, TimeUnit.MILLISECONDS)
+        client.fetchCategories().subscribe()
+        assertEquals(2, upstream.categoryRequests)
+    }
+
+    @Test
+    fun testApiClient_fetchCurrentUser_doesNotKeepErrors() {
+        val upstream = CountingApiClient()
+        val client = CoalescingApiClient(upstream, this.coalescer)
+
+        val subscribers = subscribe50 { client.fetchCurrentUser() }
+        this.scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+        assertEquals(1, upstream.userRequests)
+        subscribers.forEach { it.assertError(Exception::class.java) }
+
+        val retry = TestSubscriber<User>()
+        client.fetchCurrentUser().subscribe(retry)
+        this.scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+        assertEquals(2, upstream.userRequests)
+        retry.assertValueCount(1)
+    }
+
+    @Test
+    fun testApolloClient_getProject_makesOneRequestFor50Subscribers() {
+        val upstream = CountingApolloClient()
+        val client = CoalescingApolloClient(upstream, this.coalescer)
+
+        val subscribers = subscribe50 { client.getProject("slug") }
+        assertEquals(1, upstream.projectRequests)
+
+        this.scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+        subscribers.forEach {
+            it.assertValueCount(1)
+            it.assertCompleted()
+        }
+    }
+
+    @Test
+    fun testApolloClient_getProject_doesNotShareFetchPolicies() {
+        val upstream = CountingApolloClient()
+        val client = CoalescingApolloClient(upstream, this.coalescer)
+
+        subscribe50 { client.getProject("slug", FetchPolicy.CACHE_FIRST) }
+        subscribe50 { client.getProject("slug", FetchPolicy.NETWORK_ONLY) }
+
+        assertEquals(2, upstream.projectRequests)
+    }
+
+    @Test
+    fun testCoalesce_restartsWhenEverySubscriberLeaves() {
+        var requests = 0
+        val request = {
+            Observable.defer {
+                requests++
+                Observable.just(1).delay(1, TimeUnit.SECONDS, this.scheduler)
+            }
+        }
+
+        val first = this.coalescer.coalesce("key", request = request).subscribe()
+        first.unsubscribe()
+
+        val second = TestSubscriber<Int>()
+        this.coalescer.coalesce("key", request = request).subscribe(second)
+        this.scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+
+        assertEquals(2, requests)
+        second.assertValue(1)
+    }
+}
@@ -0,0 +1,113 @@
+package com.kickstarter.services.interceptors
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.MockCurrentUser
+import com.kickstarter.mock.factories.PXClientFactory
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.models.User
+import okhttp3.Interceptor
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import okhttp3.Request
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.toResponseBody
+import org.junit.Test
+import rx.Observable
+import java.util.concurrent.atomic.AtomicInteger
+
+class GraphQLInterceptorTest : KSRobolectricTestCase() {
+
+    private var lastAuthorizationHeader: String? = null
+
+    @Test
+    fun testIntercept_subscriberCountStaysFlat() {
+        val currentUser = SubscriptionCountingCurrentUser()
+        currentUser.login(UserFactory.user(), "token-1")
+        val client = okHttpClient(currentUser)
+
+        repeat(10_000) {
+            client.newCall(graphRequest()).execute().close()
+        }
+
+        assertEquals(1, currentUser.subscribers.get())
+        assertEquals("token token-1", this.lastAuthorizationHeader)
+    }
+
+    @Test
+    fun testIntercept_followsUserChanges() {
+        val currentUser = SubscriptionCountingCurrentUser()
+        val client = okHttpClient(currentUser)
+
+        client.newCall(graphRequest()).execute().close()
+        assertNull(this.lastAuthorizationHeader)
+
+        currentUser.login(UserFactory.user(), "token-1")
+        client.newCall(graphRequest()).execute().close()
+        assertEquals("token token-1", this.lastAuthorizationHeader)
+
+        currentUser.logout()
+        client.newCall(graphRequest()).execute().close()
+        assertNull(this.lastAuthorizationHeader)
+
+        assertEquals(1, currentUser.subscribers.get())
+    }
+
+    @Test
+    fun testIntercept_usesSavedTokenBeforeUserLoads() {
+        val currentUser = UnloadedCurrentUser("token-1")
+        val client = okHttpClient(currentUser)
+
+        client.newCall(graphRequest()).execute().close()
+
+        assertEquals("token token-1", this.lastAuthorizationHeader)
+    }
+
+    private fun okHttpClient(currentUser: MockCurrentUser): OkHttpClient {
+        val build = requireNotNull(environment().build())
+        val interceptor = GraphQLInterceptor(
+            "client-id",
+            AuthHeaderProvider(currentUser),
+            build,
+            PXClientFactory.pxChallengedSuccessful(build)
+        )
+
+        val network = Interceptor { chain ->
+            this.lastAuthorizationHeader = chain.request().header("Authorization")
+            Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body("{}".toResponseBody())
+                .build()
+        }
+
+        return OkHttpClient.Builder()
+            .addInterceptor(interceptor)
+            .addInterceptor(network)
+            .build()
+    }
+
+    private fun graphRequest() = Request.Builder()
+        .url("https://www.kickstarter.com/graph")
+        .build()
+
+    /**
+     * A user whose access token is saved but who hasn't been read from disk yet.
+     */
+    private class UnloadedCurrentUser(private val savedAccessToken: String) : MockCurrentUser() {
+        override fun getAccessToken() = this.savedAccessToken
+
+        override fun observable(): Observable<User> = Observable.never()
+    }
+
+    private class SubscriptionCountingCurrentUser : MockCurrentUser() {
+        val subscribers = AtomicInteger()
+
+        override fun observable(): Observable<User> {
+            return super.observable()
+                .doOnSubscribe { this.subscribers.incrementAndGet() }
+                .doOnUnsubscribe { this.subscribers.decrementAndGet() }
+        }
+    }
+}
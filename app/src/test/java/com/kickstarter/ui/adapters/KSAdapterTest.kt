@@ -0,0 +1,191 @@
+package com.kickstarter.ui.adapters
+
+import android.view.ViewGroup
+import androidx.recyclerview.widget.RecyclerView
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.ui.viewholders.KSViewHolder
+import org.junit.Test
+import rx.schedulers.Schedulers
+import rx.schedulers.TestScheduler
+
+class KSAdapterTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testPositions_mapToSectionRows() {
+        val adapter = SectionRowAdapter()
+        adapter.addSection(listOf("a", "b"))
+        adapter.addSection(emptyList<String>())
+        adapter.addSection(listOf("c"))
+        adapter.addSection(emptyList<String>())
+        adapter.addSection(listOf("d", "e", "f"))
+
+        assertEquals(6, adapter.itemCount)
+        assertEquals(listOf(0 to 0, 0 to 1, 2 to 0, 4 to 0, 4 to 1, 4 to 2), (0 until adapter.itemCount).map { adapter.sectionRowAt(it) })
+        assertEquals(listOf("a", "b", "c", "d", "e", "f"), (0 until adapter.itemCount).map { adapter.objectAt(it) })
+    }
+
+    @Test
+    fun testPositions_followSectionChanges() {
+        val adapter = SectionRowAdapter()
+        adapter.addSection(listOf("a", "b"))
+        adapter.addSection(listOf("c"))
+        assertEquals(3, adapter.itemCount)
+
+        adapter.insertSection(0, listOf("z"))
+        assertEquals(4, adapter.itemCount)
+        assertEquals("z", adapter.objectAt(0))
+        assertEquals("c", adapter.objectAt(3))
+
+        adapter.setSection(2, listOf("x", "y"))
+        assertEquals(5, adapter.itemCount)
+        assertEquals("y", adapter.objectAt(4))
+
+        // - Mutating the sections directly, as some subclasses do, is picked up on the next lookup.
+        adapter.sections()[0].add("w")
+        assertEquals(6, adapter.itemCount)
+        assertEquals("w", adapter.objectAt(1))
+
+        adapter.clearSections()
+        assertEquals(0, adapter.itemCount)
+    }
+
+    @Test(expected = RuntimeException::class)
+    fun testPosition_outOfBounds() {
+        val adapter = SectionRowAdapter()
+        adapter.addSection(listOf("a"))
+        adapter.objectAt(1)
+    }
+
+    @Test
+    fun testPositions_matchLinearWalkOverUnevenSections() {
+        val adapter = SectionRowAdapter()
+        repeat(100) { section -> adapter.addSection((0 until section % 7).map { "$section-$it" }) }
+        assertEquals(linearItemCount(adapter.sections()), adapter.itemCount)
+
+        for (position in 0 until adapter.itemCount) {
+            assertEquals(linearSectionRow(adapter.sections(), position), adapter.sectionRowAt(position))
+        }
+    }
+
+    @Test
+    fun testSubmitSections_appendedPage_isSingleRangeInsert() {
+        val adapter = SectionRowAdapter()
+        adapter.setSectionDiffSchedulers(Schedulers.immediate(), Schedulers.immediate())
+        adapter.submit(listOf(listOf("header"), (0 until 20).map { "row-$it" }))
+
+        val updates = recordUpdates(adapter)
+        adapter.submit(listOf(listOf("header"), (0 until 40).map { "row-$it" }))
+
+        assertEquals(listOf("inserted 21 20"), updates)
+        assertEquals(41, adapter.itemCount)
+        assertEquals("row-39", adapter.objectAt(40))
+    }
+
+    @Test
+    fun testSubmitSections_dispatchesGranularUpdates() {
+        val adapter = SectionRowAdapter()
+        adapter.setSectionDiffSchedulers(Schedulers.immediate(), Schedulers.immediate())
+        adapter.submit(listOf(listOf("a", "b", "c"), listOf("d"), listOf("e", "f")))
+
+        val updates = recordUpdates(adapter)
+        adapter.submit(listOf(listOf("a", "c"), listOf("d", "x")))
+
+        // - Later sections are updated first, so positions are against the sections that precede them.
+        assertEquals(listOf("removed 4 2", "inserted 4 1", "removed 1 1"), updates)
+        assertEquals(listOf("a", "c", "d", "x"), (0 until adapter.itemCount).map { adapter.objectAt(it) })
+    }
+
+    @Test
+    fun testSubmitSections_diffsOffMainThread() {
+        val diffScheduler = TestScheduler()
+        val adapter = SectionRowAdapter()
+        adapter.setSectionDiffSchedulers(diffScheduler, Schedulers.immediate())
+
+        adapter.submit(listOf(listOf("a")))
+        assertEquals(0, adapter.itemCount)
+
+        diffScheduler.triggerActions()
+        assertEquals(1, adapter.itemCount)
+    }
+
+    @Test
+    fun testSubmitSections_dropsSupersededDiffs() {
+        val diffScheduler = TestScheduler()
+        val adapter = SectionRowAdapter()
+        adapter.setSectionDiffSchedulers(diffScheduler, Schedulers.immediate())
+
+        adapter.submit(listOf(listOf("a")))
+        adapter.submit(listOf(listOf("b", "c")))
+        diffScheduler.triggerActions()
+        assertEquals(listOf("b", "c"), (0 until adapter.itemCount).map { adapter.objectAt(it) })
+
+        // - Setting the sections directly wins over a diff in flight.
+        adapter.submit(listOf(listOf("d")))
+        adapter.addSection(listOf("e"))
+        diffScheduler.triggerActions()
+        assertEquals(listOf("b", "c", "e"), (0 until adapter.itemCount).map { adapter.objectAt(it) })
+    }
+
+    private fun recordUpdates(adapter: KSAdapter): MutableList<String> {
+        val updates = mutableListOf<String>()
+        adapter.registerAdapterDataObserver(object : RecyclerView.AdapterDataObserver() {
+            override fun onChanged() {
+                updates.add("changed all")
+            }
+
+            override fun onItemRangeChanged(positionStart: Int, itemCount: Int, payload: Any?) {
+                updates.add("changed $positionStart $itemCount")
+            }
+
+            override fun onItemRangeInserted(positionStart: Int, itemCount: Int) {
+                updates.add("inserted $positionStart $itemCount")
+            }
+
+            override fun onItemRangeRemoved(positionStart: Int, itemCount: Int) {
+                updates.add("removed $positionStart $itemCount")
+            }
+
+            override fun onItemRangeMoved(fromPosition: Int, toPosition: Int, itemCount: Int) {
+                updates.add("moved $fromPosition $toPosition")
+            }
+        })
+        return updates
+    }
+
+    /**
+     * The lookup the prefix-sum index replaced: walks every row of every section for each position.
+     */
+    private fun linearSectionRow(sections: List<List<Any>>, position: Int): Pair<Int, Int> {
+        var cursor = 0
+        sections.forEachIndexed { section, rows ->
+            rows.indices.forEach { row ->
+                if (cursor == position) {
+                    return section to row
+                }
+                cursor++
+            }
+        }
+        throw RuntimeException("Position $position not found in sections")
+    }
+
+    private fun linearItemCount(sections: List<List<Any>>) = sections.sumOf { it.size }
+
+    private class SectionRowAdapter : KSAdapter() {
+        override fun layout(sectionRow: SectionRow): Int = sectionRow.section() * ROWS_PER_SECTION + sectionRow.row()
+
+        override fun viewHolder(layout: Int, viewGroup: ViewGroup): KSViewHolder = throw UnsupportedOperationException()
+
+        fun sectionRowAt(position: Int): Pair<Int, Int> {
+            val layout = getItemViewType(position)
+            return layout / ROWS_PER_SECTION to layout % ROWS_PER_SECTION
+        }
+
+        fun objectAt(position: Int): Any = objectFromPosition(position)
+
+        fun submit(sections: List<List<Any>>) = submitSections(sections)
+    }
+
+    companion object {
+        private const val ROWS_PER_SECTION = 100_000
+    }
+}
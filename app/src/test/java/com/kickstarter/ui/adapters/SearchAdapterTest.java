@@ -7,15 +7,23 @@ import com.kickstarter.mock.factories.ProjectFactory;
 import com.kickstarter.models.Project;
 import com.kickstarter.ui.viewholders.KSViewHolder;
 
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import rx.schedulers.Schedulers;
+
 public class SearchAdapterTest extends KSRobolectricTestCase implements SearchAdapter.Delegate {
   private final SearchAdapter adapter = new SearchAdapter(this);
 
+  @Before
+  public void setUpSchedulers() {
+    this.adapter.setSectionDiffSchedulers(Schedulers.immediate(), Schedulers.immediate());
+  }
+
   @Test
   public void load3PopularProjects() throws Exception {
     final Project project0 = ProjectFactory.allTheWayProject();
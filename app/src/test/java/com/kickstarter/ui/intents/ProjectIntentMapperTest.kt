@@ -11,10 +11,12 @@ import com.kickstarter.mock.factories.UserFactory
 import com.kickstarter.mock.services.MockApiClient
 import com.kickstarter.mock.services.MockApolloClient
 import com.kickstarter.models.Project
+import com.kickstarter.services.FetchPolicy
 import com.kickstarter.services.apiresponses.PushNotificationEnvelope
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.intentmappers.ProjectIntentMapper
 import org.junit.Test
+import rx.Observable
 import rx.observers.TestSubscriber
 
 class ProjectIntentMapperTest : KSRobolectricTestCase() {
@@ -51,6 +53,35 @@ class ProjectIntentMapperTest : KSRobolectricTestCase() {
         resultTest.assertValueCount(1)
     }
 
+    @Test
+    fun testProject_emitsCachedThenNetworkFromProjectParamExtraApollo() {
+        val cachedProject = ProjectFactory.project().toBuilder().slug("skull-graphic-tee").backersCount(1).build()
+        val networkProject = cachedProject.toBuilder().backersCount(2).build()
+        val apolloClient = object : MockApolloClient() {
+            override fun getProject(slug: String, fetchPolicy: FetchPolicy): Observable<Project> {
+                assertEquals(FetchPolicy.CACHE_AND_NETWORK, fetchPolicy)
+                return Observable.just(cachedProject, networkProject)
+            }
+        }
+
+        val intent = Intent().putExtra(IntentKey.PROJECT_PARAM, "skull-graphic-tee")
+        val resultTest = TestSubscriber.create<Project>()
+        ProjectIntentMapper.project(intent, apolloClient)
+            .subscribe(resultTest)
+
+        resultTest.assertValues(cachedProject, networkProject)
+    }
+
+    @Test
+    fun testProject_errorsWithoutProjectOrParamApollo() {
+        val resultTest = TestSubscriber.create<Project>()
+        ProjectIntentMapper.project(Intent(), MockApolloClient())
+            .subscribe(resultTest)
+
+        resultTest.assertNoValues()
+        resultTest.assertError(NoSuchElementException::class.java)
+    }
+
     @Test
     fun testProject_emitsTwiceFromProjectExtra() {
         val project = ProjectFactory.project()
@@ -4,9 +4,12 @@ import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.CurrentUserType
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.MockCurrentUser
+import com.kickstarter.libs.loadmore.PaginationSnapshot
 import com.kickstarter.libs.models.OptimizelyFeature
 import com.kickstarter.libs.utils.EventName
 import com.kickstarter.mock.MockExperimentsClientType
+import com.kickstarter.mock.MockPaginationSnapshotStore
+import com.kickstarter.mock.factories.ActivityEnvelopeFactory.activityEnvelope
 import com.kickstarter.mock.factories.ActivityFactory.activity
 import com.kickstarter.mock.factories.ActivityFactory.friendBackingActivity
 import com.kickstarter.mock.factories.ActivityFactory.projectStateChangedActivity
@@ -21,6 +24,8 @@ import com.kickstarter.models.Project
 import com.kickstarter.models.SurveyResponse
 import com.kickstarter.models.User
 import com.kickstarter.services.ApiClientType
+import com.kickstarter.services.apiresponses.ActivityEnvelope
+import org.joda.time.DateTime
 import org.junit.Test
 import rx.Observable
 import rx.observers.TestSubscriber
@@ -73,6 +78,91 @@ class ActivityFeedViewModelTest : KSRobolectricTestCase() {
         segmentTrack.assertValue(EventName.PAGE_VIEWED.eventName)
     }
 
+    @Test
+    fun testActivitiesEmit_withSnapshot_whenFirstPageUnchanged() {
+        val firstActivity = activity()
+        val secondActivity = friendBackingActivity()
+        val snapshot = PaginationSnapshot(listOf(firstActivity, secondActivity), "/v1/activities?cursor=2")
+        val snapshotStore = MockPaginationSnapshotStore(mapOf("activities:null" to snapshot))
+        val savedKeys = TestSubscriber<String>()
+        snapshotStore.savedKeys.subscribe(savedKeys)
+
+        val environment = environment().toBuilder()
+            .apiClient(object : MockApiClient() {
+                override fun fetchActivities(): Observable<ActivityEnvelope> {
+                    return Observable.just(activityEnvelope(listOf(firstActivity)))
+                }
+            })
+            .currentUser(MockCurrentUser())
+            .paginationSnapshotStore(snapshotStore)
+            .build()
+        setUpEnvironment(environment)
+
+        vm.inputs.refresh()
+
+        // The snapshot emits right away and is kept once the first page comes back the same.
+        activityList.assertValues(
+            listOf(firstActivity, secondActivity),
+            listOf(firstActivity, secondActivity)
+        )
+        savedKeys.assertValue("activities:null")
+    }
+
+    @Test
+    fun testActivitiesEmit_withSnapshot_whenFirstPageUpdated() {
+        val firstActivity = activity()
+        val secondActivity = friendBackingActivity()
+        val updatedFirstActivity = firstActivity.toBuilder().updatedAt(DateTime.now().plusDays(1)).build()
+        val snapshot = PaginationSnapshot(listOf(firstActivity, secondActivity), "/v1/activities?cursor=2")
+        val snapshotStore = MockPaginationSnapshotStore(mapOf("activities:null" to snapshot))
+
+        val environment = environment().toBuilder()
+            .apiClient(object : MockApiClient() {
+                override fun fetchActivities(): Observable<ActivityEnvelope> {
+                    return Observable.just(activityEnvelope(listOf(updatedFirstActivity)))
+                }
+            })
+            .currentUser(MockCurrentUser())
+            .paginationSnapshotStore(snapshotStore)
+            .build()
+        setUpEnvironment(environment)
+
+        vm.inputs.refresh()
+
+        // The snapshot is kept since its first item is still first, with the fresh copy of that item.
+        activityList.assertValues(
+            listOf(firstActivity, secondActivity),
+            listOf(updatedFirstActivity, secondActivity)
+        )
+    }
+
+    @Test
+    fun testActivitiesEmit_withSnapshot_whenFirstPageChanged() {
+        val newActivity = updateActivity()
+        val snapshot = PaginationSnapshot(listOf(activity(), friendBackingActivity()), "/v1/activities?cursor=2")
+        val snapshotStore = MockPaginationSnapshotStore(mapOf("activities:null" to snapshot))
+        val savedSnapshots = TestSubscriber<PaginationSnapshot<*>>()
+        snapshotStore.savedSnapshots.subscribe(savedSnapshots)
+
+        val environment = environment().toBuilder()
+            .apiClient(object : MockApiClient() {
+                override fun fetchActivities(): Observable<ActivityEnvelope> {
+                    return Observable.just(activityEnvelope(listOf(newActivity)))
+                }
+            })
+            .currentUser(MockCurrentUser())
+            .paginationSnapshotStore(snapshotStore)
+            .build()
+        setUpEnvironment(environment)
+
+        vm.inputs.refresh()
+
+        // The snapshot is replaced by the first page.
+        activityList.assertValues(snapshot.data, listOf(newActivity))
+        savedSnapshots.assertValueCount(1)
+        assertEquals(listOf(newActivity), savedSnapshots.onNextEvents.first().data)
+    }
+
     @Test
     fun testClickingInterfaceElements() {
         setUpEnvironment(environment())
@@ -4,7 +4,9 @@ import android.content.Intent
 import android.util.Pair
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.MockCurrentUser
+import com.kickstarter.libs.loadmore.PaginationSnapshot
 import com.kickstarter.libs.utils.EventName
+import com.kickstarter.mock.MockPaginationSnapshotStore
 import com.kickstarter.mock.factories.ApiExceptionFactory
 import com.kickstarter.mock.factories.AvatarFactory
 import com.kickstarter.mock.factories.CommentEnvelopeFactory
@@ -250,6 +252,43 @@ class CommentsViewModelTest : KSRobolectricTestCase() {
         assertEquals(CommentFactory.comment(), commentCardDataList?.get(0)?.comment)
     }
 
+    @Test
+    fun testCommentsViewModel_ProjectCommentsEmit_withSnapshot() {
+        val savedComment = CommentFactory.comment()
+        val olderComment = CommentFactory.comment(body = "Older comment").toBuilder().id(2).build()
+        val freshComment = savedComment.toBuilder().repliesCount(3).build()
+        val snapshot = PaginationSnapshot(
+            listOf(
+                CommentCardData.builder().comment(savedComment).build(),
+                CommentCardData.builder().comment(olderComment).build()
+            ),
+            "cursor-2"
+        )
+        val snapshotStore = MockPaginationSnapshotStore(mapOf("comments:null:project:slug-1" to snapshot))
+        val savedKeys = TestSubscriber<String>()
+        snapshotStore.savedKeys.subscribe(savedKeys)
+
+        val env = environment().toBuilder()
+            .apolloClient(object : MockApolloClient() {
+                override fun getProjectComments(slug: String, cursor: String?, limit: Int): Observable<CommentEnvelope> {
+                    return Observable.just(CommentEnvelopeFactory.commentsEnvelope().toBuilder().comments(listOf(freshComment)).build())
+                }
+            })
+            .currentUser(MockCurrentUser())
+            .paginationSnapshotStore(snapshotStore)
+            .build()
+        val vm = CommentsViewModel.ViewModel(env)
+        vm.outputs.commentsList().subscribe(commentsList)
+
+        vm.intent(Intent().putExtra(IntentKey.PROJECT, ProjectFactory.project()))
+
+        // The snapshot emits right away and is kept after the fresh first page, which has the same comment.
+        assertEquals(listOf(savedComment, olderComment), commentsList.onNextEvents.first()?.map { it.comment })
+        assertEquals(listOf(freshComment, olderComment), commentsList.onNextEvents.last()?.map { it.comment })
+        assertEquals(3, commentsList.onNextEvents.last()?.first()?.comment?.repliesCount())
+        savedKeys.assertValue("comments:null:project:slug-1")
+    }
+
     /*
    * test when no comment available
    */
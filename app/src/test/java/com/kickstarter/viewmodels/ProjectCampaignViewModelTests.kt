@@ -9,6 +9,7 @@ import com.kickstarter.mock.factories.ProjectFactory
 import com.kickstarter.viewmodels.projectpage.ProjectCampaignViewModel
 import org.junit.Test
 import rx.observers.TestSubscriber
+import rx.schedulers.Schedulers
 
 class ProjectCampaignViewModelTests : KSRobolectricTestCase() {
 
@@ -61,16 +62,41 @@ class ProjectCampaignViewModelTests : KSRobolectricTestCase() {
             .build()
         val projectData = ProjectDataFactory.project(project)
 
-        setUpEnvironment(environment())
+        setUpEnvironment(environment().toBuilder().scheduler(Schedulers.immediate()).build())
         this.vm.inputs.configureWith(projectData)
 
-        this.storyViewElementsList.assertValueCount(1)
-        this.vm.storyViewElements().subscribe {
-            assertEquals(it.size, 25)
-            assertTrue(it.filterIsInstance<AudioViewElement>().size == 2)
+        // - The story is emitted in growing chunks, each one a prefix of the full story.
+        val storyViewElements = this.storyViewElementsList.onNextEvents.last()
+        assertEquals(25, storyViewElements.size)
+        assertEquals(2, storyViewElements.filterIsInstance<AudioViewElement>().size)
+
+        assertTrue(this.storyViewElementsList.onNextEvents.first().size < storyViewElements.size)
+        this.storyViewElementsList.onNextEvents.forEach {
+            assertEquals(it, storyViewElements.subList(0, it.size))
         }
     }
 
+    @Test
+    fun storyParsedOnce_whenProjectIsReloaded() {
+        val project = ProjectFactory.project()
+            .toBuilder()
+            .story("<p>Story</p><ul><li>One</li><li>Two</li></ul>")
+            .build()
+        val environment = environment().toBuilder().scheduler(Schedulers.immediate()).build()
+
+        setUpEnvironment(environment)
+        this.vm.inputs.configureWith(ProjectDataFactory.project(project))
+
+        val reloadedStoryViewElements = TestSubscriber.create<List<ViewElement>>()
+        val reloaded = ProjectCampaignViewModel.ViewModel(environment)
+        reloaded.outputs.storyViewElements().subscribe(reloadedStoryViewElements)
+        reloaded.inputs.configureWith(ProjectDataFactory.project(project))
+
+        // - The second page gets the cached story in a single emission.
+        reloadedStoryViewElements.assertValueCount(1)
+        assertEquals(this.storyViewElementsList.onNextEvents.last(), reloadedStoryViewElements.onNextEvents.last())
+    }
+
     @Test
     fun videoOperations() {
         setUpEnvironment(environment())
@@ -9,6 +9,7 @@ import com.kickstarter.libs.Environment;
 import com.kickstarter.libs.MockCurrentUser;
 import com.kickstarter.libs.RefTag;
 import com.kickstarter.libs.models.OptimizelyFeature;
+import com.kickstarter.libs.preferences.MockBooleanDataStore;
 import com.kickstarter.libs.preferences.MockBooleanPreference;
 import com.kickstarter.libs.utils.EventName;
 import com.kickstarter.mock.MockExperimentsClientType;
@@ -109,7 +110,7 @@ public final class ThanksViewModelTest extends KSRobolectricTestCase {
 
   @Test
   public void testThanksViewModel_showRatingDialog() {
-    final MockBooleanPreference hasSeenAppRatingPreference = new MockBooleanPreference(false);
+    final MockBooleanDataStore hasSeenAppRatingPreference = new MockBooleanDataStore(false);
     final MockBooleanPreference hasSeenGamesNewsletterPreference = new MockBooleanPreference(true);
 
     final Environment environment = environment()
@@ -125,7 +126,7 @@ public final class ThanksViewModelTest extends KSRobolectricTestCase {
 
   @Test
   public void testThanksViewModel_dontShowRatingDialogIfAlreadySeen() {
-    final MockBooleanPreference hasSeenAppRatingPreference = new MockBooleanPreference(true);
+    final MockBooleanDataStore hasSeenAppRatingPreference = new MockBooleanDataStore(true);
     final MockBooleanPreference hasSeenGamesNewsletterPreference = new MockBooleanPreference(true);
 
     final Environment environment = environment()
@@ -141,7 +142,7 @@ public final class ThanksViewModelTest extends KSRobolectricTestCase {
 
   @Test
   public void testThanksViewModel_dontShowRatingDialogIfGamesNewsletterWillDisplay() {
-    final MockBooleanPreference hasSeenAppRatingPreference = new MockBooleanPreference(false);
+    final MockBooleanDataStore hasSeenAppRatingPreference = new MockBooleanDataStore(false);
     final MockBooleanPreference hasSeenGamesNewsletterPreference = new MockBooleanPreference(false);
 
     final User user = UserFactory.user().toBuilder().gamesNewsletter(false).build();